@@ -15,14 +15,17 @@ package org.openhab.core.audio;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * This is an implementation of an {@link AudioStream} with known length and a clone method, which is based on a simple
  * byte array.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Mark Herwege - bulk reads and transfers without copying byte by byte
  */
 @NonNullByDefault
 public class ByteArrayAudioStream extends FixedLengthAudioStream {
@@ -47,6 +50,28 @@ public class ByteArrayAudioStream extends FixedLengthAudioStream {
         return stream.read();
     }
 
+    @Override
+    public int read(byte @Nullable [] b, int off, int len) throws IOException {
+        return stream.read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return stream.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return stream.available();
+    }
+
+    @Override
+    public long transferTo(@Nullable OutputStream out) throws IOException {
+        // writes the remaining bytes of the array at once, but not an empty array, as some outputs (e.g. a servlet
+        // response with all content written) refuse any further write
+        return stream.available() > 0 ? stream.transferTo(out) : 0;
+    }
+
     @Override
     public void close() throws IOException {
         stream.close();
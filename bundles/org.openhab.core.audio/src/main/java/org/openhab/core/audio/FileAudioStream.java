@@ -18,9 +18,11 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.audio.utils.AudioStreamUtils;
 import org.openhab.core.audio.utils.AudioWaveUtils;
 import org.openhab.core.common.Disposable;
@@ -31,6 +33,7 @@ import org.openhab.core.common.Disposable;
  * @author Karel Goderis - Initial contribution
  * @author Kai Kreuzer - Refactored to take a file as input
  * @author Christoph Weitkamp - Refactored use of filename extension
+ * @author Mark Herwege - bulk reads and transfers without copying byte by byte
  */
 @NonNullByDefault
 public class FileAudioStream extends FixedLengthAudioStream implements Disposable {
@@ -45,8 +48,8 @@ public class FileAudioStream extends FixedLengthAudioStream implements Disposabl
     private FileInputStream inputStream;
     private final long length;
     private final boolean isTemporaryFile;
-    private int markedOffset = 0;
-    private int alreadyRead = 0;
+    private long markedOffset = 0;
+    private long alreadyRead = 0;
 
     public FileAudioStream(File file) throws AudioException {
         this(file, getAudioFormat(file));
@@ -109,6 +112,34 @@ public class FileAudioStream extends FixedLengthAudioStream implements Disposabl
         return read;
     }
 
+    @Override
+    public int read(byte @Nullable [] b, int off, int len) throws IOException {
+        int read = inputStream.read(b, off, len);
+        if (read > 0) {
+            alreadyRead += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = inputStream.skip(n);
+        alreadyRead += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return inputStream.available();
+    }
+
+    @Override
+    public long transferTo(@Nullable OutputStream out) throws IOException {
+        long transferred = inputStream.transferTo(out);
+        alreadyRead += transferred;
+        return transferred;
+    }
+
     @Override
     public void close() throws IOException {
         inputStream.close();
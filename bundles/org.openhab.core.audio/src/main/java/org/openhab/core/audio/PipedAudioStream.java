@@ -38,18 +38,35 @@ import org.slf4j.LoggerFactory;
  * group.
  *
  * @author Miguel Álvarez Díez - Initial contribution
+ * @author Mark Herwege - streams of a group read from a single ring buffer
  */
 @NonNullByDefault
 public class PipedAudioStream extends AudioStream {
     private final AudioFormat format;
-    private final PipedInputStream pipedInput;
-    private final PipedOutputStream pipedOutput;
+    private final @Nullable PipedInputStream pipedInput;
+    private final @Nullable PipedOutputStream pipedOutput;
+    private final @Nullable Group group;
     private final AtomicBoolean closed = new AtomicBoolean(false);
     private final LinkedList<Runnable> onCloseChain = new LinkedList<>();
 
+    // the position in the ring buffer of the group up to which this stream has read, guarded by the group
+    private long readPosition;
+    // the thread that last read from the group, and whether the group dropped this stream, guarded by the group
+    private @Nullable Thread readerThread;
+    private boolean dropped;
+
     protected PipedAudioStream(AudioFormat format, int pipeSize, PipedOutputStream outputStream) throws IOException {
         this.pipedOutput = outputStream;
         this.pipedInput = new PipedInputStream(outputStream, pipeSize);
+        this.group = null;
+        this.format = format;
+    }
+
+    private PipedAudioStream(AudioFormat format, Group group, long readPosition) {
+        this.pipedOutput = null;
+        this.pipedInput = null;
+        this.group = group;
+        this.readPosition = readPosition;
         this.format = format;
     }
 
@@ -63,23 +80,40 @@ public class PipedAudioStream extends AudioStream {
         if (closed.get()) {
             return -1;
         }
-        return pipedInput.read();
+        Group group = this.group;
+        if (group != null) {
+            return group.read(this);
+        }
+        return Objects.requireNonNull(pipedInput).read();
     }
 
     @Override
     public int read(byte @Nullable [] b) throws IOException {
+        return read(b, 0, Objects.requireNonNull(b).length);
+    }
+
+    @Override
+    public int read(byte @Nullable [] b, int off, int len) throws IOException {
         if (closed.get()) {
             return -1;
         }
-        return pipedInput.read(b);
+        Group group = this.group;
+        if (group != null) {
+            return group.read(this, Objects.requireNonNull(b), off, len);
+        }
+        return Objects.requireNonNull(pipedInput).read(b, off, len);
     }
 
     @Override
-    public int read(byte @Nullable [] b, int off, int len) throws IOException {
+    public int available() throws IOException {
         if (closed.get()) {
-            return -1;
+            return 0;
         }
-        return pipedInput.read(b, off, len);
+        Group group = this.group;
+        if (group != null) {
+            return group.available(this);
+        }
+        return Objects.requireNonNull(pipedInput).available();
     }
 
     @Override
@@ -91,8 +125,12 @@ public class PipedAudioStream extends AudioStream {
             this.onCloseChain.forEach(Runnable::run);
             this.onCloseChain.clear();
         }
-        pipedOutput.close();
-        pipedInput.close();
+        PipedOutputStream pipedOutput = this.pipedOutput;
+        PipedInputStream pipedInput = this.pipedInput;
+        if (pipedOutput != null && pipedInput != null) {
+            pipedOutput.close();
+            pipedInput.close();
+        }
     }
 
     /**
@@ -105,14 +143,22 @@ public class PipedAudioStream extends AudioStream {
         this.onCloseChain.add(onClose);
     }
 
+    /**
+     * @return the output stream connected to this stream
+     * @throws IllegalStateException if the stream has been created by a {@link Group}, which has no pipe per stream
+     */
     protected PipedOutputStream getOutputStream() {
+        PipedOutputStream pipedOutput = this.pipedOutput;
+        if (pipedOutput == null) {
+            throw new IllegalStateException("Streams of a group are not connected to an output stream");
+        }
         return pipedOutput;
     }
 
     /**
      * Creates a new piped stream group used to open new streams and write data to them.
      *
-     * Internal pipe size is 0.5s.
+     * Internal buffer size is 0.5s.
      *
      * @param format the audio format of the group audio streams
      * @return a group instance
@@ -130,7 +176,7 @@ public class PipedAudioStream extends AudioStream {
      * Creates a new piped stream group used to open new streams and write data to them.
      *
      * @param format the audio format of the group audio streams
-     * @param pipeSize the pipe size of the created streams
+     * @param pipeSize the size of the buffer shared by the created streams
      * @return a piped stream group instance
      */
     public static Group newGroup(AudioFormat format, int pipeSize) {
@@ -141,16 +187,33 @@ public class PipedAudioStream extends AudioStream {
      * The {@link PipedAudioStream.Group} is an {@link OutputStream} implementation that can be use to
      * create one or more {@link PipedAudioStream} instances and write to them at once.
      *
+     * The data written to the group is stored once in a ring buffer of the pipe size, and each stream reads from it at
+     * its own position, so memory use does not grow with the number of streams. Writing blocks while the buffer is
+     * full, i.e. until the slowest stream has read enough data. A stream only receives the data written after it has
+     * been created.
+     *
+     * A stream that blocks the writer while its reading thread has died, or that has not read anything for five
+     * seconds, is dropped from the group so it does not hold back the other streams. A dropped stream reaches its end.
+     *
      * The created {@link PipedAudioStream} instances are removed from the group when closed.
      */
     public static class Group extends OutputStream {
-        private final int pipeSize;
+        private static final long WAIT_INTERVAL_MILLIS = 1000;
+        private static final long STALLED_STREAM_TIMEOUT_MILLIS = 5000;
+
         private final AudioFormat format;
+        private final byte[] buffer;
         private final ConcurrentLinkedQueue<PipedAudioStream> openPipes = new ConcurrentLinkedQueue<>();
         private final Logger logger = LoggerFactory.getLogger(Group.class);
 
+        // the total number of bytes written to the ring buffer, guarded by openPipes
+        private long writePosition;
+
         protected Group(AudioFormat format, int pipeSize) {
-            this.pipeSize = pipeSize;
+            if (pipeSize <= 0) {
+                throw new IllegalArgumentException("Pipe size cannot be <= 0");
+            }
+            this.buffer = new byte[pipeSize];
             this.format = format;
         }
 
@@ -162,15 +225,18 @@ public class PipedAudioStream extends AudioStream {
          * @throws IOException when unable to create the stream
          */
         public PipedAudioStream getAudioStreamInGroup() throws IOException {
-            var pipedOutput = new PipedOutputStream();
-            var audioStream = new PipedAudioStream(format, pipeSize, pipedOutput);
-            if (!openPipes.add(audioStream)) {
-                audioStream.close();
-                throw new IOException("Unable to add new piped stream to group");
+            PipedAudioStream audioStream;
+            synchronized (openPipes) {
+                audioStream = new PipedAudioStream(format, this, writePosition);
+                openPipes.add(audioStream);
             }
             audioStream.onClose(() -> {
-                if (!openPipes.remove(audioStream)) {
-                    logger.warn("Trying to remove an unregistered stream, this is not expected");
+                synchronized (openPipes) {
+                    if (!openPipes.remove(audioStream) && !audioStream.dropped) {
+                        logger.warn("Trying to remove an unregistered stream, this is not expected");
+                    }
+                    // the stream may have been the slowest one, or be waiting for data
+                    openPipes.notifyAll();
                 }
             });
             return audioStream;
@@ -196,70 +262,77 @@ public class PipedAudioStream extends AudioStream {
 
         @Override
         public void write(byte @Nullable [] b, int off, int len) {
+            Objects.checkFromIndexSize(off, len, Objects.requireNonNull(b).length);
             synchronized (openPipes) {
-                for (var pipe : openPipes) {
-                    try {
-                        pipe.getOutputStream().write(b, off, len);
-                    } catch (InterruptedIOException e) {
-                        logger.warn("InterruptedIOException while writing to pipe: {}", e.getMessage());
-                    } catch (IOException e) {
-                        logger.warn("IOException while writing to pipe: {}", e.getMessage());
-                    } catch (RuntimeException e) {
-                        logger.warn("RuntimeException while writing to pipe: {}", e.getMessage());
+                while (len > 0) {
+                    int free = awaitFreeSpace();
+                    if (free < 0) {
+                        return;
                     }
+                    int chunk = Math.min(len, free);
+                    int index = (int) (writePosition % buffer.length);
+                    int first = Math.min(chunk, buffer.length - index);
+                    System.arraycopy(b, off, buffer, index, first);
+                    System.arraycopy(b, off + first, buffer, 0, chunk - first);
+                    writePosition += chunk;
+                    off += chunk;
+                    len -= chunk;
+                    openPipes.notifyAll();
                 }
             }
         }
 
         @Override
-        public void write(int b) throws IOException {
+        public void write(int b) {
             synchronized (openPipes) {
-                for (var pipe : openPipes) {
-                    try {
-                        pipe.getOutputStream().write(b);
-                    } catch (InterruptedIOException e) {
-                        logger.warn("InterruptedIOException while writing to pipe: {}", e.getMessage());
-                    } catch (IOException e) {
-                        logger.warn("IOException while writing to pipe: {}", e.getMessage());
-                    } catch (RuntimeException e) {
-                        logger.warn("RuntimeException while writing to pipe: {}", e.getMessage());
-                    }
+                if (awaitFreeSpace() < 0) {
+                    return;
                 }
+                buffer[(int) (writePosition % buffer.length)] = (byte) b;
+                writePosition++;
+                openPipes.notifyAll();
             }
         }
 
-        @Override
-        public void write(byte @Nullable [] bytes) {
-            synchronized (openPipes) {
-                for (var pipe : openPipes) {
-                    try {
-                        pipe.getOutputStream().write(bytes);
-                    } catch (InterruptedIOException e) {
-                        logger.warn("InterruptedIOException on pipe flush: {}", e.getMessage());
-                    } catch (IOException e) {
-                        logger.warn("IOException on pipe flush: {}", e.getMessage());
-                    } catch (RuntimeException e) {
-                        logger.warn("RuntimeException on pipe flush: {}", e.getMessage());
-                    }
+        /**
+         * Wait until the slowest stream has read enough for the buffer to have free space, dropping the streams that
+         * block the writer. Must be called while holding the lock on openPipes.
+         *
+         * @return the free space in the buffer, or -1 if interrupted
+         */
+        private int awaitFreeSpace() {
+            long blockedSince = 0;
+            long blockedAt = -1;
+            while (true) {
+                long slowestReadPosition = getSlowestReadPosition();
+                int free = buffer.length - (int) (writePosition - slowestReadPosition);
+                if (free > 0) {
+                    return free;
+                }
+                if (blockedAt != slowestReadPosition) {
+                    blockedAt = slowestReadPosition;
+                    blockedSince = System.currentTimeMillis();
+                } else {
+                    dropBlockingStreams(System.currentTimeMillis() - blockedSince);
+                }
+                try {
+                    openPipes.wait(WAIT_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warn("Interrupted while waiting for streams to read");
+                    return -1;
                 }
             }
         }
 
+        @Override
+        public void write(byte @Nullable [] bytes) {
+            write(bytes, 0, Objects.requireNonNull(bytes).length);
+        }
+
         @Override
         public void flush() {
-            synchronized (openPipes) {
-                for (var pipe : openPipes) {
-                    try {
-                        pipe.getOutputStream().flush();
-                    } catch (InterruptedIOException e) {
-                        logger.warn("InterruptedIOException while writing to pipe: {}", e.getMessage());
-                    } catch (IOException e) {
-                        logger.warn("IOException while writing to pipe: {}", e.getMessage());
-                    } catch (RuntimeException e) {
-                        logger.warn("RuntimeException while writing to pipe: {}", e.getMessage());
-                    }
-                }
-            }
+            // data is available to the streams as soon as it is written
         }
 
         @Override
@@ -279,5 +352,99 @@ public class PipedAudioStream extends AudioStream {
                 openPipes.clear();
             }
         }
+
+        private int read(PipedAudioStream stream) throws InterruptedIOException {
+            synchronized (openPipes) {
+                if (!awaitData(stream)) {
+                    return -1;
+                }
+                int b = buffer[(int) (stream.readPosition % buffer.length)] & 0xFF;
+                stream.readPosition++;
+                // space may have been freed for the writer
+                openPipes.notifyAll();
+                return b;
+            }
+        }
+
+        private int read(PipedAudioStream stream, byte[] b, int off, int len) throws InterruptedIOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            synchronized (openPipes) {
+                if (!awaitData(stream)) {
+                    return -1;
+                }
+                int n = (int) Math.min(len, writePosition - stream.readPosition);
+                int index = (int) (stream.readPosition % buffer.length);
+                int first = Math.min(n, buffer.length - index);
+                System.arraycopy(buffer, index, b, off, first);
+                System.arraycopy(buffer, 0, b, off + first, n - first);
+                stream.readPosition += n;
+                // space may have been freed for the writer
+                openPipes.notifyAll();
+                return n;
+            }
+        }
+
+        /**
+         * Wait until data is available for the stream, must be called while holding the lock on openPipes
+         *
+         * @return false if the stream has been closed or dropped
+         */
+        private boolean awaitData(PipedAudioStream stream) throws InterruptedIOException {
+            stream.readerThread = Thread.currentThread();
+            while (stream.readPosition == writePosition) {
+                if (stream.closed.get() || stream.dropped) {
+                    return false;
+                }
+                try {
+                    openPipes.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for data");
+                }
+            }
+            return !stream.closed.get() && !stream.dropped;
+        }
+
+        private int available(PipedAudioStream stream) {
+            synchronized (openPipes) {
+                return stream.dropped ? 0 : (int) (writePosition - stream.readPosition);
+            }
+        }
+
+        /**
+         * Drop the streams that are a full buffer behind when their reading thread has died, or when they have not
+         * read anything while blocking the writer for too long. Must be called while holding the lock on openPipes.
+         *
+         * @param blockedMillis how long the streams have been blocking the writer
+         */
+        private void dropBlockingStreams(long blockedMillis) {
+            for (PipedAudioStream pipe : openPipes) {
+                if (writePosition - pipe.readPosition < buffer.length) {
+                    continue;
+                }
+                Thread readerThread = pipe.readerThread;
+                if (readerThread != null && !readerThread.isAlive()) {
+                    logger.warn("The thread reading a stream of the group died, dropping the stream");
+                } else if (blockedMillis >= STALLED_STREAM_TIMEOUT_MILLIS) {
+                    logger.warn("A stream of the group did not read for {} ms, dropping the stream", blockedMillis);
+                } else {
+                    continue;
+                }
+                pipe.dropped = true;
+                openPipes.remove(pipe);
+            }
+            openPipes.notifyAll();
+        }
+
+        private long getSlowestReadPosition() {
+            long slowest = writePosition;
+            for (PipedAudioStream pipe : openPipes) {
+                slowest = Math.min(slowest, pipe.readPosition);
+            }
+            return slowest;
+        }
     }
 }
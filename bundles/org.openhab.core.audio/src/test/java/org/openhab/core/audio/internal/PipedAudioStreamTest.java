@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.audio.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.PipedAudioStream;
+
+/**
+ * Tests for the {@link PipedAudioStream.Group}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+@Timeout(value = 10, unit = TimeUnit.SECONDS)
+public class PipedAudioStreamTest {
+
+    private final PipedAudioStream.Group group = PipedAudioStream.newGroup(AudioFormat.PCM_SIGNED, 16);
+
+    @Test
+    public void allStreamsReceiveTheWrittenData() throws IOException {
+        PipedAudioStream stream1 = group.getAudioStreamInGroup();
+        PipedAudioStream stream2 = group.getAudioStreamInGroup();
+        assertThat(group.size(), is(2));
+
+        group.write(new byte[] { 1, 2, 3, 4 });
+
+        assertThat(stream1.available(), is(4));
+        assertThat(stream1.readNBytes(4), is(new byte[] { 1, 2, 3, 4 }));
+        assertThat(stream2.read(), is(1));
+        assertThat(stream2.available(), is(3));
+    }
+
+    @Test
+    public void streamOnlyReceivesDataWrittenAfterItJoined() throws IOException {
+        PipedAudioStream stream1 = group.getAudioStreamInGroup();
+        group.write(new byte[] { 1, 2 });
+        PipedAudioStream stream2 = group.getAudioStreamInGroup();
+        group.write(new byte[] { 3 });
+
+        assertThat(stream1.readNBytes(3), is(new byte[] { 1, 2, 3 }));
+        assertThat(stream2.readNBytes(1), is(new byte[] { 3 }));
+        assertThat(stream2.available(), is(0));
+    }
+
+    @Test
+    public void dataIsDroppedWithoutStreams() throws IOException {
+        group.write(new byte[64]);
+
+        PipedAudioStream stream = group.getAudioStreamInGroup();
+        assertThat(stream.available(), is(0));
+    }
+
+    @Test
+    public void dataWrapsAroundTheBuffer() throws IOException {
+        PipedAudioStream stream = group.getAudioStreamInGroup();
+        byte[] data = new byte[12];
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (byte) (round * data.length + i);
+            }
+            group.write(data);
+            assertThat(stream.readNBytes(data.length), is(data));
+        }
+    }
+
+    @Test
+    public void writerWaitsForTheSlowestStream() throws Exception {
+        PipedAudioStream fastStream = group.getAudioStreamInGroup();
+        PipedAudioStream slowStream = group.getAudioStreamInGroup();
+        byte[] data = new byte[100];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        CompletableFuture<byte[]> fastRead = CompletableFuture.supplyAsync(() -> readFully(fastStream, data.length));
+        CompletableFuture<Void> write = CompletableFuture.runAsync(() -> group.write(data));
+
+        // the writer cannot get ahead of the slow stream by more than the buffer size
+        assertThat(slowStream.readNBytes(10).length, is(10));
+        Thread.sleep(100);
+        assertThat(write.isDone(), is(false));
+        assertThat(slowStream.available(), is(16));
+
+        byte[] remaining = slowStream.readNBytes(data.length - 10);
+        write.get(5, TimeUnit.SECONDS);
+        assertThat(remaining[0], is((byte) 10));
+        assertThat(fastRead.get(5, TimeUnit.SECONDS), is(data));
+    }
+
+    @Test
+    public void closedStreamDoesNotBlockTheWriter() throws IOException {
+        PipedAudioStream stream1 = group.getAudioStreamInGroup();
+        PipedAudioStream stream2 = group.getAudioStreamInGroup();
+        stream2.close();
+        assertThat(group.size(), is(1));
+
+        CompletableFuture<byte[]> read = CompletableFuture.supplyAsync(() -> readFully(stream1, 64));
+        group.write(new byte[64]);
+
+        assertThat(read.join().length, is(64));
+    }
+
+    @Test
+    public void streamOfDeadReaderDoesNotBlockTheWriter() throws Exception {
+        PipedAudioStream activeStream = group.getAudioStreamInGroup();
+        PipedAudioStream abandonedStream = group.getAudioStreamInGroup();
+        Thread deadReader = new Thread(() -> readFully(abandonedStream, 1));
+        group.write(new byte[1]);
+        deadReader.start();
+        deadReader.join();
+
+        CompletableFuture<byte[]> read = CompletableFuture.supplyAsync(() -> readFully(activeStream, 64));
+        group.write(new byte[63]);
+
+        assertThat(read.get(5, TimeUnit.SECONDS).length, is(64));
+        assertThat(group.size(), is(1));
+        assertThat(abandonedStream.read(), is(-1));
+    }
+
+    @Test
+    public void singleBytesAreReadFromTheGroup() throws IOException {
+        PipedAudioStream stream = group.getAudioStreamInGroup();
+        group.write(new byte[] { 1, (byte) 200 });
+
+        assertThat(stream.read(), is(1));
+        assertThat(stream.read(), is(200));
+        assertThat(stream.available(), is(0));
+    }
+
+    @Test
+    public void singleBytesAreWrittenToTheGroup() throws Exception {
+        PipedAudioStream stream = group.getAudioStreamInGroup();
+        CompletableFuture<byte[]> read = CompletableFuture.supplyAsync(() -> readFully(stream, 40));
+
+        // more bytes than the buffer holds, so the writes wrap around the ring buffer
+        for (int i = 0; i < 40; i++) {
+            group.write(i);
+        }
+
+        byte[] data = read.get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 40; i++) {
+            assertThat(data[i], is((byte) i));
+        }
+    }
+
+    @Test
+    public void closingTheGroupEndsTheStreams() throws Exception {
+        PipedAudioStream stream = group.getAudioStreamInGroup();
+        CompletableFuture<Integer> read = CompletableFuture.supplyAsync(() -> {
+            try {
+                return stream.read();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+
+        group.close();
+
+        assertThat(read.get(5, TimeUnit.SECONDS), is(-1));
+        assertThat(group.isEmpty(), is(true));
+    }
+
+    private static byte[] readFully(PipedAudioStream stream, int length) {
+        try {
+            return stream.readNBytes(length);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -17,13 +17,19 @@ import static org.openhab.core.automation.module.script.profile.ScriptProfileFac
 import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
@@ -60,9 +66,14 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link ScriptTransformationService} implements a {@link TransformationService} using any available script
  * language
+ * <p>
+ * Each script is executed by a pool of script engines, so the same script can transform several values concurrently.
+ * The pool holds up to {@link #CONFIG_MAX_ENGINES} engines (one by default), additional engines are disposed when they
+ * have been idle for {@link #CONFIG_ENGINE_IDLE_TIMEOUT} seconds.
  *
  * @author Jan N. Klug - Initial contribution
  * @author Florian Hotze - Implement script dependency tracking
+ * @author Mark Herwege - Pool script engines per script
  */
 @NonNullByDefault
 @Component(factory = "org.openhab.core.automation.module.script.transformation.factory", service = {
@@ -72,6 +83,12 @@ public class ScriptTransformationService implements TransformationService, Scrip
         ConfigOptionProvider, ConfigDescriptionProvider, RegistryChangeListener<Transformation> {
     public static final String SCRIPT_TYPE_PROPERTY_NAME = "openhab.transform.script.scriptType";
     public static final String OPENHAB_TRANSFORMATION_SCRIPT = "openhab-transformation-script-";
+    public static final String CONFIG_MAX_ENGINES = "maxEngines";
+    public static final String CONFIG_ENGINE_IDLE_TIMEOUT = "engineIdleTimeout";
+
+    private static final int DEFAULT_MAX_ENGINES = 1;
+    private static final int DEFAULT_ENGINE_IDLE_TIMEOUT = 300;
+    private static final String ENGINE_INDEX_SEPARATOR = "#";
 
     private static final URI CONFIG_DESCRIPTION_TEMPLATE_URI = URI.create(PROFILE_CONFIG_URI_PREFIX + "SCRIPT");
 
@@ -85,6 +102,10 @@ public class ScriptTransformationService implements TransformationService, Scrip
     private final URI profileConfigUri;
 
     private final Map<String, ScriptRecord> scriptCache = new ConcurrentHashMap<>();
+    // numbers the engines of all scripts, so a replaced script never reuses the identifier of an engine still in use
+    private final AtomicLong engineCounter = new AtomicLong();
+    private final int maxEngines;
+    private final Duration engineIdleTimeout;
 
     private final TransformationRegistry transformationRegistry;
     private final ScriptEngineManager scriptEngineManager;
@@ -105,6 +126,10 @@ public class ScriptTransformationService implements TransformationService, Scrip
         this.scriptEngineManager = scriptEngineManager;
         this.scriptType = scriptType;
         this.profileConfigUri = URI.create(PROFILE_CONFIG_URI_PREFIX + scriptType.toUpperCase());
+        this.maxEngines = Math.max(1,
+                ConfigParser.valueAsOrElse(config.get(CONFIG_MAX_ENGINES), Integer.class, DEFAULT_MAX_ENGINES));
+        this.engineIdleTimeout = Duration.ofSeconds(Math.max(0, ConfigParser
+                .valueAsOrElse(config.get(CONFIG_ENGINE_IDLE_TIMEOUT), Integer.class, DEFAULT_ENGINE_IDLE_TIMEOUT)));
         transformationRegistry.addRegistryChangeListener(this);
     }
 
@@ -156,85 +181,153 @@ public class ScriptTransformationService implements TransformationService, Scrip
                 }
                 scriptCache.put(scriptUid, scriptRecord);
             }
+        } finally {
+            scriptRecord.lock.unlock();
+        }
 
-            if (!scriptEngineManager.isSupported(scriptType)) {
-                // language has been removed, clear container and compiled scripts if found
-                clearCache(scriptUid);
-                throw new TransformationException(
-                        "Script type '" + scriptType + "' is not supported by any available script engine.");
-            }
+        if (!scriptEngineManager.isSupported(scriptType)) {
+            // language has been removed, clear container and compiled scripts if found
+            clearCache(scriptUid);
+            throw new TransformationException(
+                    "Script type '" + scriptType + "' is not supported by any available script engine.");
+        }
 
-            if (scriptRecord.scriptEngineContainer == null) {
-                scriptRecord.scriptEngineContainer = scriptEngineManager.createScriptEngine(scriptType,
-                        OPENHAB_TRANSFORMATION_SCRIPT + scriptUid);
+        PooledEngine pooledEngine = acquireEngine(scriptUid, scriptRecord);
+        if (pooledEngine == null) {
+            // the script record was disposed concurrently, make sure it is not cached anymore and try again
+            scriptCache.remove(scriptUid, scriptRecord);
+            return transform(function, source);
+        }
+        try {
+            ScriptEngineContainer scriptEngineContainer = pooledEngine.scriptEngineContainer;
+            CompiledScript compiledScript = pooledEngine.compiledScript;
+
+            ScriptEngine engine = compiledScript != null ? compiledScript.getEngine()
+                    : scriptEngineContainer.getScriptEngine();
+            ScriptContext executionContext = engine.getContext();
+            executionContext.setAttribute("input", source, ScriptContext.ENGINE_SCOPE);
+            ArrayList<String> injectedParams = null;
+
+            if (params != null) {
+                injectedParams = new ArrayList<>();
+                for (String param : params.split("&")) {
+                    String[] splitString = param.split("=");
+                    if (splitString.length != 2) {
+                        logger.warn("Parameter '{}' does not consist of two parts for configuration UID {}, skipping.",
+                                param, scriptUid);
+                    } else {
+                        param = URLDecoder.decode(splitString[0], StandardCharsets.UTF_8);
+                        String value = URLDecoder.decode(splitString[1], StandardCharsets.UTF_8);
+                        executionContext.setAttribute(param, value, ScriptContext.ENGINE_SCOPE);
+                        injectedParams.add(param);
+                    }
+                }
             }
-            ScriptEngineContainer scriptEngineContainer = scriptRecord.scriptEngineContainer;
 
-            if (scriptEngineContainer == null) {
-                throw new TransformationException("Failed to create script engine container for '" + function + "'.");
+            // compile the script here _after_ setting context attributes, so that the script engine
+            // can bind the attributes as variables during compilation. This primarily affects jruby.
+            if (compiledScript == null && scriptEngineContainer.getScriptEngine() instanceof Compilable scriptEngine) {
+                // no compiled script available but compiling is supported
+                compiledScript = scriptEngine.compile(scriptRecord.script);
+                pooledEngine.compiledScript = compiledScript;
             }
+
             try {
-                CompiledScript compiledScript = scriptRecord.compiledScript;
-
-                ScriptEngine engine = compiledScript != null ? compiledScript.getEngine()
-                        : scriptEngineContainer.getScriptEngine();
-                ScriptContext executionContext = engine.getContext();
-                executionContext.setAttribute("input", source, ScriptContext.ENGINE_SCOPE);
-                ArrayList<String> injectedParams = null;
-
-                if (params != null) {
-                    injectedParams = new ArrayList<>();
-                    for (String param : params.split("&")) {
-                        String[] splitString = param.split("=");
-                        if (splitString.length != 2) {
-                            logger.warn(
-                                    "Parameter '{}' does not consist of two parts for configuration UID {}, skipping.",
-                                    param, scriptUid);
-                        } else {
-                            param = URLDecoder.decode(splitString[0], StandardCharsets.UTF_8);
-                            String value = URLDecoder.decode(splitString[1], StandardCharsets.UTF_8);
-                            executionContext.setAttribute(param, value, ScriptContext.ENGINE_SCOPE);
-                            injectedParams.add(param);
-                        }
-                    }
+                Object result = compiledScript != null ? compiledScript.eval() : engine.eval(scriptRecord.script);
+                return result == null ? null : result.toString();
+            } finally {
+                if (injectedParams != null) {
+                    injectedParams
+                            .forEach(param -> executionContext.removeAttribute(param, ScriptContext.ENGINE_SCOPE));
                 }
-
-                // compile the script here _after_ setting context attributes, so that the script engine
-                // can bind the attributes as variables during compilation. This primarily affects jruby.
-                if (compiledScript == null
-                        && scriptEngineContainer.getScriptEngine() instanceof Compilable scriptEngine) {
-                    // no compiled script available but compiling is supported
-                    compiledScript = scriptEngine.compile(scriptRecord.script);
-                    scriptRecord.compiledScript = compiledScript;
+            }
+        } catch (ScriptException e) {
+            throw new TransformationException("Failed to execute script.", e);
+        } catch (IllegalStateException e) {
+            // ISE thrown by JS Scripting if script engine already closed
+            if ("The Context is already closed.".equals(e.getMessage())) {
+                logger.warn(
+                        "Script engine context {} is already closed, this should not happen. Recreating script engine.",
+                        scriptUid);
+                if (scriptCache.remove(scriptUid, scriptRecord)) {
+                    disposeScriptRecord(scriptRecord);
                 }
+                releaseEngine(scriptRecord, pooledEngine);
+                pooledEngine = null;
+                return transform(function, source);
+            } else {
+                // rethrow
+                throw e;
+            }
+        } finally {
+            if (pooledEngine != null) {
+                releaseEngine(scriptRecord, pooledEngine);
+            }
+        }
+    }
 
-                try {
-                    Object result = compiledScript != null ? compiledScript.eval() : engine.eval(scriptRecord.script);
-                    return result == null ? null : result.toString();
-                } finally {
-                    if (injectedParams != null) {
-                        injectedParams
-                                .forEach(param -> executionContext.removeAttribute(param, ScriptContext.ENGINE_SCOPE));
-                    }
-                }
-            } catch (ScriptException e) {
-                throw new TransformationException("Failed to execute script.", e);
-            } catch (IllegalStateException e) {
-                // ISE thrown by JS Scripting if script engine already closed
-                if ("The Context is already closed.".equals(e.getMessage())) {
-                    logger.warn(
-                            "Script engine context {} is already closed, this should not happen. Recreating script engine.",
-                            scriptUid);
-                    scriptCache.remove(scriptUid);
-                    return transform(function, source);
-                } else {
-                    // rethrow
-                    throw e;
+    /**
+     * Takes an idle engine of the script from the pool, or creates a new one if the pool is not exhausted yet. If all
+     * engines are in use, this waits until one of them is released.
+     *
+     * @return the engine, or null if the script record was disposed while waiting for an engine
+     * @throws TransformationException if no engine can be created
+     */
+    private @Nullable PooledEngine acquireEngine(String scriptUid, ScriptRecord scriptRecord)
+            throws TransformationException {
+        if (!scriptRecord.permits.tryAcquire()) {
+            long start = System.nanoTime();
+            scriptRecord.permits.acquireUninterruptibly();
+            logger.debug("Waited {} ms for a script engine for '{}', consider increasing the maximum number of engines",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), scriptUid);
+        }
+        if (scriptRecord.disposed) {
+            scriptRecord.permits.release();
+            return null;
+        }
+        PooledEngine pooledEngine = scriptRecord.idleEngines.pollFirst();
+        if (pooledEngine != null) {
+            return pooledEngine;
+        }
+        // all existing engines are in use, but holding a permit guarantees there are less than the maximum
+        String engineIdentifier = OPENHAB_TRANSFORMATION_SCRIPT + scriptUid + ENGINE_INDEX_SEPARATOR
+                + engineCounter.incrementAndGet();
+        ScriptEngineContainer scriptEngineContainer = scriptEngineManager.createScriptEngine(scriptType,
+                engineIdentifier);
+        if (scriptEngineContainer == null) {
+            scriptRecord.permits.release();
+            throw new TransformationException("Failed to create script engine container for '" + scriptUid + "'.");
+        }
+        return new PooledEngine(scriptEngineContainer);
+    }
+
+    /**
+     * Returns an engine to the pool. Engines are reused in LIFO order, so the engines at the end of the pool are the
+     * ones that have been idle for the longest time. These are disposed when they exceed the idle timeout, but the
+     * most recently used engine is always kept.
+     */
+    private void releaseEngine(ScriptRecord scriptRecord, PooledEngine pooledEngine) {
+        if (scriptRecord.disposed) {
+            disposeEngine(pooledEngine);
+        } else {
+            pooledEngine.lastUsed = System.nanoTime();
+            scriptRecord.idleEngines.offerFirst(pooledEngine);
+            long expired = System.nanoTime() - engineIdleTimeout.toNanos();
+            while (scriptRecord.idleEngines.size() > 1) {
+                PooledEngine idleEngine = scriptRecord.idleEngines.peekLast();
+                if (idleEngine == null || idleEngine.lastUsed - expired > 0
+                        || !scriptRecord.idleEngines.removeLastOccurrence(idleEngine)) {
+                    break;
                 }
+                logger.debug("Disposing idle script engine {}", idleEngine.scriptEngineContainer.getIdentifier());
+                disposeEngine(idleEngine);
+            }
+            if (scriptRecord.disposed && scriptRecord.idleEngines.remove(pooledEngine)) {
+                // the record was disposed concurrently
+                disposeEngine(pooledEngine);
             }
-        } finally {
-            scriptRecord.lock.unlock();
         }
+        scriptRecord.permits.release();
     }
 
     @Override
@@ -295,6 +388,11 @@ public class ScriptTransformationService implements TransformationService, Scrip
     @Override
     public void onDependencyChange(String scriptId) {
         String scriptUid = scriptId.substring(OPENHAB_TRANSFORMATION_SCRIPT.length());
+        int separatorIndex = scriptUid.lastIndexOf(ENGINE_INDEX_SEPARATOR);
+        if (separatorIndex >= 0) {
+            // strip the engine number
+            scriptUid = scriptUid.substring(0, separatorIndex);
+        }
         ScriptRecord scriptRecord = scriptCache.get(scriptUid);
         if (scriptRecord != null) {
             logger.debug("Clearing script cache for script {}", scriptUid);
@@ -310,18 +408,35 @@ public class ScriptTransformationService implements TransformationService, Scrip
     }
 
     private void disposeScriptRecord(ScriptRecord scriptRecord) {
-        ScriptEngineContainer scriptEngineContainer = scriptRecord.scriptEngineContainer;
-        if (scriptEngineContainer != null) {
-            scriptEngineManager.removeEngine(scriptEngineContainer.getIdentifier());
+        // engines that are in use are disposed when they are released
+        scriptRecord.disposed = true;
+        PooledEngine pooledEngine;
+        while ((pooledEngine = scriptRecord.idleEngines.pollFirst()) != null) {
+            disposeEngine(pooledEngine);
         }
-        scriptRecord.compiledScript = null;
     }
 
-    private static class ScriptRecord {
+    private void disposeEngine(PooledEngine pooledEngine) {
+        scriptEngineManager.removeEngine(pooledEngine.scriptEngineContainer.getIdentifier());
+        pooledEngine.compiledScript = null;
+    }
+
+    private class ScriptRecord {
         public String script = "";
-        public @Nullable ScriptEngineContainer scriptEngineContainer;
-        public @Nullable CompiledScript compiledScript;
+        public final Deque<PooledEngine> idleEngines = new ConcurrentLinkedDeque<>();
+        public final Semaphore permits = new Semaphore(maxEngines, true);
+        public volatile boolean disposed;
 
         public final Lock lock = new ReentrantLock();
     }
+
+    private static class PooledEngine {
+        public final ScriptEngineContainer scriptEngineContainer;
+        public @Nullable CompiledScript compiledScript;
+        public long lastUsed;
+
+        public PooledEngine(ScriptEngineContainer scriptEngineContainer) {
+            this.scriptEngineContainer = scriptEngineContainer;
+        }
+    }
 }
@@ -14,6 +14,7 @@ package org.openhab.core.automation.module.script;
 
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -22,7 +23,9 @@ import javax.script.ScriptEngine;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.automation.module.script.internal.ScriptEngineFactoryHelper;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.transform.TransformationService;
+import org.osgi.framework.Constants;
 import org.osgi.service.component.ComponentFactory;
 import org.osgi.service.component.ComponentInstance;
 import org.osgi.service.component.annotations.Activate;
@@ -35,21 +38,33 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 /**
  * The {@link ScriptTransformationServiceFactory} registers a {@link ScriptTransformationService}
  * for each newly added script engine.
+ * <p>
+ * The script engine pool configuration is passed to the transformation services. As this component has no modified
+ * method, it is reactivated on configuration changes and all transformation services are created again.
  *
  * @author Jimmy Tanagra - Initial contribution
+ * @author Mark Herwege - Pass script engine pool configuration
  */
-@Component(immediate = true, service = { ScriptTransformationServiceFactory.class })
+@Component(immediate = true, service = {
+        ScriptTransformationServiceFactory.class }, configurationPid = "org.openhab.scripttransformation", //
+        property = Constants.SERVICE_PID + "=org.openhab.scripttransformation")
+@ConfigurableService(category = "system", label = "Script Transformation", description_uri = ScriptTransformationServiceFactory.CONFIG_URI)
 @NonNullByDefault
 public class ScriptTransformationServiceFactory {
 
+    protected static final String CONFIG_URI = "system:scripttransformation";
+
     private final ComponentFactory<ScriptTransformationService> scriptTransformationFactory;
+    private final Map<String, Object> config;
 
     private final Map<ScriptEngineFactory, ComponentInstance<ScriptTransformationService>> scriptTransformations = new ConcurrentHashMap<>();
 
     @Activate
     public ScriptTransformationServiceFactory(
-            @Reference(target = "(component.factory=org.openhab.core.automation.module.script.transformation.factory)") ComponentFactory<ScriptTransformationService> factory) {
+            @Reference(target = "(component.factory=org.openhab.core.automation.module.script.transformation.factory)") ComponentFactory<ScriptTransformationService> factory,
+            Map<String, Object> config) {
         this.scriptTransformationFactory = factory;
+        this.config = config;
     }
 
     @Deactivate
@@ -79,6 +94,13 @@ public class ScriptTransformationServiceFactory {
             properties.put(TransformationService.SERVICE_PROPERTY_NAME, scriptType.get().toUpperCase());
             properties.put(TransformationService.SERVICE_PROPERTY_LABEL, "SCRIPT " + languageName);
             properties.put(ScriptTransformationService.SCRIPT_TYPE_PROPERTY_NAME, scriptType.get());
+            for (String key : List.of(ScriptTransformationService.CONFIG_MAX_ENGINES,
+                    ScriptTransformationService.CONFIG_ENGINE_IDLE_TIMEOUT)) {
+                Object value = config.get(key);
+                if (value != null) {
+                    properties.put(key, value);
+                }
+            }
             return scriptTransformationFactory.newInstance(properties);
         });
     }
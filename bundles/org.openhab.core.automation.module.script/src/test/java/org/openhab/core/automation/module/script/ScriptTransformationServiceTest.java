@@ -20,6 +20,12 @@ import static org.mockito.Mockito.*;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.script.Compilable;
 import javax.script.ScriptContext;
@@ -27,9 +33,12 @@ import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -45,6 +54,7 @@ import org.openhab.core.transform.TransformationRegistry;
  * The {@link ScriptTransformationServiceTest} holds tests for the {@link ScriptTransformationService}
  *
  * @author Jan N. Klug - Initial contribution
+ * @author Mark Herwege - Added tests for pooled script engines
  */
 @NonNullByDefault
 @ExtendWith(MockitoExtension.class)
@@ -218,6 +228,124 @@ public class ScriptTransformationServiceTest extends JavaTest {
                 + " is already closed, this should not happen. Recreating script engine.");
     }
 
+    @Test
+    public void sameScriptIsExecutedConcurrentlyByPooledEngines() throws Exception {
+        service = new ScriptTransformationService(transformationRegistry, mock(ConfigDescriptionRegistry.class),
+                scriptEngineManager, Map.of(ScriptTransformationService.SCRIPT_TYPE_PROPERTY_NAME, SCRIPT_LANGUAGE,
+                        ScriptTransformationService.CONFIG_MAX_ENGINES, 2));
+        // both executions have to run at the same time to pass the barrier
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        when(scriptEngine.eval(SCRIPT)).thenAnswer(invocation -> {
+            barrier.await(5, TimeUnit.SECONDS);
+            return SCRIPT_OUTPUT;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<@Nullable String> result1 = executor.submit(() -> service.transform(SCRIPT_UID, "input"));
+            Future<@Nullable String> result2 = executor.submit(() -> service.transform(SCRIPT_UID, "input"));
+
+            assertThat(result1.get(10, TimeUnit.SECONDS), is(SCRIPT_OUTPUT));
+            assertThat(result2.get(10, TimeUnit.SECONDS), is(SCRIPT_OUTPUT));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ArgumentCaptor<String> engineIdentifiers = ArgumentCaptor.forClass(String.class);
+        verify(scriptEngineManager, times(2)).createScriptEngine(eq(SCRIPT_LANGUAGE), engineIdentifiers.capture());
+        assertThat(engineIdentifiers.getAllValues(), everyItem(
+                Matchers.startsWith(ScriptTransformationService.OPENHAB_TRANSFORMATION_SCRIPT + SCRIPT_UID + "#")));
+        assertThat(engineIdentifiers.getAllValues().get(0), is(not(engineIdentifiers.getAllValues().get(1))));
+
+        // engines are reused
+        doReturn(SCRIPT_OUTPUT).when(scriptEngine).eval(SCRIPT);
+        service.transform(SCRIPT_UID, "input");
+        verify(scriptEngineManager, times(2)).createScriptEngine(eq(SCRIPT_LANGUAGE), any());
+    }
+
+    @Test
+    public void idleEnginesAreDisposed() throws Exception {
+        service = new ScriptTransformationService(transformationRegistry, mock(ConfigDescriptionRegistry.class),
+                scriptEngineManager,
+                Map.of(ScriptTransformationService.SCRIPT_TYPE_PROPERTY_NAME, SCRIPT_LANGUAGE,
+                        ScriptTransformationService.CONFIG_MAX_ENGINES, 2,
+                        ScriptTransformationService.CONFIG_ENGINE_IDLE_TIMEOUT, 0));
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        when(scriptEngine.eval(SCRIPT)).thenAnswer(invocation -> {
+            barrier.await(5, TimeUnit.SECONDS);
+            return SCRIPT_OUTPUT;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<@Nullable String> result1 = executor.submit(() -> service.transform(SCRIPT_UID, "input"));
+            Future<@Nullable String> result2 = executor.submit(() -> service.transform(SCRIPT_UID, "input"));
+            result1.get(10, TimeUnit.SECONDS);
+            result2.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the most recently used engine is kept
+        verify(scriptEngineManager).removeEngine(any());
+
+        service.updated(TRANSFORMATION_CONFIGURATION, TRANSFORMATION_CONFIGURATION);
+        verify(scriptEngineManager, times(2)).removeEngine(any());
+    }
+
+    @Test
+    public void replacingScriptDuringTransformationKeepsTheNewEngine() throws Exception {
+        when(scriptEngineManager.createScriptEngine(eq(SCRIPT_LANGUAGE), any())).thenAnswer(invocation -> {
+            ScriptEngineContainer container = mock(ScriptEngineContainer.class);
+            when(container.getIdentifier()).thenReturn(invocation.getArgument(1));
+            when(container.getScriptEngine()).thenReturn(scriptEngine);
+            return container;
+        });
+        CountDownLatch evaluating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(scriptEngine.eval(SCRIPT)).thenAnswer(invocation -> {
+            evaluating.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return SCRIPT_OUTPUT;
+        }).thenReturn(SCRIPT_OUTPUT);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<@Nullable String> result = executor.submit(() -> service.transform(SCRIPT_UID, "input"));
+            assertThat(evaluating.await(5, TimeUnit.SECONDS), is(true));
+
+            // the script is edited while the first transformation is still running
+            service.updated(TRANSFORMATION_CONFIGURATION, TRANSFORMATION_CONFIGURATION);
+            assertThat(service.transform(SCRIPT_UID, "input"), is(SCRIPT_OUTPUT));
+
+            release.countDown();
+            assertThat(result.get(10, TimeUnit.SECONDS), is(SCRIPT_OUTPUT));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ArgumentCaptor<String> engineIdentifiers = ArgumentCaptor.forClass(String.class);
+        verify(scriptEngineManager, times(2)).createScriptEngine(eq(SCRIPT_LANGUAGE), engineIdentifiers.capture());
+        String oldEngine = engineIdentifiers.getAllValues().get(0);
+        String newEngine = engineIdentifiers.getAllValues().get(1);
+        assertThat(newEngine, is(not(oldEngine)));
+        // only the engine of the replaced script is removed once it is released, the new one stays in the pool
+        verify(scriptEngineManager).removeEngine(oldEngine);
+        verify(scriptEngineManager, never()).removeEngine(newEngine);
+
+        service.transform(SCRIPT_UID, "input");
+        verify(scriptEngineManager, times(2)).createScriptEngine(eq(SCRIPT_LANGUAGE), any());
+    }
+
+    @Test
+    public void dependencyChangeOfPooledEngineClearsCache() throws TransformationException {
+        service.transform(SCRIPT_UID, "input");
+        service.onDependencyChange(ScriptTransformationService.OPENHAB_TRANSFORMATION_SCRIPT + SCRIPT_UID + "#2");
+        service.transform(SCRIPT_UID, "input");
+
+        verify(transformationRegistry, times(2)).get(SCRIPT_UID);
+    }
+
     @Test
     public void inlineScriptProperlyProcessed() throws TransformationException, ScriptException {
         service.transform(INLINE_SCRIPT, "input");
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.automation.util.ReferenceResolver;
+
+/**
+ * This class is the precompiled form of a {@link Connection}. Everything that only depends on the connection itself,
+ * i.e. the context key of the connected output, the tokens of a complex data reference and the context key of a
+ * {@code {{reference}}}, is resolved once when the connections of a module are set, so that wiring the inputs of a
+ * module on each rule execution only consists of map lookups.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public final class CompiledConnection {
+
+    private static final CompiledConnection[] EMPTY = new CompiledConnection[0];
+
+    private final Connection connection;
+    private final String inputName;
+    private final @Nullable String outputKey;
+    private final String @Nullable [] referenceTokens;
+    private final @Nullable String contextKey;
+
+    CompiledConnection(Connection connection) {
+        this.connection = connection;
+        this.inputName = connection.getInputName();
+        String outputModuleId = connection.getOutputModuleId();
+        String reference = connection.getReference();
+        if (outputModuleId != null) {
+            this.outputKey = outputModuleId + RuleEngineImpl.OUTPUT_SEPARATOR + connection.getOutputName();
+            this.referenceTokens = reference == null ? null : splitReference(reference);
+            this.contextKey = null;
+        } else {
+            this.outputKey = null;
+            this.referenceTokens = null;
+            this.contextKey = reference == null ? null : getContextKey(reference);
+        }
+    }
+
+    /**
+     * Compiles the given connections.
+     *
+     * @param connections the connections of a module, can be {@code null}
+     * @return the compiled connections, never {@code null}
+     */
+    public static CompiledConnection[] compile(@Nullable Set<Connection> connections) {
+        if (connections == null || connections.isEmpty()) {
+            return EMPTY;
+        }
+        return connections.stream().map(CompiledConnection::new).toArray(CompiledConnection[]::new);
+    }
+
+    /**
+     * Resolves the value of this connection from the rule context and stores it in the context under the input name.
+     *
+     * @param context the rule context
+     */
+    public void apply(Map<String, @Nullable Object> context) {
+        Object value;
+        String outputKey = this.outputKey;
+        if (outputKey != null) {
+            value = context.get(outputKey);
+            String reference = connection.getReference();
+            if (value != null && reference != null) {
+                String[] tokens = referenceTokens;
+                // an invalid reference fails on execution, as it did before connections were compiled
+                value = ReferenceResolver.resolveComplexDataReference(value,
+                        tokens != null ? tokens : ReferenceResolver.splitReferenceToTokens(reference));
+            }
+        } else {
+            String contextKey = this.contextKey;
+            value = contextKey != null ? context.get(contextKey) : connection.getReference();
+        }
+        if (value != null) {
+            context.put(inputName, value);
+        }
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    private static String @Nullable [] splitReference(String reference) {
+        try {
+            return ReferenceResolver.splitReferenceToTokens(reference);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the context key of a single reference '{{key}}', the same way as
+     * {@link ReferenceResolver#resolveReference(String, Map)} does.
+     *
+     * @return the key or {@code null} if the value is not a single reference
+     */
+    private static @Nullable String getContextKey(String value) {
+        String trimmedVal = value.trim();
+        if (trimmedVal.lastIndexOf("{{") == 0 && trimmedVal.indexOf("}}") == trimmedVal.length() - 2
+                && trimmedVal.length() > 4) {
+            return trimmedVal.substring(2, trimmedVal.length() - 2);
+        }
+        return null;
+    }
+}
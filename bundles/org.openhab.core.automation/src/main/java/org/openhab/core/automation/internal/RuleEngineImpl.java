@@ -73,7 +73,6 @@ import org.openhab.core.automation.type.ModuleType;
 import org.openhab.core.automation.type.ModuleTypeRegistry;
 import org.openhab.core.automation.type.Output;
 import org.openhab.core.automation.type.TriggerType;
-import org.openhab.core.automation.util.ReferenceResolver;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.events.Event;
@@ -114,6 +113,7 @@ import org.slf4j.LoggerFactory;
  * @author Markus Rathgeb - use a managed rule
  * @author Ana Dimova - new reference syntax: list[index], map["key"], bean.field
  * @author Florian Hotze - add support for script condition/action compilation
+ * @author Mark Herwege - precompiled connections and reused rule context
  */
 @Component(immediate = true, service = { RuleManager.class }, configurationPid = RuleEngineImpl.SERVICE_PID)
 @NonNullByDefault
@@ -191,7 +191,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
      * The context map of a {@link Rule} is cleaned when the execution is completed. The relation is
      * {@link Rule}'s UID to Rule context map.
      */
-    private final Map<String, Map<String, @Nullable Object>> contextMap = new ConcurrentHashMap<>();
+    private final Map<String, RuleContext> contextMap = new ConcurrentHashMap<>();
 
     /**
      * This field holds reference to {@link ModuleTypeRegistry}. The {@link RuleEngineImpl} needs it to auto-map
@@ -1156,13 +1156,13 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
         try {
             clearContext(ruleUID);
             if (context != null && !context.isEmpty()) {
-                getContext(ruleUID, null).putAll(context);
+                getContext(ruleUID).values.putAll(context);
             }
             if (!considerConditions || calculateConditions(rule)) {
                 executeActions(rule, false);
             }
             logger.debug("The rule '{}' is executed.", ruleUID);
-            returnContext.putAll(getContext(ruleUID, null));
+            returnContext.putAll(getContext(ruleUID).values);
         } catch (Throwable t) {
             logger.error("Failed to execute rule '{}': ", ruleUID, t);
         }
@@ -1186,9 +1186,9 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
      * @param ruleUID the UID of the rule whose context must be cleared.
      */
     protected void clearContext(String ruleUID) {
-        Map<String, @Nullable Object> context = contextMap.get(ruleUID);
+        RuleContext context = contextMap.get(ruleUID);
         if (context != null) {
-            context.clear();
+            context.values.clear();
         }
     }
 
@@ -1210,7 +1210,7 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
      * @param outputs new output values.
      */
     private void updateContext(String ruleUID, String moduleUID, @Nullable Map<String, ?> outputs) {
-        Map<String, @Nullable Object> context = getContext(ruleUID, null);
+        Map<String, @Nullable Object> context = getContext(ruleUID).values;
         if (outputs != null) {
             for (Map.Entry<String, ?> entry : outputs.entrySet()) {
                 String key = moduleUID + OUTPUT_SEPARATOR + entry.getKey();
@@ -1220,41 +1220,37 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
     }
 
     /**
-     * @return copy of current context in rule engine
+     * Updates current context of rule engine with the outputs of an executed action.
+     *
+     * @param action the executed action
+     * @param outputs new output values.
      */
-    private Map<String, @Nullable Object> getContext(String ruleUID, @Nullable Set<Connection> connections) {
-        Map<String, @Nullable Object> context = contextMap.computeIfAbsent(ruleUID, k -> new HashMap<>());
-        if (context == null) {
-            throw new IllegalStateException("context cannot be null at that point - please report a bug.");
-        }
-        if (connections != null) {
-            StringBuilder sb = new StringBuilder();
-            for (Connection c : connections) {
-                String outputModuleId = c.getOutputModuleId();
-                if (outputModuleId != null) {
-                    sb.append(outputModuleId).append(OUTPUT_SEPARATOR).append(c.getOutputName());
-                    Object outputValue = context.get(sb.toString());
-                    sb.setLength(0);
-                    if (outputValue != null) {
-                        if (c.getReference() == null) {
-                            context.put(c.getInputName(), outputValue);
-                        } else {
-                            context.put(c.getInputName(), ReferenceResolver.resolveComplexDataReference(outputValue,
-                                    ReferenceResolver.splitReferenceToTokens(c.getReference())));
-                        }
-                    }
-                } else {
-                    // get reference from context
-                    String ref = c.getReference();
-                    final Object value = ReferenceResolver.resolveReference(ref, context);
+    private void updateContext(String ruleUID, WrappedAction action, Map<String, ?> outputs) {
+        Map<String, @Nullable Object> context = getContext(ruleUID).values;
+        for (Map.Entry<String, ?> entry : outputs.entrySet()) {
+            context.put(action.getOutputKey(entry.getKey()), entry.getValue());
+        }
+    }
 
-                    if (value != null) {
-                        context.put(c.getInputName(), value);
-                    }
-                }
-            }
+    /**
+     * @return current context of the rule in rule engine
+     */
+    private RuleContext getContext(String ruleUID) {
+        return contextMap.computeIfAbsent(ruleUID, k -> new RuleContext());
+    }
+
+    /**
+     * Wires the inputs of a module into the current context of the rule.
+     *
+     * @param connections the precompiled connections of the module
+     * @return read-only view of the current context of the rule
+     */
+    private Map<String, @Nullable Object> getContext(String ruleUID, CompiledConnection[] connections) {
+        RuleContext context = getContext(ruleUID);
+        for (CompiledConnection connection : connections) {
+            connection.apply(context.values);
         }
-        return context;
+        return context.view;
     }
 
     /**
@@ -1304,8 +1300,8 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             }
             final Condition condition = wrappedCondition.unwrap();
             ConditionHandler tHandler = wrappedCondition.getModuleHandler();
-            Map<String, @Nullable Object> context = getContext(ruleUID, wrappedCondition.getConnections());
-            if (tHandler != null && !tHandler.isSatisfied(Collections.unmodifiableMap(context))) {
+            Map<String, @Nullable Object> context = getContext(ruleUID, wrappedCondition.getCompiledConnections());
+            if (tHandler != null && !tHandler.isSatisfied(context)) {
                 logger.debug("The condition '{}' of rule '{}' is unsatisfied.", condition.getId(), ruleUID);
                 return false;
             }
@@ -1359,12 +1355,11 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
             final Action action = wrappedAction.unwrap();
             ActionHandler aHandler = wrappedAction.getModuleHandler();
             if (aHandler != null) {
-                Map<String, @Nullable Object> context = getContext(ruleUID, wrappedAction.getConnections());
+                Map<String, @Nullable Object> context = getContext(ruleUID, wrappedAction.getCompiledConnections());
                 try {
-                    Map<String, @Nullable ?> outputs = aHandler.execute(Collections.unmodifiableMap(context));
+                    Map<String, @Nullable ?> outputs = aHandler.execute(context);
                     if (outputs != null) {
-                        context = getContext(ruleUID, null);
-                        updateContext(ruleUID, action.getId(), outputs);
+                        updateContext(ruleUID, wrappedAction, outputs);
                     }
                 } catch (Throwable t) {
                     String errMessage = "Failed to execute action: " + action.getId() + "(" + t.getMessage() + ")";
@@ -1715,4 +1710,13 @@ public class RuleEngineImpl implements RuleManager, RegistryChangeListener<Modul
     public Stream<RuleExecution> simulateRuleExecutions(ZonedDateTime from, ZonedDateTime until) {
         return new RuleExecutionSimulator(this.ruleRegistry, this).simulateRuleExecutions(from, until);
     }
+
+    /**
+     * The context of a {@link Rule}. The values are reused for all executions of the rule and the modules get a
+     * read-only view on them, which is also created only once.
+     */
+    private static class RuleContext {
+        private final Map<String, @Nullable Object> values = new HashMap<>();
+        private final Map<String, @Nullable Object> view = Collections.unmodifiableMap(values);
+    }
 }
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.module;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.GroupItemStateChangedEvent;
+import org.openhab.core.items.events.GroupStateUpdatedEvent;
+import org.openhab.core.items.events.ItemAddedEvent;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemRemovedEvent;
+import org.openhab.core.items.events.ItemStateChangedEvent;
+import org.openhab.core.items.events.ItemStateUpdatedEvent;
+import org.openhab.core.thing.events.ChannelTriggeredEvent;
+import org.openhab.core.thing.events.ThingStatusInfoChangedEvent;
+import org.openhab.core.thing.events.ThingStatusInfoEvent;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link TriggerEventDispatcher} delivers item, thing and channel events to the core trigger handlers.
+ * <p>
+ * Instead of every trigger registering its own {@link EventSubscriber} service, a single subscriber is registered
+ * per event family. Triggers are indexed by the item name, thing UID or channel UID they listen to, so that an event
+ * is only offered to the triggers for its key. Triggers with wildcard patterns ({@code *} or {@code ?}) are kept in a
+ * separate set and are matched through their own {@link EventFilter}.
+ * <p>
+ * Group triggers are indexed by the group name and are offered the events of all direct members of that group.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = TriggerEventDispatcher.class)
+public class TriggerEventDispatcher {
+
+    private static final String ITEM_TOPIC_PREFIX = "openhab/items/";
+    private static final String THING_TOPIC_PREFIX = "openhab/things/";
+    private static final String CHANNEL_TOPIC_PREFIX = "openhab/channels/";
+
+    private final Logger logger = LoggerFactory.getLogger(TriggerEventDispatcher.class);
+
+    private final ItemRegistry itemRegistry;
+
+    private final TriggerIndex itemTriggers = new TriggerIndex();
+    private final TriggerIndex groupTriggers = new TriggerIndex();
+    private final TriggerIndex thingTriggers = new TriggerIndex();
+    private final TriggerIndex channelTriggers = new TriggerIndex();
+
+    private final List<ServiceRegistration<?>> registrations = new ArrayList<>();
+
+    @Activate
+    public TriggerEventDispatcher(BundleContext bundleContext, final @Reference ItemRegistry itemRegistry) {
+        this.itemRegistry = itemRegistry;
+
+        registrations.add(bundleContext.registerService(EventSubscriber.class, new ItemEventSubscriber(), null));
+        registrations.add(bundleContext.registerService(EventSubscriber.class, new ThingEventSubscriber(), null));
+        registrations.add(bundleContext.registerService(EventSubscriber.class, new ChannelEventSubscriber(), null));
+    }
+
+    @Deactivate
+    public void deactivate() {
+        registrations.forEach(ServiceRegistration::unregister);
+        registrations.clear();
+    }
+
+    /**
+     * Registers a trigger for the events of an item.
+     *
+     * @param itemName the item name, may contain the wildcards {@code *} and {@code ?}
+     * @param trigger the trigger that receives the events
+     */
+    public void addItemTrigger(String itemName, EventSubscriber trigger) {
+        itemTriggers.add(itemName, trigger);
+    }
+
+    public void removeItemTrigger(String itemName, EventSubscriber trigger) {
+        itemTriggers.remove(itemName, trigger);
+    }
+
+    /**
+     * Registers a trigger for the events of the members of a group item. The trigger also receives the
+     * {@link ItemAddedEvent}s and {@link ItemRemovedEvent}s of the group itself.
+     *
+     * @param groupName the name of the group item
+     * @param trigger the trigger that receives the events
+     */
+    public void addGroupTrigger(String groupName, EventSubscriber trigger) {
+        groupTriggers.add(groupName, trigger);
+    }
+
+    public void removeGroupTrigger(String groupName, EventSubscriber trigger) {
+        groupTriggers.remove(groupName, trigger);
+    }
+
+    /**
+     * Registers a trigger for the events of a thing.
+     *
+     * @param thingUID the thing UID, may contain the wildcards {@code *} and {@code ?}
+     * @param trigger the trigger that receives the events
+     */
+    public void addThingTrigger(String thingUID, EventSubscriber trigger) {
+        thingTriggers.add(thingUID, trigger);
+    }
+
+    public void removeThingTrigger(String thingUID, EventSubscriber trigger) {
+        thingTriggers.remove(thingUID, trigger);
+    }
+
+    /**
+     * Registers a trigger for the events of a trigger channel.
+     *
+     * @param channelUID the channel UID, may contain the wildcards {@code *} and {@code ?}
+     * @param trigger the trigger that receives the events
+     */
+    public void addChannelTrigger(String channelUID, EventSubscriber trigger) {
+        channelTriggers.add(channelUID, trigger);
+    }
+
+    public void removeChannelTrigger(String channelUID, EventSubscriber trigger) {
+        channelTriggers.remove(channelUID, trigger);
+    }
+
+    void dispatchItemEvent(Event event) {
+        String itemName = getTopicKey(event.getTopic(), ITEM_TOPIC_PREFIX);
+        if (itemName == null) {
+            return;
+        }
+        itemTriggers.dispatch(itemName, event);
+        if (!groupTriggers.isEmpty()) {
+            // the group itself (added/removed) and all groups the item is a direct member of
+            groupTriggers.dispatch(itemName, event);
+            Item item = itemRegistry.get(itemName);
+            if (item != null) {
+                for (String groupName : item.getGroupNames()) {
+                    if (!groupName.equals(itemName)) {
+                        groupTriggers.dispatchExact(groupName, event);
+                    }
+                }
+            }
+        }
+    }
+
+    void dispatchThingEvent(Event event) {
+        String thingUID = getTopicKey(event.getTopic(), THING_TOPIC_PREFIX);
+        if (thingUID != null) {
+            thingTriggers.dispatch(thingUID, event);
+        }
+    }
+
+    void dispatchChannelEvent(Event event) {
+        String channelUID = getTopicKey(event.getTopic(), CHANNEL_TOPIC_PREFIX);
+        if (channelUID != null) {
+            channelTriggers.dispatch(channelUID, event);
+        }
+    }
+
+    /**
+     * Extracts the first topic segment after the given prefix, e.g. the item name from
+     * {@code openhab/items/<itemName>/state}.
+     */
+    static @Nullable String getTopicKey(String topic, String prefix) {
+        if (!topic.startsWith(prefix)) {
+            return null;
+        }
+        int start = prefix.length();
+        int end = topic.indexOf('/', start);
+        return end < 0 ? topic.substring(start) : topic.substring(start, end);
+    }
+
+    private static boolean isWildcard(String key) {
+        return key.indexOf('*') >= 0 || key.indexOf('?') >= 0;
+    }
+
+    /**
+     * Index from a key (item name, thing UID or channel UID) to the triggers listening to that key.
+     */
+    private class TriggerIndex {
+        private final Map<String, Set<EventSubscriber>> exactTriggers = new ConcurrentHashMap<>();
+        private final Set<EventSubscriber> wildcardTriggers = new CopyOnWriteArraySet<>();
+
+        void add(String key, EventSubscriber trigger) {
+            if (isWildcard(key)) {
+                wildcardTriggers.add(trigger);
+            } else {
+                exactTriggers.compute(key, (k, triggers) -> {
+                    Set<EventSubscriber> newTriggers = triggers == null ? new CopyOnWriteArraySet<>() : triggers;
+                    newTriggers.add(trigger);
+                    return newTriggers;
+                });
+            }
+        }
+
+        void remove(String key, EventSubscriber trigger) {
+            if (isWildcard(key)) {
+                wildcardTriggers.remove(trigger);
+            } else {
+                exactTriggers.computeIfPresent(key, (k, triggers) -> {
+                    triggers.remove(trigger);
+                    return triggers.isEmpty() ? null : triggers;
+                });
+            }
+        }
+
+        boolean isEmpty() {
+            return exactTriggers.isEmpty() && wildcardTriggers.isEmpty();
+        }
+
+        void dispatch(String key, Event event) {
+            dispatchExact(key, event);
+            for (EventSubscriber trigger : wildcardTriggers) {
+                deliver(trigger, event);
+            }
+        }
+
+        void dispatchExact(String key, Event event) {
+            Set<EventSubscriber> triggers = exactTriggers.get(key);
+            if (triggers != null) {
+                for (EventSubscriber trigger : triggers) {
+                    deliver(trigger, event);
+                }
+            }
+        }
+
+        private void deliver(EventSubscriber trigger, Event event) {
+            if (!trigger.getSubscribedEventTypes().contains(event.getType())) {
+                return;
+            }
+            EventFilter filter = trigger.getEventFilter();
+            if (filter != null && !filter.apply(event)) {
+                return;
+            }
+            try {
+                trigger.receive(event);
+            } catch (RuntimeException e) {
+                logger.warn("Dispatching event '{}' to trigger '{}' failed: {}", event.getTopic(), trigger,
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    private class ItemEventSubscriber implements EventSubscriber {
+        private final Set<String> types = Set.of(ItemStateUpdatedEvent.TYPE, GroupStateUpdatedEvent.TYPE,
+                ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE, ItemCommandEvent.TYPE, ItemAddedEvent.TYPE,
+                ItemRemovedEvent.TYPE);
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return types;
+        }
+
+        @Override
+        public void receive(Event event) {
+            dispatchItemEvent(event);
+        }
+    }
+
+    private class ThingEventSubscriber implements EventSubscriber {
+        private final Set<String> types = Set.of(ThingStatusInfoEvent.TYPE, ThingStatusInfoChangedEvent.TYPE);
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return types;
+        }
+
+        @Override
+        public void receive(Event event) {
+            dispatchThingEvent(event);
+        }
+    }
+
+    private class ChannelEventSubscriber implements EventSubscriber {
+        private final Set<String> types = Set.of(ChannelTriggeredEvent.TYPE);
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return types;
+        }
+
+        @Override
+        public void receive(Event event) {
+            dispatchChannelEvent(event);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseModuleHandlerFactory;
 import org.openhab.core.automation.handler.ModuleHandler;
 import org.openhab.core.automation.handler.ModuleHandlerFactory;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.automation.internal.module.handler.ChannelEventTriggerHandler;
 import org.openhab.core.automation.internal.module.handler.CompareConditionHandler;
 import org.openhab.core.automation.internal.module.handler.GenericEventConditionHandler;
@@ -83,17 +84,20 @@ public class CoreModuleHandlerFactory extends BaseModuleHandlerFactory implement
     private final EventPublisher eventPublisher;
     private final BundleContext bundleContext;
     private final StartLevelService startLevelService;
+    private final TriggerEventDispatcher triggerEventDispatcher;
 
     @Activate
     public CoreModuleHandlerFactory(BundleContext bundleContext, final @Reference EventPublisher eventPublisher,
             final @Reference ThingRegistry thingRegistry, final @Reference ItemRegistry itemRegistry,
-            final @Reference TimeZoneProvider timeZoneProvider, final @Reference StartLevelService startLevelService) {
+            final @Reference TimeZoneProvider timeZoneProvider, final @Reference StartLevelService startLevelService,
+            final @Reference TriggerEventDispatcher triggerEventDispatcher) {
         this.bundleContext = bundleContext;
         this.eventPublisher = eventPublisher;
         this.thingRegistry = thingRegistry;
         this.itemRegistry = itemRegistry;
         this.timeZoneProvider = timeZoneProvider;
         this.startLevelService = startLevelService;
+        this.triggerEventDispatcher = triggerEventDispatcher;
     }
 
     @Override
@@ -116,22 +120,22 @@ public class CoreModuleHandlerFactory extends BaseModuleHandlerFactory implement
             if (GenericEventTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
                 return new GenericEventTriggerHandler(trigger, bundleContext);
             } else if (ChannelEventTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ChannelEventTriggerHandler(trigger, bundleContext);
+                return new ChannelEventTriggerHandler(trigger, triggerEventDispatcher);
             } else if (ItemCommandTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ItemCommandTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new ItemCommandTriggerHandler(trigger, ruleUID, triggerEventDispatcher, itemRegistry);
             } else if (SystemTriggerHandler.STARTLEVEL_MODULE_TYPE_ID.equals(moduleTypeUID)) {
                 return new SystemTriggerHandler(trigger, bundleContext);
             } else if (ThingStatusTriggerHandler.CHANGE_MODULE_TYPE_ID.equals(moduleTypeUID)
                     || ThingStatusTriggerHandler.UPDATE_MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ThingStatusTriggerHandler(trigger, bundleContext);
+                return new ThingStatusTriggerHandler(trigger, triggerEventDispatcher);
             } else if (ItemStateTriggerHandler.CHANGE_MODULE_TYPE_ID.equals(moduleTypeUID)
                     || ItemStateTriggerHandler.UPDATE_MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new ItemStateTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new ItemStateTriggerHandler(trigger, ruleUID, triggerEventDispatcher, itemRegistry);
             } else if (GroupCommandTriggerHandler.MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new GroupCommandTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new GroupCommandTriggerHandler(trigger, ruleUID, triggerEventDispatcher, itemRegistry);
             } else if (GroupStateTriggerHandler.CHANGE_MODULE_TYPE_ID.equals(moduleTypeUID)
                     || GroupStateTriggerHandler.UPDATE_MODULE_TYPE_ID.equals(moduleTypeUID)) {
-                return new GroupStateTriggerHandler(trigger, ruleUID, bundleContext, itemRegistry);
+                return new GroupStateTriggerHandler(trigger, ruleUID, triggerEventDispatcher, itemRegistry);
             }
         } else if (module instanceof Condition condition) {
             // Handle conditions
@@ -21,14 +21,13 @@ import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.events.TopicEventFilter;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.events.ChannelTriggeredEvent;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +36,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Stefan Triller - Initial contribution
  * @author Jimmy Tanagra - Add support for wildcard channel matching
+ * @author Mark Herwege - Receive events through the central trigger dispatcher
  */
 @NonNullByDefault
 public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber, EventFilter {
@@ -49,14 +49,14 @@ public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler impleme
 
     private final Logger logger = LoggerFactory.getLogger(ChannelEventTriggerHandler.class);
 
+    private final String channel;
     private @Nullable final String eventOnChannel;
     private final @Nullable ChannelUID channelUID;
     private final @Nullable TopicEventFilter eventTopicFilter;
     private final Set<String> types;
-    private final BundleContext bundleContext;
-    private final ServiceRegistration<?> eventSubscriberRegistration;
+    private final TriggerEventDispatcher dispatcher;
 
-    public ChannelEventTriggerHandler(Trigger module, BundleContext bundleContext) {
+    public ChannelEventTriggerHandler(Trigger module, TriggerEventDispatcher dispatcher) {
         super(module);
 
         String cfgChannel = (String) module.getConfiguration().get(CFG_CHANNEL);
@@ -65,6 +65,7 @@ public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler impleme
             throw new IllegalArgumentException("Configuration must contain a non-empty channelUID");
         }
 
+        this.channel = cfgChannel;
         this.eventOnChannel = (String) module.getConfiguration().get(CFG_CHANNEL_EVENT);
         TopicEventFilter topicFilter = null;
         ChannelUID parsedChannel = null;
@@ -78,9 +79,9 @@ public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler impleme
         this.channelUID = parsedChannel;
         this.eventTopicFilter = topicFilter;
         this.types = Set.of("ChannelTriggeredEvent");
-        this.bundleContext = bundleContext;
+        this.dispatcher = dispatcher;
 
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        dispatcher.addChannelTrigger(channel, this);
     }
 
     @Override
@@ -123,6 +124,6 @@ public class ChannelEventTriggerHandler extends BaseTriggerModuleHandler impleme
     @Override
     public void dispose() {
         super.dispose();
-        eventSubscriberRegistration.unregister();
+        dispatcher.removeChannelTrigger(channel, this);
     }
 }
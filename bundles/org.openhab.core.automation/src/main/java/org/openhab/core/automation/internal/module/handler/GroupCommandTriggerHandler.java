@@ -21,6 +21,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventSubscriber;
@@ -30,8 +31,6 @@ import org.openhab.core.items.events.ItemAddedEvent;
 import org.openhab.core.items.events.ItemCommandEvent;
 import org.openhab.core.items.events.ItemRemovedEvent;
 import org.openhab.core.types.Command;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +40,7 @@ import org.slf4j.LoggerFactory;
  * The group name and command value can be set with the configuration.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Mark Herwege - Receive events through the central trigger dispatcher
  */
 @NonNullByDefault
 public class GroupCommandTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
@@ -59,9 +59,9 @@ public class GroupCommandTriggerHandler extends BaseTriggerModuleHandler impleme
     public static final String CFG_COMMAND = "command";
     private final String ruleUID;
 
-    private final ServiceRegistration<?> eventSubscriberRegistration;
+    private final TriggerEventDispatcher dispatcher;
 
-    public GroupCommandTriggerHandler(Trigger module, String ruleUID, BundleContext bundleContext,
+    public GroupCommandTriggerHandler(Trigger module, String ruleUID, TriggerEventDispatcher dispatcher,
             ItemRegistry itemRegistry) {
         super(module);
         this.groupName = ConfigParser.valueAsOrElse(module.getConfiguration().get(CFG_GROUPNAME), String.class, "");
@@ -73,7 +73,8 @@ public class GroupCommandTriggerHandler extends BaseTriggerModuleHandler impleme
         this.types = Set.of(ItemCommandEvent.TYPE, ItemAddedEvent.TYPE, ItemRemovedEvent.TYPE);
         this.itemRegistry = itemRegistry;
         this.ruleUID = ruleUID;
-        eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        this.dispatcher = dispatcher;
+        dispatcher.addGroupTrigger(groupName, this);
 
         if (itemRegistry.get(groupName) == null) {
             logger.warn("Group '{}' needed for rule '{}' is missing. Trigger '{}' will not work.", groupName, ruleUID,
@@ -128,11 +129,11 @@ public class GroupCommandTriggerHandler extends BaseTriggerModuleHandler impleme
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher...
      */
     @Override
     public void dispose() {
         super.dispose();
-        eventSubscriberRegistration.unregister();
+        dispatcher.removeGroupTrigger(groupName, this);
     }
 }
@@ -21,6 +21,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventSubscriber;
@@ -32,8 +33,6 @@ import org.openhab.core.items.events.ItemRemovedEvent;
 import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.items.events.ItemStateUpdatedEvent;
 import org.openhab.core.types.State;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +42,7 @@ import org.slf4j.LoggerFactory;
  * The group name and state value can be set with the configuration.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Mark Herwege - Receive events through the central trigger dispatcher
  */
 @NonNullByDefault
 public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
@@ -63,9 +63,9 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
     private final Set<String> types;
     private final ItemRegistry itemRegistry;
 
-    private final ServiceRegistration<?> eventSubscriberRegistration;
+    private final TriggerEventDispatcher dispatcher;
 
-    public GroupStateTriggerHandler(Trigger module, String ruleUID, BundleContext bundleContext,
+    public GroupStateTriggerHandler(Trigger module, String ruleUID, TriggerEventDispatcher dispatcher,
             ItemRegistry itemRegistry) {
         super(module);
         this.groupName = ConfigParser.valueAsOrElse(module.getConfiguration().get(CFG_GROUPNAME), String.class, "");
@@ -83,7 +83,8 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
         }
         this.ruleUID = ruleUID;
         this.itemRegistry = itemRegistry;
-        eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        this.dispatcher = dispatcher;
+        dispatcher.addGroupTrigger(groupName, this);
 
         if (itemRegistry.get(groupName) == null) {
             logger.warn("Group '{}' needed for rule '{}' is missing. Trigger '{}' will not work.", groupName, ruleUID,
@@ -170,11 +171,11 @@ public class GroupStateTriggerHandler extends BaseTriggerModuleHandler implement
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher...
      */
     @Override
     public void dispose() {
         super.dispose();
-        eventSubscriberRegistration.unregister();
+        dispatcher.removeGroupTrigger(groupName, this);
     }
 }
@@ -22,6 +22,7 @@ import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventSubscriber;
@@ -32,8 +33,6 @@ import org.openhab.core.items.events.ItemAddedEvent;
 import org.openhab.core.items.events.ItemCommandEvent;
 import org.openhab.core.items.events.ItemRemovedEvent;
 import org.openhab.core.types.Command;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +42,7 @@ import org.slf4j.LoggerFactory;
  * configuration.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Mark Herwege - Receive events through the central trigger dispatcher
  */
 @NonNullByDefault
 public class ItemCommandTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
@@ -58,13 +58,11 @@ public class ItemCommandTriggerHandler extends BaseTriggerModuleHandler implemen
     private final @Nullable String command;
 
     private final Set<String> types;
-    private final BundleContext bundleContext;
     private final String ruleUID;
     private final EventFilter eventFilter;
+    private final TriggerEventDispatcher dispatcher;
 
-    private final ServiceRegistration<?> eventSubscriberRegistration;
-
-    public ItemCommandTriggerHandler(Trigger module, String ruleUID, BundleContext bundleContext,
+    public ItemCommandTriggerHandler(Trigger module, String ruleUID, TriggerEventDispatcher dispatcher,
             ItemRegistry itemRegistry) {
         super(module);
         this.itemName = (String) module.getConfiguration().get(CFG_ITEMNAME);
@@ -78,9 +76,9 @@ public class ItemCommandTriggerHandler extends BaseTriggerModuleHandler implemen
             this.types = Set.of(ItemCommandEvent.TYPE, ItemAddedEvent.TYPE, ItemRemovedEvent.TYPE);
         }
         this.command = (String) module.getConfiguration().get(CFG_COMMAND);
-        this.bundleContext = bundleContext;
         this.ruleUID = ruleUID;
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        this.dispatcher = dispatcher;
+        dispatcher.addItemTrigger(itemName, this);
         if (!isWildcard && itemRegistry.get(itemName) == null) {
             logger.warn("Item '{}' needed for rule '{}' is missing. Trigger '{}' will not work.", itemName, ruleUID,
                     module.getId());
@@ -131,11 +129,11 @@ public class ItemCommandTriggerHandler extends BaseTriggerModuleHandler implemen
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher...
      */
     @Override
     public void dispose() {
         super.dispose();
-        eventSubscriberRegistration.unregister();
+        dispatcher.removeItemTrigger(itemName, this);
     }
 }
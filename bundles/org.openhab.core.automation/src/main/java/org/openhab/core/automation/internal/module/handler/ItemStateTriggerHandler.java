@@ -22,6 +22,7 @@ import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventSubscriber;
@@ -35,8 +36,6 @@ import org.openhab.core.items.events.ItemRemovedEvent;
 import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.items.events.ItemStateUpdatedEvent;
 import org.openhab.core.types.State;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +46,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Simon Merschjohann - Initial contribution
+ * @author Mark Herwege - Receive events through the central trigger dispatcher
  */
 @NonNullByDefault
 public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
@@ -65,12 +65,10 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
     private final String previousState;
     private final String ruleUID;
     private Set<String> types;
-    private final BundleContext bundleContext;
     private final EventFilter eventFilter;
+    private final TriggerEventDispatcher dispatcher;
 
-    private @Nullable ServiceRegistration<?> eventSubscriberRegistration;
-
-    public ItemStateTriggerHandler(Trigger module, String ruleUID, BundleContext bundleContext,
+    public ItemStateTriggerHandler(Trigger module, String ruleUID, TriggerEventDispatcher dispatcher,
             ItemRegistry itemRegistry) {
         super(module);
         this.itemName = (String) module.getConfiguration().get(CFG_ITEMNAME);
@@ -93,8 +91,8 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
                     : Set.of(ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE, ItemAddedEvent.TYPE,
                             ItemRemovedEvent.TYPE);
         }
-        this.bundleContext = bundleContext;
-        eventSubscriberRegistration = this.bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        this.dispatcher = dispatcher;
+        dispatcher.addItemTrigger(itemName, this);
 
         if (!isWildcard && itemRegistry.get(itemName) == null) {
             logger.warn("Item '{}' needed for rule '{}' is missing. Trigger '{}' will not work.", itemName, ruleUID,
@@ -170,14 +168,11 @@ public class ItemStateTriggerHandler extends BaseTriggerModuleHandler implements
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher...
      */
     @Override
     public void dispose() {
         super.dispose();
-        if (eventSubscriberRegistration != null) {
-            eventSubscriberRegistration.unregister();
-            eventSubscriberRegistration = null;
-        }
+        dispatcher.removeItemTrigger(itemName, this);
     }
 }
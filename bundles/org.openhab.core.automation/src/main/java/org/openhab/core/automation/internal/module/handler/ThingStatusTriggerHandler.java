@@ -22,6 +22,7 @@ import org.openhab.core.automation.ModuleHandlerCallback;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.handler.BaseTriggerModuleHandler;
 import org.openhab.core.automation.handler.TriggerHandlerCallback;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventSubscriber;
@@ -29,8 +30,6 @@ import org.openhab.core.events.TopicEventFilter;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.events.ThingStatusInfoChangedEvent;
 import org.openhab.core.thing.events.ThingStatusInfoEvent;
-import org.osgi.framework.BundleContext;
-import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,6 +38,7 @@ import org.slf4j.LoggerFactory;
  * eventType and status value can be set in the configuration.
  *
  * @author Christoph Weitkamp - Initial contribution
+ * @author Mark Herwege - Receive events through the central trigger dispatcher
  */
 @NonNullByDefault
 public class ThingStatusTriggerHandler extends BaseTriggerModuleHandler implements EventSubscriber {
@@ -57,16 +57,17 @@ public class ThingStatusTriggerHandler extends BaseTriggerModuleHandler implemen
 
     private final Logger logger = LoggerFactory.getLogger(ThingStatusTriggerHandler.class);
 
+    private final String thingUID;
     private @Nullable final String status;
     private @Nullable final String previousStatus;
     private final Set<String> types;
 
-    private final ServiceRegistration<?> eventSubscriberRegistration;
     private final TopicEventFilter eventTopicFilter;
+    private final TriggerEventDispatcher dispatcher;
 
-    public ThingStatusTriggerHandler(Trigger module, BundleContext bundleContext) {
+    public ThingStatusTriggerHandler(Trigger module, TriggerEventDispatcher dispatcher) {
         super(module);
-        String thingUID = (String) module.getConfiguration().get(CFG_THING_UID);
+        this.thingUID = (String) module.getConfiguration().get(CFG_THING_UID);
         this.status = (String) module.getConfiguration().get(CFG_STATUS);
         this.previousStatus = (String) module.getConfiguration().get(CFG_PREVIOUS_STATUS);
         if (UPDATE_MODULE_TYPE_ID.equals(module.getTypeUID())) {
@@ -78,7 +79,8 @@ public class ThingStatusTriggerHandler extends BaseTriggerModuleHandler implemen
         this.eventTopicFilter = new TopicEventFilter(
                 "^openhab/things/" + thingUID.replace("?", ".?").replace("*", ".*?") + "/.*$");
 
-        eventSubscriberRegistration = bundleContext.registerService(EventSubscriber.class.getName(), this, null);
+        this.dispatcher = dispatcher;
+        dispatcher.addThingTrigger(thingUID, this);
     }
 
     @Override
@@ -130,11 +132,11 @@ public class ThingStatusTriggerHandler extends BaseTriggerModuleHandler implemen
     }
 
     /**
-     * do the cleanup: unregistering eventSubscriber...
+     * do the cleanup: removing the trigger from the dispatcher...
      */
     @Override
     public void dispose() {
-        eventSubscriberRegistration.unregister();
+        dispatcher.removeThingTrigger(thingUID, this);
         super.dispose();
     }
 }
@@ -21,6 +21,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.Condition;
 import org.openhab.core.automation.Module;
 import org.openhab.core.automation.handler.ConditionHandler;
+import org.openhab.core.automation.internal.CompiledConnection;
 import org.openhab.core.automation.internal.Connection;
 import org.openhab.core.automation.type.Input;
 import org.openhab.core.automation.type.Output;
@@ -29,12 +30,14 @@ import org.openhab.core.automation.type.Output;
  * This class holds the information that is necessary for the rule engine.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author Mark Herwege - Precompiled connections
  */
 @NonNullByDefault
 public class WrappedCondition extends WrappedModule<Condition, ConditionHandler> {
 
     private Map<String, String> inputs = Map.of();
     private Set<Connection> connections = Set.of();
+    private CompiledConnection[] compiledConnections = CompiledConnection.compile(null);
 
     public WrappedCondition(final Condition condition) {
         super(condition);
@@ -48,12 +51,22 @@ public class WrappedCondition extends WrappedModule<Condition, ConditionHandler>
      */
     public void setConnections(@Nullable Set<Connection> connections) {
         this.connections = connections == null ? Set.of() : connections;
+        this.compiledConnections = CompiledConnection.compile(connections);
     }
 
     public Set<Connection> getConnections() {
         return connections;
     }
 
+    /**
+     * This method gets the connections of this condition, compiled when they were set.
+     *
+     * @return the compiled connections of this condition
+     */
+    public CompiledConnection[] getCompiledConnections() {
+        return compiledConnections;
+    }
+
     /**
      * This method is used to get input connections of the Condition. The connections
      * are links between {@link Input}s of the current {@link Module} and {@link Output}s of other
@@ -12,22 +12,28 @@
  */
 package org.openhab.core.automation.internal.ruleengine;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.automation.Module;
 import org.openhab.core.automation.handler.ModuleHandler;
+import org.openhab.core.automation.internal.RuleEngineImpl;
 
 /**
  * This class holds the information that is necessary for the rule engine.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author Mark Herwege - Cached output keys
  */
 @NonNullByDefault
 public class WrappedModule<@NonNull M extends Module, H extends ModuleHandler> {
 
     private final M module;
     private @Nullable H handler;
+    private final Map<String, String> outputKeys = new ConcurrentHashMap<>();
 
     protected WrappedModule(final M module) {
         this.module = module;
@@ -54,4 +60,14 @@ public class WrappedModule<@NonNull M extends Module, H extends ModuleHandler> {
     public void setModuleHandler(final @Nullable H handler) {
         this.handler = handler;
     }
+
+    /**
+     * This method gets the key under which an output of this module is stored in the rule context.
+     *
+     * @param outputName the name of the output
+     * @return the context key of the output
+     */
+    public String getOutputKey(String outputName) {
+        return outputKeys.computeIfAbsent(outputName, name -> module.getId() + RuleEngineImpl.OUTPUT_SEPARATOR + name);
+    }
 }
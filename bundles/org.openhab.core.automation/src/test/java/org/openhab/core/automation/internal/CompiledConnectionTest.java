@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class CompiledConnectionTest {
+
+    @Test
+    public void testOutputConnection() {
+        Map<String, @Nullable Object> context = new HashMap<>();
+        context.put("trigger.event", "value");
+
+        apply(new Connection("input", "trigger", "event", null), context);
+
+        assertEquals("value", context.get("input"));
+    }
+
+    @Test
+    public void testOutputConnectionWithComplexReference() {
+        Map<String, @Nullable Object> context = new HashMap<>();
+        context.put("trigger.list", List.of("first", Map.of("name", "second")));
+
+        apply(new Connection("input", "trigger", "list", "[1][\"name\"]"), context);
+
+        assertEquals("second", context.get("input"));
+    }
+
+    @Test
+    public void testMissingOutputIsNotWired() {
+        Map<String, @Nullable Object> context = new HashMap<>();
+
+        apply(new Connection("input", "trigger", "event", null), context);
+
+        assertFalse(context.containsKey("input"));
+    }
+
+    @Test
+    public void testContextReference() {
+        Map<String, @Nullable Object> context = new HashMap<>();
+        context.put("key", 42);
+
+        apply(new Connection("input", " {{key}} "), context);
+        assertEquals(42, context.get("input"));
+
+        apply(new Connection("literal", "plain value"), context);
+        assertEquals("plain value", context.get("literal"));
+    }
+
+    private void apply(Connection connection, Map<String, @Nullable Object> context) {
+        for (CompiledConnection compiled : CompiledConnection.compile(Set.of(connection))) {
+            compiled.apply(context);
+        }
+    }
+}
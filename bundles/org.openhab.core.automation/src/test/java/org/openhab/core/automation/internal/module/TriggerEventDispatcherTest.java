@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.automation.internal.module;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFilter;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.events.TopicEventFilter;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.events.ItemCommandEvent;
+import org.openhab.core.items.events.ItemEventFactory;
+import org.openhab.core.items.events.ItemStateUpdatedEvent;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingStatusDetail;
+import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.events.ChannelTriggeredEvent;
+import org.openhab.core.thing.events.ThingEventFactory;
+import org.openhab.core.thing.events.ThingStatusInfoEvent;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Tests for {@link TriggerEventDispatcher}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TriggerEventDispatcherTest {
+
+    private @Mock @NonNullByDefault({}) BundleContext bundleContextMock;
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
+
+    private @NonNullByDefault({}) TriggerEventDispatcher dispatcher;
+
+    @BeforeEach
+    public void setUp() {
+        dispatcher = new TriggerEventDispatcher(bundleContextMock, itemRegistryMock);
+    }
+
+    @Test
+    public void testSubscribersAreRegisteredOncePerEventFamily() {
+        verify(bundleContextMock, times(3)).registerService(eq(EventSubscriber.class), any(EventSubscriber.class),
+                isNull());
+    }
+
+    @Test
+    public void testItemEventIsDispatchedToExactTriggerOnly() {
+        TestTrigger lampTrigger = new TestTrigger(Set.of(ItemStateUpdatedEvent.TYPE), null);
+        TestTrigger otherTrigger = new TestTrigger(Set.of(ItemStateUpdatedEvent.TYPE), null);
+        dispatcher.addItemTrigger("Lamp", lampTrigger);
+        dispatcher.addItemTrigger("Other", otherTrigger);
+
+        dispatcher.dispatchItemEvent(ItemEventFactory.createStateUpdatedEvent("Lamp", OnOffType.ON, null));
+
+        assertEquals(1, lampTrigger.received.size());
+        assertTrue(otherTrigger.received.isEmpty());
+    }
+
+    @Test
+    public void testItemEventIsFilteredByEventType() {
+        TestTrigger trigger = new TestTrigger(Set.of(ItemCommandEvent.TYPE), null);
+        dispatcher.addItemTrigger("Lamp", trigger);
+
+        dispatcher.dispatchItemEvent(ItemEventFactory.createStateUpdatedEvent("Lamp", OnOffType.ON, null));
+        assertTrue(trigger.received.isEmpty());
+
+        dispatcher.dispatchItemEvent(ItemEventFactory.createCommandEvent("Lamp", OnOffType.ON));
+        assertEquals(1, trigger.received.size());
+    }
+
+    @Test
+    public void testWildcardTriggerUsesItsFilter() {
+        TestTrigger trigger = new TestTrigger(Set.of(ItemCommandEvent.TYPE),
+                new TopicEventFilter("^openhab/items/Lamp.*?/.*$"));
+        dispatcher.addItemTrigger("Lamp*", trigger);
+
+        dispatcher.dispatchItemEvent(ItemEventFactory.createCommandEvent("Lamp_Kitchen", OnOffType.ON));
+        dispatcher.dispatchItemEvent(ItemEventFactory.createCommandEvent("Heating", OnOffType.ON));
+
+        assertEquals(1, trigger.received.size());
+    }
+
+    @Test
+    public void testRemovedTriggerReceivesNoEvents() {
+        TestTrigger trigger = new TestTrigger(Set.of(ItemCommandEvent.TYPE), null);
+        dispatcher.addItemTrigger("Lamp", trigger);
+        dispatcher.removeItemTrigger("Lamp", trigger);
+
+        dispatcher.dispatchItemEvent(ItemEventFactory.createCommandEvent("Lamp", OnOffType.ON));
+
+        assertTrue(trigger.received.isEmpty());
+    }
+
+    @Test
+    public void testGroupTriggerReceivesMemberEvents() {
+        Item member = mock(Item.class);
+        when(member.getGroupNames()).thenReturn(List.of("Lights"));
+        when(itemRegistryMock.get("Lamp")).thenReturn(member);
+        TestTrigger groupTrigger = new TestTrigger(Set.of(ItemCommandEvent.TYPE), null);
+        dispatcher.addGroupTrigger("Lights", groupTrigger);
+
+        dispatcher.dispatchItemEvent(ItemEventFactory.createCommandEvent("Lamp", OnOffType.ON));
+        dispatcher.dispatchItemEvent(ItemEventFactory.createCommandEvent("Heating", OnOffType.ON));
+
+        assertEquals(1, groupTrigger.received.size());
+    }
+
+    @Test
+    public void testThingEventIsDispatchedByThingUID() {
+        TestTrigger trigger = new TestTrigger(Set.of(ThingStatusInfoEvent.TYPE), null);
+        dispatcher.addThingTrigger("binding:type:one", trigger);
+        ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.ONLINE, ThingStatusDetail.NONE, null);
+
+        dispatcher.dispatchThingEvent(
+                ThingEventFactory.createStatusInfoEvent(new ThingUID("binding:type:one"), statusInfo));
+        dispatcher.dispatchThingEvent(
+                ThingEventFactory.createStatusInfoEvent(new ThingUID("binding:type:two"), statusInfo));
+
+        assertEquals(1, trigger.received.size());
+    }
+
+    @Test
+    public void testChannelEventIsDispatchedByChannelUID() {
+        TestTrigger trigger = new TestTrigger(Set.of(ChannelTriggeredEvent.TYPE), null);
+        dispatcher.addChannelTrigger("binding:type:one:button", trigger);
+
+        dispatcher.dispatchChannelEvent(
+                ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("binding:type:one:button")));
+        dispatcher.dispatchChannelEvent(
+                ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("binding:type:one:other")));
+
+        assertEquals(1, trigger.received.size());
+    }
+
+    @Test
+    public void testGetTopicKey() {
+        assertEquals("Lamp", TriggerEventDispatcher.getTopicKey("openhab/items/Lamp/command", "openhab/items/"));
+        assertEquals("Group",
+                TriggerEventDispatcher.getTopicKey("openhab/items/Group/Lamp/statechanged", "openhab/items/"));
+        assertNull(TriggerEventDispatcher.getTopicKey("openhab/things/a:b:c/status", "openhab/items/"));
+    }
+
+    private static class TestTrigger implements EventSubscriber {
+        private final Set<String> types;
+        private final @Nullable EventFilter filter;
+        private final List<Event> received = new ArrayList<>();
+
+        TestTrigger(Set<String> types, @Nullable EventFilter filter) {
+            this.types = types;
+            this.filter = filter;
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return types;
+        }
+
+        @Override
+        public @Nullable EventFilter getEventFilter() {
+            return filter;
+        }
+
+        @Override
+        public void receive(Event event) {
+            received.add(event);
+        }
+    }
+}
@@ -22,10 +22,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.automation.Trigger;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.events.ThingEventFactory;
-import org.osgi.framework.BundleContext;
 
 /**
  * Basic test cases for {@link ChannelEventTriggerHandler}
@@ -37,19 +37,19 @@ import org.osgi.framework.BundleContext;
 class ChannelEventTriggerHandlerTest {
     private @NonNullByDefault({}) ChannelEventTriggerHandler handler;
     private @NonNullByDefault({}) Trigger moduleMock;
-    private @NonNullByDefault({}) BundleContext contextMock;
+    private @NonNullByDefault({}) TriggerEventDispatcher dispatcherMock;
 
     @BeforeEach
     public void setUp() {
         moduleMock = mock(Trigger.class);
-        contextMock = mock(BundleContext.class);
+        dispatcherMock = mock(TriggerEventDispatcher.class);
     }
 
     @Test
     public void testExactlyMatchingChannelIsApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:quux")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
     }
@@ -58,7 +58,7 @@ class ChannelEventTriggerHandlerTest {
     public void testSubstringMatchingChannelIsNotApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:q")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertFalse(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
     }
@@ -67,7 +67,7 @@ class ChannelEventTriggerHandlerTest {
     public void testWildcardAsteriskMatchingChannelIsApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:*")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
     }
@@ -76,7 +76,7 @@ class ChannelEventTriggerHandlerTest {
     public void testWildcardAsteriskNonMatchingChannelIsNotApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:*")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertFalse(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baa:quux"))));
     }
@@ -85,7 +85,7 @@ class ChannelEventTriggerHandlerTest {
     public void testWildcardQuestionMarkMatchingChannelIsApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:quu?")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
     }
@@ -94,7 +94,7 @@ class ChannelEventTriggerHandlerTest {
     public void testWildcardQuestionMarkNonMatchingChannelIsNotApplied() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:quu?")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertFalse(
                 handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quuxx"))));
@@ -104,7 +104,7 @@ class ChannelEventTriggerHandlerTest {
     public void testMatchingChannelEventIsApplied() {
         when(moduleMock.getConfiguration()).thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL,
                 "foo:bar:baz:quux", ChannelEventTriggerHandler.CFG_CHANNEL_EVENT, "PRESSED")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
     }
@@ -113,7 +113,7 @@ class ChannelEventTriggerHandlerTest {
     public void testNonMatchingChannelEventIsNotApplied() {
         when(moduleMock.getConfiguration()).thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL,
                 "foo:bar:baz:quux", ChannelEventTriggerHandler.CFG_CHANNEL_EVENT, "RELEASED")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertFalse(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
     }
@@ -122,7 +122,7 @@ class ChannelEventTriggerHandlerTest {
     public void testBlankChannelEventMatchesAllEvents() {
         when(moduleMock.getConfiguration()).thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL,
                 "foo:bar:baz:quux", ChannelEventTriggerHandler.CFG_CHANNEL_EVENT, "")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
         assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("RELEASED", new ChannelUID("foo:bar:baz:quux"))));
@@ -132,7 +132,7 @@ class ChannelEventTriggerHandlerTest {
     public void testOmittedChannelEventMatchesAllEvents() {
         when(moduleMock.getConfiguration())
                 .thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL, "foo:bar:baz:quux")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
         assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("RELEASED", new ChannelUID("foo:bar:baz:quux"))));
@@ -142,7 +142,7 @@ class ChannelEventTriggerHandlerTest {
     public void testWildcardChannelWithMatchingChannelEventIsApplied() {
         when(moduleMock.getConfiguration()).thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL,
                 "foo:bar:baz:*", ChannelEventTriggerHandler.CFG_CHANNEL_EVENT, "PRESSED")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertTrue(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
     }
@@ -151,7 +151,7 @@ class ChannelEventTriggerHandlerTest {
     public void testWildcardChannelWithNonMatchingChannelEventIsNotApplied() {
         when(moduleMock.getConfiguration()).thenReturn(new Configuration(Map.of(ChannelEventTriggerHandler.CFG_CHANNEL,
                 "foo:bar:baz:*", ChannelEventTriggerHandler.CFG_CHANNEL_EVENT, "RELEASED")));
-        handler = new ChannelEventTriggerHandler(moduleMock, contextMock);
+        handler = new ChannelEventTriggerHandler(moduleMock, dispatcherMock);
 
         assertFalse(handler.apply(ThingEventFactory.createTriggerEvent("PRESSED", new ChannelUID("foo:bar:baz:quux"))));
     }
@@ -22,10 +22,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.automation.Trigger;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.test.java.JavaTest;
-import org.osgi.framework.BundleContext;
 
 /**
  * Test cases for {@link GroupCommandTriggerHandler}
@@ -36,7 +36,7 @@ import org.osgi.framework.BundleContext;
 @ExtendWith(MockitoExtension.class)
 class GroupCommandTriggerHandlerTest extends JavaTest {
     private @Mock @NonNullByDefault({}) Trigger moduleMock;
-    private @Mock @NonNullByDefault({}) BundleContext contextMock;
+    private @Mock @NonNullByDefault({}) TriggerEventDispatcher dispatcherMock;
     private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
 
     @Test
@@ -45,7 +45,7 @@ class GroupCommandTriggerHandlerTest extends JavaTest {
         when(moduleMock.getId()).thenReturn("triggerId");
         setupInterceptedLogger(GroupCommandTriggerHandler.class, LogLevel.WARN);
 
-        GroupCommandTriggerHandler unused = new GroupCommandTriggerHandler(moduleMock, "ruleId", contextMock,
+        GroupCommandTriggerHandler unused = new GroupCommandTriggerHandler(moduleMock, "ruleId", dispatcherMock,
                 itemRegistryMock);
 
         stopInterceptedLogger(GroupCommandTriggerHandler.class);
@@ -61,7 +61,7 @@ class GroupCommandTriggerHandlerTest extends JavaTest {
         when(moduleMock.getId()).thenReturn("triggerId");
         setupInterceptedLogger(GroupCommandTriggerHandler.class, LogLevel.WARN);
 
-        GroupCommandTriggerHandler unused = new GroupCommandTriggerHandler(moduleMock, "ruleId", contextMock,
+        GroupCommandTriggerHandler unused = new GroupCommandTriggerHandler(moduleMock, "ruleId", dispatcherMock,
                 itemRegistryMock);
 
         stopInterceptedLogger(GroupCommandTriggerHandler.class);
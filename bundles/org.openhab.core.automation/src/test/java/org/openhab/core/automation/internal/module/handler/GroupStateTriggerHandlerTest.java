@@ -22,10 +22,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openhab.core.automation.Trigger;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.test.java.JavaTest;
-import org.osgi.framework.BundleContext;
 
 /**
  * Test cases for {@link GroupStateTriggerHandler}
@@ -36,7 +36,7 @@ import org.osgi.framework.BundleContext;
 @ExtendWith(MockitoExtension.class)
 class GroupStateTriggerHandlerTest extends JavaTest {
     private @Mock @NonNullByDefault({}) Trigger moduleMock;
-    private @Mock @NonNullByDefault({}) BundleContext contextMock;
+    private @Mock @NonNullByDefault({}) TriggerEventDispatcher dispatcherMock;
     private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
 
     @Test
@@ -45,7 +45,7 @@ class GroupStateTriggerHandlerTest extends JavaTest {
         when(moduleMock.getId()).thenReturn("triggerId");
         setupInterceptedLogger(GroupStateTriggerHandler.class, LogLevel.WARN);
 
-        GroupStateTriggerHandler unused = new GroupStateTriggerHandler(moduleMock, "ruleId", contextMock,
+        GroupStateTriggerHandler unused = new GroupStateTriggerHandler(moduleMock, "ruleId", dispatcherMock,
                 itemRegistryMock);
 
         stopInterceptedLogger(GroupStateTriggerHandler.class);
@@ -61,7 +61,7 @@ class GroupStateTriggerHandlerTest extends JavaTest {
         when(moduleMock.getId()).thenReturn("triggerId");
         setupInterceptedLogger(GroupStateTriggerHandler.class, LogLevel.WARN);
 
-        GroupStateTriggerHandler unused = new GroupStateTriggerHandler(moduleMock, "ruleId", contextMock,
+        GroupStateTriggerHandler unused = new GroupStateTriggerHandler(moduleMock, "ruleId", dispatcherMock,
                 itemRegistryMock);
 
         stopInterceptedLogger(GroupStateTriggerHandler.class);
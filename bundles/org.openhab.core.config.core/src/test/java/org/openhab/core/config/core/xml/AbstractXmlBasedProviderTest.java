@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.config.core.xml;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.config.core.ConfigDescription;
+import org.openhab.core.config.core.ConfigDescriptionBuilder;
+import org.osgi.framework.Bundle;
+
+/**
+ * Tests {@link AbstractXmlBasedProvider}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class AbstractXmlBasedProviderTest {
+
+    private static final URI URI_1 = URI.create("config:test1");
+    private static final URI URI_2 = URI.create("config:test2");
+
+    private final Bundle bundle1 = mock(Bundle.class);
+    private final Bundle bundle2 = mock(Bundle.class);
+    private final TestProvider provider = new TestProvider();
+
+    @Test
+    public void testGetReturnsObjectOfItsBundle() {
+        ConfigDescription description1 = ConfigDescriptionBuilder.create(URI_1).build();
+        ConfigDescription description2 = ConfigDescriptionBuilder.create(URI_2).build();
+        provider.add(bundle1, description1);
+        provider.add(bundle2, description2);
+
+        assertThat(provider.get(URI_1, null), is(sameInstance(description1)));
+        assertThat(provider.get(URI_2, null), is(sameInstance(description2)));
+        assertThat(provider.localizedBundle, is(bundle2));
+        assertThat(provider.get(URI.create("config:unknown"), null), is(nullValue()));
+    }
+
+    @Test
+    public void testLocalizedObjectsAreCachedPerLocale() {
+        provider.add(bundle1, ConfigDescriptionBuilder.create(URI_1).build());
+
+        provider.get(URI_1, Locale.ENGLISH);
+        provider.get(URI_1, Locale.ENGLISH);
+        provider.get(URI_1, Locale.GERMAN);
+        provider.get(URI_1, null);
+
+        assertThat(provider.localizeCount, is(3));
+    }
+
+    @Test
+    public void testAddingObjectInvalidatesLocalizedObject() {
+        provider.add(bundle1, ConfigDescriptionBuilder.create(URI_1).build());
+        provider.get(URI_1, Locale.ENGLISH);
+
+        provider.removeAll(bundle1);
+        ConfigDescription description = ConfigDescriptionBuilder.create(URI_1).build();
+        provider.add(bundle1, description);
+
+        assertThat(provider.get(URI_1, Locale.ENGLISH), is(sameInstance(description)));
+        assertThat(provider.localizeCount, is(2));
+    }
+
+    @Test
+    public void testObjectOfOtherBundleIsReturnedAfterRemoval() {
+        ConfigDescription description1 = ConfigDescriptionBuilder.create(URI_1).build();
+        ConfigDescription description2 = ConfigDescriptionBuilder.create(URI_1).build();
+        provider.addAll(bundle1, List.of(description1));
+        provider.addAll(bundle2, List.of(description2));
+
+        assertThat(provider.get(URI_1, null), is(sameInstance(description1)));
+
+        provider.removeAll(bundle1);
+
+        assertThat(provider.get(URI_1, null), is(sameInstance(description2)));
+        assertThat(provider.getAll(null), is(List.of(description2)));
+
+        provider.removeAll(bundle2);
+
+        assertThat(provider.get(URI_1, null), is(nullValue()));
+    }
+
+    private static class TestProvider extends AbstractXmlBasedProvider<URI, ConfigDescription> {
+        private int localizeCount;
+        private @Nullable Bundle localizedBundle;
+
+        @Override
+        protected @Nullable ConfigDescription localize(Bundle bundle, ConfigDescription object,
+                @Nullable Locale locale) {
+            localizeCount++;
+            localizedBundle = bundle;
+            return object;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -80,8 +81,10 @@ import org.slf4j.LoggerFactory;
  * This implementation uses the {@link DiscoveryServiceRegistry} to register itself as {@link DiscoveryListener} to
  * receive {@link DiscoveryResult} objects automatically from {@link DiscoveryService}s.
  * <p>
- * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners. No
- * performance optimizations have been done (synchronization).
+ * The discovery results are kept in memory and written through to the {@link Storage}, so querying the inbox does not
+ * deserialize the stored results. Results with a time to live are removed in the order of their expiry.
+ * <p>
+ * This implementation does neither handle memory leaks (orphaned listener instances) nor blocked listeners.
  *
  * @author Michael Grammling - Initial contribution
  * @author Dennis Nobel - Added automated removing of entries
@@ -90,6 +93,7 @@ import org.slf4j.LoggerFactory;
  * @author Andre Fuechsel - Added removeOlderResults
  * @author Christoph Knauf - Added removeThingsForBridge and getPropsAndConfigParams
  * @author Laurent Garnier - Added parameter newThingId to method approve
+ * @author Mark Herwege - Keep results in memory, remove expired results in order of expiry
  */
 @Component(immediate = true, service = Inbox.class)
 @NonNullByDefault
@@ -113,8 +117,11 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         @Override
         public void run() {
             Instant now = Instant.now();
-            for (DiscoveryResult result : inbox.getAll()) {
-                if (isResultExpired(result, now)) {
+            Expiry expiry;
+            while ((expiry = inbox.pollExpiry(now)) != null) {
+                // the result might have been updated or removed since the expiry was queued
+                DiscoveryResult result = inbox.get(expiry.thingUID());
+                if (result != null && isResultExpired(result, now)) {
                     logger.debug("Inbox entry for thing '{}' is expired and will be removed.", result.getThingUID());
                     remove(result.getThingUID());
                 }
@@ -139,6 +146,10 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
     private final ThingTypeRegistry thingTypeRegistry;
     private final ConfigDescriptionRegistry configDescRegistry;
     private final Storage<DiscoveryResult> discoveryResultStorage;
+    private final Map<ThingUID, DiscoveryResult> discoveryResults = new ConcurrentHashMap<>();
+    private final PriorityBlockingQueue<Expiry> expiries = new PriorityBlockingQueue<>();
+    // the queued expiry of each result, guarded by expiries
+    private final Map<ThingUID, Expiry> queuedExpiries = new HashMap<>();
     private final Map<DiscoveryResult, Class<?>> resultDiscovererMap = new ConcurrentHashMap<>();
     private @NonNullByDefault({}) ScheduledFuture<?> timeToLiveChecker;
     private @NonNullByDefault({}) ScheduledFuture<?> delayedDiscoveryResultProcessor;
@@ -164,6 +175,12 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Activate
     protected void activate() {
+        for (DiscoveryResult result : discoveryResultStorage.getValues()) {
+            if (result != null) {
+                discoveryResults.put(result.getThingUID(), result);
+                queueExpiry(result);
+            }
+        }
         discoveryServiceRegistry.addDiscoveryListener(this);
         thingRegistry.addRegistryChangeListener(this);
         ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("discovery");
@@ -275,14 +292,16 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
             DiscoveryResult inboxResult = get(thingUID);
 
             if (inboxResult == null) {
-                discoveryResultStorage.put(discoveryResult.getThingUID().toString(), discoveryResult);
+                store(discoveryResult);
+                queueExpiry(discoveryResult);
                 notifyListeners(discoveryResult, EventType.ADDED);
                 logger.info("Added new thing '{}' to inbox.", thingUID);
                 discoveryResultWrapper.future.complete(true);
             } else {
                 if (inboxResult instanceof DiscoveryResultImpl resultImpl) {
                     resultImpl.synchronize(discoveryResult);
-                    discoveryResultStorage.put(discoveryResult.getThingUID().toString(), resultImpl);
+                    store(resultImpl);
+                    queueExpiry(resultImpl);
                     notifyListeners(resultImpl, EventType.UPDATED);
                     logger.debug("Updated discovery result for '{}'.", thingUID);
                     discoveryResultWrapper.future.complete(true);
@@ -370,7 +389,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     @Override
     public Stream<DiscoveryResult> stream() {
-        return (Stream<DiscoveryResult>) discoveryResultStorage.getValues().stream().filter(Objects::nonNull);
+        return discoveryResults.values().stream();
     }
 
     @Override
@@ -382,7 +401,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
                     removeResultsForBridge(thingUID);
                 }
                 resultDiscovererMap.remove(discoveryResult);
-                discoveryResultStorage.remove(thingUID.toString());
+                unstore(thingUID);
                 notifyListeners(discoveryResult, EventType.REMOVED);
                 return true;
             }
@@ -459,7 +478,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         DiscoveryResult result = get(thingUID);
         if (result instanceof DiscoveryResultImpl resultImpl) {
             resultImpl.setFlag((flag == null) ? DiscoveryResultFlag.NEW : flag);
-            discoveryResultStorage.put(resultImpl.getThingUID().toString(), resultImpl);
+            store(resultImpl);
             notifyListeners(resultImpl, EventType.UPDATED);
         } else if (result == null) {
             logger.warn("Cannot set flag for result '{}' because it can't be found in storage", thingUID);
@@ -478,7 +497,67 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
      *         null, if no discovery result could be found
      */
     private @Nullable DiscoveryResult get(ThingUID thingUID) {
-        return discoveryResultStorage.get(thingUID.toString());
+        return discoveryResults.get(thingUID);
+    }
+
+    private void store(DiscoveryResult result) {
+        discoveryResults.put(result.getThingUID(), result);
+        discoveryResultStorage.put(result.getThingUID().toString(), result);
+    }
+
+    private void unstore(ThingUID thingUID) {
+        unqueueExpiry(thingUID);
+        discoveryResults.remove(thingUID);
+        discoveryResultStorage.remove(thingUID.toString());
+    }
+
+    /**
+     * Queues the expiry of a result, replacing the expiry queued for an earlier version of the result, so that every
+     * result has at most one queued expiry.
+     */
+    private void queueExpiry(DiscoveryResult result) {
+        long ttl = result.getTimeToLive();
+        synchronized (expiries) {
+            Expiry previous;
+            if (ttl != DiscoveryResult.TTL_UNLIMITED) {
+                Expiry expiry = new Expiry(result.getCreationTime().plusSeconds(ttl), result.getThingUID());
+                previous = queuedExpiries.put(result.getThingUID(), expiry);
+                if (expiry.equals(previous)) {
+                    return;
+                }
+                expiries.add(expiry);
+            } else {
+                previous = queuedExpiries.remove(result.getThingUID());
+            }
+            if (previous != null) {
+                expiries.remove(previous);
+            }
+        }
+    }
+
+    private void unqueueExpiry(ThingUID thingUID) {
+        synchronized (expiries) {
+            Expiry previous = queuedExpiries.remove(thingUID);
+            if (previous != null) {
+                expiries.remove(previous);
+            }
+        }
+    }
+
+    private @Nullable Expiry pollExpiry(Instant now) {
+        synchronized (expiries) {
+            Expiry expiry = expiries.peek();
+            if (expiry == null || !expiry.time().isBefore(now)) {
+                return null;
+            }
+            expiries.poll();
+            queuedExpiries.remove(expiry.thingUID(), expiry);
+            return expiry;
+        }
+    }
+
+    int getQueuedExpiryCount() {
+        return expiries.size();
     }
 
     private void notifyListeners(DiscoveryResult result, EventType type) {
@@ -501,7 +580,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
             }
         }
 
-        // in case of EventType added/updated the listeners might have modified the result in the discoveryResultStorage
+        // in case of EventType added/updated the listeners might have modified or removed the result
         final DiscoveryResult resultForEvent;
         if (type == EventType.REMOVED) {
             resultForEvent = result;
@@ -545,7 +624,7 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         for (ThingUID thingUID : getResultsForBridge(bridgeUID)) {
             DiscoveryResult discoveryResult = get(thingUID);
             if (discoveryResult != null) {
-                discoveryResultStorage.remove(thingUID.toString());
+                unstore(thingUID);
                 notifyListeners(discoveryResult, EventType.REMOVED);
             }
         }
@@ -553,8 +632,8 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
 
     private List<ThingUID> getResultsForBridge(ThingUID bridgeUID) {
         List<ThingUID> thingsForBridge = new ArrayList<>();
-        for (DiscoveryResult result : discoveryResultStorage.getValues()) {
-            if (result != null && bridgeUID.equals(result.getBridgeUID())) {
+        for (DiscoveryResult result : discoveryResults.values()) {
+            if (bridgeUID.equals(result.getBridgeUID())) {
                 thingsForBridge.add(result.getThingUID());
             }
         }
@@ -651,6 +730,13 @@ public final class PersistentInbox implements Inbox, DiscoveryListener, ThingReg
         this.thingHandlerFactories.remove(thingHandlerFactory);
     }
 
+    private record Expiry(Instant time, ThingUID thingUID) implements Comparable<Expiry> {
+        @Override
+        public int compareTo(Expiry other) {
+            return time.compareTo(other.time);
+        }
+    }
+
     private static class DiscoveryResultWrapper {
         public final CompletableFuture<Boolean> future;
         public final DiscoveryResult discoveryResult;
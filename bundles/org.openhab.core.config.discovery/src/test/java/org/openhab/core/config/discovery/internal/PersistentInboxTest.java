@@ -16,6 +16,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
+import static org.openhab.core.config.discovery.inbox.InboxPredicates.forThingUID;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -40,12 +41,17 @@ import org.openhab.core.config.core.ConfigDescriptionRegistry;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
+import org.openhab.core.config.discovery.DiscoveryResultFlag;
 import org.openhab.core.config.discovery.DiscoveryServiceRegistry;
+import org.openhab.core.config.discovery.inbox.Inbox;
+import org.openhab.core.config.discovery.inbox.InboxListener;
 import org.openhab.core.config.discovery.inbox.events.InboxAddedEvent;
 import org.openhab.core.config.discovery.inbox.events.InboxUpdatedEvent;
+import org.openhab.core.events.Event;
 import org.openhab.core.events.EventPublisher;
 import org.openhab.core.storage.Storage;
 import org.openhab.core.storage.StorageService;
+import org.openhab.core.test.java.JavaTest;
 import org.openhab.core.thing.ManagedThingProvider;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingRegistry;
@@ -60,11 +66,12 @@ import org.openhab.core.thing.type.ThingTypeRegistry;
 /**
  * @author Simon Kaufmann - Initial contribution
  * @author Laurent Garnier - Added tests testApproveWithThingId and testApproveWithInvalidThingId
+ * @author Mark Herwege - Tests for results kept in memory and expiry
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 @NonNullByDefault
-public class PersistentInboxTest {
+public class PersistentInboxTest extends JavaTest {
 
     private static final String THING_OTHER_ID = "other";
 
@@ -191,51 +198,100 @@ public class PersistentInboxTest {
     }
 
     @Test
-    public void testEmittedAddedResultIsReadFromStorage() {
+    public void testEmittedAddedResultContainsModificationsOfListeners() {
         DiscoveryResult result = DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build();
 
         EventPublisher eventPublisher = mock(EventPublisher.class);
         inbox.setEventPublisher(eventPublisher);
-
-        when(storageMock.get(THING_UID.toString())) //
-                .thenReturn(null) //
-                .thenReturn(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+        inbox.addInboxListener(new InboxListener() {
+            @Override
+            public void thingAdded(Inbox source, DiscoveryResult result) {
+                source.setFlag(result.getThingUID(), DiscoveryResultFlag.IGNORED);
+            }
+
+            @Override
+            public void thingUpdated(Inbox source, DiscoveryResult result) {
+            }
+
+            @Override
+            public void thingRemoved(Inbox source, DiscoveryResult result) {
+            }
+        });
 
         inbox.activate();
         inbox.add(result);
 
-        // 1st call checks existence of the result in the storage (returns null)
-        // 2nd call retrieves the stored instance before the event gets emitted
-        // (modified due to storage mock configuration)
-        verify(storageMock, times(2)).get(THING_UID.toString());
-
-        ArgumentCaptor<InboxAddedEvent> eventCaptor = ArgumentCaptor.forClass(InboxAddedEvent.class);
-        verify(eventPublisher).post(eventCaptor.capture());
-        assertThat(eventCaptor.getValue().getDiscoveryResult().properties, hasEntry("foo", "bar"));
+        ArgumentCaptor<Event> eventCaptor = ArgumentCaptor.forClass(Event.class);
+        verify(eventPublisher, times(2)).post(eventCaptor.capture());
+        InboxAddedEvent addedEvent = (InboxAddedEvent) eventCaptor.getAllValues().getLast();
+        assertEquals(DiscoveryResultFlag.IGNORED, addedEvent.getDiscoveryResult().flag);
+        assertInstanceOf(InboxUpdatedEvent.class, eventCaptor.getAllValues().getFirst());
     }
 
     @Test
-    public void testEmittedUpdatedResultIsReadFromStorage() {
+    public void testEmittedUpdatedResultIsSynchronized() {
         DiscoveryResult result = DiscoveryResultBuilder.create(THING_UID).withProperty("foo", 3).build();
 
         EventPublisher eventPublisher = mock(EventPublisher.class);
         inbox.setEventPublisher(eventPublisher);
-
-        when(storageMock.get(THING_UID.toString())) //
-                .thenReturn(result) //
-                .thenReturn(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
+        when(storageMock.getValues()).thenReturn(List.of(result));
 
         inbox.activate();
-        inbox.add(result);
-
-        // 1st call checks existence of the result in the storage (returns the original result)
-        // 2nd call retrieves the stored instance before the event gets emitted
-        // (modified due to storage mock configuration)
-        verify(storageMock, times(2)).get(THING_UID.toString());
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withProperty("foo", "bar").build());
 
         ArgumentCaptor<InboxUpdatedEvent> eventCaptor = ArgumentCaptor.forClass(InboxUpdatedEvent.class);
         verify(eventPublisher).post(eventCaptor.capture());
         assertThat(eventCaptor.getValue().getDiscoveryResult().properties, hasEntry("foo", "bar"));
+        verify(storageMock).put(THING_UID.toString(), result);
+    }
+
+    @Test
+    public void testResultsAreReadFromStorageOnlyOnActivation() {
+        DiscoveryResult result = DiscoveryResultBuilder.create(THING_UID).build();
+        when(storageMock.getValues()).thenReturn(List.of(result));
+
+        inbox.activate();
+        inbox.add(DiscoveryResultBuilder.create(THING_OTHER_UID).build());
+
+        assertEquals(2, inbox.getAll().size());
+        assertEquals(1, inbox.stream().filter(forThingUID(THING_OTHER_UID)).count());
+        verify(storageMock, times(1)).getValues();
+        verify(storageMock, never()).get(any());
+        verify(storageMock).put(eq(THING_OTHER_UID.toString()), any(DiscoveryResult.class));
+
+        inbox.remove(THING_UID);
+
+        assertEquals(List.of(THING_OTHER_UID), inbox.stream().map(DiscoveryResult::getThingUID).toList());
+        verify(storageMock).remove(THING_UID.toString());
+    }
+
+    @Test
+    public void testExpiredResultIsRemoved() {
+        inbox.activate();
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).withTTL(1).build());
+        inbox.add(DiscoveryResultBuilder.create(THING_OTHER_UID).build());
+        inbox.setTimeToLiveCheckingInterval(1);
+
+        waitForAssert(() -> assertEquals(List.of(THING_OTHER_UID),
+                inbox.stream().map(DiscoveryResult::getThingUID).toList()));
+        verify(storageMock).remove(THING_UID.toString());
+    }
+
+    @Test
+    public void testRediscoveredResultHasOneQueuedExpiry() {
+        inbox.activate();
+        for (int i = 0; i < 10; i++) {
+            inbox.add(DiscoveryResultBuilder.create(THING_UID).withTTL(60).withProperty("count", i).build());
+        }
+        inbox.add(DiscoveryResultBuilder.create(THING_OTHER_UID).withTTL(60).build());
+
+        assertEquals(2, inbox.getQueuedExpiryCount());
+
+        inbox.add(DiscoveryResultBuilder.create(THING_UID).build());
+        assertEquals(1, inbox.getQueuedExpiryCount());
+
+        inbox.remove(THING_OTHER_UID);
+        assertEquals(0, inbox.getQueuedExpiryCount());
     }
 
     private void configureConfigDescriptionRegistryMock(String paramName, Type type) {
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.console.internal.extension;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.DurationHistogram;
+import org.openhab.core.events.EventStatistics;
+import org.openhab.core.events.EventStatistics.SubscriberStatistics;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Console command extension to show the statistics of the event bus
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@Component(service = ConsoleCommandExtension.class)
+@NonNullByDefault
+public class EventsConsoleCommandExtension extends AbstractConsoleCommandExtension {
+
+    private static final String SUBCMD_STATS = "stats";
+    private static final String SUBCMD_ENABLE = "enable";
+    private static final String SUBCMD_DISABLE = "disable";
+    private static final StringsCompleter SUBCMD_COMPLETER = new StringsCompleter(
+            List.of(SUBCMD_STATS, SUBCMD_ENABLE, SUBCMD_DISABLE), false);
+
+    private final EventStatistics eventStatistics;
+
+    @Activate
+    public EventsConsoleCommandExtension(final @Reference EventStatistics eventStatistics) {
+        super("events", "Show event bus statistics.");
+        this.eventStatistics = eventStatistics;
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(
+                buildCommandUsage(SUBCMD_STATS,
+                        "shows the event creation time and the queue size, latency and processing time per subscriber"),
+                buildCommandUsage(SUBCMD_ENABLE, "starts recording event bus statistics"),
+                buildCommandUsage(SUBCMD_DISABLE, "stops recording event bus statistics"));
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length > 0) {
+            String subCommand = args[0];
+            switch (subCommand) {
+                case SUBCMD_STATS:
+                    printStatistics(console);
+                    break;
+                case SUBCMD_ENABLE:
+                    eventStatistics.setEnabled(true);
+                    console.println("Event bus statistics are recorded.");
+                    break;
+                case SUBCMD_DISABLE:
+                    eventStatistics.setEnabled(false);
+                    console.println("Event bus statistics are no longer recorded.");
+                    break;
+                default:
+                    console.println("Unknown command '" + subCommand + "'");
+                    printUsage(console);
+                    break;
+            }
+        } else {
+            printUsage(console);
+        }
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return (args, cursorArgumentIndex, cursorPosition, candidates) -> cursorArgumentIndex <= 0
+                && SUBCMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+    }
+
+    private void printStatistics(Console console) {
+        if (!eventStatistics.isEnabled()) {
+            console.println("Event bus statistics are not recorded, use '" + getCommand() + " " + SUBCMD_ENABLE
+                    + "' to start recording.");
+        }
+        DurationHistogram creationTime = eventStatistics.getEventCreationTime();
+        console.println(String.format("Events created: %d, mean creation time: %.3f ms", creationTime.getCount(),
+                creationTime.getMean(TimeUnit.MILLISECONDS)));
+        console.println(
+                String.format("%-80s %8s %10s %12s %12s", "Subscriber", "Queue", "Events", "Latency ms", "Process ms"));
+        eventStatistics.getSubscriberStatistics().stream()
+                .sorted(Comparator.comparing(SubscriberStatistics::getSubscriber))
+                .forEach(s -> console
+                        .println(String.format("%-80s %8d %10d %12.3f %12.3f", s.getSubscriber(), s.getQueueSize(),
+                                s.getProcessingTime().getCount(), s.getDispatchLatency().getMean(TimeUnit.MILLISECONDS),
+                                s.getProcessingTime().getMean(TimeUnit.MILLISECONDS))));
+    }
+}
@@ -17,18 +17,22 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.automation.RuleRegistry;
+import org.openhab.core.events.EventStatistics;
 import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.monitor.internal.metrics.BundleStateMetric;
+import org.openhab.core.io.monitor.internal.metrics.EventBusMetric;
 import org.openhab.core.io.monitor.internal.metrics.EventCountMetric;
 import org.openhab.core.io.monitor.internal.metrics.JVMMetric;
 import org.openhab.core.io.monitor.internal.metrics.OpenhabCoreMeterBinder;
 import org.openhab.core.io.monitor.internal.metrics.RuleMetric;
+import org.openhab.core.io.monitor.internal.metrics.StateDescriptionCacheMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThingStateMetric;
 import org.openhab.core.io.monitor.internal.metrics.ThreadPoolMetric;
 import org.openhab.core.service.ReadyMarker;
 import org.openhab.core.service.ReadyMarkerFilter;
 import org.openhab.core.service.ReadyService;
 import org.openhab.core.service.StartLevelService;
+import org.openhab.core.service.StateDescriptionService;
 import org.openhab.core.thing.ThingRegistry;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.component.annotations.Activate;
@@ -46,6 +50,7 @@ import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
  * The {@link DefaultMetricsRegistration} class registers all openHAB internal metrics with the global MeterRegistry.
  *
  * @author Robert Bach - Initial contribution
+ * @author Mark Herwege - Event bus and state description cache metrics
  */
 @Component(immediate = true, service = MeterRegistryProvider.class)
 @NonNullByDefault
@@ -59,14 +64,20 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
     private final ReadyService readyService;
     private final ThingRegistry thingRegistry;
     private final RuleRegistry ruleRegistry;
+    private final EventStatistics eventStatistics;
+    private final StateDescriptionService stateDescriptionService;
 
     @Activate
     public DefaultMetricsRegistration(BundleContext bundleContext, final @Reference ReadyService readyService,
-            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry) {
+            final @Reference ThingRegistry thingRegistry, final @Reference RuleRegistry ruleRegistry,
+            final @Reference EventStatistics eventStatistics,
+            final @Reference StateDescriptionService stateDescriptionService) {
         this.bundleContext = bundleContext;
         this.readyService = readyService;
         this.thingRegistry = thingRegistry;
         this.ruleRegistry = ruleRegistry;
+        this.eventStatistics = eventStatistics;
+        this.stateDescriptionService = stateDescriptionService;
     }
 
     @Activate
@@ -90,7 +101,9 @@ public class DefaultMetricsRegistration implements ReadyService.ReadyTracker, Me
         meters.add(new BundleStateMetric(bundleContext, tags));
         meters.add(new ThingStateMetric(bundleContext, thingRegistry, tags));
         meters.add(new EventCountMetric(bundleContext, tags));
+        meters.add(new EventBusMetric(tags, eventStatistics));
         meters.add(new RuleMetric(bundleContext, tags, ruleRegistry));
+        meters.add(new StateDescriptionCacheMetric(tags, stateDescriptionService));
 
         meters.forEach(m -> m.bindTo(registry));
     }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.DurationHistogram;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * The {@link DurationHistogramMeters} class registers a {@link DurationHistogram} as a timer with the count and total
+ * time, and a counter per bucket with the cumulative count of the durations less than or equal to the bucket boundary.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+final class DurationHistogramMeters {
+
+    private static final String BUCKETS_METRIC_SUFFIX = ".buckets";
+    private static final String BUCKET_TAG_NAME = "le";
+
+    private DurationHistogramMeters() {
+        // prevent instantiation
+    }
+
+    static void register(MeterRegistry meterRegistry, String name, DurationHistogram histogram, Iterable<Tag> tags) {
+        FunctionTimer.builder(name, histogram, DurationHistogram::getCount, h -> h.getTotalTime(TimeUnit.NANOSECONDS),
+                TimeUnit.NANOSECONDS).tags(tags).register(meterRegistry);
+        for (int i = 0; i < DurationHistogram.BUCKET_BOUNDARIES_MS.size(); i++) {
+            int index = i;
+            FunctionCounter.builder(name + BUCKETS_METRIC_SUFFIX, histogram, h -> h.getCumulativeCount(index))
+                    .tags(tags).tag(BUCKET_TAG_NAME, DurationHistogram.BUCKET_BOUNDARIES_MS.get(i) + "ms")
+                    .register(meterRegistry);
+        }
+    }
+}
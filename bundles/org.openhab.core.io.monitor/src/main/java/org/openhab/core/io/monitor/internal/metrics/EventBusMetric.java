@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.EventStatistics;
+import org.openhab.core.events.EventStatistics.SubscriberStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * The {@link EventBusMetric} class implements a set of metrics for the throughput and latency of the event bus: the
+ * event creation time, and per subscriber class the queue size, the dispatch latency and the processing time.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class EventBusMetric implements OpenhabCoreMeterBinder {
+
+    public static final String EVENT_CREATION_METRIC_NAME = "openhab.event.creation";
+    public static final String EVENT_DISPATCH_METRIC_NAME = "openhab.event.dispatch";
+    public static final String EVENT_PROCESSING_METRIC_NAME = "openhab.event.processing";
+    public static final String EVENT_QUEUE_METRIC_NAME = "openhab.event.queue";
+    private static final Tag CORE_EVENTBUS_METRIC_TAG = Tag.of("metric", "openhab.core.metric.eventbus");
+    private static final String SUBSCRIBER_TAG_NAME = "subscriber";
+    private final Logger logger = LoggerFactory.getLogger(EventBusMetric.class);
+    private final Set<Tag> tags = new HashSet<>();
+    private final EventStatistics eventStatistics;
+    private final Consumer<SubscriberStatistics> listener = this::addSubscriberMetrics;
+    private @Nullable MeterRegistry meterRegistry;
+    // whether the statistics were enabled when binding, and whether the user disabled them while they were bound
+    private boolean enabledByBinder;
+    private boolean disabledByUser;
+
+    public EventBusMetric(Collection<Tag> tags, EventStatistics eventStatistics) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_EVENTBUS_METRIC_TAG);
+        this.eventStatistics = eventStatistics;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("EventBusMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        DurationHistogramMeters.register(meterRegistry, EVENT_CREATION_METRIC_NAME,
+                eventStatistics.getEventCreationTime(), tags);
+        eventStatistics.addListener(listener);
+        eventStatistics.getSubscriberStatistics().forEach(this::addSubscriberMetrics);
+        // respect the choice of a user who disabled the statistics, e.g. through the console
+        enabledByBinder = !eventStatistics.isEnabled() && !disabledByUser;
+        if (enabledByBinder) {
+            eventStatistics.setEnabled(true);
+        }
+    }
+
+    private void addSubscriberMetrics(SubscriberStatistics statistics) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Set<Tag> subscriberTags = new HashSet<>(tags);
+        subscriberTags.add(Tag.of(SUBSCRIBER_TAG_NAME, statistics.getSubscriber()));
+        DurationHistogramMeters.register(meterRegistry, EVENT_DISPATCH_METRIC_NAME, statistics.getDispatchLatency(),
+                subscriberTags);
+        DurationHistogramMeters.register(meterRegistry, EVENT_PROCESSING_METRIC_NAME, statistics.getProcessingTime(),
+                subscriberTags);
+        Gauge.builder(EVENT_QUEUE_METRIC_NAME, statistics, SubscriberStatistics::getQueueSize).tags(subscriberTags)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        boolean enabled = eventStatistics.isEnabled();
+        disabledByUser = !enabled;
+        if (enabledByBinder && enabled) {
+            eventStatistics.setEnabled(false);
+        }
+        enabledByBinder = false;
+        eventStatistics.removeListener(listener);
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_EVENTBUS_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        this.meterRegistry = null;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.service.StateDescriptionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+/**
+ * The {@link StateDescriptionCacheMetric} class implements metrics for the hits, misses and size of the state
+ * description cache.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class StateDescriptionCacheMetric implements OpenhabCoreMeterBinder {
+
+    public static final String CACHE_REQUESTS_METRIC_NAME = "openhab.statedescription.cache.requests";
+    public static final String CACHE_SIZE_METRIC_NAME = "openhab.statedescription.cache.size";
+    private static final Tag CORE_STATEDESCRIPTION_METRIC_TAG = Tag.of("metric",
+            "openhab.core.metric.statedescription");
+    private static final String RESULT_TAG_NAME = "result";
+    private final Logger logger = LoggerFactory.getLogger(StateDescriptionCacheMetric.class);
+    private final Set<Tag> tags = new HashSet<>();
+    private final StateDescriptionService stateDescriptionService;
+    private @Nullable MeterRegistry meterRegistry;
+
+    public StateDescriptionCacheMetric(Collection<Tag> tags, StateDescriptionService stateDescriptionService) {
+        this.tags.addAll(tags);
+        this.tags.add(CORE_STATEDESCRIPTION_METRIC_TAG);
+        this.stateDescriptionService = stateDescriptionService;
+    }
+
+    @Override
+    public void bindTo(@NonNullByDefault({}) MeterRegistry meterRegistry) {
+        unbind();
+        logger.debug("StateDescriptionCacheMetric is being bound...");
+        this.meterRegistry = meterRegistry;
+        FunctionCounter.builder(CACHE_REQUESTS_METRIC_NAME, stateDescriptionService, s -> s.getCacheStatistics().hits())
+                .tags(tags).tag(RESULT_TAG_NAME, "hit").register(meterRegistry);
+        FunctionCounter
+                .builder(CACHE_REQUESTS_METRIC_NAME, stateDescriptionService, s -> s.getCacheStatistics().misses())
+                .tags(tags).tag(RESULT_TAG_NAME, "miss").register(meterRegistry);
+        Gauge.builder(CACHE_SIZE_METRIC_NAME, stateDescriptionService, s -> s.getCacheStatistics().size()).tags(tags)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void unbind() {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        for (Meter meter : meterRegistry.getMeters()) {
+            if (meter.getId().getTags().contains(CORE_STATEDESCRIPTION_METRIC_TAG)) {
+                meterRegistry.remove(meter);
+            }
+        }
+        this.meterRegistry = null;
+    }
+}
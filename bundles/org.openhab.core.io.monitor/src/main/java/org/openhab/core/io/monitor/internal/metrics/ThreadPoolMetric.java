@@ -20,6 +20,8 @@ import java.util.concurrent.ExecutorService;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.common.ThreadPoolStatistics;
+import org.openhab.core.common.ThreadPoolStatistics.TaskStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,15 +32,22 @@ import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 
 /**
  * The {@link ThreadPoolMetric} class implements a set of metrics for ThreadManager thread pool stats
+ * <p>
+ * Besides the executor metrics of the pools, it exports the {@link ThreadPoolStatistics} of the tasks: the time tasks
+ * wait before they are started and the time they run, as timers and cumulative histogram buckets per pool and owner.
  *
  * @author Robert Bach - Initial contribution
+ * @author Mark Herwege - task queue wait and run time metrics
  */
 @NonNullByDefault
 public class ThreadPoolMetric implements OpenhabCoreMeterBinder {
 
     private final Logger logger = LoggerFactory.getLogger(ThreadPoolMetric.class);
     public static final Tag CORE_THREADPOOL_METRIC_TAG = Tag.of("metric", "openhab.core.metric.threadpools");
+    public static final String TASK_QUEUE_METRIC_NAME = "openhab.threadpool.task.queue";
+    public static final String TASK_RUN_METRIC_NAME = "openhab.threadpool.task.run";
     private static final String POOLNAME_TAG_NAME = "pool";
+    private static final String OWNER_TAG_NAME = "owner";
     private final Set<Tag> tags = new HashSet<>();
     private @Nullable MeterRegistry meterRegistry;
     private Set<ExecutorServiceMetrics> executorServiceMetricsSet = new HashSet<>();
@@ -55,7 +64,9 @@ public class ThreadPoolMetric implements OpenhabCoreMeterBinder {
         this.meterRegistry = registry;
         try {
             ThreadPoolManager.getPoolNames().forEach(this::addPoolMetrics);
-        } catch (NoSuchMethodError nsme) {
+            ThreadPoolStatistics.enable(this::addTaskMetrics);
+            ThreadPoolStatistics.getStatistics().forEach(this::addTaskMetrics);
+        } catch (NoSuchMethodError | NoClassDefFoundError e) {
             logger.info("A newer version of openHAB is required for thread pool metrics to work.");
         }
     }
@@ -72,12 +83,25 @@ public class ThreadPoolMetric implements OpenhabCoreMeterBinder {
         executorServiceMetricsSet.add(metrics);
     }
 
+    private void addTaskMetrics(TaskStatistics statistics) {
+        MeterRegistry meterRegistry = this.meterRegistry;
+        if (meterRegistry == null) {
+            return;
+        }
+        Set<Tag> taskTags = new HashSet<>(tags);
+        taskTags.add(Tag.of(POOLNAME_TAG_NAME, statistics.getPoolName()));
+        taskTags.add(Tag.of(OWNER_TAG_NAME, statistics.getOwner()));
+        DurationHistogramMeters.register(meterRegistry, TASK_QUEUE_METRIC_NAME, statistics.getQueueWait(), taskTags);
+        DurationHistogramMeters.register(meterRegistry, TASK_RUN_METRIC_NAME, statistics.getRunTime(), taskTags);
+    }
+
     @Override
     public void unbind() {
         MeterRegistry meterRegistry = this.meterRegistry;
         if (meterRegistry == null) {
             return;
         }
+        ThreadPoolStatistics.disable();
         for (Meter meter : meterRegistry.getMeters()) {
             if (meter.getId().getTags().contains(CORE_THREADPOOL_METRIC_TAG)) {
                 meterRegistry.remove(meter);
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.monitor.internal.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.internal.events.EventStatisticsImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for the {@link EventBusMetric} class
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class EventBusMetricTest {
+
+    private final EventStatisticsImpl eventStatistics = new EventStatisticsImpl();
+    private final EventBusMetric metric = new EventBusMetric(Set.of(), eventStatistics);
+
+    @Test
+    public void statisticsAreEnabledWhileBound() {
+        metric.bindTo(new SimpleMeterRegistry());
+        assertTrue(eventStatistics.isEnabled());
+
+        metric.unbind();
+        assertFalse(eventStatistics.isEnabled());
+    }
+
+    @Test
+    public void statisticsDisabledByTheUserAreNotEnabledOnRebind() {
+        metric.bindTo(new SimpleMeterRegistry());
+        eventStatistics.setEnabled(false);
+
+        metric.bindTo(new SimpleMeterRegistry());
+        assertFalse(eventStatistics.isEnabled());
+
+        // enabling them again is respected as well
+        eventStatistics.setEnabled(true);
+        metric.bindTo(new SimpleMeterRegistry());
+        assertTrue(eventStatistics.isEnabled());
+    }
+
+    @Test
+    public void statisticsEnabledByTheUserStayEnabledAfterUnbind() {
+        eventStatistics.setEnabled(true);
+        metric.bindTo(new SimpleMeterRegistry());
+
+        metric.unbind();
+        assertTrue(eventStatistics.isEnabled());
+    }
+}
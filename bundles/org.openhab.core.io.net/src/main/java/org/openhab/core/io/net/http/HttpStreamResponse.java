@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.net.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.api.Response;
+
+/**
+ * A response of which the content is streamed instead of buffered, as returned by
+ * {@link HttpUtil#executeUrlAsStream}.
+ *
+ * @param response the response, with status and headers
+ * @param content the content of the response, to be closed after use
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public record HttpStreamResponse(Response response, InputStream content) implements AutoCloseable {
+
+    /**
+     * @return the HTTP status code of the response
+     */
+    public int getStatus() {
+        return response.getStatus();
+    }
+
+    /**
+     * Closes the content. Closing the content before it has been read completely aborts the request.
+     */
+    @Override
+    public void close() throws IOException {
+        content.close();
+    }
+}
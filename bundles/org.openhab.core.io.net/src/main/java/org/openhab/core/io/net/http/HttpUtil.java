@@ -27,6 +27,7 @@ import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jetty.client.HttpClient;
@@ -37,8 +38,12 @@ import org.eclipse.jetty.client.api.Authentication;
 import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.BasicAuthentication;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.client.util.InputStreamContentProvider;
+import org.eclipse.jetty.client.util.InputStreamResponseListener;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
@@ -56,6 +61,7 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Initial contribution
  * @author Thomas Eichstaedt-Engelen - Initial contribution
  * @author Svilen Valkanov - replaced Apache HttpClient with Jetty
+ * @author Mark Herwege - added asynchronous and streaming execution
  */
 @Component(immediate = true)
 public class HttpUtil {
@@ -73,6 +79,27 @@ public class HttpUtil {
         String nonProxyHosts;
     }
 
+    private static class PreparedRequest {
+        final HttpClient httpClient;
+        final Request request;
+        final HttpMethod method;
+        final HttpProxy proxy;
+
+        PreparedRequest(HttpClient httpClient, Request request, HttpMethod method, HttpProxy proxy) {
+            this.httpClient = httpClient;
+            this.request = request;
+            this.method = method;
+            this.proxy = proxy;
+        }
+
+        void removeProxy() {
+            if (proxy != null) {
+                // Remove the proxy, that has been added for this request
+                httpClient.getProxyConfiguration().getProxies().remove(proxy);
+            }
+        }
+    }
+
     /**
      * Executes the given <code>url</code> with the given <code>httpMethod</code>.
      * Furthermore the <code>http.proxyXXX</code> System variables are read and
@@ -185,6 +212,155 @@ public class HttpUtil {
     private static ContentResponse executeUrlAndGetReponse(String httpMethod, String url, Properties httpHeaders,
             InputStream content, String contentType, int timeout, String proxyHost, Integer proxyPort, String proxyUser,
             String proxyPassword, String nonProxyHosts) throws IOException {
+        PreparedRequest preparedRequest = prepareRequest(httpMethod, url, httpHeaders, proxyHost, proxyPort, proxyUser,
+                proxyPassword, nonProxyHosts);
+        final Request request = preparedRequest.request.timeout(timeout, TimeUnit.MILLISECONDS);
+
+        // add content if a valid method is given ...
+        if (content != null
+                && (HttpMethod.POST.equals(preparedRequest.method) || HttpMethod.PUT.equals(preparedRequest.method))) {
+            // Close this outmost stream again after use!
+            try (final InputStreamContentProvider inputStreamContentProvider = new InputStreamContentProvider(
+                    content)) {
+                request.content(inputStreamContentProvider, contentType);
+            }
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("About to execute {}", request.getURI());
+        }
+
+        try {
+            ContentResponse response = request.send();
+            logFailedResponse(response);
+            return response;
+        } catch (Exception e) {
+            throw new IOException(e);
+        } finally {
+            preparedRequest.removeProxy();
+        }
+    }
+
+    /**
+     * Executes the given <code>url</code> with the given <code>httpMethod</code> without blocking the calling thread.
+     * Furthermore the <code>http.proxyXXX</code> System variables are read and set into the {@link HttpClient}.
+     *
+     * @param httpMethod the HTTP method to use
+     * @param url the url to execute
+     * @param httpHeaders optional http request headers which has to be sent within request
+     * @param content the content to be sent to the given <code>url</code> or <code>null</code> if no content should
+     *            be sent.
+     * @param contentType the content type of the given <code>content</code>
+     * @param timeout the total timeout in milliseconds for the request to complete
+     * @return a future completed with the response body, or completed exceptionally with an {@link IOException} when
+     *         the request execution failed or timed out
+     */
+    public static CompletableFuture<String> executeUrlAsync(String httpMethod, String url, Properties httpHeaders,
+            InputStream content, String contentType, int timeout) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        final PreparedRequest preparedRequest;
+        try {
+            preparedRequest = prepareAsyncRequest(httpMethod, url, httpHeaders, content, contentType);
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        preparedRequest.request.timeout(timeout, TimeUnit.MILLISECONDS).send(new BufferingResponseListener() {
+            @Override
+            public void onComplete(Result result) {
+                preparedRequest.removeProxy();
+                if (result.isFailed()) {
+                    future.completeExceptionally(new IOException(result.getFailure()));
+                    return;
+                }
+                logFailedResponse(result.getResponse());
+                String encoding = getEncoding() != null ? getEncoding().replace("\"", "").trim()
+                        : StandardCharsets.UTF_8.name();
+                try {
+                    future.complete(new String(getContent(), encoding));
+                } catch (UnsupportedEncodingException e) {
+                    future.complete(null);
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Executes the given <code>url</code> with the given <code>httpMethod</code> and streams the response body
+     * instead of buffering it, without blocking the calling thread. Furthermore the <code>http.proxyXXX</code> System
+     * variables are read and set into the {@link HttpClient}.
+     * <p>
+     * The future is completed as soon as the response headers have been received. The content of the response must be
+     * read and closed by the caller, reading it blocks until the content arrives.
+     *
+     * @param httpMethod the HTTP method to use
+     * @param url the url to execute
+     * @param httpHeaders optional http request headers which has to be sent within request
+     * @param content the content to be sent to the given <code>url</code> or <code>null</code> if no content should
+     *            be sent.
+     * @param contentType the content type of the given <code>content</code>
+     * @param timeout the socket timeout in milliseconds to wait for data
+     * @return a future completed with the response, or completed exceptionally with an {@link IOException} when the
+     *         request execution failed or timed out before the response headers were received
+     */
+    public static CompletableFuture<HttpStreamResponse> executeUrlAsStream(String httpMethod, String url,
+            Properties httpHeaders, InputStream content, String contentType, int timeout) {
+        CompletableFuture<HttpStreamResponse> future = new CompletableFuture<>();
+        final PreparedRequest preparedRequest;
+        try {
+            preparedRequest = prepareAsyncRequest(httpMethod, url, httpHeaders, content, contentType);
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        preparedRequest.request.idleTimeout(timeout, TimeUnit.MILLISECONDS).send(new InputStreamResponseListener() {
+            @Override
+            public void onHeaders(Response response) {
+                super.onHeaders(response);
+                logFailedResponse(response);
+                HttpStreamResponse streamResponse = new HttpStreamResponse(response, getInputStream());
+                // complete on another thread, reading the content from a dependent stage would otherwise block the
+                // thread that has to deliver the content
+                preparedRequest.httpClient.getExecutor().execute(() -> future.complete(streamResponse));
+            }
+
+            @Override
+            public void onComplete(Result result) {
+                super.onComplete(result);
+                preparedRequest.removeProxy();
+                if (result.isFailed()) {
+                    future.completeExceptionally(new IOException(result.getFailure()));
+                }
+            }
+        });
+        return future;
+    }
+
+    private static PreparedRequest prepareAsyncRequest(String httpMethod, String url, Properties httpHeaders,
+            InputStream content, String contentType) throws IOException {
+        final ProxyParams proxyParams = prepareProxyParams();
+        PreparedRequest preparedRequest = prepareRequest(httpMethod, url, httpHeaders, proxyParams.proxyHost,
+                proxyParams.proxyPort, proxyParams.proxyUser, proxyParams.proxyPassword, proxyParams.nonProxyHosts);
+        Request request = preparedRequest.request;
+
+        // add content if a valid method is given, the content is closed when it has been sent
+        if (content != null
+                && (HttpMethod.POST.equals(preparedRequest.method) || HttpMethod.PUT.equals(preparedRequest.method))) {
+            request.content(new InputStreamContentProvider(content), contentType);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("About to execute {} asynchronously", request.getURI());
+        }
+        return preparedRequest;
+    }
+
+    private static PreparedRequest prepareRequest(String httpMethod, String url, Properties httpHeaders,
+            String proxyHost, Integer proxyPort, String proxyUser, String proxyPassword, String nonProxyHosts)
+            throws IOException {
         // Referenced http client factory not available
         if (httpClientFactory == null) {
             throw new IllegalStateException("Http client factory not available");
@@ -216,7 +392,7 @@ public class HttpUtil {
 
         final HttpMethod method = HttpUtil.createHttpMethod(httpMethod);
 
-        final Request request = httpClient.newRequest(uri).method(method).timeout(timeout, TimeUnit.MILLISECONDS);
+        final Request request = httpClient.newRequest(uri).method(method);
 
         if (httpHeaders != null) {
             for (String httpHeaderKey : httpHeaders.stringPropertyNames()) {
@@ -240,35 +416,14 @@ public class HttpUtil {
             request.header(HttpHeader.AUTHORIZATION, basicAuthentication);
         }
 
-        // add content if a valid method is given ...
-        if (content != null && (HttpMethod.POST.equals(method) || HttpMethod.PUT.equals(method))) {
-            // Close this outmost stream again after use!
-            try (final InputStreamContentProvider inputStreamContentProvider = new InputStreamContentProvider(
-                    content)) {
-                request.content(inputStreamContentProvider, contentType);
-            }
-        }
-
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug("About to execute {}", request.getURI());
-        }
-
-        try {
-            ContentResponse response = request.send();
-            int statusCode = response.getStatus();
-            if (LOGGER.isDebugEnabled() && statusCode >= HttpStatus.BAD_REQUEST_400) {
-                String statusLine = statusCode + " " + response.getReason();
-                LOGGER.debug("Method failed: {}", statusLine);
-            }
+        return new PreparedRequest(httpClient, request, method, proxy);
+    }
 
-            return response;
-        } catch (Exception e) {
-            throw new IOException(e);
-        } finally {
-            if (proxy != null) {
-                // Remove the proxy, that has been added for this request
-                httpClient.getProxyConfiguration().getProxies().remove(proxy);
-            }
+    private static void logFailedResponse(Response response) {
+        int statusCode = response.getStatus();
+        if (LOGGER.isDebugEnabled() && statusCode >= HttpStatus.BAD_REQUEST_400) {
+            String statusLine = statusCode + " " + response.getReason();
+            LOGGER.debug("Method failed: {}", statusLine);
         }
     }
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.net.http.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.AbstractConnectionPool;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpDestination;
+import org.eclipse.jetty.client.api.Destination;
+import org.eclipse.jetty.client.api.Request;
+
+/**
+ * The {@link HttpClientMetrics} measures the latency of the requests of a Jetty http client, from the moment a request
+ * is queued until its response has been received completely, so including the time spent waiting for a connection.
+ * <p>
+ * The metrics are registered as request listener on the client, the completion of the response is reported by the
+ * receiver of the client transport.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public final class HttpClientMetrics implements Request.Listener {
+
+    private static final String METRICS_ATTRIBUTE = HttpClientMetrics.class.getName();
+    private static final String START_ATTRIBUTE = HttpClientMetrics.class.getName() + ".start";
+
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    @Override
+    public void onQueued(Request request) {
+        request.attribute(START_ATTRIBUTE, System.nanoTime());
+        request.attribute(METRICS_ATTRIBUTE, this);
+    }
+
+    @Override
+    public void onFailure(Request request, Throwable failure) {
+        failures.increment();
+    }
+
+    /**
+     * Records the latency of a request of which the response has been received completely, if the request was
+     * measured.
+     *
+     * @param request the request
+     */
+    static void responseComplete(Request request) {
+        if (request.getAttributes().get(METRICS_ATTRIBUTE) instanceof HttpClientMetrics metrics
+                && request.getAttributes().get(START_ATTRIBUTE) instanceof Long start) {
+            metrics.record(System.nanoTime() - start);
+        }
+    }
+
+    void record(long nanos) {
+        responses.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Gets the statistics of the requests measured so far, together with the current state of the connection pools of
+     * the client.
+     *
+     * @param httpClient the client the metrics are registered on
+     * @return the statistics
+     */
+    public Statistics getStatistics(HttpClient httpClient) {
+        int queuedRequests = 0;
+        int activeConnections = 0;
+        int maxConnections = 0;
+        int saturatedDestinations = 0;
+        for (Destination destination : httpClient.getDestinations()) {
+            if (destination instanceof HttpDestination httpDestination) {
+                int queued = httpDestination.getQueuedRequestCount();
+                queuedRequests += queued;
+                if (httpDestination.getConnectionPool() instanceof AbstractConnectionPool pool) {
+                    activeConnections += pool.getActiveConnectionCount();
+                    maxConnections += pool.getMaxConnectionCount();
+                    if (queued > 0 && pool.getActiveConnectionCount() >= pool.getMaxConnectionCount()) {
+                        saturatedDestinations++;
+                    }
+                }
+            }
+        }
+        long count = responses.sum();
+        return new Statistics(count, failures.sum(),
+                count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count),
+                TimeUnit.NANOSECONDS.toMillis(maxNanos.get()), queuedRequests, activeConnections, maxConnections,
+                saturatedDestinations);
+    }
+
+    /**
+     * The statistics of a http client.
+     *
+     * @param responses the number of responses received completely
+     * @param failures the number of requests that failed to be sent
+     * @param averageLatencyMillis the average latency of the responses in milliseconds
+     * @param maxLatencyMillis the maximum latency of the responses in milliseconds
+     * @param queuedRequests the number of requests waiting for a connection
+     * @param activeConnections the number of connections in use
+     * @param maxConnections the maximum number of connections of all destinations
+     * @param saturatedDestinations the number of destinations that have requests waiting while all their connections
+     *            are in use
+     */
+    public record Statistics(long responses, long failures, long averageLatencyMillis, long maxLatencyMillis,
+            int queuedRequests, int activeConnections, int maxConnections, int saturatedDestinations) {
+    }
+}
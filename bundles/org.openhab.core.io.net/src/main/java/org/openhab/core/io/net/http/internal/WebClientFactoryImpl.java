@@ -60,6 +60,7 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - added web socket support
  * @author Martin van Wingerden - Add support for ESHTrustManager
  * @author Andrew Fiddian-Green - Added support for HTTP2 client creation
+ * @author Mark Herwege - configurable connection limits and metrics of the shared http client
  */
 @Component(immediate = true, configurationPid = "org.openhab.webclient")
 @NonNullByDefault
@@ -73,6 +74,8 @@ public class WebClientFactoryImpl implements HttpClientFactory, WebSocketFactory
     private static final String CONFIG_MIN_THREADS_CUSTOM = "minThreadsCustom";
     private static final String CONFIG_MAX_THREADS_CUSTOM = "maxThreadsCustom";
     private static final String CONFIG_KEEP_ALIVE_CUSTOM = "keepAliveTimeoutCustom";
+    private static final String CONFIG_MAX_CONNECTIONS_PER_DESTINATION_SHARED = "maxConnectionsPerDestinationShared";
+    private static final String CONFIG_MAX_REQUESTS_QUEUED_PER_DESTINATION_SHARED = "maxRequestsQueuedPerDestinationShared";
 
     private static final int MIN_CONSUMER_NAME_LENGTH = 4;
     private static final int MAX_CONSUMER_NAME_LENGTH = 20;
@@ -90,6 +93,10 @@ public class WebClientFactoryImpl implements HttpClientFactory, WebSocketFactory
     private int minThreadsCustom;
     private int maxThreadsCustom;
     private int keepAliveTimeoutCustom; // in s
+    private int maxConnectionsPerDestinationShared;
+    private int maxRequestsQueuedPerDestinationShared;
+
+    private final HttpClientMetrics commonHttpClientMetrics = new HttpClientMetrics();
 
     private boolean hpackLoadTestDone = false;
     private @Nullable HttpClientInitializationException hpackException = null;
@@ -112,6 +119,11 @@ public class WebClientFactoryImpl implements HttpClientFactory, WebSocketFactory
             threadPool.setMaxThreads(maxThreadsShared);
             threadPool.setIdleTimeout(keepAliveTimeoutShared * 1000);
         }
+        if (commonHttpClient != null) {
+            // only applies to destinations created from now on
+            commonHttpClient.setMaxConnectionsPerDestination(maxConnectionsPerDestinationShared);
+            commonHttpClient.setMaxRequestsQueuedPerDestination(maxRequestsQueuedPerDestinationShared);
+        }
     }
 
     @Deactivate
@@ -177,6 +189,17 @@ public class WebClientFactoryImpl implements HttpClientFactory, WebSocketFactory
         return commonWebSocketClient;
     }
 
+    /**
+     * Gets the latency statistics of the requests of the shared http client and the current state of its connection
+     * pools.
+     *
+     * @return the statistics
+     */
+    public HttpClientMetrics.Statistics getCommonHttpClientStatistics() {
+        initialize();
+        return commonHttpClientMetrics.getStatistics(commonHttpClient);
+    }
+
     private int calculateDefaultMaxThreads(int base, int max, int cpuFactor) {
         int cpus = Runtime.getRuntime().availableProcessors();
 
@@ -196,6 +219,10 @@ public class WebClientFactoryImpl implements HttpClientFactory, WebSocketFactory
         maxThreadsCustom = getConfigParameter(parameters, CONFIG_MAX_THREADS_CUSTOM,
                 calculateDefaultMaxThreads(10, 32, 2));
         keepAliveTimeoutCustom = getConfigParameter(parameters, CONFIG_KEEP_ALIVE_CUSTOM, 300);
+        maxConnectionsPerDestinationShared = getConfigParameter(parameters,
+                CONFIG_MAX_CONNECTIONS_PER_DESTINATION_SHARED, 2);
+        maxRequestsQueuedPerDestinationShared = getConfigParameter(parameters,
+                CONFIG_MAX_REQUESTS_QUEUED_PER_DESTINATION_SHARED, 1024);
     }
 
     @SuppressWarnings({ "null", "unused" })
@@ -231,6 +258,9 @@ public class WebClientFactoryImpl implements HttpClientFactory, WebSocketFactory
 
             if (commonHttpClient == null) {
                 commonHttpClient = createHttpClientInternal("common", null, true, threadPool);
+                commonHttpClient.setMaxConnectionsPerDestination(maxConnectionsPerDestinationShared);
+                commonHttpClient.setMaxRequestsQueuedPerDestination(maxRequestsQueuedPerDestinationShared);
+                commonHttpClient.getRequestListeners().add(commonHttpClientMetrics);
                 // we need to set the stop timeout AFTER the client has been started, because
                 // otherwise the Jetty client sets it back to the default value.
                 // We need the stop timeout in order to prevent blocking the deactivation of this
@@ -476,6 +506,15 @@ public class WebClientFactoryImpl implements HttpClientFactory, WebSocketFactory
                 }
                 return super.headerComplete();
             }
+
+            @Override
+            public boolean messageComplete() {
+                HttpExchange exchange = getHttpExchange();
+                if (exchange != null) {
+                    HttpClientMetrics.responseComplete(exchange.getRequest());
+                }
+                return super.messageComplete();
+            }
         }
     }
 }
@@ -13,16 +13,28 @@
 package org.openhab.core.io.net.http;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
+import org.eclipse.jetty.client.util.InputStreamResponseListener;
+import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.util.Callback;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -30,6 +42,7 @@ import org.junit.jupiter.api.Test;
  *
  * @author Thomas Eichstaedt-Engelen - Initial contribution
  * @author Martin van Wingerden - Added tests based on HttpClientFactory
+ * @author Mark Herwege - Added tests for asynchronous and streaming execution
  */
 @NonNullByDefault
 public class HttpUtilTest extends BaseHttpUtilTest {
@@ -81,4 +94,68 @@ public class HttpUtilTest extends BaseHttpUtilTest {
                 () -> HttpUtil.createHttpMethod("TRACE"));
         assertEquals("Given HTTP Method 'TRACE' is unknown", exception.getMessage());
     }
+
+    @Test
+    public void testExecuteUrlAsync() throws Exception {
+        Response response = mockAsyncResponse(HttpStatus.OK_200);
+        doAnswer(invocation -> {
+            BufferingResponseListener listener = invocation.getArgument(0);
+            listener.onContent(response, ByteBuffer.wrap("Some content".getBytes(StandardCharsets.UTF_8)));
+            listener.onComplete(new Result(requestMock, response));
+            return null;
+        }).when(requestMock).send(any(Response.CompleteListener.class));
+
+        CompletableFuture<String> result = HttpUtil.executeUrlAsync("GET", URL, null, null, null, 500);
+
+        assertEquals("Some content", result.get(1, TimeUnit.SECONDS));
+        verify(requestMock).timeout(500, TimeUnit.MILLISECONDS);
+        verify(requestMock, never()).send();
+    }
+
+    @Test
+    public void testExecuteUrlAsyncFailure() {
+        Response response = mockAsyncResponse(HttpStatus.OK_200);
+        doAnswer(invocation -> {
+            BufferingResponseListener listener = invocation.getArgument(0);
+            listener.onComplete(new Result(requestMock, response, new IOException("test")));
+            return null;
+        }).when(requestMock).send(any(Response.CompleteListener.class));
+
+        CompletableFuture<String> result = HttpUtil.executeUrlAsync("GET", URL, null, null, null, 500);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, exception.getCause());
+    }
+
+    @Test
+    public void testExecuteUrlAsStream() throws Exception {
+        when(clientFactoryMock.getCommonHttpClient().getExecutor()).thenReturn(Runnable::run);
+        when(requestMock.idleTimeout(500, TimeUnit.MILLISECONDS)).thenReturn(requestMock);
+        Response response = mockAsyncResponse(HttpStatus.OK_200);
+        doAnswer(invocation -> {
+            InputStreamResponseListener listener = invocation.getArgument(0);
+            listener.onHeaders(response);
+            listener.onContent(response, ByteBuffer.wrap("Some content".getBytes(StandardCharsets.UTF_8)),
+                    Callback.NOOP);
+            listener.onSuccess(response);
+            listener.onComplete(new Result(requestMock, response));
+            return null;
+        }).when(requestMock).send(any(Response.CompleteListener.class));
+
+        CompletableFuture<HttpStreamResponse> result = HttpUtil.executeUrlAsStream("GET", URL, null, null, null, 500);
+
+        try (HttpStreamResponse streamResponse = result.get(1, TimeUnit.SECONDS);
+                InputStream content = streamResponse.content()) {
+            assertEquals(HttpStatus.OK_200, streamResponse.getStatus());
+            assertEquals("Some content", new String(content.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        verify(requestMock, never()).timeout(anyLong(), any(TimeUnit.class));
+    }
+
+    private Response mockAsyncResponse(int httpStatus) {
+        Response response = mock(Response.class);
+        when(response.getStatus()).thenReturn(httpStatus);
+        when(response.getHeaders()).thenReturn(new HttpFields());
+        return response;
+    }
 }
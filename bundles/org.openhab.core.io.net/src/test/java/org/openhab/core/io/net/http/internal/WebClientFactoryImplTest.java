@@ -18,6 +18,11 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
@@ -47,8 +52,11 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.sun.net.httpserver.HttpServer;
+
 /**
  * @author Kai Kreuzer - Initial contribution
+ * @author Mark Herwege - added connection limits and statistics tests
  */
 @ExtendWith(MockitoExtension.class)
 @NonNullByDefault
@@ -85,6 +93,51 @@ public class WebClientFactoryImplTest {
         assertThat(webSocketClient, is(notNullValue()));
     }
 
+    @Test
+    public void testCommonClientConnectionLimits() {
+        Map<String, Object> config = createConfigMap(4, 200, 60, 2, 10, 60);
+        config.put("maxConnectionsPerDestinationShared", 8);
+        config.put("maxRequestsQueuedPerDestinationShared", 100);
+        webClientFactory.modified(config);
+
+        HttpClient httpClient = webClientFactory.getCommonHttpClient();
+
+        assertThat(httpClient.getMaxConnectionsPerDestination(), is(8));
+        assertThat(httpClient.getMaxRequestsQueuedPerDestination(), is(100));
+    }
+
+    @Test
+    public void testCommonClientStatistics() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = "content".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } catch (IOException e) {
+                // test fails on the client side
+            }
+        });
+        server.start();
+        try {
+            HttpClient httpClient = webClientFactory.getCommonHttpClient();
+            String url = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+            for (int i = 0; i < 3; i++) {
+                assertThat(httpClient.GET(url).getContentAsString(), is("content"));
+            }
+
+            HttpClientMetrics.Statistics statistics = webClientFactory.getCommonHttpClientStatistics();
+            assertThat(statistics.responses(), is(3L));
+            assertThat(statistics.failures(), is(0L));
+            assertThat(statistics.maxLatencyMillis() >= statistics.averageLatencyMillis(), is(true));
+            assertThat(statistics.queuedRequests(), is(0));
+            assertThat(statistics.maxConnections(), is(2));
+            assertThat(statistics.saturatedDestinations(), is(0));
+        } finally {
+            server.stop(0);
+        }
+    }
+
     @Disabled("connecting to the outside world makes this test flaky")
     @Test
     public void testCommonClientUsesExtensibleTrustManager() throws Exception {
@@ -25,6 +25,7 @@ import javax.jmdns.ServiceListener;
  * to access Bonjour/MDNS
  *
  * @author Tobias Br�utigam - Initial contribution
+ * @author Mark Herwege - list services from a cache
  */
 public interface MDNSClient {
 
@@ -36,7 +37,9 @@ public interface MDNSClient {
     Set<JmDNS> getClientInstances();
 
     /**
-     * Listen for services of a given type
+     * Listen for services of a given type. The listener is notified of the services that are already known and of
+     * all changes from then on, also for JmDNS instances that are created later, so there is no need to list the
+     * services again.
      *
      * @param type full qualified service type
      * @param listener listener for service updates
@@ -72,7 +75,10 @@ public interface MDNSClient {
     void unregisterAllServices();
 
     /**
-     * Returns a list of service infos of the specified type
+     * Returns a list of service infos of the specified type.
+     * <p>
+     * The services are returned from a cache that is kept up to date by listening for the services of the type. Only
+     * the first call for a type waits for JmDNS to collect the services.
      *
      * @param type service type name
      * @return an array of service instances
@@ -80,7 +86,10 @@ public interface MDNSClient {
     ServiceInfo[] list(String type);
 
     /**
-     * Returns a list of service infos of the specified type within timeout
+     * Returns a list of service infos of the specified type within timeout.
+     * <p>
+     * The services are returned from the same cache as {@link #list(String)}, the timeout only applies to the first
+     * call for a type.
      *
      * @param type service type name
      * @param timeout the amount of time it should wait if no service info is found.
@@ -25,11 +25,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.jmdns.JmDNS;
 import javax.jmdns.ServiceInfo;
 import javax.jmdns.ServiceListener;
 
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.transport.mdns.MDNSClient;
 import org.openhab.core.io.transport.mdns.ServiceDescription;
 import org.openhab.core.net.CidrAddress;
@@ -47,15 +52,30 @@ import org.slf4j.LoggerFactory;
  *
  * @author Victor Belov - Initial contribution
  * @author Gary Tse - Add NetworkAddressChangeListener to handle interface changes
+ * @author Mark Herwege - list services from a cache maintained by service listeners
  */
 @Component(immediate = true, service = MDNSClient.class)
 public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener {
+    // the timeout JmDNS uses when listing services without a timeout
+    private static final long DEFAULT_LIST_TIMEOUT_MILLIS = 6000;
+    private static final long CACHE_REFRESH_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
     private final Logger logger = LoggerFactory.getLogger(MDNSClientImpl.class);
 
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("mdns");
+
     private final Map<InetAddress, JmDNS> jmdnsInstances = new ConcurrentHashMap<>();
 
     private final Set<ServiceDescription> activeServices = ConcurrentHashMap.newKeySet();
 
+    private final Map<String, Set<ServiceListener>> serviceListeners = new ConcurrentHashMap<>();
+
+    private final MDNSServiceCache serviceCache = new MDNSServiceCache(
+            () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()), MDNSServiceCache.DEFAULT_TTL_MILLIS, scheduler);
+    private final Set<String> refreshingTypes = ConcurrentHashMap.newKeySet();
+
+    private ScheduledFuture<?> cacheRefreshJob;
+
     private final NetworkAddressService networkAddressService;
 
     @Activate
@@ -139,6 +159,8 @@ public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener
     protected void activate() {
         networkAddressService.addNetworkAddressChangeListener(this);
         start();
+        cacheRefreshJob = scheduler.scheduleWithFixedDelay(this::refreshServiceCache, CACHE_REFRESH_INTERVAL_MILLIS,
+                CACHE_REFRESH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
     }
 
     private void start() {
@@ -156,21 +178,71 @@ public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener
 
     @Deactivate
     public void deactivate() {
+        ScheduledFuture<?> cacheRefreshJob = this.cacheRefreshJob;
+        if (cacheRefreshJob != null) {
+            cacheRefreshJob.cancel(true);
+            this.cacheRefreshJob = null;
+        }
         close();
+        serviceCache.clear();
+        serviceListeners.clear();
         activeServices.clear();
         networkAddressService.removeNetworkAddressChangeListener(this);
     }
 
     @Override
     public void addServiceListener(String type, ServiceListener listener) {
+        serviceListeners.computeIfAbsent(type, t -> new CopyOnWriteArraySet<>()).add(listener);
         jmdnsInstances.values().forEach(jmdns -> jmdns.addServiceListener(type, listener));
+        watchServiceType(type);
     }
 
     @Override
     public void removeServiceListener(String type, ServiceListener listener) {
+        Set<ServiceListener> listeners = serviceListeners.get(type);
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
         jmdnsInstances.values().forEach(jmdns -> jmdns.removeServiceListener(type, listener));
     }
 
+    private void watchServiceType(String type) {
+        if (serviceCache.watch(type)) {
+            jmdnsInstances.values().forEach(jmdns -> jmdns.addServiceListener(type, serviceCache));
+        }
+    }
+
+    /**
+     * Lists the services of a type from all JmDNS instances into the service cache. This blocks until JmDNS has
+     * collected the services.
+     *
+     * @param type the service type
+     * @param timeout the time in milliseconds JmDNS waits if no service is found
+     */
+    private void refreshServiceCache(String type, long timeout) {
+        for (JmDNS instance : jmdnsInstances.values()) {
+            serviceCache.refresh(instance, type, instance.list(type, timeout));
+        }
+    }
+
+    private void refreshServiceCache() {
+        for (String type : serviceCache.getWatchedTypes()) {
+            // each type is listed in its own task, so a type JmDNS is slow to list does not hold up the others, a type
+            // still being listed since the last refresh is skipped
+            if (refreshingTypes.add(type)) {
+                scheduler.execute(() -> {
+                    try {
+                        refreshServiceCache(type, DEFAULT_LIST_TIMEOUT_MILLIS);
+                    } catch (RuntimeException e) {
+                        logger.debug("Refreshing the cached services of type {} failed: {}", type, e.getMessage());
+                    } finally {
+                        refreshingTypes.remove(type);
+                    }
+                });
+            }
+        }
+    }
+
     @Override
     public void registerService(ServiceDescription description) throws IOException {
         activeServices.add(description);
@@ -218,25 +290,27 @@ public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener
 
     @Override
     public ServiceInfo[] list(String type) {
-        ServiceInfo[] services = new ServiceInfo[0];
-        for (JmDNS instance : jmdnsInstances.values()) {
-            services = concatenate(services, instance.list(type));
-        }
-        return services;
+        return list(type, DEFAULT_LIST_TIMEOUT_MILLIS);
     }
 
     @Override
     public ServiceInfo[] list(String type, Duration timeout) {
-        ServiceInfo[] services = new ServiceInfo[0];
-        for (JmDNS instance : jmdnsInstances.values()) {
-            services = concatenate(services, instance.list(type, timeout.toMillis()));
+        return list(type, timeout.toMillis());
+    }
+
+    private ServiceInfo[] list(String type, long timeout) {
+        if (!serviceCache.isRefreshed(type)) {
+            // first listing of the type, wait for JmDNS once and keep the services up to date from then on
+            watchServiceType(type);
+            refreshServiceCache(type, timeout);
         }
-        return services;
+        return serviceCache.list(type);
     }
 
     @Override
     public void close() {
         for (JmDNS jmdns : jmdnsInstances.values()) {
+            serviceCache.removeInstance(jmdns);
             closeQuietly(jmdns);
             logger.debug("mDNS service has been stopped ({})", jmdns.getName());
         }
@@ -250,28 +324,13 @@ public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener
         }
     }
 
-    /**
-     * Concatenate two arrays of ServiceInfo
-     *
-     * @param a: the first array
-     * @param b: the second array
-     * @return an array of ServiceInfo
-     */
-    private ServiceInfo[] concatenate(ServiceInfo[] a, ServiceInfo[] b) {
-        int aLen = a.length;
-        int bLen = b.length;
-
-        ServiceInfo[] c = new ServiceInfo[aLen + bLen];
-        System.arraycopy(a, 0, c, 0, aLen);
-        System.arraycopy(b, 0, c, aLen, bLen);
-
-        return c;
-    }
-
     private void createJmDNSByAddress(InetAddress address) {
         try {
             JmDNS jmdns = JmDNS.create(address, null);
             jmdnsInstances.put(address, jmdns);
+            serviceListeners.forEach(
+                    (type, listeners) -> listeners.forEach(listener -> jmdns.addServiceListener(type, listener)));
+            serviceCache.getWatchedTypes().forEach(type -> jmdns.addServiceListener(type, serviceCache));
             logger.debug("mDNS service has been started ({} for IP {})", jmdns.getName(), address.getHostAddress());
         } catch (IOException e) {
             logger.debug("JmDNS instantiation failed ({})!", address.getHostAddress());
@@ -313,6 +372,7 @@ public class MDNSClientImpl implements MDNSClient, NetworkAddressChangeListener
             if (!filteredAddresses.contains(address)) {
                 JmDNS jmdns = jmdnsInstances.remove(address);
                 if (jmdns != null) {
+                    serviceCache.removeInstance(jmdns);
                     closeQuietly(jmdns);
                     logger.debug("mDNS service has been stopped ({} for IP {})", jmdns.getName(),
                             address.getHostAddress());
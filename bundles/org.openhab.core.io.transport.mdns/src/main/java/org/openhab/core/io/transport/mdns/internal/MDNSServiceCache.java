@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mdns.internal;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+import javax.jmdns.JmDNS;
+import javax.jmdns.ServiceEvent;
+import javax.jmdns.ServiceInfo;
+import javax.jmdns.ServiceListener;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link MDNSServiceCache} keeps the resolved services of the watched service types of all JmDNS instances, so
+ * they can be listed without waiting for JmDNS.
+ * <p>
+ * The cache is fed by registering it as {@link ServiceListener} for the watched types on each JmDNS instance, and by
+ * periodically refreshing it with the services listed by JmDNS. Services that have not been seen in an event or a
+ * refresh for the time to live are dropped.
+ * <p>
+ * Added services are resolved without blocking the JmDNS listener thread: the resolution is requested from the
+ * resolver executor and the resolved service is cached when JmDNS reports it to {@link #serviceResolved}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+final class MDNSServiceCache implements ServiceListener {
+
+    static final long DEFAULT_TTL_MILLIS = 15 * 60 * 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(MDNSServiceCache.class);
+
+    private final LongSupplier clock;
+    private final long ttlMillis;
+    private final Executor resolver;
+    private final Map<String, TypeCache> types = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a service cache.
+     *
+     * @param clock the clock in milliseconds
+     * @param ttlMillis the time in milliseconds after which a service that has not been seen anymore is dropped
+     * @param resolver the executor requesting the resolution of added services from JmDNS
+     */
+    MDNSServiceCache(LongSupplier clock, long ttlMillis, Executor resolver) {
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+        this.resolver = resolver;
+    }
+
+    /**
+     * Starts watching a service type. The cache must be added as service listener for the type to all JmDNS instances
+     * when the type was not watched before.
+     *
+     * @param type the service type
+     * @return {@code true} if the type was not watched before
+     */
+    boolean watch(String type) {
+        return types.putIfAbsent(normalize(type), new TypeCache()) == null;
+    }
+
+    boolean isWatched(String type) {
+        return types.containsKey(normalize(type));
+    }
+
+    /**
+     * @return the watched service types
+     */
+    Set<String> getWatchedTypes() {
+        return Set.copyOf(types.keySet());
+    }
+
+    /**
+     * Checks whether a service type has been refreshed from JmDNS at least once since it is watched.
+     *
+     * @param type the service type
+     * @return {@code true} if the type is watched and has been refreshed
+     */
+    boolean isRefreshed(String type) {
+        TypeCache typeCache = types.get(normalize(type));
+        return typeCache != null && typeCache.refreshed;
+    }
+
+    /**
+     * Lists the cached services of a type.
+     *
+     * @param type the service type
+     * @return the services of all JmDNS instances, empty if the type is not watched
+     */
+    ServiceInfo[] list(String type) {
+        TypeCache typeCache = types.get(normalize(type));
+        if (typeCache == null) {
+            return new ServiceInfo[0];
+        }
+        long expired = clock.getAsLong() - ttlMillis;
+        typeCache.services.values().removeIf(entry -> entry.updated - expired <= 0);
+        return typeCache.services.values().stream().map(CachedService::info).toArray(ServiceInfo[]::new);
+    }
+
+    /**
+     * Replaces the cached services of a type of a JmDNS instance with the services listed by that instance.
+     *
+     * @param jmdns the JmDNS instance
+     * @param type the service type
+     * @param infos the services listed by the instance
+     */
+    void refresh(JmDNS jmdns, String type, ServiceInfo[] infos) {
+        TypeCache typeCache = types.get(normalize(type));
+        if (typeCache == null) {
+            return;
+        }
+        long now = clock.getAsLong();
+        typeCache.services.keySet().removeIf(key -> key.jmdns() == jmdns);
+        for (ServiceInfo info : infos) {
+            typeCache.services.put(new ServiceKey(jmdns, info.getKey()), new CachedService(info, now));
+        }
+        typeCache.refreshed = true;
+    }
+
+    /**
+     * Drops the cached services of a JmDNS instance, e.g. because the instance has been closed.
+     *
+     * @param jmdns the JmDNS instance
+     */
+    void removeInstance(JmDNS jmdns) {
+        types.values().forEach(typeCache -> typeCache.services.keySet().removeIf(key -> key.jmdns() == jmdns));
+    }
+
+    /**
+     * Drops all cached services and stops watching all service types.
+     */
+    void clear() {
+        types.clear();
+    }
+
+    @Override
+    public void serviceAdded(@Nullable ServiceEvent event) {
+        if (event == null) {
+            return;
+        }
+        ServiceInfo info = event.getInfo();
+        if (info != null && info.hasData()) {
+            put(event, info);
+        }
+        JmDNS jmdns = event.getDNS();
+        if (jmdns != null) {
+            // JmDNS waits for the resolution even without a timeout, so it is requested outside the listener thread,
+            // the resolved service is reported to serviceResolved
+            String type = event.getType();
+            String name = event.getName();
+            resolver.execute(() -> jmdns.requestServiceInfo(type, name, false, 0));
+        }
+    }
+
+    @Override
+    public void serviceRemoved(@Nullable ServiceEvent event) {
+        if (event == null) {
+            return;
+        }
+        TypeCache typeCache = types.get(normalize(event.getType()));
+        ServiceInfo info = event.getInfo();
+        if (typeCache != null && info != null) {
+            typeCache.services.remove(new ServiceKey(event.getDNS(), info.getKey()));
+        }
+    }
+
+    @Override
+    public void serviceResolved(@Nullable ServiceEvent event) {
+        if (event == null) {
+            return;
+        }
+        ServiceInfo info = event.getInfo();
+        if (info != null) {
+            put(event, info);
+        }
+    }
+
+    private void put(ServiceEvent event, ServiceInfo info) {
+        TypeCache typeCache = types.get(normalize(event.getType()));
+        if (typeCache != null) {
+            logger.trace("Caching service {} of type {}", info.getQualifiedName(), event.getType());
+            typeCache.services.put(new ServiceKey(event.getDNS(), info.getKey()),
+                    new CachedService(info, clock.getAsLong()));
+        }
+    }
+
+    private static String normalize(String type) {
+        return type.toLowerCase(Locale.ROOT);
+    }
+
+    private static class TypeCache {
+        private final Map<ServiceKey, CachedService> services = new ConcurrentHashMap<>();
+        private volatile boolean refreshed;
+    }
+
+    private record ServiceKey(JmDNS jmdns, String key) {
+    }
+
+    private record CachedService(ServiceInfo info, long updated) {
+    }
+}
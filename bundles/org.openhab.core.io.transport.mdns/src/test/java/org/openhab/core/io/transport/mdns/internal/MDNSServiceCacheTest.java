@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mdns.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import javax.jmdns.JmDNS;
+import javax.jmdns.ServiceEvent;
+import javax.jmdns.ServiceInfo;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MDNSServiceCache}, both with an embedded JmDNS instance on the loopback address and with simulated
+ * service events.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class MDNSServiceCacheTest {
+
+    private static final String TYPE = "_openhab-test._tcp.local.";
+    private static final long TTL = 1000;
+
+    private long now;
+    private final ExecutorService resolver = Executors.newSingleThreadExecutor();
+    private final MDNSServiceCache cache = new MDNSServiceCache(() -> now, TTL, resolver);
+    private @Nullable JmDNS jmdns;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        resolver.shutdownNow();
+        JmDNS jmdns = this.jmdns;
+        if (jmdns != null) {
+            jmdns.close();
+        }
+    }
+
+    @Test
+    public void testCacheFollowsEmbeddedJmDNS() throws Exception {
+        JmDNS jmdns = JmDNS.create(InetAddress.getLoopbackAddress(), "openhab-test");
+        this.jmdns = jmdns;
+        cache.watch(TYPE);
+        jmdns.addServiceListener(TYPE, cache);
+
+        ServiceInfo service = ServiceInfo.create(TYPE, "service1", 8080, 0, 0, Map.of("key", "value"));
+        jmdns.registerService(service);
+
+        waitFor(() -> cache.list(TYPE).length == 1);
+        ServiceInfo cached = cache.list(TYPE)[0];
+        assertThat(cached.getName(), is("service1"));
+        assertThat(cached.getPort(), is(8080));
+        assertThat(cached.getPropertyString("key"), is("value"));
+
+        cache.refresh(jmdns, TYPE, jmdns.list(TYPE, 1000));
+        assertThat(cache.list(TYPE).length, is(1));
+        assertThat(cache.isRefreshed(TYPE), is(true));
+
+        jmdns.unregisterService(service);
+        waitFor(() -> cache.list(TYPE).length == 0);
+    }
+
+    @Test
+    public void testUnwatchedTypeIsNotCached() {
+        JmDNS instance = mock(JmDNS.class);
+        cache.serviceResolved(event(instance, "service1"));
+
+        assertThat(cache.isWatched(TYPE), is(false));
+        assertThat(cache.list(TYPE), is(emptyArray()));
+    }
+
+    @Test
+    public void testServicesArePerInstance() {
+        JmDNS instance1 = mock(JmDNS.class);
+        JmDNS instance2 = mock(JmDNS.class);
+        assertThat(cache.watch(TYPE), is(true));
+        assertThat(cache.watch(TYPE.toUpperCase()), is(false));
+
+        cache.serviceResolved(event(instance1, "service1"));
+        cache.serviceResolved(event(instance1, "service1"));
+        cache.serviceResolved(event(instance2, "service1"));
+        assertThat(cache.list(TYPE).length, is(2));
+
+        cache.serviceRemoved(event(instance1, "service1"));
+        assertThat(cache.list(TYPE).length, is(1));
+
+        cache.removeInstance(instance2);
+        assertThat(cache.list(TYPE), is(emptyArray()));
+    }
+
+    @Test
+    public void testRefreshReplacesServicesOfInstance() {
+        JmDNS instance1 = mock(JmDNS.class);
+        JmDNS instance2 = mock(JmDNS.class);
+        cache.watch(TYPE);
+        cache.serviceResolved(event(instance1, "service1"));
+        cache.serviceResolved(event(instance2, "service2"));
+        assertThat(cache.isRefreshed(TYPE), is(false));
+
+        cache.refresh(instance1, TYPE, new ServiceInfo[] { info("service3"), info("service4") });
+
+        assertThat(cache.isRefreshed(TYPE), is(true));
+        assertThat(cache.list(TYPE).length, is(3));
+    }
+
+    @Test
+    public void testServicesExpireWhenNotSeen() {
+        JmDNS instance = mock(JmDNS.class);
+        cache.watch(TYPE);
+        cache.serviceResolved(event(instance, "service1"));
+        now += TTL / 2;
+        cache.serviceResolved(event(instance, "service2"));
+
+        now += TTL / 2;
+        assertThat(cache.list(TYPE).length, is(1));
+        now += TTL / 2;
+        assertThat(cache.list(TYPE), is(emptyArray()));
+    }
+
+    @Test
+    public void testAddedServiceIsResolved() {
+        JmDNS instance = mock(JmDNS.class);
+        CountDownLatch resolving = new CountDownLatch(1);
+        doAnswer(invocation -> resolving.await(5, TimeUnit.SECONDS)).when(instance).requestServiceInfo(TYPE, "service1",
+                false, 0);
+        cache.watch(TYPE);
+        ServiceEvent event = event(instance, "service1");
+        when(event.getInfo()).thenReturn(ServiceInfo.create(TYPE, "service1", 0, ""));
+
+        // the listener thread is not held up while JmDNS resolves the service
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> cache.serviceAdded(event));
+
+        assertThat(cache.list(TYPE), is(emptyArray()));
+        verify(instance, timeout(5000)).requestServiceInfo(TYPE, "service1", false, 0);
+        resolving.countDown();
+    }
+
+    private static ServiceInfo info(String name) {
+        return ServiceInfo.create(TYPE, name, 8080, "");
+    }
+
+    private static ServiceEvent event(JmDNS instance, String name) {
+        ServiceEvent event = mock(ServiceEvent.class);
+        when(event.getDNS()).thenReturn(instance);
+        when(event.getType()).thenReturn(TYPE);
+        when(event.getName()).thenReturn(name);
+        ServiceInfo info = info(name);
+        when(event.getInfo()).thenReturn(info);
+        return event;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(condition.getAsBoolean(), is(true));
+    }
+}
@@ -12,8 +12,11 @@
  */
 package org.openhab.core.io.transport.modbus;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
 import java.util.Optional;
 
@@ -30,10 +33,16 @@ import org.openhab.core.types.Command;
  * Utilities for working with binary data.
  *
  * @author Sami Salonen - Initial contribution
+ * @author Mark Herwege - Read values through byte array views
  */
 @NonNullByDefault
 public class ModbusBitUtilities {
 
+    // byte array views read the big endian register data without assembling the value byte by byte
+    static final VarHandle SHORT_VIEW = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
     /**
      * Read data from registers and convert the result to DecimalType
      * Interpretation of <tt>index</tt> goes as follows depending on type
@@ -132,7 +141,7 @@ public class ModbusBitUtilities {
             case INT64:
                 return Optional.of(new DecimalType(extractSInt64(bytes, index * 2)));
             case UINT64:
-                return Optional.of(new DecimalType(new BigDecimal(extractUInt64(bytes, index * 2))));
+                return Optional.of(unsignedDecimalType(extractSInt64(bytes, index * 2)));
             case INT32_SWAP:
                 return Optional.of(new DecimalType(extractSInt32Swap(bytes, index * 2)));
             case UINT32_SWAP:
@@ -147,12 +156,16 @@ public class ModbusBitUtilities {
             case INT64_SWAP:
                 return Optional.of(new DecimalType(extractSInt64Swap(bytes, index * 2)));
             case UINT64_SWAP:
-                return Optional.of(new DecimalType(new BigDecimal(extractUInt64Swap(bytes, index * 2))));
+                return Optional.of(unsignedDecimalType(extractSInt64Swap(bytes, index * 2)));
             default:
                 throw new IllegalStateException(type.getConfigValue());
         }
     }
 
+    private static DecimalType unsignedDecimalType(long value) {
+        return value >= 0 ? new DecimalType(value) : new DecimalType(new BigDecimal(toUnsignedBigInteger(value)));
+    }
+
     private static void assertIndexAndType(byte[] bytes, int index, ValueType type) {
         int typeBits = type.getBits();
         // for 8-bit types and larger, index specifies the index of the byte. For bits, index specifies the index of the
@@ -293,9 +306,7 @@ public class ModbusBitUtilities {
      */
     public static short extractSInt16(byte[] bytes, int index) {
         assertIndexAndType(bytes, index, ValueType.INT16);
-        int hi = (bytes[index] & 0xff);
-        int lo = (bytes[index + 1] & 0xff);
-        return (short) ((hi << 8) | lo);
+        return (short) SHORT_VIEW.get(bytes, index);
     }
 
     /**
@@ -326,11 +337,7 @@ public class ModbusBitUtilities {
      */
     public static int extractSInt32(byte[] bytes, int index) {
         assertIndexAndType(bytes, index, ValueType.INT32);
-        int hi1 = bytes[index + 0] & 0xff;
-        int lo1 = bytes[index + 1] & 0xff;
-        int hi2 = bytes[index + 2] & 0xff;
-        int lo2 = bytes[index + 3] & 0xff;
-        return (hi1 << 24) | (lo1 << 16) | (hi2 << 8) | lo2;
+        return (int) INT_VIEW.get(bytes, index);
     }
 
     /**
@@ -364,11 +371,7 @@ public class ModbusBitUtilities {
     public static int extractSInt32Swap(byte[] bytes, int index) {
         assertIndexAndType(bytes, index, ValueType.INT32_SWAP);
         // swapped order of registers, high 16 bits *follow* low 16 bits
-        int hi1 = bytes[index + 2] & 0xff;
-        int lo1 = bytes[index + 3] & 0xff;
-        int hi2 = bytes[index + 0] & 0xff;
-        int lo2 = bytes[index + 1] & 0xff;
-        return (hi1 << 24) | (lo1 << 16) | (hi2 << 8) | lo2;
+        return swapRegisters((int) INT_VIEW.get(bytes, index));
     }
 
     /**
@@ -401,15 +404,7 @@ public class ModbusBitUtilities {
      */
     public static long extractSInt64(byte[] bytes, int index) {
         assertIndexAndType(bytes, index, ValueType.INT64);
-        byte hi1 = (byte) (bytes[index + 0] & 0xff);
-        byte lo1 = (byte) (bytes[index + 1] & 0xff);
-        byte hi2 = (byte) (bytes[index + 2] & 0xff);
-        byte lo2 = (byte) (bytes[index + 3] & 0xff);
-        byte hi3 = (byte) (bytes[index + 4] & 0xff);
-        byte lo3 = (byte) (bytes[index + 5] & 0xff);
-        byte hi4 = (byte) (bytes[index + 6] & 0xff);
-        byte lo4 = (byte) (bytes[index + 7] & 0xff);
-        return new BigInteger(new byte[] { hi1, lo1, hi2, lo2, hi3, lo3, hi4, lo4 }).longValue();
+        return (long) LONG_VIEW.get(bytes, index);
     }
 
     /**
@@ -424,15 +419,7 @@ public class ModbusBitUtilities {
      */
     public static BigInteger extractUInt64(byte[] bytes, int index) {
         assertIndexAndType(bytes, index, ValueType.UINT64);
-        byte hi1 = (byte) (bytes[index + 0] & 0xff);
-        byte lo1 = (byte) (bytes[index + 1] & 0xff);
-        byte hi2 = (byte) (bytes[index + 2] & 0xff);
-        byte lo2 = (byte) (bytes[index + 3] & 0xff);
-        byte hi3 = (byte) (bytes[index + 4] & 0xff);
-        byte lo3 = (byte) (bytes[index + 5] & 0xff);
-        byte hi4 = (byte) (bytes[index + 6] & 0xff);
-        byte lo4 = (byte) (bytes[index + 7] & 0xff);
-        return new BigInteger(1, new byte[] { hi1, lo1, hi2, lo2, hi3, lo3, hi4, lo4 });
+        return toUnsignedBigInteger((long) LONG_VIEW.get(bytes, index));
     }
 
     /**
@@ -450,15 +437,7 @@ public class ModbusBitUtilities {
     public static long extractSInt64Swap(byte[] bytes, int index) {
         assertIndexAndType(bytes, index, ValueType.INT64_SWAP);
         // Swapped order of registers
-        byte hi1 = (byte) (bytes[index + 6] & 0xff);
-        byte lo1 = (byte) (bytes[index + 7] & 0xff);
-        byte hi2 = (byte) (bytes[index + 4] & 0xff);
-        byte lo2 = (byte) (bytes[index + 5] & 0xff);
-        byte hi3 = (byte) (bytes[index + 2] & 0xff);
-        byte lo3 = (byte) (bytes[index + 3] & 0xff);
-        byte hi4 = (byte) (bytes[index + 0] & 0xff);
-        byte lo4 = (byte) (bytes[index + 1] & 0xff);
-        return new BigInteger(new byte[] { hi1, lo1, hi2, lo2, hi3, lo3, hi4, lo4 }).longValue();
+        return swapRegisters((long) LONG_VIEW.get(bytes, index));
     }
 
     /**
@@ -477,15 +456,7 @@ public class ModbusBitUtilities {
     public static BigInteger extractUInt64Swap(byte[] bytes, int index) {
         assertIndexAndType(bytes, index, ValueType.UINT64_SWAP);
         // Swapped order of registers
-        byte hi1 = (byte) (bytes[index + 6] & 0xff);
-        byte lo1 = (byte) (bytes[index + 7] & 0xff);
-        byte hi2 = (byte) (bytes[index + 4] & 0xff);
-        byte lo2 = (byte) (bytes[index + 5] & 0xff);
-        byte hi3 = (byte) (bytes[index + 2] & 0xff);
-        byte lo3 = (byte) (bytes[index + 3] & 0xff);
-        byte hi4 = (byte) (bytes[index + 0] & 0xff);
-        byte lo4 = (byte) (bytes[index + 1] & 0xff);
-        return new BigInteger(1, new byte[] { hi1, lo1, hi2, lo2, hi3, lo3, hi4, lo4 });
+        return toUnsignedBigInteger(swapRegisters((long) LONG_VIEW.get(bytes, index)));
     }
 
     /**
@@ -503,12 +474,7 @@ public class ModbusBitUtilities {
      */
     public static float extractFloat32(byte[] bytes, int index) {
         assertIndexAndType(bytes, index, ValueType.FLOAT32);
-        int hi1 = bytes[index + 0] & 0xff;
-        int lo1 = bytes[index + 1] & 0xff;
-        int hi2 = bytes[index + 2] & 0xff;
-        int lo2 = bytes[index + 3] & 0xff;
-        int bits32 = (hi1 << 24) | (lo1 << 16) | (hi2 << 8) | lo2;
-        return Float.intBitsToFloat(bits32);
+        return Float.intBitsToFloat((int) INT_VIEW.get(bytes, index));
     }
 
     /**
@@ -530,12 +496,33 @@ public class ModbusBitUtilities {
     public static float extractFloat32Swap(byte[] bytes, int index) {
         assertIndexAndType(bytes, index, ValueType.FLOAT32_SWAP);
         // swapped order of registers, high 16 bits *follow* low 16 bits
-        int hi1 = bytes[index + 2] & 0xff;
-        int lo1 = bytes[index + 3] & 0xff;
-        int hi2 = bytes[index + 0] & 0xff;
-        int lo2 = bytes[index + 1] & 0xff;
-        int bits32 = (hi1 << 24) | (lo1 << 16) | (hi2 << 8) | lo2;
-        return Float.intBitsToFloat(bits32);
+        return Float.intBitsToFloat(swapRegisters((int) INT_VIEW.get(bytes, index)));
+    }
+
+    /**
+     * Swap the order of the two registers of a 32-bit value
+     *
+     * @param value the value as read from the registers
+     * @return the value with the registers in reverse order
+     */
+    static int swapRegisters(int value) {
+        return (value << 16) | (value >>> 16);
+    }
+
+    /**
+     * Reverse the order of the four registers of a 64-bit value
+     *
+     * @param value the value as read from the registers
+     * @return the value with the registers in reverse order
+     */
+    static long swapRegisters(long value) {
+        long swapped = ((value & 0x0000_ffff_0000_ffffL) << 16) | ((value >>> 16) & 0x0000_ffff_0000_ffffL);
+        return (swapped << 32) | (swapped >>> 32);
+    }
+
+    private static BigInteger toUnsignedBigInteger(long value) {
+        BigInteger result = BigInteger.valueOf(value & Long.MAX_VALUE);
+        return value < 0 ? result.setBit(Long.SIZE - 1) : result;
     }
 
     /**
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+
+/**
+ * Precompiled layout of the values contained in a block of registers, for decoding all values of a poll response at
+ * once.
+ * <p>
+ * The position of every value is resolved and checked when the layout is created, so that decoding only has to check
+ * the size of the registers once and reads the values directly from the register bytes into a primitive array. This
+ * avoids the per value bounds checks and {@link org.openhab.core.library.types.DecimalType} allocations of
+ * {@link ModbusBitUtilities#extractStateFromRegisters(ModbusRegisterArray, int, ValueType)}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public final class ModbusRegisterLayout {
+
+    /**
+     * A value in the layout.
+     *
+     * @param index zero based item index, interpreted as in
+     *            {@link ModbusBitUtilities#extractStateFromRegisters(ModbusRegisterArray, int, ValueType)}
+     * @param type item type
+     */
+    public record Field(int index, ValueType type) {
+        public Field {
+            if (index < 0) {
+                throw new IllegalArgumentException("Index must not be negative, was " + index);
+            }
+        }
+    }
+
+    private final ValueType[] types;
+    private final int[] positions;
+    private final int requiredBytes;
+
+    /**
+     * Create a layout.
+     *
+     * @param fields the values in the layout, in the order they are decoded
+     */
+    public ModbusRegisterLayout(List<Field> fields) {
+        int size = fields.size();
+        types = new ValueType[size];
+        positions = new int[size];
+        int required = 0;
+        for (int i = 0; i < size; i++) {
+            Field field = fields.get(i);
+            ValueType type = field.type();
+            int index = field.index();
+            int end;
+            switch (type) {
+                case BIT:
+                    // bit index within the register, counting from the least significant bit of the first register
+                    positions[i] = index;
+                    end = (index / 16 + 1) * 2;
+                    break;
+                case INT8:
+                case UINT8:
+                    // byte index, the high byte of a register is at the odd index
+                    positions[i] = index / 2 * 2 + (index % 2 == 1 ? 0 : 1);
+                    end = (index / 2 + 1) * 2;
+                    break;
+                default:
+                    positions[i] = index * 2;
+                    end = index * 2 + type.getBits() / 8;
+                    break;
+            }
+            types[i] = type;
+            required = Math.max(required, end);
+        }
+        requiredBytes = required;
+    }
+
+    /**
+     * @return the number of values in the layout
+     */
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * @return the number of registers needed to decode all values of the layout
+     */
+    public int getRegisterCount() {
+        return requiredBytes / 2;
+    }
+
+    /**
+     * Decode all values of the layout.
+     * <p>
+     * Floating point NaN and infinity are returned as is. 64-bit integers are converted to the nearest double, use
+     * {@link #decodeLong(ModbusRegisterArray, int)} when the exact value is needed.
+     *
+     * @param registers the registers to decode
+     * @param values array receiving the values, in the order of the fields of the layout
+     * @throws IllegalArgumentException when the registers or the values array are too small for the layout
+     */
+    public void decode(ModbusRegisterArray registers, double[] values) {
+        byte[] bytes = checkSize(registers);
+        if (values.length < types.length) {
+            throw new IllegalArgumentException(
+                    String.format("Values array of length %d is too small for %d fields", values.length, types.length));
+        }
+        for (int i = 0; i < types.length; i++) {
+            ValueType type = types[i];
+            int position = positions[i];
+            values[i] = switch (type) {
+                case FLOAT32 -> Float.intBitsToFloat((int) ModbusBitUtilities.INT_VIEW.get(bytes, position));
+                case FLOAT32_SWAP -> Float.intBitsToFloat(
+                        ModbusBitUtilities.swapRegisters((int) ModbusBitUtilities.INT_VIEW.get(bytes, position)));
+                case UINT64, UINT64_SWAP -> unsignedToDouble(decodeLong(bytes, type, position));
+                default -> decodeLong(bytes, type, position);
+            };
+        }
+    }
+
+    /**
+     * Decode a single integer value of the layout exactly.
+     * <p>
+     * Unsigned 64-bit integers are returned in two's complement, see for example
+     * {@link Long#toUnsignedString(long)}.
+     *
+     * @param registers the registers to decode
+     * @param field index of the field in the layout
+     * @return the value of the field
+     * @throws IllegalArgumentException when the registers are too small for the layout, or the field is a floating
+     *             point value
+     */
+    public long decodeLong(ModbusRegisterArray registers, int field) {
+        byte[] bytes = checkSize(registers);
+        ValueType type = types[field];
+        if (type == ValueType.FLOAT32 || type == ValueType.FLOAT32_SWAP) {
+            throw new IllegalArgumentException("Field " + field + " is a floating point value");
+        }
+        return decodeLong(bytes, type, positions[field]);
+    }
+
+    private byte[] checkSize(ModbusRegisterArray registers) {
+        byte[] bytes = registers.getBytes();
+        if (bytes.length < requiredBytes) {
+            throw new IllegalArgumentException(String.format("Layout needs %d registers but only %d registers given",
+                    requiredBytes / 2, registers.size()));
+        }
+        return bytes;
+    }
+
+    private static long decodeLong(byte[] bytes, ValueType type, int position) {
+        return switch (type) {
+            case BIT -> {
+                int register = (short) ModbusBitUtilities.SHORT_VIEW.get(bytes, position / 16 * 2);
+                yield (register >>> (position % 16)) & 1;
+            }
+            case INT8 -> bytes[position];
+            case UINT8 -> bytes[position] & 0xff;
+            case INT16 -> (short) ModbusBitUtilities.SHORT_VIEW.get(bytes, position);
+            case UINT16 -> ((short) ModbusBitUtilities.SHORT_VIEW.get(bytes, position)) & 0xffff;
+            case INT32 -> (int) ModbusBitUtilities.INT_VIEW.get(bytes, position);
+            case UINT32 -> ((int) ModbusBitUtilities.INT_VIEW.get(bytes, position)) & 0xffff_ffffL;
+            case INT32_SWAP -> ModbusBitUtilities.swapRegisters((int) ModbusBitUtilities.INT_VIEW.get(bytes, position));
+            case UINT32_SWAP ->
+                ModbusBitUtilities.swapRegisters((int) ModbusBitUtilities.INT_VIEW.get(bytes, position)) & 0xffff_ffffL;
+            case INT64, UINT64 -> (long) ModbusBitUtilities.LONG_VIEW.get(bytes, position);
+            case INT64_SWAP, UINT64_SWAP ->
+                ModbusBitUtilities.swapRegisters((long) ModbusBitUtilities.LONG_VIEW.get(bytes, position));
+            default -> throw new IllegalStateException(type.getConfigValue());
+        };
+    }
+
+    private static double unsignedToDouble(long value) {
+        // halve to fit a signed long, keeping the lowest bit for correct rounding
+        return value >= 0 ? value : ((value >>> 1) | (value & 1)) * 2.0;
+    }
+}
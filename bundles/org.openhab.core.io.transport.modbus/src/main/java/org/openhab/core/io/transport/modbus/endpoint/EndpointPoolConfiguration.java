@@ -64,6 +64,12 @@ public class EndpointPoolConfiguration {
      */
     private int connectTimeoutMillis;
 
+    /**
+     * Whether regular polls reading adjacent or overlapping ranges are coalesced into a single read. Disabled by
+     * default, as some slaves reject reads that span unmapped registers or block boundaries.
+     */
+    private boolean coalesceRegularPolls;
+
     public void setAfterConnectionDelayMillis(long afterConnectionDelayMillis) {
         this.afterConnectionDelayMillis = afterConnectionDelayMillis;
     }
@@ -112,10 +118,18 @@ public class EndpointPoolConfiguration {
         this.connectTimeoutMillis = connectTimeoutMillis;
     }
 
+    public boolean isCoalesceRegularPolls() {
+        return coalesceRegularPolls;
+    }
+
+    public void setCoalesceRegularPolls(boolean coalesceRegularPolls) {
+        this.coalesceRegularPolls = coalesceRegularPolls;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(connectMaxTries, connectTimeoutMillis, interConnectDelayMillis, interTransactionDelayMillis,
-                reconnectAfterMillis, afterConnectionDelayMillis);
+                reconnectAfterMillis, afterConnectionDelayMillis, coalesceRegularPolls);
     }
 
     @Override
@@ -123,7 +137,8 @@ public class EndpointPoolConfiguration {
         return "EndpointPoolConfiguration [interTransactionDelayMillis=" + interTransactionDelayMillis
                 + ", interConnectDelayMillis=" + interConnectDelayMillis + ", connectMaxTries=" + connectMaxTries
                 + ", reconnectAfterMillis=" + reconnectAfterMillis + ", connectTimeoutMillis=" + connectTimeoutMillis
-                + ", afterConnectionDelayMillis=" + afterConnectionDelayMillis + "]";
+                + ", afterConnectionDelayMillis=" + afterConnectionDelayMillis + ", coalesceRegularPolls="
+                + coalesceRegularPolls + "]";
     }
 
     @Override
@@ -142,6 +157,7 @@ public class EndpointPoolConfiguration {
                 && interConnectDelayMillis == rhs.interConnectDelayMillis
                 && interTransactionDelayMillis == rhs.interTransactionDelayMillis
                 && reconnectAfterMillis == rhs.reconnectAfterMillis
-                && afterConnectionDelayMillis == rhs.afterConnectionDelayMillis;
+                && afterConnectionDelayMillis == rhs.afterConnectionDelayMillis
+                && coalesceRegularPolls == rhs.coalesceRegularPolls;
     }
 }
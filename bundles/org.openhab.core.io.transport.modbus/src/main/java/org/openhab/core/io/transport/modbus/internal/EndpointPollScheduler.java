@@ -0,0 +1,459 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.exception.ModbusSlaveErrorResponseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules all operations of a single endpoint, so that they do not contend for the connection of the endpoint.
+ *
+ * Operations are executed one at a time, in this order:
+ * <ol>
+ * <li>one-off writes, in the order they were submitted</li>
+ * <li>one-off polls, in the order they were submitted</li>
+ * <li>regular polls that are due, the poll that has been due the longest first</li>
+ * </ol>
+ * Pending writes are executed before each regular poll, so writes are never starved by polls.
+ *
+ * Regular polls are due at fixed times, <code>initialDelay + n * period</code>, so they do not drift. When a regular
+ * poll is late by more than its period, the missed polls are skipped and a cycle overrun is counted.
+ *
+ * When {@link #setCoalescing(boolean) enabled} for the endpoint, regular polls that are due (or due within
+ * {@link #COALESCING_WINDOW_MILLIS}) and read overlapping or adjacent ranges of the same slave are coalesced into a
+ * single read using {@link ReadRequestCoalescer}. If the slave answers a coalesced read with an exception response,
+ * the polls are executed individually instead, and they are not coalesced anymore.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class EndpointPollScheduler {
+
+    /**
+     * Executes a poll task
+     */
+    @FunctionalInterface
+    public interface PollExecutor {
+
+        /**
+         * Execute the poll task, invoking its callbacks
+         *
+         * @param task the task to execute
+         * @param oneOffTask whether the task is a one-off task, or a registered regular poll
+         */
+        void execute(PollTask task, boolean oneOffTask);
+    }
+
+    /**
+     * Statistics of an endpoint over a period
+     *
+     * @param elapsedMillis duration of the period
+     * @param busyMillis time spent executing operations in the period
+     * @param regularPolls number of regular polls executed in the period
+     * @param reads number of reads sent to the endpoint for these regular polls
+     * @param overruns number of regular polls that were late by more than their period
+     */
+    public record Statistics(long elapsedMillis, long busyMillis, long regularPolls, long reads, long overruns) {
+
+        /**
+         * @return the part of the period the endpoint was busy, in percent
+         */
+        public double utilization() {
+            return elapsedMillis <= 0 ? 0 : Math.min(100.0, 100.0 * busyMillis / elapsedMillis);
+        }
+    }
+
+    /**
+     * Regular polls that are due within this window are coalesced with regular polls that are due
+     */
+    public static final long COALESCING_WINDOW_MILLIS = 50;
+
+    private final Logger logger = LoggerFactory.getLogger(EndpointPollScheduler.class);
+
+    private final ModbusSlaveEndpoint endpoint;
+    private final ScheduledExecutorService executor;
+    private final PollExecutor pollExecutor;
+
+    private final Map<PollTask, RegularPoll> regularPolls = new ConcurrentHashMap<>();
+    private final Queue<FutureTask<?>> writes = new ConcurrentLinkedQueue<>();
+    private final Queue<FutureTask<?>> oneOffPolls = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong registrations = new AtomicLong();
+    private @Nullable ScheduledFuture<?> wakeUp;
+    private volatile boolean closed;
+    private volatile boolean coalescing;
+
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicLong polls = new AtomicLong();
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong overruns = new AtomicLong();
+    private volatile long statisticsStart = System.currentTimeMillis();
+
+    public EndpointPollScheduler(ModbusSlaveEndpoint endpoint, ScheduledExecutorService executor,
+            PollExecutor pollExecutor) {
+        this.endpoint = endpoint;
+        this.executor = executor;
+        this.pollExecutor = pollExecutor;
+    }
+
+    /**
+     * Enable or disable coalescing of regular polls. Coalescing is disabled by default, as some slaves reject reads
+     * that span unmapped registers or block boundaries.
+     *
+     * @param coalescing whether regular polls of adjacent or overlapping ranges are coalesced into a single read
+     */
+    public void setCoalescing(boolean coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Submit a one-off write, executed before any poll
+     *
+     * @param write the write to execute
+     * @return future representing the write
+     */
+    public Future<?> submitWrite(Runnable write) {
+        return submit(writes, write);
+    }
+
+    /**
+     * Submit a one-off poll, executed before any regular poll
+     *
+     * @param poll the poll to execute
+     * @return future representing the poll
+     */
+    public Future<?> submitOneTimePoll(Runnable poll) {
+        return submit(oneOffPolls, poll);
+    }
+
+    /**
+     * Register a regular poll, replacing an earlier registration of the same task
+     *
+     * @param task the task to poll
+     * @param pollPeriodMillis poll interval, in milliseconds
+     * @param initialDelayMillis initial delay before starting polling, in milliseconds
+     * @throws IllegalArgumentException if the poll period is not positive
+     */
+    public void registerRegularPoll(PollTask task, long pollPeriodMillis, long initialDelayMillis) {
+        if (pollPeriodMillis <= 0) {
+            throw new IllegalArgumentException("Poll period should be positive");
+        }
+        regularPolls.put(task, new RegularPoll(task, pollPeriodMillis,
+                System.currentTimeMillis() + Math.max(0, initialDelayMillis), registrations.incrementAndGet()));
+        trigger();
+    }
+
+    /**
+     * Unregister a regular poll. The poll is not executed anymore, and its callbacks are not called anymore.
+     *
+     * @param task the task to unregister
+     * @return whether the task was registered
+     */
+    public boolean unregisterRegularPoll(PollTask task) {
+        return regularPolls.remove(task) != null;
+    }
+
+    /**
+     * Whether a regular poll is registered
+     *
+     * @param task the task
+     * @return whether the task is registered
+     */
+    public boolean isRegistered(PollTask task) {
+        return regularPolls.containsKey(task);
+    }
+
+    /**
+     * Get the delay until the next execution of a regular poll
+     *
+     * @param task the task
+     * @return the delay in milliseconds, negative when the poll is overdue, or <code>null</code> when the task is not
+     *         registered
+     */
+    public @Nullable Long getDelay(PollTask task) {
+        RegularPoll poll = regularPolls.get(task);
+        return poll == null ? null : poll.nextDueMillis - System.currentTimeMillis();
+    }
+
+    /**
+     * Get the statistics since the previous call, and start a new period
+     *
+     * @return the statistics
+     */
+    public Statistics takeStatistics() {
+        long now = System.currentTimeMillis();
+        long elapsed = now - statisticsStart;
+        statisticsStart = now;
+        return new Statistics(elapsed, TimeUnit.NANOSECONDS.toMillis(busyNanos.getAndSet(0)), polls.getAndSet(0),
+                reads.getAndSet(0), overruns.getAndSet(0));
+    }
+
+    /**
+     * Stop scheduling. Pending one-off operations are cancelled, and regular polls are unregistered.
+     */
+    public void close() {
+        closed = true;
+        regularPolls.clear();
+        writes.forEach(write -> write.cancel(false));
+        writes.clear();
+        oneOffPolls.forEach(poll -> poll.cancel(false));
+        oneOffPolls.clear();
+        synchronized (this) {
+            ScheduledFuture<?> wakeUp = this.wakeUp;
+            if (wakeUp != null) {
+                wakeUp.cancel(false);
+                this.wakeUp = null;
+            }
+        }
+    }
+
+    private Future<?> submit(Queue<FutureTask<?>> queue, Runnable operation) {
+        if (closed) {
+            throw new IllegalStateException("Scheduler of endpoint " + endpoint + " is closed already!");
+        }
+        FutureTask<?> future = new FutureTask<>(operation, null);
+        queue.add(future);
+        trigger();
+        return future;
+    }
+
+    private void trigger() {
+        if (!closed && running.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::run);
+            } catch (RuntimeException e) {
+                running.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void run() {
+        try {
+            while (!closed) {
+                FutureTask<?> operation = writes.poll();
+                if (operation == null) {
+                    operation = oneOffPolls.poll();
+                }
+                if (operation != null) {
+                    timeBusy(operation);
+                    // clear interrupt of a cancelled operation, it should not abort the next operation
+                    Thread.interrupted();
+                    continue;
+                }
+                List<RegularPoll> group = nextDueGroup(System.currentTimeMillis());
+                if (group.isEmpty()) {
+                    break;
+                }
+                timeBusy(() -> executeRegularPolls(group));
+                Thread.interrupted();
+            }
+        } finally {
+            running.set(false);
+            if (!writes.isEmpty() || !oneOffPolls.isEmpty()) {
+                trigger();
+            } else {
+                scheduleWakeUp();
+            }
+        }
+    }
+
+    private void timeBusy(Runnable operation) {
+        long start = System.nanoTime();
+        try {
+            operation.run();
+        } finally {
+            busyNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Get the group of coalesced regular polls that has been due the longest
+     *
+     * @param now the current time
+     * @return the group, or an empty list if no regular poll is due
+     */
+    private List<RegularPoll> nextDueGroup(long now) {
+        List<RegularPoll> candidates = regularPolls.values().stream()
+                .filter(poll -> poll.nextDueMillis <= now + COALESCING_WINDOW_MILLIS).toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<List<RegularPoll>> groups = new ArrayList<>();
+        List<RegularPoll> coalescable = new ArrayList<>();
+        for (RegularPoll poll : candidates) {
+            if (coalescing && !poll.coalescingRejected) {
+                coalescable.add(poll);
+            } else {
+                groups.add(List.of(poll));
+            }
+        }
+        groups.addAll(ReadRequestCoalescer.coalesce(coalescable, poll -> poll.task.getRequest()));
+        List<RegularPoll> next = groups.stream().min(Comparator
+                .comparing(group -> group.stream().min(RegularPoll.DUE_ORDER).orElseThrow(), RegularPoll.DUE_ORDER))
+                .orElse(List.of());
+        return next.stream().anyMatch(poll -> poll.nextDueMillis <= now) ? next : List.of();
+    }
+
+    private void executeRegularPolls(List<RegularPoll> group) {
+        long now = System.currentTimeMillis();
+        for (RegularPoll poll : group) {
+            if (poll.advance(now)) {
+                overruns.incrementAndGet();
+                logger.debug("Regular poll ({}ms) of task {} overran its poll period, skipping missed polls",
+                        poll.periodMillis, poll.task);
+            }
+        }
+        polls.addAndGet(group.size());
+        reads.incrementAndGet();
+        try {
+            if (group.size() == 1) {
+                RegularPoll poll = group.getFirst();
+                logger.debug("Executing scheduled ({}ms) poll task {}. Current millis: {}", poll.periodMillis,
+                        poll.task, now);
+                pollExecutor.execute(poll.task, false);
+            } else {
+                List<PollTask> tasks = group.stream().map(poll -> poll.task).toList();
+                ModbusReadRequestBlueprint request = ReadRequestCoalescer
+                        .merge(tasks.stream().map(PollTask::getRequest).toList());
+                logger.debug("Executing {} scheduled poll tasks coalesced into request {}. Current millis: {}",
+                        tasks.size(), request, now);
+                AtomicBoolean rejected = new AtomicBoolean();
+                pollExecutor.execute(new BasicPollTask(endpoint, request, result -> {
+                    for (PollTask task : tasks) {
+                        if (isRegistered(task)) {
+                            try {
+                                task.getResultCallback().handle(ReadRequestCoalescer.slice(result, task.getRequest()));
+                            } catch (RuntimeException e) {
+                                logger.warn("Read callback of poll task {} failed unexpectedly", task, e);
+                            }
+                        }
+                    }
+                }, failure -> {
+                    if (failure.getCause() instanceof ModbusSlaveErrorResponseException) {
+                        // the slave does not accept the coalesced read, e.g. because it spans unmapped registers
+                        rejected.set(true);
+                        return;
+                    }
+                    for (PollTask task : tasks) {
+                        if (isRegistered(task)) {
+                            try {
+                                task.getFailureCallback()
+                                        .handle(new AsyncModbusFailure<>(task.getRequest(), failure.getCause()));
+                            } catch (RuntimeException e) {
+                                logger.warn("Failure callback of poll task {} failed unexpectedly", task, e);
+                            }
+                        }
+                    }
+                }), true);
+                if (rejected.get()) {
+                    logger.debug(
+                            "Coalesced request {} was rejected by the slave, executing the {} poll tasks individually from now on",
+                            request, tasks.size());
+                    for (RegularPoll poll : group) {
+                        poll.coalescingRejected = true;
+                        if (isRegistered(poll.task)) {
+                            reads.incrementAndGet();
+                            pollExecutor.execute(poll.task, false);
+                        }
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // We want to catch all unexpected exceptions, it is better to print out the exception, and try again (on
+            // next poll cycle)
+            logger.warn(
+                    "Execution of scheduled poll tasks {} failed unexpectedly. Ignoring exception, polling again according to poll interval.",
+                    group, e);
+        }
+        logger.debug("Execution of scheduled poll tasks {} finished (=duration of {} millis)", group,
+                System.currentTimeMillis() - now);
+    }
+
+    private synchronized void scheduleWakeUp() {
+        ScheduledFuture<?> wakeUp = this.wakeUp;
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+            this.wakeUp = null;
+        }
+        if (closed) {
+            return;
+        }
+        regularPolls.values().stream().mapToLong(poll -> poll.nextDueMillis).min().ifPresent(nextDue -> {
+            long delay = Math.max(0, nextDue - System.currentTimeMillis());
+            this.wakeUp = executor.schedule(this::trigger, delay, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private static class RegularPoll {
+        private static final Comparator<RegularPoll> DUE_ORDER = Comparator
+                .<RegularPoll>comparingLong(poll -> poll.nextDueMillis).thenComparingLong(poll -> poll.sequence);
+
+        private final PollTask task;
+        private final long periodMillis;
+        private final long sequence;
+        private volatile long nextDueMillis;
+        private volatile boolean coalescingRejected;
+
+        private RegularPoll(PollTask task, long periodMillis, long firstDueMillis, long sequence) {
+            this.task = task;
+            this.periodMillis = periodMillis;
+            this.nextDueMillis = firstDueMillis;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Advance to the next poll time
+         *
+         * @param now the current time
+         * @return whether polls were missed
+         */
+        private boolean advance(long now) {
+            long next = nextDueMillis + periodMillis;
+            if (next > now) {
+                nextDueMillis = next;
+                return false;
+            }
+            // skip the missed polls, keeping the poll times
+            nextDueMillis = next + ((now - next) / periodMillis + 1) * periodMillis;
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+}
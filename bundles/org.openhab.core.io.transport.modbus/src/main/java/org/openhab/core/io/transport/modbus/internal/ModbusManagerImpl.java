@@ -13,6 +13,7 @@
 package org.openhab.core.io.transport.modbus.internal;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Objects;
@@ -82,7 +83,12 @@ import net.wimpi.modbus.net.ModbusSlaveConnection;
  * important with serial slaves but practice has shown that even many tcp slaves have limited
  * capability to handle many connections at the same time
  *
+ * Operations are scheduled per endpoint by an {@link EndpointPollScheduler}, which executes writes ahead of polls and,
+ * when enabled in the {@link EndpointPoolConfiguration}, coalesces regular polls of adjacent or overlapping ranges
+ * into single reads.
+ *
  * @author Sami Salonen - Initial contribution
+ * @author Mark Herwege - Poll scheduling and request coalescing per endpoint
  */
 @Component(service = ModbusManager.class, configurationPid = "transport.modbus")
 @NonNullByDefault
@@ -354,7 +360,9 @@ public class ModbusManagerImpl implements ModbusManager {
 
     private volatile @Nullable KeyedObjectPool<ModbusSlaveEndpoint, @Nullable ModbusSlaveConnection> connectionPool;
     private volatile @Nullable ModbusSlaveConnectionFactoryImpl connectionFactory;
-    private volatile Map<PollTask, ScheduledFuture<?>> scheduledPollTasks = new ConcurrentHashMap<>();
+    private volatile Map<PollTask, EndpointPollScheduler> scheduledPollTasks = new ConcurrentHashMap<>();
+    private final Map<ModbusSlaveEndpoint, EndpointPollScheduler> endpointSchedulers = new ConcurrentHashMap<>();
+    private final Set<ModbusSlaveEndpoint> overrunningEndpoints = new HashSet<>();
     /**
      * Executor for requests
      */
@@ -514,7 +522,8 @@ public class ModbusManagerImpl implements ModbusManager {
     }
 
     private void verifyTaskIsRegistered(PollTask task) throws PollTaskUnregistered {
-        if (!this.scheduledPollTasks.containsKey(task)) {
+        EndpointPollScheduler scheduler = this.scheduledPollTasks.get(task);
+        if (scheduler == null || !scheduler.isRegistered(task)) {
             String msg = String.format("Poll task %s is unregistered", task);
             logger.debug(msg);
             throw new PollTaskUnregistered(msg);
@@ -787,7 +796,7 @@ public class ModbusManagerImpl implements ModbusManager {
             long scheduleTime = System.currentTimeMillis();
             BasicPollTask task = new BasicPollTask(endpoint, request, resultCallback, failureCallback);
             logger.debug("Scheduling one-off poll task {}", task);
-            return executor.submit(() -> {
+            return getScheduler(endpoint, executor).submitOneTimePoll(() -> {
                 long millisInThreadPoolWaiting = System.currentTimeMillis() - scheduleTime;
                 logger.debug("Will now execute one-off poll task {}, waited in thread pool for {}", task,
                         millisInThreadPoolWaiting);
@@ -812,28 +821,10 @@ public class ModbusManagerImpl implements ModbusManager {
                     logger.trace("Unregistering previous poll task (possibly with different period)");
                     unregisterRegularPoll(task);
                 }
-                ScheduledFuture<?> future = executor.scheduleWithFixedDelay(() -> {
-                    long started = System.currentTimeMillis();
-                    logger.debug("Executing scheduled ({}ms) poll task {}. Current millis: {}", pollPeriodMillis, task,
-                            started);
-                    try {
-                        executeOperation(task, false, pollOperation);
-                    } catch (RuntimeException e) {
-                        // We want to catch all unexpected exceptions since all unhandled exceptions make
-                        // ScheduledExecutorService halt the polling. It is better to print out the exception, and try
-                        // again
-                        // (on next poll cycle)
-                        logger.warn(
-                                "Execution of scheduled ({}ms) poll task {} failed unexpectedly. Ignoring exception, polling again according to poll interval.",
-                                pollPeriodMillis, task, e);
-                    }
-                    long finished = System.currentTimeMillis();
-                    logger.debug(
-                            "Execution of scheduled ({}ms) poll task {} finished at {}. Was started at millis: {} (=duration of {} millis)",
-                            pollPeriodMillis, task, finished, started, finished - started);
-                }, initialDelayMillis, pollPeriodMillis, TimeUnit.MILLISECONDS);
+                EndpointPollScheduler scheduler = getScheduler(endpoint, executor);
+                scheduler.registerRegularPoll(task, pollPeriodMillis, initialDelayMillis);
 
-                scheduledPollTasks.put(task, future);
+                scheduledPollTasks.put(task, scheduler);
                 pollTasksRegisteredByThisCommInterface.add(task);
                 logger.trace("Registered poll task {} with period {} using initial delay {}", task, pollPeriodMillis,
                         initialDelayMillis);
@@ -855,14 +846,14 @@ public class ModbusManagerImpl implements ModbusManager {
 
                 // cancel poller
                 @Nullable
-                ScheduledFuture<?> future = scheduledPollTasks.remove(task);
-                if (future == null) {
+                EndpointPollScheduler scheduler = scheduledPollTasks.remove(task);
+                if (scheduler == null) {
                     // No such poll task
                     logger.warn("Caller tried to unregister nonexisting poll task {}", task);
                     return false;
                 }
-                logger.debug("Unregistering regular poll task {} (interrupting if necessary)", task);
-                future.cancel(true);
+                logger.debug("Unregistering regular poll task {}", task);
+                scheduler.unregisterRegularPoll(task);
                 logger.debug("Poll task {} canceled", task);
                 return true;
             }
@@ -879,7 +870,7 @@ public class ModbusManagerImpl implements ModbusManager {
             WriteTask task = new BasicWriteTask(endpoint, request, resultCallback, failureCallback);
             long scheduleTime = System.currentTimeMillis();
             logger.debug("Scheduling one-off write task {}", task);
-            return localScheduledThreadPoolExecutor.submit(() -> {
+            return getScheduler(endpoint, localScheduledThreadPoolExecutor).submitWrite(() -> {
                 long millisInThreadPoolWaiting = System.currentTimeMillis() - scheduleTime;
                 logger.debug("Will now execute one-off write task {}, waited in thread pool for {}", task,
                         millisInThreadPoolWaiting);
@@ -912,6 +903,13 @@ public class ModbusManagerImpl implements ModbusManager {
         }
     }
 
+    private EndpointPollScheduler getScheduler(ModbusSlaveEndpoint endpoint, ScheduledExecutorService executor) {
+        EndpointPollScheduler scheduler = endpointSchedulers.computeIfAbsent(endpoint, e -> new EndpointPollScheduler(e,
+                executor, (task, oneOffTask) -> executeOperation(task, oneOffTask, pollOperation)));
+        scheduler.setCoalescing(getEndpointPoolConfiguration(endpoint).isCoalesceRegularPolls());
+        return scheduler;
+    }
+
     @Override
     public ModbusCommunicationInterface newModbusCommunicationInterface(ModbusSlaveEndpoint endpoint,
             @Nullable EndpointPoolConfiguration configuration) throws IllegalArgumentException {
@@ -1008,6 +1006,8 @@ public class ModbusManagerImpl implements ModbusManager {
                 monitorFuture.cancel(true);
                 monitorFuture = null;
             }
+            endpointSchedulers.values().forEach(EndpointPollScheduler::close);
+            endpointSchedulers.clear();
             // Note that it is not allowed to shutdown the executor, since they will be reused when
             // when pool is received from ThreadPoolManager is called
             scheduledThreadPoolExecutor = null;
@@ -1028,12 +1028,28 @@ public class ModbusManagerImpl implements ModbusManager {
             }
             lastQueueMonitorLog = System.currentTimeMillis();
             pollMonitorLogger.trace("<POLL MONITOR>");
-            this.scheduledPollTasks.forEach((task, future) -> {
+            this.scheduledPollTasks.forEach((task, scheduler) -> {
                 pollMonitorLogger.trace(
-                        "POLL MONITOR: scheduled poll task. FC: {}, start {}, length {}, done: {}, canceled: {}, delay: {}. Full task {}",
+                        "POLL MONITOR: scheduled poll task. FC: {}, start {}, length {}, delay: {}. Full task {}",
                         task.getRequest().getFunctionCode(), task.getRequest().getReference(),
-                        task.getRequest().getDataLength(), future.isDone(), future.isCancelled(),
-                        future.getDelay(TimeUnit.MILLISECONDS), task);
+                        task.getRequest().getDataLength(), scheduler.getDelay(task), task);
+            });
+            this.endpointSchedulers.forEach((endpoint, scheduler) -> {
+                EndpointPollScheduler.Statistics statistics = scheduler.takeStatistics();
+                pollMonitorLogger.debug(
+                        "POLL MONITOR: endpoint {}: bus utilization {}%, {} regular polls executed with {} reads, {} cycle overruns in the last {} ms",
+                        endpoint, String.format("%.1f", statistics.utilization()), statistics.regularPolls(),
+                        statistics.reads(), statistics.overruns(), statistics.elapsedMillis());
+                // only warn when an endpoint starts overrunning, to avoid flooding the log while the overruns persist
+                if (statistics.overruns() > 0 && overrunningEndpoints.add(endpoint)) {
+                    pollMonitorLogger.warn(
+                            "Regular polls of endpoint {} overran their poll period {} times in the last {} ms (bus utilization {}%). Consider longer poll periods.",
+                            endpoint, statistics.overruns(), statistics.elapsedMillis(),
+                            String.format("%.1f", statistics.utilization()));
+                } else if (statistics.overruns() == 0 && overrunningEndpoints.remove(endpoint)) {
+                    pollMonitorLogger.info("Regular polls of endpoint {} no longer overrun their poll period",
+                            endpoint);
+                }
             });
             if (scheduledThreadPoolExecutor instanceof ThreadPoolExecutor executor) {
                 pollMonitorLogger.trace(
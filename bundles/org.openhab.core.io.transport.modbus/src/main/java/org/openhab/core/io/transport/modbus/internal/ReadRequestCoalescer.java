@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+
+/**
+ * Coalesces read requests of the same slave and function code with overlapping or adjacent ranges into single read
+ * requests, and slices the results of the coalesced requests back into results of the original requests.
+ *
+ * Requests are only coalesced when the coalesced request does not exceed the maximum read count of the function code
+ * ({@link ModbusConstants#MAX_REGISTERS_READ_COUNT} or {@link ModbusConstants#MAX_BITS_READ_COUNT}). Requests with a
+ * gap between them are never coalesced, since reading data that was not requested might fail with some slaves.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public final class ReadRequestCoalescer {
+
+    private static final Comparator<ModbusReadRequestBlueprint> REQUEST_ORDER = Comparator
+            .comparingInt(ModbusReadRequestBlueprint::getUnitID)
+            .thenComparing(ModbusReadRequestBlueprint::getFunctionCode)
+            .thenComparingInt(ModbusReadRequestBlueprint::getReference)
+            .thenComparingInt(ModbusReadRequestBlueprint::getDataLength);
+
+    private ReadRequestCoalescer() {
+        // prevent instantiation
+    }
+
+    /**
+     * Groups items by the read requests that can be coalesced into a single read request.
+     *
+     * The grouping is deterministic: groups are ordered by slave, function code and start address, and items within a
+     * group by start address and length of their requests.
+     *
+     * @param items items to group, e.g. poll tasks
+     * @param requestOf function returning the read request of an item
+     * @return the groups, each group can be read with the request returned by {@link #merge(List)}
+     */
+    public static <T> List<List<T>> coalesce(Collection<T> items, Function<T, ModbusReadRequestBlueprint> requestOf) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(requestOf, REQUEST_ORDER));
+
+        List<List<T>> groups = new ArrayList<>();
+        List<T> group = new ArrayList<>();
+        @Nullable
+        ModbusReadRequestBlueprint first = null;
+        int end = 0;
+        for (T item : sorted) {
+            ModbusReadRequestBlueprint request = requestOf.apply(item);
+            int requestEnd = request.getReference() + request.getDataLength();
+            if (first != null && first.getUnitID() == request.getUnitID()
+                    && first.getFunctionCode() == request.getFunctionCode() && request.getReference() <= end
+                    && Math.max(end, requestEnd) - first.getReference() <= maxReadCount(request.getFunctionCode())) {
+                group.add(item);
+                end = Math.max(end, requestEnd);
+            } else {
+                if (!group.isEmpty()) {
+                    groups.add(group);
+                }
+                group = new ArrayList<>();
+                group.add(item);
+                first = request;
+                end = requestEnd;
+            }
+        }
+        if (!group.isEmpty()) {
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    /**
+     * Merges read requests of a group returned by {@link #coalesce(Collection, Function)} into a single read request
+     * covering all of them.
+     *
+     * @param requests the requests to merge
+     * @return the merged request, tried as often as the request with most tries
+     */
+    public static ModbusReadRequestBlueprint merge(List<ModbusReadRequestBlueprint> requests) {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("No requests to merge");
+        }
+        ModbusReadRequestBlueprint first = requests.getFirst();
+        int start = Integer.MAX_VALUE;
+        int end = 0;
+        int maxTries = 0;
+        for (ModbusReadRequestBlueprint request : requests) {
+            start = Math.min(start, request.getReference());
+            end = Math.max(end, request.getReference() + request.getDataLength());
+            maxTries = Math.max(maxTries, request.getMaxTries());
+        }
+        return new ModbusReadRequestBlueprint(first.getUnitID(), first.getFunctionCode(), start, end - start, maxTries);
+    }
+
+    /**
+     * Slices the result of a merged request into the result of one of the merged requests.
+     *
+     * @param result result of the merged request
+     * @param request one of the merged requests
+     * @return the result of the request
+     */
+    public static AsyncModbusReadResult slice(AsyncModbusReadResult result, ModbusReadRequestBlueprint request) {
+        int offset = request.getReference() - result.getRequest().getReference();
+        int length = request.getDataLength();
+        ModbusRegisterArray registers = result.getRegisters().orElse(null);
+        if (registers != null) {
+            byte[] bytes = registers.getBytes();
+            return new AsyncModbusReadResult(request,
+                    new ModbusRegisterArray(Arrays.copyOfRange(bytes, offset * 2, (offset + length) * 2)));
+        }
+        BitArray bits = result.getBits().orElseThrow(() -> new IllegalArgumentException("Result without data"));
+        BitArray slice = new BitArray(length);
+        for (int i = 0; i < length; i++) {
+            slice.setBit(i, bits.getBit(offset + i));
+        }
+        return new AsyncModbusReadResult(request, slice);
+    }
+
+    private static int maxReadCount(ModbusReadFunctionCode functionCode) {
+        return switch (functionCode) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            case READ_MULTIPLE_REGISTERS, READ_INPUT_REGISTERS -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+    }
+}
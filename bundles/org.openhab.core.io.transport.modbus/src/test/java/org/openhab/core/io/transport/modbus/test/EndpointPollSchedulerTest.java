@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.endpoint.ModbusTCPSlaveEndpoint;
+import org.openhab.core.io.transport.modbus.internal.BasicPollTask;
+import org.openhab.core.io.transport.modbus.internal.EndpointPollScheduler;
+import org.openhab.core.io.transport.modbus.internal.ModbusSlaveErrorResponseExceptionImpl;
+
+import net.wimpi.modbus.ModbusSlaveException;
+
+/**
+ * Tests for {@link EndpointPollScheduler}
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class EndpointPollSchedulerTest {
+
+    private final ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("localhost", 502, false);
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2);
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+    private volatile @Nullable CountDownLatch pollBlocker;
+    private volatile int maxReadLength = Integer.MAX_VALUE;
+
+    private final EndpointPollScheduler scheduler = new EndpointPollScheduler(endpoint, executor,
+            (task, oneOffTask) -> {
+                ModbusReadRequestBlueprint request = task.getRequest();
+                executed.add("poll " + request.getReference() + "+" + request.getDataLength());
+                CountDownLatch blocker = pollBlocker;
+                if (blocker != null) {
+                    pollBlocker = null;
+                    try {
+                        blocker.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (request.getDataLength() > maxReadLength) {
+                    task.getFailureCallback().handle(new AsyncModbusFailure<>(request,
+                            new ModbusSlaveErrorResponseExceptionImpl(new ModbusSlaveException(2))));
+                    return;
+                }
+                int[] registers = new int[request.getDataLength()];
+                for (int i = 0; i < registers.length; i++) {
+                    registers[i] = request.getReference() + i;
+                }
+                task.getResultCallback().handle(new AsyncModbusReadResult(request, new ModbusRegisterArray(registers)));
+            });
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.close();
+        executor.shutdownNow();
+    }
+
+    private PollTask task(int start, int length, List<AsyncModbusReadResult> results, CountDownLatch latch) {
+        return new BasicPollTask(endpoint,
+                new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length, 1),
+                result -> {
+                    results.add(result);
+                    latch.countDown();
+                }, failure -> {
+                });
+    }
+
+    @Test
+    public void testAdjacentRegularPollsAreCoalesced() throws InterruptedException {
+        List<AsyncModbusReadResult> results = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        PollTask first = task(0, 2, results, latch);
+        PollTask second = task(2, 3, results, latch);
+
+        scheduler.setCoalescing(true);
+        scheduler.registerRegularPoll(first, 60_000, 100);
+        scheduler.registerRegularPoll(second, 60_000, 100);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(executed, is(List.of("poll 0+5")));
+        assertThat(results.stream().map(result -> result.getRegisters().orElseThrow()).toList(),
+                containsInAnyOrder(new ModbusRegisterArray(0, 1), new ModbusRegisterArray(2, 3, 4)));
+        EndpointPollScheduler.Statistics statistics = scheduler.takeStatistics();
+        assertThat(statistics.regularPolls(), is(2L));
+        assertThat(statistics.reads(), is(1L));
+    }
+
+    @Test
+    public void testRegularPollsAreNotCoalescedByDefault() throws InterruptedException {
+        List<AsyncModbusReadResult> results = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        scheduler.registerRegularPoll(task(0, 2, results, latch), 60_000, 100);
+        scheduler.registerRegularPoll(task(2, 3, results, latch), 60_000, 100);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(executed, containsInAnyOrder("poll 0+2", "poll 2+3"));
+        assertThat(scheduler.takeStatistics().reads(), is(2L));
+    }
+
+    @Test
+    public void testRejectedCoalescedReadFallsBackToIndividualReads() throws InterruptedException {
+        maxReadLength = 3;
+        List<AsyncModbusReadResult> results = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        scheduler.setCoalescing(true);
+        scheduler.registerRegularPoll(task(0, 2, results, latch), 60_000, 100);
+        scheduler.registerRegularPoll(task(2, 3, results, latch), 60_000, 100);
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(executed, hasSize(3));
+        assertThat(executed.getFirst(), is("poll 0+5"));
+        assertThat(executed.subList(1, 3), containsInAnyOrder("poll 0+2", "poll 2+3"));
+        assertThat(results.stream().map(result -> result.getRegisters().orElseThrow()).toList(),
+                containsInAnyOrder(new ModbusRegisterArray(0, 1), new ModbusRegisterArray(2, 3, 4)));
+        assertThat(scheduler.takeStatistics().reads(), is(3L));
+    }
+
+    @Test
+    public void testWritesAreExecutedBeforePolls() throws InterruptedException {
+        CountDownLatch blocker = new CountDownLatch(1);
+        pollBlocker = blocker;
+        CountDownLatch latch = new CountDownLatch(2);
+        scheduler.registerRegularPoll(task(0, 1, new CopyOnWriteArrayList<>(), latch), 60_000, 0);
+        waitForExecuted(1);
+
+        scheduler.registerRegularPoll(task(10, 1, new CopyOnWriteArrayList<>(), latch), 60_000, 0);
+        scheduler.submitOneTimePoll(() -> executed.add("one-off poll"));
+        scheduler.submitWrite(() -> executed.add("write"));
+        blocker.countDown();
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(executed, is(List.of("poll 0+1", "write", "one-off poll", "poll 10+1")));
+    }
+
+    @Test
+    public void testUnregisteredPollIsNotExecuted() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        PollTask task = task(0, 1, new CopyOnWriteArrayList<>(), latch);
+        scheduler.registerRegularPoll(task, 60_000, 200);
+
+        assertTrue(scheduler.unregisterRegularPoll(task));
+
+        Thread.sleep(400);
+        assertThat(executed, is(empty()));
+    }
+
+    private void waitForExecuted(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && executed.size() < count; i++) {
+            Thread.sleep(50);
+        }
+        assertThat(executed, hasSize(count));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
+import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusRegisterLayout;
+import org.openhab.core.io.transport.modbus.ModbusRegisterLayout.Field;
+import org.openhab.core.library.types.DecimalType;
+
+/**
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusRegisterLayoutTest {
+
+    private static final int REGISTER_COUNT = 8;
+
+    @Test
+    public void testDecodeMatchesExtractStateFromRegisters() {
+        Random random = new Random(42);
+        for (int round = 0; round < 100; round++) {
+            byte[] bytes = new byte[REGISTER_COUNT * 2];
+            random.nextBytes(bytes);
+            ModbusRegisterArray registers = new ModbusRegisterArray(bytes);
+
+            List<Field> fields = new ArrayList<>();
+            for (ValueType type : ValueType.values()) {
+                int count = type.getBits() < 16 ? REGISTER_COUNT * 16 / type.getBits()
+                        : REGISTER_COUNT - type.getBits() / 16 + 1;
+                for (int index = 0; index < count; index++) {
+                    fields.add(new Field(index, type));
+                }
+            }
+            ModbusRegisterLayout layout = new ModbusRegisterLayout(fields);
+            assertThat(layout.getRegisterCount(), is(REGISTER_COUNT));
+
+            double[] values = new double[layout.size()];
+            layout.decode(registers, values);
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                Optional<DecimalType> expected = ModbusBitUtilities.extractStateFromRegisters(registers, field.index(),
+                        field.type());
+                if (expected.isPresent() && isFloat(field.type())) {
+                    assertThat(field.toString(), (float) values[i], is(expected.get().floatValue()));
+                } else if (expected.isPresent()) {
+                    assertThat(field.toString(), values[i], is(expected.get().doubleValue()));
+                    long value = layout.decodeLong(registers, i);
+                    BigDecimal exact = field.type() == ValueType.UINT64 || field.type() == ValueType.UINT64_SWAP
+                            ? new BigDecimal(Long.toUnsignedString(value))
+                            : BigDecimal.valueOf(value);
+                    assertThat(field.toString(), exact, is(expected.get().toBigDecimal()));
+                } else {
+                    assertThat(field.toString(), Double.isFinite(values[i]), is(false));
+                }
+            }
+        }
+    }
+
+    private static boolean isFloat(ValueType type) {
+        return type == ValueType.FLOAT32 || type == ValueType.FLOAT32_SWAP;
+    }
+
+    @Test
+    public void testSwappedTypes() {
+        ModbusRegisterArray registers = new ModbusRegisterArray(0x0001, 0x0002, 0x0003, 0x0004);
+        ModbusRegisterLayout layout = new ModbusRegisterLayout(List.of(new Field(0, ValueType.INT32),
+                new Field(0, ValueType.INT32_SWAP), new Field(0, ValueType.INT64), new Field(0, ValueType.INT64_SWAP)));
+
+        assertThat(layout.decodeLong(registers, 0), is(0x0001_0002L));
+        assertThat(layout.decodeLong(registers, 1), is(0x0002_0001L));
+        assertThat(layout.decodeLong(registers, 2), is(0x0001_0002_0003_0004L));
+        assertThat(layout.decodeLong(registers, 3), is(0x0004_0003_0002_0001L));
+    }
+
+    @Test
+    public void testRegistersTooSmall() {
+        ModbusRegisterLayout layout = new ModbusRegisterLayout(List.of(new Field(1, ValueType.FLOAT32)));
+
+        assertThat(layout.getRegisterCount(), is(3));
+        assertThrows(IllegalArgumentException.class,
+                () -> layout.decode(new ModbusRegisterArray(1, 2), new double[layout.size()]));
+        assertThrows(IllegalArgumentException.class, () -> layout.decodeLong(new ModbusRegisterArray(1, 2, 3), 0));
+    }
+}
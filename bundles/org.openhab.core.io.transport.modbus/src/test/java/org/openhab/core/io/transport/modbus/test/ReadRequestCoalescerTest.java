@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.modbus.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.internal.ReadRequestCoalescer;
+
+/**
+ * Tests for {@link ReadRequestCoalescer}
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class ReadRequestCoalescerTest {
+
+    private static ModbusReadRequestBlueprint holding(int slaveId, int start, int length) {
+        return new ModbusReadRequestBlueprint(slaveId, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length,
+                1);
+    }
+
+    private static List<List<ModbusReadRequestBlueprint>> coalesce(ModbusReadRequestBlueprint... requests) {
+        return ReadRequestCoalescer.coalesce(List.of(requests), Function.identity());
+    }
+
+    @Test
+    public void testAdjacentAndOverlappingRequestsAreCoalesced() {
+        ModbusReadRequestBlueprint first = holding(1, 0, 10);
+        ModbusReadRequestBlueprint adjacent = holding(1, 10, 5);
+        ModbusReadRequestBlueprint overlapping = holding(1, 12, 10);
+
+        List<List<ModbusReadRequestBlueprint>> groups = coalesce(overlapping, first, adjacent);
+
+        assertThat(groups, is(List.of(List.of(first, adjacent, overlapping))));
+        ModbusReadRequestBlueprint merged = ReadRequestCoalescer.merge(groups.getFirst());
+        assertThat(merged.getReference(), is(0));
+        assertThat(merged.getDataLength(), is(22));
+    }
+
+    @Test
+    public void testRequestsWithGapAreNotCoalesced() {
+        ModbusReadRequestBlueprint first = holding(1, 0, 10);
+        ModbusReadRequestBlueprint second = holding(1, 11, 5);
+
+        assertThat(coalesce(second, first), is(List.of(List.of(first), List.of(second))));
+    }
+
+    @Test
+    public void testRequestsOfOtherSlavesOrFunctionCodesAreNotCoalesced() {
+        ModbusReadRequestBlueprint first = holding(1, 0, 10);
+        ModbusReadRequestBlueprint otherSlave = holding(2, 10, 10);
+        ModbusReadRequestBlueprint input = new ModbusReadRequestBlueprint(1,
+                ModbusReadFunctionCode.READ_INPUT_REGISTERS, 10, 10, 1);
+
+        assertThat(coalesce(first, otherSlave, input), hasSize(3));
+    }
+
+    @Test
+    public void testCoalescedRequestDoesNotExceedMaximumReadCount() {
+        ModbusReadRequestBlueprint first = holding(1, 0, 100);
+        ModbusReadRequestBlueprint second = holding(1, 100, 25);
+        ModbusReadRequestBlueprint third = holding(1, 125, 1);
+
+        assertThat(coalesce(first, second, third), is(List.of(List.of(first, second), List.of(third))));
+    }
+
+    @Test
+    public void testMergedRequestUsesMostTries() {
+        ModbusReadRequestBlueprint merged = ReadRequestCoalescer.merge(List.of(holding(1, 0, 1),
+                new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 1, 1, 3)));
+
+        assertThat(merged.getMaxTries(), is(3));
+    }
+
+    @Test
+    public void testSliceRegisters() {
+        ModbusReadRequestBlueprint merged = holding(1, 10, 4);
+        AsyncModbusReadResult result = new AsyncModbusReadResult(merged, new ModbusRegisterArray(1, 2, 3, 4));
+
+        AsyncModbusReadResult slice = ReadRequestCoalescer.slice(result, holding(1, 11, 2));
+
+        assertThat(slice.getRequest(), is(holding(1, 11, 2)));
+        assertThat(slice.getRegisters().orElseThrow(), is(new ModbusRegisterArray(2, 3)));
+    }
+
+    @Test
+    public void testSliceBits() {
+        ModbusReadRequestBlueprint merged = new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_COILS, 0, 5,
+                1);
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_COILS, 2, 3,
+                1);
+        AsyncModbusReadResult result = new AsyncModbusReadResult(merged, new BitArray(true, false, true, true, false));
+
+        AsyncModbusReadResult slice = ReadRequestCoalescer.slice(result, request);
+
+        assertThat(slice.getBits().orElseThrow(), is(new BitArray(true, true, false)));
+    }
+}
@@ -13,6 +13,8 @@
 package org.openhab.core.io.transport.mqtt;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -30,6 +32,10 @@ import javax.net.ssl.TrustManagerFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.internal.AggregateSubscription;
+import org.openhab.core.io.transport.mqtt.internal.PublishQueue;
+import org.openhab.core.io.transport.mqtt.internal.RetainedMessageStore;
+import org.openhab.core.io.transport.mqtt.internal.RoutingSubscription;
 import org.openhab.core.io.transport.mqtt.internal.Subscription;
 import org.openhab.core.io.transport.mqtt.internal.client.Mqtt3AsyncClientWrapper;
 import org.openhab.core.io.transport.mqtt.internal.client.Mqtt5AsyncClientWrapper;
@@ -59,6 +65,9 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
  * @author Jan N. Klug - changed from PAHO to HiveMQ client
  * @author Mark Herwege - Added flag for hostname validation
  * @author Mark Herwege - Added parameter for cleanSession/cleanStart
+ * @author Mark Herwege - Added aggregate subscriptions and batched subscribing on reconnect
+ * @author Mark Herwege - Added retained message store shared by all subscriptions
+ * @author Mark Herwege - Added publish queue
  */
 @NonNullByDefault
 public class MqttBrokerConnection {
@@ -67,6 +76,7 @@ public class MqttBrokerConnection {
     public static final MqttVersion DEFAULT_MQTT_VERSION = MqttVersion.V3;
     public static final int DEFAULT_KEEPALIVE_INTERVAL = 60;
     public static final int DEFAULT_QOS = 0;
+    static final int SUBSCRIBE_BATCH_SIZE = 100;
 
     /**
      * MQTT transport protocols
@@ -109,6 +119,9 @@ public class MqttBrokerConnection {
     protected boolean isConnecting = false;
     protected final List<MqttConnectionObserver> connectionObservers = new CopyOnWriteArrayList<>();
     protected final Map<String, Subscription> subscribers = new ConcurrentHashMap<>();
+    protected final Map<String, AggregateSubscription> aggregateSubscriptions = new ConcurrentHashMap<>();
+    protected final RetainedMessageStore retainedMessages = new RetainedMessageStore();
+    protected final PublishQueue publishQueue = new PublishQueue(this::publishRaw);
 
     // Connection timeout handling
     protected final AtomicReference<@Nullable ScheduledFuture<?>> timeoutFuture = new AtomicReference<>(null);
@@ -141,10 +154,7 @@ public class MqttBrokerConnection {
             if (connection.reconnectStrategy != null) {
                 connection.reconnectStrategy.connectionEstablished();
             }
-            List<CompletableFuture<Boolean>> futures = new ArrayList<>();
-            connection.subscribers.forEach((topic, subscription) -> {
-                futures.add(connection.subscribeRaw(topic, subscription));
-            });
+            List<CompletableFuture<Boolean>> futures = connection.resubscribeAll();
 
             // As soon as all subscriptions are performed, turn the connection future complete.
             CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenRun(() -> {
@@ -507,6 +517,103 @@ public class MqttBrokerConnection {
         return keepAliveInterval;
     }
 
+    /**
+     * Set the maximum size of the retained messages kept for replaying them to new subscribers. The default size is
+     * 32 MB. When the size is exceeded, the payloads of the least recently used retained messages are dropped and will
+     * not be replayed until the next message for their topic is received. When the topics alone exceed the size, the
+     * least recently used topics are dropped entirely and only stored again when a message with the retain flag set is
+     * received for them.
+     *
+     * @param maxSize the maximum size in bytes
+     */
+    public void setRetainedMessageStoreMaxSize(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Retained message store size cannot be <0");
+        }
+        retainedMessages.setMaxSize(maxSize);
+    }
+
+    /**
+     * Return the number of topics with a retained message kept for replaying it to new subscribers
+     */
+    public int getRetainedMessageCount() {
+        return retainedMessages.getEntryCount();
+    }
+
+    /**
+     * Return the estimated size in bytes of the retained messages kept for replaying them to new subscribers
+     */
+    public long getRetainedMessageStoreSize() {
+        return retainedMessages.getSize();
+    }
+
+    /**
+     * Set the maximum number of published messages waiting for completion. Further messages are queued. The default
+     * is {@value PublishQueue#DEFAULT_MAX_IN_FLIGHT}.
+     *
+     * @param maxInFlight the maximum number of messages in flight
+     */
+    public void setMaxPublishesInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Maximum publishes in flight cannot be <=0");
+        }
+        publishQueue.setMaxInFlight(maxInFlight);
+    }
+
+    /**
+     * Set the maximum number of queued messages. When the queue is full, publishing a message fails right away. The
+     * default is {@value PublishQueue#DEFAULT_MAX_QUEUED}.
+     *
+     * @param maxQueued the maximum number of queued messages
+     */
+    public void setMaxQueuedPublishes(int maxQueued) {
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("Maximum queued publishes cannot be <0");
+        }
+        publishQueue.setMaxQueued(maxQueued);
+    }
+
+    /**
+     * Enable or disable replacing queued QoS 0 and 1 messages by newer messages for the same topic. This is disabled by
+     * default. Enable it when the messages mirror states, so only the latest state is published when the broker cannot
+     * keep up.
+     *
+     * @param coalescing Enable or disable flag.
+     */
+    public void setPublishCoalescing(boolean coalescing) {
+        publishQueue.setCoalescing(coalescing);
+    }
+
+    /**
+     * Return the number of queued messages, not counting the messages in flight
+     */
+    public int getQueuedPublishCount() {
+        return publishQueue.getQueued();
+    }
+
+    /**
+     * Return the number of published messages waiting for completion
+     */
+    public int getInFlightPublishCount() {
+        return publishQueue.getInFlight();
+    }
+
+    /**
+     * Return the average time in milliseconds from publishing to completing a message since the last call, including
+     * the time the message was queued
+     */
+    public long takeAveragePublishLatency() {
+        return publishQueue.takeAverageLatencyMillis();
+    }
+
+    /**
+     * Return the maximum time in milliseconds from publishing to completing a message since the last call, including
+     * the time the message was queued
+     */
+    public long takeMaxPublishLatency() {
+        return publishQueue.takeMaxLatencyMillis();
+    }
+
     /**
      * Sets the MQTT3 cleanSession or MQTT5 cleanStart configuration.
      *
@@ -546,20 +653,105 @@ public class MqttBrokerConnection {
     public CompletableFuture<Boolean> subscribe(String topic, MqttMessageSubscriber subscriber) {
         final Subscription subscription;
         final boolean needsSubscribe;
+        @Nullable
+        AggregateSubscription aggregate = null;
+        boolean needsAggregateSubscribe = false;
+        CompletableFuture<Boolean> aggregateFuture = null;
         synchronized (subscribers) {
-            subscription = subscribers.computeIfAbsent(topic, t -> new Subscription());
+            subscription = subscribers.computeIfAbsent(topic, t -> new Subscription(t, retainedMessages));
 
             needsSubscribe = subscription.isEmpty();
+            if (needsSubscribe) {
+                retainedMessages.addFilter(topic);
+            }
 
             subscription.add(subscriber);
+
+            if (needsSubscribe) {
+                aggregate = aggregateSubscriptions.values().stream().filter(a -> a.covers(topic)).findFirst()
+                        .orElse(null);
+                if (aggregate != null) {
+                    needsAggregateSubscribe = aggregate.isEmpty();
+                    if (needsAggregateSubscribe) {
+                        retainedMessages.addFilter(aggregate.getFilter());
+                        aggregate.setSubscribeFuture(new CompletableFuture<>());
+                    }
+                    aggregateFuture = aggregate.getSubscribeFuture();
+                    aggregate.addRoute(topic, subscription);
+                }
+            }
         }
 
+        if (aggregate != null && aggregateFuture != null) {
+            // the topic is received through the subscription of the covering topic filter, which may still be pending
+            if (needsAggregateSubscribe) {
+                CompletableFuture<Boolean> future = aggregateFuture;
+                subscribeRaw(aggregate.getFilter(), aggregate).whenComplete((result, throwable) -> {
+                    if (throwable == null) {
+                        future.complete(result);
+                    } else {
+                        future.completeExceptionally(throwable);
+                    }
+                });
+            }
+            // a copy, so callers cannot complete the future shared by all covered topics
+            return aggregateFuture.copy();
+        }
         if (needsSubscribe) {
             return subscribeRaw(topic, subscription);
         }
         return CompletableFuture.completedFuture(true);
     }
 
+    /**
+     * Add a wildcard topic filter covering the topics of many subscriptions, e.g. <code>homie/+/#</code>.
+     *
+     * Topics subscribed to afterwards that are covered by the filter are not subscribed to individually. Only the
+     * covering filter is subscribed to at the broker, as long as there are subscribers for any covered topic, and
+     * received messages are passed on to the subscribers of the matching topics. This reduces the number of broker
+     * subscriptions considerably when subscribing to thousands of topics, at the cost of also receiving the messages
+     * of topics nobody subscribed to.
+     *
+     * Subscriptions that already exist are not affected.
+     *
+     * @param filter The covering topic filter.
+     */
+    public void addAggregateSubscription(String filter) {
+        aggregateSubscriptions.putIfAbsent(filter, new AggregateSubscription(filter, retainedMessages));
+    }
+
+    /**
+     * Remove a covering topic filter added with {@link #addAggregateSubscription(String)}. The covered topics are
+     * subscribed to individually again.
+     *
+     * @param filter The covering topic filter.
+     * @return Completes with true if successful. Completes with false if not connected. Exceptionally otherwise.
+     */
+    public CompletableFuture<Boolean> removeAggregateSubscription(String filter) {
+        final RoutingSubscription covered = new RoutingSubscription();
+        final List<String> topics = new ArrayList<>();
+        final AggregateSubscription aggregate;
+        synchronized (subscribers) {
+            aggregate = aggregateSubscriptions.remove(filter);
+            if (aggregate == null || aggregate.isEmpty()) {
+                return CompletableFuture.completedFuture(true);
+            }
+            retainedMessages.removeFilter(filter);
+            subscribers.forEach((topic, subscription) -> {
+                if (aggregate.hasRoute(topic)) {
+                    covered.addRoute(topic, subscription);
+                    topics.add(topic);
+                }
+            });
+        }
+        MqttAsyncClientWrapper mqttClient = this.client;
+        if (mqttClient == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        // subscribe to the covered topics before unsubscribing the covering filter, to not miss any messages
+        return subscribeAllRaw(topics, covered).thenCompose(r -> unsubscribeRaw(mqttClient, filter));
+    }
+
     /**
      * Subscribes to a topic on the given connection, but does not alter the subscriber list.
      *
@@ -586,6 +778,97 @@ public class MqttBrokerConnection {
         return future;
     }
 
+    /**
+     * Subscribes to several topics with a single SUBSCRIBE packet, but does not alter the subscriber list.
+     *
+     * @param topics The topics to subscribe to.
+     * @param subscription The subscription receiving the messages of all topics.
+     * @return Completes with true if successful. Completes with false if not connected yet. Exceptionally otherwise.
+     */
+    protected CompletableFuture<Boolean> subscribeAllRaw(Collection<String> topics, Subscription subscription) {
+        logger.trace("subscribeAllRaw message consumer for {} topics from broker '{}'", topics.size(), host);
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        final MqttAsyncClientWrapper mqttClient = this.client;
+        if (topics.isEmpty()) {
+            future.complete(true);
+        } else if (mqttClient != null && mqttClient.getState().isConnected()) {
+            mqttClient.subscribeAll(topics, qos, subscription).whenComplete((s, t) -> {
+                if (t == null) {
+                    logger.trace("Successfully subscribed to topics {}", topics);
+                    future.complete(true);
+                } else {
+                    logger.warn("Failed subscribing to topics {}", topics, t);
+                    future.completeExceptionally(new MqttException(t));
+                }
+            });
+        } else {
+            future.complete(false);
+        }
+        return future;
+    }
+
+    /**
+     * Subscribes to all topics with subscribers, e.g. after the connection has been (re-)established.
+     *
+     * Covered topics are only subscribed to through their covering topic filter. The topics are subscribed to in
+     * batches of {@value #SUBSCRIBE_BATCH_SIZE} topics per SUBSCRIBE packet, the messages of a batch are routed to
+     * the subscriptions of the matching topics.
+     *
+     * @return The futures of the batches, see {@link #subscribeAllRaw(Collection, Subscription)}.
+     */
+    protected List<CompletableFuture<Boolean>> resubscribeAll() {
+        Map<String, Subscription> brokerSubscriptions = getBrokerSubscriptions();
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        List<String> topics = new ArrayList<>();
+        RoutingSubscription batch = new RoutingSubscription();
+        List<AggregateSubscription> aggregates = new ArrayList<>();
+        for (Map.Entry<String, Subscription> entry : brokerSubscriptions.entrySet()) {
+            topics.add(entry.getKey());
+            batch.addRoute(entry.getKey(), entry.getValue());
+            if (entry.getValue() instanceof AggregateSubscription aggregate) {
+                aggregates.add(aggregate);
+            }
+            if (topics.size() == SUBSCRIBE_BATCH_SIZE) {
+                futures.add(subscribeBatch(topics, batch, aggregates));
+                topics = new ArrayList<>();
+                batch = new RoutingSubscription();
+                aggregates = new ArrayList<>();
+            }
+        }
+        if (!topics.isEmpty()) {
+            futures.add(subscribeBatch(topics, batch, aggregates));
+        }
+        return futures;
+    }
+
+    private CompletableFuture<Boolean> subscribeBatch(List<String> topics, Subscription batch,
+            List<AggregateSubscription> aggregates) {
+        CompletableFuture<Boolean> future = subscribeAllRaw(topics, batch);
+        // topics covered in the meantime complete with the SUBSCRIBE of their covering filter
+        aggregates.forEach(aggregate -> aggregate.setSubscribeFuture(future));
+        return future;
+    }
+
+    /**
+     * @return The topic filters subscribed to at the broker, with the subscription receiving their messages.
+     */
+    private Map<String, Subscription> getBrokerSubscriptions() {
+        Map<String, Subscription> brokerSubscriptions = new LinkedHashMap<>();
+        synchronized (subscribers) {
+            aggregateSubscriptions.values().forEach(aggregate -> {
+                if (!aggregate.isEmpty()) {
+                    brokerSubscriptions.put(aggregate.getFilter(), aggregate);
+                }
+            });
+            subscribers.forEach((topic, subscription) -> {
+                if (aggregateSubscriptions.values().stream().noneMatch(a -> a.hasRoute(topic))) {
+                    brokerSubscriptions.putIfAbsent(topic, subscription);
+                }
+            });
+        }
+        return brokerSubscriptions;
+    }
+
     /**
      * Remove a previously registered consumer from this connection.
      * If no more consumers are registered for a topic, the topic will be unsubscribed from.
@@ -597,6 +880,7 @@ public class MqttBrokerConnection {
     @SuppressWarnings({ "null", "unused" })
     public CompletableFuture<Boolean> unsubscribe(String topic, MqttMessageSubscriber subscriber) {
         final boolean needsUnsubscribe;
+        String brokerTopic = topic;
 
         synchronized (subscribers) {
             final @Nullable Subscription subscription = subscribers.get(topic);
@@ -607,8 +891,21 @@ public class MqttBrokerConnection {
             subscription.remove(subscriber);
 
             if (subscription.isEmpty()) {
-                needsUnsubscribe = true;
                 subscribers.remove(topic);
+                retainedMessages.removeFilter(topic);
+                AggregateSubscription aggregate = aggregateSubscriptions.values().stream()
+                        .filter(a -> a.hasRoute(topic)).findFirst().orElse(null);
+                if (aggregate != null) {
+                    aggregate.removeRoute(topic);
+                    // the covering filter stays subscribed as long as it covers any subscribed topic
+                    needsUnsubscribe = aggregate.isEmpty();
+                    if (needsUnsubscribe) {
+                        brokerTopic = aggregate.getFilter();
+                        retainedMessages.removeFilter(brokerTopic);
+                    }
+                } else {
+                    needsUnsubscribe = true;
+                }
             } else {
                 needsUnsubscribe = false;
             }
@@ -617,8 +914,8 @@ public class MqttBrokerConnection {
             MqttAsyncClientWrapper mqttClient = this.client;
             if (mqttClient != null) {
                 logger.trace("Subscriber list is empty after removing {}, unsubscribing topic {} from client",
-                        subscriber, topic);
-                return unsubscribeRaw(mqttClient, topic);
+                        subscriber, brokerTopic);
+                return unsubscribeRaw(mqttClient, brokerTopic);
             }
         }
         return CompletableFuture.completedFuture(true);
@@ -753,6 +1050,7 @@ public class MqttBrokerConnection {
             client.disconnect();
         }
         this.client = null;
+        publishQueue.clear();
         connectionObservers.forEach(o -> o.connectionStateChanged(MqttConnectionState.DISCONNECTED, null));
         return v;
     }
@@ -766,10 +1064,15 @@ public class MqttBrokerConnection {
         MqttAsyncClientWrapper client = this.client;
         List<CompletableFuture<Boolean>> futures = new ArrayList<>();
         if (client != null) {
-            subscribers.forEach((topic, subscription) -> {
+            getBrokerSubscriptions().keySet().forEach(topic -> {
                 futures.add(unsubscribeRaw(client, topic));
             });
-            subscribers.clear();
+            synchronized (subscribers) {
+                subscribers.clear();
+                aggregateSubscriptions
+                        .replaceAll((filter, aggregate) -> new AggregateSubscription(filter, retainedMessages));
+                retainedMessages.clear();
+            }
         }
         return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()]));
     }
@@ -828,6 +1131,9 @@ public class MqttBrokerConnection {
     /**
      * Publish a message to the broker with the given QoS and retained flag.
      *
+     * Messages are queued when too many messages are in flight, see {@link #setMaxPublishesInFlight(int)}. When the
+     * queue is full, the returned future completes exceptionally right away.
+     *
      * @param topic The topic
      * @param payload The message payload
      * @param qos The quality of service for this message
@@ -841,17 +1147,12 @@ public class MqttBrokerConnection {
             return CompletableFuture.completedFuture(false);
         }
 
-        // publish message asynchronously
-        CompletableFuture<Boolean> future = new CompletableFuture<>();
-        client.publish(topic, payload, retain, qos).whenComplete((m, t) -> {
-            if (t == null) {
-                future.complete(true);
-            } else {
-                future.completeExceptionally(new MqttException(t));
-            }
-        });
+        return publishQueue.publish(topic, payload, qos, retain);
+    }
 
-        return future;
+    private @Nullable CompletableFuture<?> publishRaw(String topic, byte[] payload, boolean retain, int qos) {
+        final MqttAsyncClientWrapper client = this.client;
+        return client != null ? client.publish(topic, payload, retain, qos) : null;
     }
 
     /**
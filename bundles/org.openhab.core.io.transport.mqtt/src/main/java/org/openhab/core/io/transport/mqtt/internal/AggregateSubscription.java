@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A {@link RoutingSubscription} for a wildcard topic filter covering the topic filters of many subscriptions, e.g.
+ * <code>homie/+/#</code>. Only the covering filter is subscribed to at the broker.
+ * <p>
+ * As the broker only sends the <b>retained</b> messages when the covering filter is subscribed, the retained messages
+ * of all covered topics are kept in the {@link RetainedMessageStore}, so they can be replayed to the subscriptions
+ * that are added later.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class AggregateSubscription extends RoutingSubscription {
+    private final String filter;
+    private final RetainedMessageStore retainedMessages;
+    private volatile CompletableFuture<Boolean> subscribeFuture = CompletableFuture.completedFuture(false);
+
+    /**
+     * Create an aggregate subscription.
+     *
+     * @param filter the covering topic filter
+     * @param retainedMessages the store for the retained messages of the connection
+     */
+    public AggregateSubscription(String filter, RetainedMessageStore retainedMessages) {
+        this.filter = filter;
+        this.retainedMessages = retainedMessages;
+    }
+
+    public String getFilter() {
+        return filter;
+    }
+
+    /**
+     * @return the future of the last SUBSCRIBE of the covering filter, which may still be in flight
+     */
+    public CompletableFuture<Boolean> getSubscribeFuture() {
+        return subscribeFuture;
+    }
+
+    /**
+     * @param subscribeFuture the future of the SUBSCRIBE of the covering filter
+     */
+    public void setSubscribeFuture(CompletableFuture<Boolean> subscribeFuture) {
+        this.subscribeFuture = subscribeFuture;
+    }
+
+    /**
+     * @param filter a topic filter
+     * @return true if all topics matching the filter are also matched by the covering filter
+     */
+    public boolean covers(String filter) {
+        return TopicTrie.covers(this.filter, filter);
+    }
+
+    @Override
+    public void messageArrived(String topic, byte[] payload, boolean retain) {
+        retainedMessages.messageArrived(topic, payload, retain);
+        super.messageArrived(topic, payload, retain);
+    }
+}
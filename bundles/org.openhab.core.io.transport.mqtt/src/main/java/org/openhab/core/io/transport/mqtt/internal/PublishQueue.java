@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.MqttException;
+
+/**
+ * The outbound messages of a broker connection.
+ * <p>
+ * At most {@link #setMaxInFlight(int) max in-flight} messages are passed to the client at the same time, the others
+ * are queued. When the queue is full, new messages are rejected, so callers notice that the broker cannot keep up
+ * instead of piling up messages that time out.
+ * <p>
+ * With coalescing enabled, a queued QoS 0 or 1 message is replaced by a newer message for the same topic, as only the
+ * latest state matters when mirroring states. The future of the replaced message completes with the result of the
+ * message replacing it.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class PublishQueue {
+    public static final int DEFAULT_MAX_IN_FLIGHT = 100;
+    public static final int DEFAULT_MAX_QUEUED = 10000;
+
+    /**
+     * Passes a message to the client.
+     */
+    @FunctionalInterface
+    public interface Publisher {
+        /**
+         * @return a future completing when the message is published, or <code>null</code> if there is no client
+         */
+        @Nullable
+        CompletableFuture<?> publish(String topic, byte[] payload, boolean retain, int qos);
+    }
+
+    private final Publisher publisher;
+    private final Queue<Message> queue = new ArrayDeque<>();
+    private final Map<String, Message> coalescableMessages = new HashMap<>();
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private int maxQueued = DEFAULT_MAX_QUEUED;
+    private boolean coalescing = false;
+    private int inFlight;
+    private boolean draining;
+
+    private long published;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+
+    public PublishQueue(Publisher publisher) {
+        this.publisher = publisher;
+    }
+
+    public synchronized void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public synchronized void setMaxQueued(int maxQueued) {
+        this.maxQueued = maxQueued;
+    }
+
+    public synchronized void setCoalescing(boolean coalescing) {
+        this.coalescing = coalescing;
+        if (!coalescing) {
+            coalescableMessages.clear();
+        }
+    }
+
+    /**
+     * Queue a message.
+     *
+     * @return a future completing with true when the message is published, with false if there is no client, and
+     *         exceptionally if publishing failed or the queue is full
+     */
+    public CompletableFuture<Boolean> publish(String topic, byte[] payload, int qos, boolean retain) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        synchronized (this) {
+            boolean coalescable = coalescing && qos < 2;
+            Message queued = coalescable ? coalescableMessages.get(topic) : null;
+            if (queued != null && queued.qos == qos && queued.retain == retain) {
+                queued.payload = payload;
+                queued.futures.add(future);
+                return future;
+            }
+            if (queue.size() >= maxQueued) {
+                future.completeExceptionally(new MqttException(
+                        "Publish queue full, " + queue.size() + " messages waiting for " + inFlight + " in flight"));
+                return future;
+            }
+            Message message = new Message(topic, payload, qos, retain, future);
+            queue.add(message);
+            if (coalescable) {
+                coalescableMessages.put(topic, message);
+            }
+        }
+        drain();
+        return future;
+    }
+
+    /**
+     * Complete the futures of all queued messages with false, e.g. because the connection is closed.
+     */
+    public void clear() {
+        List<Message> messages;
+        synchronized (this) {
+            messages = new ArrayList<>(queue);
+            queue.clear();
+            coalescableMessages.clear();
+        }
+        messages.forEach(message -> message.complete(false, null));
+    }
+
+    /**
+     * @return the number of queued messages, not counting the messages in flight
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of messages passed to the client that did not complete yet
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return the average time in milliseconds from queueing to completing a message, since the last call
+     */
+    public synchronized long takeAverageLatencyMillis() {
+        long average = published > 0 ? totalLatencyNanos / published / 1_000_000 : 0;
+        published = 0;
+        totalLatencyNanos = 0;
+        return average;
+    }
+
+    /**
+     * @return the maximum time in milliseconds from queueing to completing a message, since the last call
+     */
+    public synchronized long takeMaxLatencyMillis() {
+        long max = maxLatencyNanos / 1_000_000;
+        maxLatencyNanos = 0;
+        return max;
+    }
+
+    private void drain() {
+        synchronized (this) {
+            if (draining) {
+                // the draining thread picks up the change
+                return;
+            }
+            draining = true;
+        }
+        while (true) {
+            Message message;
+            synchronized (this) {
+                message = inFlight < maxInFlight ? queue.poll() : null;
+                if (message == null) {
+                    draining = false;
+                    return;
+                }
+                coalescableMessages.remove(message.topic, message);
+                inFlight++;
+            }
+            send(message);
+        }
+    }
+
+    private void send(Message message) {
+        CompletableFuture<?> future;
+        try {
+            future = publisher.publish(message.topic, message.payload, message.retain, message.qos);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        if (future == null) {
+            completed(message, false, null);
+        } else {
+            future.whenComplete((r, t) -> completed(message, t == null, t));
+        }
+    }
+
+    private void completed(Message message, boolean success, @Nullable Throwable t) {
+        long latency = System.nanoTime() - message.queuedNanos;
+        synchronized (this) {
+            inFlight--;
+            published++;
+            totalLatencyNanos += latency;
+            maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+        }
+        message.complete(success, t);
+        drain();
+    }
+
+    private static class Message {
+        private final String topic;
+        private final int qos;
+        private final boolean retain;
+        private final long queuedNanos = System.nanoTime();
+        private final List<CompletableFuture<Boolean>> futures = new ArrayList<>(1);
+        private byte[] payload;
+
+        private Message(String topic, byte[] payload, int qos, boolean retain, CompletableFuture<Boolean> future) {
+            this.topic = topic;
+            this.payload = payload;
+            this.qos = qos;
+            this.retain = retain;
+            futures.add(future);
+        }
+
+        private void complete(boolean success, @Nullable Throwable t) {
+            for (CompletableFuture<Boolean> future : futures) {
+                if (t != null) {
+                    future.completeExceptionally(new MqttException(t));
+                } else {
+                    future.complete(success);
+                }
+            }
+        }
+    }
+}
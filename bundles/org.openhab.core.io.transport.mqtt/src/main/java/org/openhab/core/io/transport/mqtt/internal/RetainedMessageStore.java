@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The retained messages of all subscriptions of a broker connection, so they can be replayed to new subscribers.
+ * <p>
+ * Every topic is stored once, however many subscriptions match it, and identical payloads of different topics share a
+ * single byte array. Topics for which an empty payload was received are kept as well, as the following messages for
+ * the topic have to be retained even though they do not have the retain flag set.
+ * <p>
+ * The store is limited to a maximum size in bytes. When it is exceeded, the payloads of the least recently updated or
+ * replayed messages are evicted. Their topics are kept without payload, like topics with an empty payload, so the next
+ * message for the topic is stored again. Only when the topics alone exceed the maximum size, the least recently used
+ * topics are removed entirely, and following messages for them are only stored when they have the retain flag set.
+ * Messages are removed as well when no subscribed topic filter matches their topic anymore.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class RetainedMessageStore {
+    public static final long DEFAULT_MAX_SIZE = 32 * 1024 * 1024;
+
+    // estimated size of a map entry and of a shared payload, in addition to their content
+    private static final int ENTRY_OVERHEAD = 96;
+    private static final int PAYLOAD_OVERHEAD = 48;
+    private static final Payload EMPTY = new Payload(new byte[0]);
+
+    private final Map<String, Payload> messages = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<Payload, Payload> payloads = new HashMap<>();
+    private final Map<String, Integer> filterCounts = new HashMap<>();
+    private final TopicTrie<String> filters = new TopicTrie<>();
+    private long maxSize;
+    private long size;
+
+    public RetainedMessageStore() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize the maximum size of the store in bytes
+     */
+    public RetainedMessageStore(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Set the maximum size of the store, evicting messages if the store is larger.
+     *
+     * @param maxSize the maximum size of the store in bytes
+     */
+    public synchronized void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+        evict();
+    }
+
+    /**
+     * Store the payload of a message if it is retained, or the topic is already retained.
+     *
+     * @param topic the topic of the message
+     * @param payload the payload of the message
+     * @param retain the retain flag of the message
+     */
+    public synchronized void messageArrived(String topic, byte[] payload, boolean retain) {
+        Payload current = messages.get(topic);
+        if (current == null && !retain) {
+            return;
+        }
+        if (current != null && Arrays.equals(current.bytes, payload)) {
+            // already stored, e.g. the same message arriving through overlapping subscriptions
+            return;
+        }
+        Payload shared = acquire(payload);
+        if (current != null) {
+            // keep the existing key, so the topic string is only stored once
+            messages.replace(topic, shared);
+            release(current);
+        } else {
+            messages.put(topic, shared);
+            size += entrySize(topic);
+        }
+        evict();
+    }
+
+    /**
+     * Pass the retained messages matching a topic filter to a consumer. Messages with empty payloads are skipped.
+     * <p>
+     * The consumer is called after collecting the messages, outside of the lock of the store.
+     *
+     * @param filter the topic filter
+     * @param consumer the consumer receiving the topic and payload of every matching message
+     */
+    public void forEachMatching(String filter, BiConsumer<String, byte[]> consumer) {
+        List<Map.Entry<String, byte[]>> matches = new ArrayList<>();
+        synchronized (this) {
+            if (filter.contains("+") || filter.contains("#")) {
+                messages.forEach((topic, payload) -> {
+                    if (payload.bytes.length > 0 && TopicTrie.covers(filter, topic)) {
+                        matches.add(Map.entry(topic, payload.bytes));
+                    }
+                });
+            } else {
+                Payload payload = messages.get(filter);
+                if (payload != null && payload.bytes.length > 0) {
+                    matches.add(Map.entry(filter, payload.bytes));
+                }
+            }
+        }
+        matches.forEach(entry -> consumer.accept(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Register a topic filter that is subscribed to. Filters can be registered more than once.
+     *
+     * @param filter the topic filter
+     */
+    public synchronized void addFilter(String filter) {
+        if (filterCounts.merge(filter, 1, Integer::sum) == 1) {
+            filters.put(filter, filter);
+        }
+    }
+
+    /**
+     * Unregister a topic filter that is no longer subscribed to. The messages that are not matched by any other
+     * registered filter are removed, as they will not be updated anymore.
+     *
+     * @param filter the topic filter
+     */
+    public synchronized void removeFilter(String filter) {
+        Integer count = filterCounts.get(filter);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            filterCounts.put(filter, count - 1);
+            return;
+        }
+        filterCounts.remove(filter);
+        filters.remove(filter);
+        if (filter.contains("+") || filter.contains("#")) {
+            messages.entrySet().removeIf(entry -> {
+                if (TopicTrie.covers(filter, entry.getKey()) && filters.match(entry.getKey()).isEmpty()) {
+                    remove(entry.getKey(), entry.getValue());
+                    return true;
+                }
+                return false;
+            });
+        } else if (filters.match(filter).isEmpty()) {
+            Payload payload = messages.remove(filter);
+            if (payload != null) {
+                remove(filter, payload);
+            }
+        }
+    }
+
+    /**
+     * Remove all messages and filters.
+     */
+    public synchronized void clear() {
+        messages.clear();
+        payloads.clear();
+        filterCounts.clear();
+        filters.clear();
+        size = 0;
+    }
+
+    /**
+     * @return the number of stored topics, including the topics with an empty or evicted payload
+     */
+    public synchronized int getEntryCount() {
+        return messages.size();
+    }
+
+    /**
+     * @return the estimated size of the store in bytes
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    private void evict() {
+        // first drop the payloads, keeping the topics so their next messages are stored again
+        Iterator<Map.Entry<String, Payload>> iterator = messages.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Payload> eldest = iterator.next();
+            // setting the value does not change the access order
+            release(eldest.setValue(EMPTY));
+        }
+        iterator = messages.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Payload> eldest = iterator.next();
+            iterator.remove();
+            remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private void remove(String topic, Payload payload) {
+        size -= entrySize(topic);
+        release(payload);
+    }
+
+    private Payload acquire(byte[] bytes) {
+        if (bytes.length == 0) {
+            return EMPTY;
+        }
+        Payload shared = payloads.get(new Payload(bytes));
+        if (shared == null) {
+            // copy, the array of the message is not ours to keep
+            shared = new Payload(bytes.clone());
+            payloads.put(shared, shared);
+            size += PAYLOAD_OVERHEAD + bytes.length;
+        }
+        shared.references++;
+        return shared;
+    }
+
+    private void release(Payload payload) {
+        if (payload != EMPTY && --payload.references == 0) {
+            payloads.remove(payload);
+            size -= PAYLOAD_OVERHEAD + payload.bytes.length;
+        }
+    }
+
+    private static long entrySize(String topic) {
+        return ENTRY_OVERHEAD + 2L * topic.length();
+    }
+
+    private static class Payload {
+        private final byte[] bytes;
+        private final int hash;
+        private int references;
+
+        private Payload(byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            return obj instanceof Payload other && hash == other.hash && Arrays.equals(bytes, other.bytes);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A subscription for one or more broker level topic filters, that routes received messages to the
+ * {@link Subscription}s of the topic filters matching the topic of the message.
+ * <p>
+ * This allows a single broker subscription, or a single SUBSCRIBE packet for many topic filters, while every message
+ * still reaches each matching subscription exactly once.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class RoutingSubscription extends Subscription {
+    private final TopicTrie<Subscription> routes = new TopicTrie<>();
+
+    /**
+     * Route messages matching a topic filter to a subscription.
+     *
+     * @param filter the topic filter
+     * @param subscription the subscription receiving the messages matching the filter
+     */
+    public void addRoute(String filter, Subscription subscription) {
+        routes.put(filter, subscription);
+    }
+
+    /**
+     * Stop routing messages matching a topic filter.
+     *
+     * @param filter the topic filter
+     * @return true if the filter was routed
+     */
+    public boolean removeRoute(String filter) {
+        return routes.remove(filter) != null;
+    }
+
+    /**
+     * @param filter the topic filter
+     * @return true if messages matching the filter are routed by this subscription
+     */
+    public boolean hasRoute(String filter) {
+        return routes.get(filter) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return routes.isEmpty();
+    }
+
+    @Override
+    public void messageArrived(String topic, byte[] payload, boolean retain) {
+        for (Subscription subscription : routes.match(topic)) {
+            subscription.messageArrived(topic, payload, retain);
+        }
+    }
+}
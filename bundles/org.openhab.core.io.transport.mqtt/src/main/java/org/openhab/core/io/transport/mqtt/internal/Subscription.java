@@ -13,10 +13,10 @@
 package org.openhab.core.io.transport.mqtt.internal;
 
 import java.util.Collection;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
 import org.openhab.core.util.HexUtils;
 import org.slf4j.Logger;
@@ -28,16 +28,38 @@ import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
 /**
  * This class keeps track of all the subscribers to a specific topic.
  * <p>
- * <b>Retained</b> messages for the topic are stored so they can be replayed to new subscribers.
+ * <b>Retained</b> messages for the topic are stored in the {@link RetainedMessageStore} of the connection so they can
+ * be replayed to new subscribers.
  *
  * @author Jochen Klein - Initial contribution
+ * @author Mark Herwege - Store retained messages in a store shared by all subscriptions
  */
 @NonNullByDefault
 public class Subscription {
     private final Logger logger = LoggerFactory.getLogger(Subscription.class);
-    private final Map<String, byte[]> retainedMessages = new ConcurrentHashMap<>();
+    private final String filter;
+    private final @Nullable RetainedMessageStore retainedMessages;
     private final Collection<MqttMessageSubscriber> subscribers = ConcurrentHashMap.newKeySet();
 
+    /**
+     * Create a subscription for a topic.
+     *
+     * @param filter the topic filter of the subscription
+     * @param retainedMessages the store for the retained messages of the connection
+     */
+    public Subscription(String filter, RetainedMessageStore retainedMessages) {
+        this.filter = filter;
+        this.retainedMessages = retainedMessages;
+    }
+
+    /**
+     * Create a subscription that does not store retained messages, for subclasses handling the messages themselves.
+     */
+    protected Subscription() {
+        this.filter = "";
+        this.retainedMessages = null;
+    }
+
     /**
      * Add a new subscriber.
      * <p>
@@ -46,13 +68,10 @@ public class Subscription {
      * @param subscriber
      */
     public void add(MqttMessageSubscriber subscriber) {
-        if (subscribers.add(subscriber)) {
+        RetainedMessageStore retainedMessages = this.retainedMessages;
+        if (subscribers.add(subscriber) && retainedMessages != null) {
             // new subscriber. deliver all known retained messages
-            retainedMessages.entrySet().stream().forEach(entry -> {
-                if (entry.getValue().length > 0) {
-                    processMessage(subscriber, entry.getKey(), entry.getValue());
-                }
-            });
+            retainedMessages.forEachMatching(filter, (topic, payload) -> processMessage(subscriber, topic, payload));
         }
     }
 
@@ -82,8 +101,9 @@ public class Subscription {
         // Only the first message delivered will have the retain flag; subsequent messages
         // will not have the flag set. So see if we retained it in the past, and continue
         // to retain it (even if it's now empty - we need to know to continue to retain it)
-        if (retain || retainedMessages.containsKey(topic)) {
-            retainedMessages.put(topic, payload);
+        RetainedMessageStore retainedMessages = this.retainedMessages;
+        if (retainedMessages != null) {
+            retainedMessages.messageArrived(topic, payload, retain);
         }
         subscribers.forEach(subscriber -> processMessage(subscriber, topic, payload));
     }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A trie of MQTT topic filters, for finding all filters matching the topic of a message without comparing the topic
+ * to every filter.
+ * <p>
+ * Matching follows the MQTT specification: <code>+</code> matches a single topic level, <code>#</code> matches the
+ * parent level and any number of child levels, and wildcards at the first level do not match topics starting with
+ * <code>$</code>.
+ *
+ * @param <T> the type of the values stored for the filters
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class TopicTrie<T> {
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private final Node<T> root = new Node<>();
+    private int size;
+
+    /**
+     * Store a value for a topic filter.
+     *
+     * @param filter the topic filter
+     * @param value the value
+     * @return the value previously stored for the filter, or <code>null</code> if there was none
+     */
+    public synchronized @Nullable T put(String filter, T value) {
+        Node<T> node = root;
+        for (String level : split(filter)) {
+            node = node.children.computeIfAbsent(level, l -> new Node<>());
+        }
+        T previous = node.value;
+        node.value = value;
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    /**
+     * Get the value stored for a topic filter.
+     *
+     * @param filter the topic filter
+     * @return the value, or <code>null</code> if no value is stored for exactly this filter
+     */
+    public synchronized @Nullable T get(String filter) {
+        Node<T> node = find(filter);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Remove the value stored for a topic filter.
+     *
+     * @param filter the topic filter
+     * @return the removed value, or <code>null</code> if no value was stored for the filter
+     */
+    public synchronized @Nullable T remove(String filter) {
+        String[] levels = split(filter);
+        List<Node<T>> path = new ArrayList<>(levels.length + 1);
+        Node<T> node = root;
+        path.add(node);
+        for (String level : levels) {
+            node = node.children.get(level);
+            if (node == null) {
+                return null;
+            }
+            path.add(node);
+        }
+        T previous = node.value;
+        if (previous != null) {
+            node.value = null;
+            size--;
+            // prune the nodes that no longer lead to a value
+            for (int i = levels.length; i > 0 && path.get(i).isEmpty(); i--) {
+                path.get(i - 1).children.remove(levels[i - 1]);
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Find the values of all filters matching a topic.
+     *
+     * @param topic the topic of a message, without wildcards
+     * @return the values of the matching filters, every value at most once per matching filter
+     */
+    public synchronized List<T> match(String topic) {
+        List<T> matches = new ArrayList<>();
+        String[] levels = split(topic);
+        collect(root, levels, 0, !topic.startsWith("$"), matches);
+        return matches;
+    }
+
+    /**
+     * Remove all values.
+     */
+    public synchronized void clear() {
+        root.children.clear();
+        root.value = null;
+        size = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check if a topic filter covers another filter, i.e. every topic matched by the other filter is also matched by
+     * the covering filter.
+     *
+     * @param coveringFilter the filter that should cover the other filter
+     * @param filter the other filter, which can also be a topic without wildcards
+     * @return true if all topics matched by <code>filter</code> are matched by <code>coveringFilter</code>
+     */
+    public static boolean covers(String coveringFilter, String filter) {
+        String[] covering = split(coveringFilter);
+        String[] levels = split(filter);
+        for (int i = 0; i < covering.length; i++) {
+            String level = covering[i];
+            boolean wildcard = MULTI_LEVEL_WILDCARD.equals(level) || SINGLE_LEVEL_WILDCARD.equals(level);
+            if (i == 0 && wildcard && filter.startsWith("$")) {
+                return false;
+            }
+            if (MULTI_LEVEL_WILDCARD.equals(level)) {
+                return true;
+            }
+            if (i >= levels.length || MULTI_LEVEL_WILDCARD.equals(levels[i])) {
+                return false;
+            }
+            if (!SINGLE_LEVEL_WILDCARD.equals(level) && !level.equals(levels[i])) {
+                return false;
+            }
+        }
+        return covering.length == levels.length;
+    }
+
+    private @Nullable Node<T> find(String filter) {
+        Node<T> node = root;
+        for (String level : split(filter)) {
+            node = node.children.get(level);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private static <V> void collect(Node<V> node, String[] levels, int index, boolean wildcardsAllowed,
+            List<V> matches) {
+        if (wildcardsAllowed) {
+            Node<V> multiLevel = node.children.get(MULTI_LEVEL_WILDCARD);
+            V value = multiLevel != null ? multiLevel.value : null;
+            if (value != null) {
+                matches.add(value);
+            }
+        }
+        if (index == levels.length) {
+            V value = node.value;
+            if (value != null) {
+                matches.add(value);
+            }
+            return;
+        }
+        Node<V> child = node.children.get(levels[index]);
+        if (child != null) {
+            collect(child, levels, index + 1, true, matches);
+        }
+        if (wildcardsAllowed) {
+            Node<V> singleLevel = node.children.get(SINGLE_LEVEL_WILDCARD);
+            if (singleLevel != null) {
+                collect(singleLevel, levels, index + 1, true, matches);
+            }
+        }
+    }
+
+    private static String[] split(String topic) {
+        // topic levels are split on every separator, empty levels are valid
+        int count = 1;
+        for (int i = 0; i < topic.length(); i++) {
+            if (topic.charAt(i) == '/') {
+                count++;
+            }
+        }
+        String[] levels = new String[count];
+        int start = 0;
+        for (int i = 0; i < count - 1; i++) {
+            int end = topic.indexOf('/', start);
+            levels[i] = topic.substring(start, end);
+            start = end + 1;
+        }
+        levels[count - 1] = topic.substring(start);
+        return levels;
+    }
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> children = new HashMap<>(4);
+        private @Nullable T value;
+
+        private boolean isEmpty() {
+            return value == null && children.isEmpty();
+        }
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.openhab.core.io.transport.mqtt.internal.client;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.TrustManagerFactory;
@@ -24,6 +25,7 @@ import org.openhab.core.io.transport.mqtt.MqttWillAndTestament;
 import org.openhab.core.io.transport.mqtt.internal.Subscription;
 
 import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3AsyncClient;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3Client;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3ClientBuilder;
@@ -31,6 +33,7 @@ import com.hivemq.client.mqtt.mqtt3.message.connect.Mqtt3Connect;
 import com.hivemq.client.mqtt.mqtt3.message.connect.Mqtt3ConnectBuilder;
 import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
 import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3Subscribe;
+import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3Subscription;
 import com.hivemq.client.mqtt.mqtt3.message.unsubscribe.Mqtt3Unsubscribe;
 
 /**
@@ -39,6 +42,7 @@ import com.hivemq.client.mqtt.mqtt3.message.unsubscribe.Mqtt3Unsubscribe;
  * @author Jan N. Klug - Initial contribution
  * @author Mark Herwege - Added flag for hostname validation
  * @author Mark Herwege - Added parameter for cleanSession
+ * @author Mark Herwege - Added subscribing to several topics at once
  */
 @NonNullByDefault
 public class Mqtt3AsyncClientWrapper extends MqttAsyncClientWrapper {
@@ -78,6 +82,15 @@ public class Mqtt3AsyncClientWrapper extends MqttAsyncClientWrapper {
         return client.subscribe(subscribeMessage, subscription::messageArrived);
     }
 
+    @Override
+    public CompletableFuture<?> subscribeAll(Collection<String> topics, int qos, Subscription subscription) {
+        MqttQos mqttQos = getMqttQosFromInt(qos);
+        Mqtt3Subscribe subscribeMessage = Mqtt3Subscribe.builder().addSubscriptions(
+                topics.stream().map(topic -> Mqtt3Subscription.builder().topicFilter(topic).qos(mqttQos).build()))
+                .build();
+        return client.subscribe(subscribeMessage, subscription::messageArrived);
+    }
+
     @Override
     public CompletableFuture<?> unsubscribe(String topic) {
         Mqtt3Unsubscribe unsubscribeMessage = Mqtt3Unsubscribe.builder().topicFilter(topic).build();
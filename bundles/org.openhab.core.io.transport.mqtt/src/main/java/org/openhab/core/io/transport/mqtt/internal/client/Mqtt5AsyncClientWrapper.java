@@ -12,6 +12,7 @@
  */
 package org.openhab.core.io.transport.mqtt.internal.client;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.TrustManagerFactory;
@@ -24,6 +25,7 @@ import org.openhab.core.io.transport.mqtt.MqttWillAndTestament;
 import org.openhab.core.io.transport.mqtt.internal.Subscription;
 
 import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5ClientBuilder;
@@ -32,6 +34,7 @@ import com.hivemq.client.mqtt.mqtt5.message.connect.Mqtt5ConnectBuilder;
 import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
 import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
 import com.hivemq.client.mqtt.mqtt5.message.subscribe.Mqtt5Subscribe;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.Mqtt5Subscription;
 import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.Mqtt5Unsubscribe;
 
 /**
@@ -40,6 +43,7 @@ import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.Mqtt5Unsubscribe;
  * @author Jan N. Klug - Initial contribution
  * @author Mark Herwege - Added flag for hostname validation
  * @author Mark Herwege - Added parameter for cleanStart
+ * @author Mark Herwege - Added subscribing to several topics at once
  */
 @NonNullByDefault
 public class Mqtt5AsyncClientWrapper extends MqttAsyncClientWrapper {
@@ -79,6 +83,15 @@ public class Mqtt5AsyncClientWrapper extends MqttAsyncClientWrapper {
         return client.subscribe(subscribeMessage, subscription::messageArrived);
     }
 
+    @Override
+    public CompletableFuture<?> subscribeAll(Collection<String> topics, int qos, Subscription subscription) {
+        MqttQos mqttQos = getMqttQosFromInt(qos);
+        Mqtt5Subscribe subscribeMessage = Mqtt5Subscribe.builder().addSubscriptions(
+                topics.stream().map(topic -> Mqtt5Subscription.builder().topicFilter(topic).qos(mqttQos).build()))
+                .build();
+        return client.subscribe(subscribeMessage, subscription::messageArrived);
+    }
+
     @Override
     public CompletableFuture<?> unsubscribe(String topic) {
         Mqtt5Unsubscribe unsubscribeMessage = Mqtt5Unsubscribe.builder().topicFilter(topic).build();
@@ -12,6 +12,7 @@
  */
 package org.openhab.core.io.transport.mqtt.internal.client;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.HostnameVerifier;
@@ -30,6 +31,7 @@ import com.hivemq.client.mqtt.datatypes.MqttQos;
  *
  * @author Jan N. Klug - Initial contribution
  * @author Mark Herwege - Added parameter for cleanSession/cleanStart
+ * @author Mark Herwege - Added subscribing to several topics at once
  */
 
 @NonNullByDefault
@@ -82,6 +84,17 @@ public abstract class MqttAsyncClientWrapper implements HostnameVerifier {
      */
     public abstract CompletableFuture<?> subscribe(String topic, int qos, Subscription subscription);
 
+    /**
+     * subscribe a client callback to several topics with a single SUBSCRIBE packet
+     *
+     * @param topics the topics
+     * @param qos QoS for the subscriptions
+     * @param subscription the subscription receiving the messages of all topics, usually a
+     *            {@link org.openhab.core.io.transport.mqtt.internal.RoutingSubscription}
+     * @return a CompletableFuture (exceptionally on fail)
+     */
+    public abstract CompletableFuture<?> subscribeAll(Collection<String> topics, int qos, Subscription subscription);
+
     /**
      * unsubscribes from a topic
      *
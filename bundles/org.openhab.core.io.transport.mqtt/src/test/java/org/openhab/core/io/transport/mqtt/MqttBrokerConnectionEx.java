@@ -88,6 +88,15 @@ public class MqttBrokerConnectionEx extends MqttBrokerConnection {
                 return future;
             }
         }).when(mockedClient).subscribe(any(), anyInt(), any());
+        doAnswer(i -> {
+            if (subscribeSuccess) {
+                return CompletableFuture.completedFuture(null);
+            } else {
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                future.completeExceptionally(new Throwable("subscription failed"));
+                return future;
+            }
+        }).when(mockedClient).subscribeAll(any(), anyInt(), any());
         // unsubscribe
         doAnswer(i -> {
             if (unsubscribeSuccess) {
@@ -28,6 +28,7 @@ import java.util.concurrent.TimeoutException;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.mqtt.internal.AggregateSubscription;
 import org.openhab.core.io.transport.mqtt.internal.client.MqttAsyncClientWrapper;
 import org.openhab.core.io.transport.mqtt.reconnect.AbstractReconnectStrategy;
 import org.openhab.core.io.transport.mqtt.reconnect.PeriodicReconnectStrategy;
@@ -42,6 +43,7 @@ import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
  *
  * @author David Graeff - Initial contribution
  * @author Jan N. Klug - adjusted to HiveMQ client
+ * @author Mark Herwege - Added tests for aggregate subscriptions and batched subscribing
  */
 @NonNullByDefault
 public class MqttBrokerConnectionTests extends JavaTest {
@@ -390,4 +392,93 @@ public class MqttBrokerConnectionTests extends JavaTest {
         // Subscribers should be removed
         assertThat(connection.hasSubscribers(), is(false));
     }
+
+    @Test
+    public void aggregateSubscription()
+            throws ConfigurationException, MqttException, InterruptedException, ExecutionException, TimeoutException {
+        MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
+                "MqttBrokerConnectionTests");
+        connection.addAggregateSubscription("homie/+/#");
+        assertTrue(connection.start().get(200, TimeUnit.MILLISECONDS));
+        MqttAsyncClientWrapper client = connection.client;
+
+        MqttMessageSubscriber subscriber1 = mock(MqttMessageSubscriber.class);
+        MqttMessageSubscriber subscriber2 = mock(MqttMessageSubscriber.class);
+        MqttMessageSubscriber subscriber3 = mock(MqttMessageSubscriber.class);
+        assertTrue(connection.subscribe("homie/device1/$name", subscriber1).get(200, TimeUnit.MILLISECONDS));
+        assertTrue(connection.subscribe("homie/device2/+", subscriber2).get(200, TimeUnit.MILLISECONDS));
+
+        // only the covering filter is subscribed to at the broker
+        verify(client).subscribe(eq("homie/+/#"), anyInt(), any());
+        verify(client, never()).subscribe(eq("homie/device1/$name"), anyInt(), any());
+        verify(client, never()).subscribe(eq("homie/device2/+"), anyInt(), any());
+
+        AggregateSubscription aggregate = connection.aggregateSubscriptions.get("homie/+/#");
+        aggregate.messageArrived("homie/device1/$name", HELLO_BYTES, true);
+        aggregate.messageArrived("homie/device2/state", GOODBYE_BYTES, true);
+        verify(subscriber1).processMessage(eq("homie/device1/$name"), eqHelloBytes());
+        verify(subscriber2).processMessage(eq("homie/device2/state"), eqGoodbyeBytes());
+        verifyNoMoreInteractions(subscriber1, subscriber2);
+
+        // retained messages received through the covering filter are delivered to later subscriptions
+        connection.subscribe("homie/device2/state", subscriber3);
+        verify(subscriber3).processMessage(eq("homie/device2/state"), eqGoodbyeBytes());
+
+        connection.unsubscribe("homie/device1/$name", subscriber1);
+        connection.unsubscribe("homie/device2/+", subscriber2);
+        verify(client, never()).unsubscribe(any());
+        connection.unsubscribe("homie/device2/state", subscriber3);
+        verify(client).unsubscribe("homie/+/#");
+        assertFalse(connection.hasSubscribers());
+    }
+
+    @Test
+    public void coveredTopicsCompleteWithTheSubscribeOfTheCoveringFilter()
+            throws ConfigurationException, MqttException, InterruptedException, ExecutionException, TimeoutException {
+        MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
+                "MqttBrokerConnectionTests");
+        connection.addAggregateSubscription("homie/+/#");
+        assertTrue(connection.start().get(200, TimeUnit.MILLISECONDS));
+        MqttAsyncClientWrapper client = connection.client;
+        CompletableFuture<Void> brokerSubscribe = new CompletableFuture<>();
+        doReturn(brokerSubscribe).when(client).subscribe(eq("homie/+/#"), anyInt(), any());
+
+        CompletableFuture<Boolean> first = connection.subscribe("homie/device1/$name",
+                mock(MqttMessageSubscriber.class));
+        CompletableFuture<Boolean> second = connection.subscribe("homie/device2/$name",
+                mock(MqttMessageSubscriber.class));
+
+        // the SUBSCRIBE of the covering filter is still in flight
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+
+        brokerSubscribe.completeExceptionally(new Throwable("subscription failed"));
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+        // a topic covered after the failure is not reported as subscribed either
+        assertTrue(connection.subscribe("homie/device3/$name", mock(MqttMessageSubscriber.class))
+                .isCompletedExceptionally());
+    }
+
+    @Test
+    public void batchedSubscribeOnConnect()
+            throws ConfigurationException, MqttException, InterruptedException, ExecutionException, TimeoutException {
+        MqttBrokerConnectionEx connection = new MqttBrokerConnectionEx("123.123.123.123", null, false, false,
+                "MqttBrokerConnectionTests");
+        connection.addAggregateSubscription("homie/+/#");
+
+        MqttMessageSubscriber subscriber = mock(MqttMessageSubscriber.class);
+        int count = MqttBrokerConnection.SUBSCRIBE_BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < count; i++) {
+            connection.subscribe("device" + i + "/state", subscriber);
+            connection.subscribe("homie/device" + i + "/state", subscriber);
+        }
+
+        assertTrue(connection.start().get(200, TimeUnit.MILLISECONDS));
+
+        // the covered topics are subscribed to through the covering filter
+        MqttAsyncClientWrapper client = connection.client;
+        verify(client, times(3)).subscribeAll(any(), anyInt(), any());
+        verify(client, never()).subscribe(any(), anyInt(), any());
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link PublishQueue} class
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class PublishQueueTest {
+    private final List<String> published = new ArrayList<>();
+    private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+    private final PublishQueue queue = new PublishQueue((topic, payload, retain, qos) -> {
+        published.add(topic + "=" + new String(payload));
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        pending.add(future);
+        return future;
+    });
+
+    @Test
+    public void limitsMessagesInFlight() {
+        queue.setMaxInFlight(2);
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(queue.publish("topic" + i, "value".getBytes(), 1, false));
+        }
+        assertThat(published, hasSize(2));
+        assertThat(queue.getInFlight(), is(2));
+        assertThat(queue.getQueued(), is(3));
+
+        pending.get(0).complete(null);
+        assertThat(futures.get(0).getNow(false), is(true));
+        assertThat(published, hasSize(3));
+
+        pending.get(1).completeExceptionally(new IllegalStateException());
+        assertThat(futures.get(1).isCompletedExceptionally(), is(true));
+        assertThat(published, hasSize(4));
+
+        pending.get(2).complete(null);
+        pending.get(3).complete(null);
+        pending.get(4).complete(null);
+        assertThat(futures.stream().allMatch(CompletableFuture::isDone), is(true));
+        assertThat(queue.getInFlight(), is(0));
+        assertThat(queue.getQueued(), is(0));
+    }
+
+    @Test
+    public void rejectsMessagesWhenQueueIsFull() {
+        queue.setMaxInFlight(1);
+        queue.setMaxQueued(1);
+        queue.publish("a", "1".getBytes(), 0, false);
+        CompletableFuture<Boolean> queued = queue.publish("b", "2".getBytes(), 0, false);
+        CompletableFuture<Boolean> rejected = queue.publish("c", "3".getBytes(), 0, false);
+
+        assertThat(queued.isDone(), is(false));
+        assertThat(rejected.isCompletedExceptionally(), is(true));
+        assertThat(published, contains("a=1"));
+    }
+
+    @Test
+    public void coalescesQueuedMessagesOfTheSameTopic() throws InterruptedException, ExecutionException {
+        queue.setMaxInFlight(1);
+        queue.setCoalescing(true);
+        queue.publish("other", "0".getBytes(), 1, true);
+        CompletableFuture<Boolean> first = queue.publish("state", "1".getBytes(), 1, true);
+        CompletableFuture<Boolean> second = queue.publish("state", "2".getBytes(), 1, true);
+        CompletableFuture<Boolean> exactlyOnce1 = queue.publish("command", "1".getBytes(), 2, false);
+        CompletableFuture<Boolean> exactlyOnce2 = queue.publish("command", "2".getBytes(), 2, false);
+        assertThat(queue.getQueued(), is(3));
+
+        pending.get(0).complete(null);
+        pending.get(1).complete(null);
+        assertThat(first.get(), is(true));
+        assertThat(second.get(), is(true));
+
+        pending.get(2).complete(null);
+        pending.get(3).complete(null);
+        assertThat(exactlyOnce1.get(), is(true));
+        assertThat(exactlyOnce2.get(), is(true));
+        assertThat(published, contains("other=0", "state=2", "command=1", "command=2"));
+    }
+
+    @Test
+    public void synchronouslyCompletingPublisher() {
+        List<String> sent = new ArrayList<>();
+        PublishQueue syncQueue = new PublishQueue((topic, payload, retain, qos) -> {
+            sent.add(topic);
+            return CompletableFuture.completedFuture(null);
+        });
+        syncQueue.setMaxInFlight(1);
+        for (int i = 0; i < 10000; i++) {
+            assertThat(syncQueue.publish("topic", new byte[0], 0, false).getNow(false), is(true));
+        }
+        assertThat(sent, hasSize(10000));
+    }
+
+    @Test
+    public void clearCompletesQueuedMessages() {
+        queue.setMaxInFlight(1);
+        queue.publish("a", "1".getBytes(), 0, false);
+        CompletableFuture<Boolean> queued = queue.publish("b", "2".getBytes(), 0, false);
+
+        queue.clear();
+        assertThat(queued.getNow(true), is(false));
+        assertThat(queue.getQueued(), is(0));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link RetainedMessageStore} class
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class RetainedMessageStoreTest {
+    private static final byte[] ON = "ON".getBytes();
+    private static final byte[] OFF = "OFF".getBytes();
+
+    private static Map<String, String> retained(RetainedMessageStore store, String filter) {
+        Map<String, String> messages = new HashMap<>();
+        store.forEachMatching(filter, (topic, payload) -> messages.put(topic, new String(payload)));
+        return messages;
+    }
+
+    @Test
+    public void onlyRetainedTopicsAreStored() {
+        RetainedMessageStore store = new RetainedMessageStore();
+        store.messageArrived("a/1", ON, false);
+        store.messageArrived("a/2", ON, true);
+        // once retained, following messages are retained as well
+        store.messageArrived("a/2", OFF, false);
+
+        assertThat(store.getEntryCount(), is(1));
+        assertThat(retained(store, "a/#"), is(Map.of("a/2", "OFF")));
+        assertThat(retained(store, "a/2"), is(Map.of("a/2", "OFF")));
+        assertThat(retained(store, "a/1"), is(Map.of()));
+    }
+
+    @Test
+    public void emptyPayloadsAreKeptButNotReplayed() {
+        RetainedMessageStore store = new RetainedMessageStore();
+        store.messageArrived("a/1", ON, true);
+        store.messageArrived("a/1", new byte[0], true);
+
+        assertThat(store.getEntryCount(), is(1));
+        assertThat(retained(store, "a/1"), is(Map.of()));
+
+        store.messageArrived("a/1", OFF, false);
+        assertThat(retained(store, "a/1"), is(Map.of("a/1", "OFF")));
+    }
+
+    @Test
+    public void identicalPayloadsAreSharedAndCopied() {
+        RetainedMessageStore store = new RetainedMessageStore();
+        byte[] payload = ON.clone();
+        store.messageArrived("a", payload, true);
+        long size = store.getSize();
+        store.messageArrived("b", ON.clone(), true);
+        long sharedSize = store.getSize() - size;
+
+        store.messageArrived("c", OFF, true);
+        long unsharedSize = store.getSize() - size - sharedSize;
+        assertThat(sharedSize, is(lessThan(unsharedSize)));
+
+        // changing the array of the message does not change the stored message
+        payload[0] = 'X';
+        assertThat(retained(store, "a"), is(Map.of("a", "ON")));
+
+        store.messageArrived("a", OFF, false);
+        store.messageArrived("b", OFF, false);
+        assertThat(store.getSize(), is(lessThan(size + sharedSize + unsharedSize)));
+    }
+
+    @Test
+    public void leastRecentlyUsedMessagesAreEvicted() {
+        RetainedMessageStore store = new RetainedMessageStore();
+        store.messageArrived("a/1", new byte[0], true);
+        long topicSize = store.getSize();
+        store.messageArrived("a/1", ON, true);
+        long messageSize = store.getSize();
+        // room for three messages and an evicted topic
+        store.setMaxSize(3 * messageSize + topicSize);
+        store.messageArrived("a/2", "2".getBytes(), true);
+        store.messageArrived("a/3", "3".getBytes(), true);
+        // replaying a message counts as use
+        retained(store, "a/1");
+        store.messageArrived("a/4", "4".getBytes(), true);
+
+        assertThat(retained(store, "a/#").keySet(), containsInAnyOrder("a/1", "a/3", "a/4"));
+        assertThat(store.getEntryCount(), is(4));
+        assertThat(store.getSize(), is(lessThanOrEqualTo(3 * messageSize + topicSize)));
+    }
+
+    @Test
+    public void evictedTopicsAreStoredAgainWithoutRetainFlag() {
+        RetainedMessageStore store = new RetainedMessageStore();
+        store.messageArrived("a/1", new byte[0], true);
+        long topicSize = store.getSize();
+        store.messageArrived("a/1", ON, true);
+        long messageSize = store.getSize();
+        // room for a message and an evicted topic
+        store.setMaxSize(messageSize + topicSize);
+        store.messageArrived("a/2", "2".getBytes(), true);
+        assertThat(retained(store, "a/#").keySet(), contains("a/2"));
+
+        store.messageArrived("a/1", "1".getBytes(), false);
+
+        assertThat(retained(store, "a/1"), is(Map.of("a/1", "1")));
+        assertThat(retained(store, "a/#").keySet(), contains("a/1"));
+    }
+
+    @Test
+    public void leastRecentlyUsedTopicsAreRemovedWhenTopicsExceedTheMaximumSize() {
+        RetainedMessageStore store = new RetainedMessageStore();
+        store.messageArrived("a/1", new byte[0], true);
+        long topicSize = store.getSize();
+        store.messageArrived("a/2", ON, true);
+        store.messageArrived("a/3", OFF, true);
+
+        store.setMaxSize(2 * topicSize);
+
+        assertThat(store.getEntryCount(), is(2));
+        assertThat(retained(store, "a/#"), is(Map.of()));
+        // the removed topic is not tracked anymore
+        store.messageArrived("a/1", ON, false);
+        assertThat(store.getEntryCount(), is(2));
+    }
+
+    @Test
+    public void messagesAreRemovedWithTheirLastFilter() {
+        RetainedMessageStore store = new RetainedMessageStore();
+        store.addFilter("a/#");
+        store.addFilter("a/1");
+        store.addFilter("a/1");
+        store.messageArrived("a/1", ON, true);
+        store.messageArrived("a/2", ON, true);
+
+        store.removeFilter("a/#");
+        assertThat(retained(store, "a/#").keySet(), contains("a/1"));
+
+        store.removeFilter("a/1");
+        assertThat(store.getEntryCount(), is(1));
+        store.removeFilter("a/1");
+        assertThat(store.getEntryCount(), is(0));
+        assertThat(store.getSize(), is(0L));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.mqtt.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link TopicTrie} class
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class TopicTrieTest {
+
+    @Test
+    public void matchWildcards() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.put("homie/device/state", "exact");
+        trie.put("homie/+/state", "single");
+        trie.put("homie/#", "multi");
+        trie.put("#", "all");
+        trie.put("+/+", "two levels");
+        trie.put("other/topic", "other");
+
+        assertThat(trie.match("homie/device/state"), containsInAnyOrder("exact", "single", "multi", "all"));
+        assertThat(trie.match("homie/other/state"), containsInAnyOrder("single", "multi", "all"));
+        assertThat(trie.match("homie/device"), containsInAnyOrder("multi", "all", "two levels"));
+        // the multi level wildcard also matches the parent level
+        assertThat(trie.match("homie"), containsInAnyOrder("multi", "all"));
+        assertThat(trie.match("unknown/topic/level"), contains("all"));
+    }
+
+    @Test
+    public void wildcardsDoNotMatchDollarTopicsAtFirstLevel() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        trie.put("#", "all");
+        trie.put("+/info", "single");
+        trie.put("$SYS/#", "sys");
+
+        assertThat(trie.match("$SYS/info"), contains("sys"));
+        assertThat(trie.match("homie/$name"), contains("all"));
+    }
+
+    @Test
+    public void putAndRemove() {
+        TopicTrie<String> trie = new TopicTrie<>();
+        assertThat(trie.put("a/b/c", "1"), is(nullValue()));
+        assertThat(trie.put("a/b/c", "2"), is("1"));
+        assertThat(trie.put("a/b", "3"), is(nullValue()));
+        assertThat(trie.size(), is(2));
+
+        assertThat(trie.remove("a/b/c"), is("2"));
+        assertThat(trie.remove("a/b/c"), is(nullValue()));
+        assertThat(trie.remove("a"), is(nullValue()));
+        assertThat(trie.get("a/b"), is("3"));
+        assertThat(trie.match("a/b/c"), is(empty()));
+
+        assertThat(trie.remove("a/b"), is("3"));
+        assertThat(trie.isEmpty(), is(true));
+    }
+
+    @Test
+    public void covers() {
+        assertThat(TopicTrie.covers("homie/+/#", "homie/device/$name"), is(true));
+        assertThat(TopicTrie.covers("homie/+/#", "homie/device/+/set"), is(true));
+        assertThat(TopicTrie.covers("homie/+/#", "homie/device"), is(true));
+        assertThat(TopicTrie.covers("homie/+/#", "homie/+/#"), is(true));
+        assertThat(TopicTrie.covers("homie/+/#", "homie/#"), is(false));
+        assertThat(TopicTrie.covers("homie/+/#", "homie"), is(false));
+        assertThat(TopicTrie.covers("homie/+/state", "homie/+/state"), is(true));
+        assertThat(TopicTrie.covers("homie/device/state", "homie/+/state"), is(false));
+        assertThat(TopicTrie.covers("#", "$SYS/info"), is(false));
+    }
+
+    @Test
+    public void routeManyTopics() {
+        int devices = 5000;
+        int properties = 10;
+        TopicTrie<String> trie = new TopicTrie<>();
+        for (int device = 0; device < devices; device++) {
+            for (int property = 0; property < properties; property++) {
+                String topic = "homie/device" + device + "/node/property" + property;
+                trie.put(topic, topic);
+            }
+            trie.put("homie/device" + device + "/+/$name", "name" + device);
+        }
+        assertThat(trie.size(), is(devices * (properties + 1)));
+
+        for (int device = 0; device < devices; device++) {
+            for (int property = 0; property < properties; property++) {
+                String topic = "homie/device" + device + "/node/property" + property;
+                assertThat(trie.match(topic), contains(topic));
+            }
+            assertThat(trie.match("homie/device" + device + "/node/$name"), contains("name" + device));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.upnp;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link UpnpActionStatistics} are the latency statistics of the actions invoked on a device, including its status
+ * polls.
+ *
+ * @param count the number of actions invoked
+ * @param failures the number of actions that failed
+ * @param lastMillis the latency of the last action in milliseconds
+ * @param averageMillis the average latency in milliseconds
+ * @param maxMillis the maximum latency in milliseconds
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public record UpnpActionStatistics(long count, long failures, long lastMillis, long averageMillis, long maxMillis) {
+}
@@ -15,12 +15,15 @@ package org.openhab.core.io.transport.upnp;
 import java.net.URL;
 import java.util.Map;
 
+import org.eclipse.jdt.annotation.Nullable;
+
 /**
  * The {@link UpnpIOService} is an interface that described the
  * UPNP IO Service.
  *
  * @author Karel Goderis - Initial contribution
  * @author Kai Kreuzer - added descriptor url retrieval
+ * @author Mark Herwege - added action statistics
  */
 public interface UpnpIOService {
 
@@ -112,4 +115,15 @@ public interface UpnpIOService {
      * @param participant the participant for whom we want to remove the polling
      */
     void removeStatusListener(UpnpIOParticipant participant);
+
+    /**
+     * Retrieves the latency statistics of the actions invoked on the device of a participant, including its status
+     * polls
+     *
+     * @param participant the participant whose statistics are requested
+     * @return the statistics, or null if no action has been invoked on the device
+     */
+    default @Nullable UpnpActionStatistics getActionStatistics(UpnpIOParticipant participant) {
+        return null;
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.upnp.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.upnp.UpnpActionStatistics;
+
+/**
+ * The {@link ActionLatency} keeps the latency statistics of the actions invoked on a single device.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+final class ActionLatency {
+
+    private long count;
+    private long failures;
+    private long totalNanos;
+    private long maxNanos;
+    private long lastNanos;
+
+    /**
+     * Records the latency of an action.
+     *
+     * @param nanos the time between invoking the action and receiving the response in nanoseconds
+     * @param failed whether the action failed
+     */
+    synchronized void record(long nanos, boolean failed) {
+        count++;
+        if (failed) {
+            failures++;
+        }
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+        lastNanos = nanos;
+    }
+
+    /**
+     * @return a snapshot of the statistics
+     */
+    synchronized UpnpActionStatistics getStatistics() {
+        return new UpnpActionStatistics(count, failures, getLastMillis(), getAverageMillis(), getMaxMillis());
+    }
+
+    private long getAverageMillis() {
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / count);
+    }
+
+    private long getMaxMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos);
+    }
+
+    private long getLastMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastNanos);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ActionLatency [count=" + count + ", failures=" + failures + ", last=" + getLastMillis() + "ms, average="
+                + getAverageMillis() + "ms, max=" + getMaxMillis() + "ms]";
+    }
+}
@@ -21,7 +21,6 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.Nullable;
@@ -48,6 +47,7 @@ import org.jupnp.model.types.UDN;
 import org.jupnp.registry.Registry;
 import org.jupnp.registry.RegistryListener;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.io.transport.upnp.UpnpActionStatistics;
 import org.openhab.core.io.transport.upnp.UpnpIOParticipant;
 import org.openhab.core.io.transport.upnp.UpnpIOService;
 import org.osgi.service.component.annotations.Activate;
@@ -67,6 +67,8 @@ import org.slf4j.LoggerFactory;
  * @author Andre Fuechsel - added methods to remove subscriptions
  * @author Ivan Iliev - made sure resubscribe is only done when subscription ended CancelReason was EXPIRED or
  *         RENEW_FAILED
+ * @author Mark Herwege - shared poll scheduler, skip polls of services delivering events, asynchronous polls, action
+ *         statistics
  */
 @SuppressWarnings("rawtypes")
 @Component(immediate = true)
@@ -82,9 +84,12 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     private final UpnpService upnpService;
 
     final Set<UpnpIOParticipant> participants = new CopyOnWriteArraySet<>();
-    final Map<UpnpIOParticipant, ScheduledFuture> pollingJobs = new ConcurrentHashMap<>();
+    final UpnpPollScheduler<UpnpIOParticipant> pollingJobs = new UpnpPollScheduler<>(scheduler,
+            UpnpIOServiceImpl::currentMillis);
     final Map<UpnpIOParticipant, Boolean> currentStates = new ConcurrentHashMap<>();
     final Map<Service, UpnpSubscriptionCallback> subscriptionCallbacks = new ConcurrentHashMap<>();
+    final Map<ServiceKey, Long> lastEventTimes = new ConcurrentHashMap<>();
+    final Map<String, ActionLatency> actionLatencies = new ConcurrentHashMap<>();
 
     public class UpnpSubscriptionCallback extends SubscriptionCallback {
 
@@ -100,6 +105,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
         protected void ended(GENASubscription subscription, CancelReason reason, UpnpResponse response) {
             final Service service = subscription.getService();
             if (service != null) {
+                lastEventTimes.remove(ServiceKey.of(service));
                 final ServiceId serviceId = service.getServiceId();
                 final Device device = service.getDevice();
                 if (device != null) {
@@ -151,6 +157,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
             Map<String, StateVariableValue> values = sub.getCurrentValues();
             Device device = sub.getService().getDevice();
             String serviceId = sub.getService().getServiceId().getId();
+            lastEventTimes.put(ServiceKey.of(sub.getService()), currentMillis());
 
             logger.trace("Receiving a GENA subscription '{}' response for device '{}'", serviceId,
                     device.getIdentity().getUdn());
@@ -184,6 +191,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
         protected void failed(GENASubscription subscription, UpnpResponse response, Exception e, String defaultMsg) {
             Device deviceRoot = subscription.getService().getDevice().getRoot();
             String serviceId = subscription.getService().getServiceId().getId();
+            lastEventTimes.remove(ServiceKey.of(subscription.getService()));
 
             logger.debug("A GENA subscription '{}' for device '{}' failed", serviceId,
                     deviceRoot.getIdentity().getUdn());
@@ -216,6 +224,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     public void deactivate() {
         logger.debug("Stopping UPnP IO service...");
         upnpService.getRegistry().removeListener(this);
+        pollingJobs.cancelAll();
     }
 
     private Device getDevice(UpnpIOParticipant participant) {
@@ -274,6 +283,7 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
                             participant.getUDN());
 
                     UpnpSubscriptionCallback callback = subscriptionCallbacks.remove(subService);
+                    lastEventTimes.remove(ServiceKey.of(subService));
                     if (callback != null) {
                         callback.end();
                     }
@@ -318,7 +328,9 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
                         logger.trace("Invoking Action '{}' of service '{}' for participant '{}'", actionID, serviceID,
                                 participant.getUDN());
+                        long start = System.nanoTime();
                         new ActionCallback.Default(invocation, upnpService.getControlPoint()).run();
+                        recordLatency(participant, start, invocation.getFailure() != null);
 
                         ActionException anException = invocation.getFailure();
                         if (anException != null && anException.getMessage() != null) {
@@ -378,12 +390,18 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
     public void unregisterParticipant(UpnpIOParticipant participant) {
         if (participant != null) {
             stopPollingForParticipant(participant);
-            pollingJobs.remove(participant);
             currentStates.remove(participant);
+            actionLatencies.remove(participant.getUDN());
             participants.remove(participant);
         }
     }
 
+    @Override
+    public @Nullable UpnpActionStatistics getActionStatistics(UpnpIOParticipant participant) {
+        ActionLatency latency = actionLatencies.get(participant.getUDN());
+        return latency == null ? null : latency.getStatistics();
+    }
+
     @Override
     public URL getDescriptorURL(UpnpIOParticipant participant) {
         RemoteDevice device = upnpService.getRegistry().getRemoteDevice(new UDN(participant.getUDN()), true);
@@ -430,44 +448,74 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
         }
     }
 
-    private class UPNPPollingRunnable implements Runnable {
+    private void recordLatency(UpnpIOParticipant participant, long startNanos, boolean failed) {
+        ActionLatency latency = actionLatencies.computeIfAbsent(participant.getUDN(), udn -> new ActionLatency());
+        latency.record(System.nanoTime() - startNanos, failed);
+        logger.trace("Action latency of participant '{}': {}", participant.getUDN(), latency);
+    }
+
+    /**
+     * Checks whether a service has a GENA subscription that delivered an event within the given time, which shows the
+     * device is reachable without polling it.
+     */
+    private boolean isDeliveringEvents(Service service, long withinMillis) {
+        Long lastEventTime = lastEventTimes.get(ServiceKey.of(service));
+        return lastEventTime != null && currentMillis() - lastEventTime < withinMillis;
+    }
+
+    private static long currentMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * Identifies a service of a device, independent of the {@link Service} instance.
+     */
+    record ServiceKey(UDN udn, ServiceId serviceId) {
+        static ServiceKey of(Service service) {
+            return new ServiceKey(service.getDevice().getIdentity().getUdn(), service.getServiceId());
+        }
+    }
+
+    private class UPNPPollingRunnable implements UpnpPollScheduler.PollTask {
 
         private final UpnpIOParticipant participant;
         private final String serviceID;
         private final String actionID;
+        private final long intervalMillis;
 
-        public UPNPPollingRunnable(UpnpIOParticipant participant, String serviceID, String actionID) {
+        public UPNPPollingRunnable(UpnpIOParticipant participant, String serviceID, String actionID, int interval) {
             this.participant = participant;
             this.serviceID = serviceID;
             this.actionID = actionID;
+            this.intervalMillis = TimeUnit.SECONDS.toMillis(interval);
         }
 
         @Override
-        public void run() {
+        public void poll(Runnable onComplete) {
             // It is assumed that during addStatusListener() a check is made whether the participant is correctly
             // registered
+            boolean invoked = false;
             try {
                 Device device = getDevice(participant);
                 if (device != null) {
                     Service service = findService(device, null, serviceID);
                     if (service != null) {
+                        if (isDeliveringEvents(service, intervalMillis)) {
+                            logger.trace("Skipping poll of participant '{}', Service '{}' is delivering events",
+                                    participant.getUDN(), serviceID);
+                            setDeviceStatus(participant, true);
+                            return;
+                        }
                         Action action = service.getAction(actionID);
                         if (action != null) {
                             @SuppressWarnings("unchecked")
                             ActionInvocation invocation = new ActionInvocation(action);
                             logger.debug("Polling participant '{}' through Action '{}' of Service '{}' ",
                                     participant.getUDN(), actionID, serviceID);
-                            new ActionCallback.Default(invocation, upnpService.getControlPoint()).run();
-
-                            ActionException anException = invocation.getFailure();
-                            if (anException != null
-                                    && anException.getMessage().contains("Connection error or no response received")) {
-                                // The UDN is not reachable anymore
-                                setDeviceStatus(participant, false);
-                            } else {
-                                // The UDN functions correctly
-                                setDeviceStatus(participant, true);
-                            }
+                            // executed asynchronously by the control point, so the poll scheduler is not blocked
+                            // while waiting for the response
+                            upnpService.getControlPoint().execute(new PollingCallback(invocation, onComplete));
+                            invoked = true;
                         } else {
                             logger.debug("Could not find action '{}' for participant '{}'", actionID,
                                     participant.getUDN());
@@ -479,6 +527,50 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
                 }
             } catch (Exception e) {
                 logger.error("An exception occurred while polling an UPNP device: '{}'", e.getMessage(), e);
+            } finally {
+                if (!invoked) {
+                    onComplete.run();
+                }
+            }
+        }
+
+        private class PollingCallback extends ActionCallback {
+
+            private final Runnable onComplete;
+            private final long start = System.nanoTime();
+
+            private PollingCallback(ActionInvocation invocation, Runnable onComplete) {
+                super(invocation);
+                this.onComplete = onComplete;
+            }
+
+            @Override
+            public void success(ActionInvocation invocation) {
+                try {
+                    recordLatency(participant, start, false);
+                    // The UDN functions correctly
+                    setDeviceStatus(participant, true);
+                } finally {
+                    onComplete.run();
+                }
+            }
+
+            @Override
+            public void failure(ActionInvocation invocation, UpnpResponse operation, String defaultMsg) {
+                try {
+                    recordLatency(participant, start, true);
+                    ActionException anException = invocation.getFailure();
+                    if (anException != null && anException.getMessage() != null
+                            && anException.getMessage().contains("Connection error or no response received")) {
+                        // The UDN is not reachable anymore
+                        setDeviceStatus(participant, false);
+                    } else {
+                        // The UDN functions correctly
+                        setDeviceStatus(participant, true);
+                    }
+                } finally {
+                    onComplete.run();
+                }
             }
         }
     }
@@ -490,24 +582,16 @@ public class UpnpIOServiceImpl implements UpnpIOService, RegistryListener {
 
             int pollingInterval = interval == 0 ? DEFAULT_POLLING_INTERVAL : interval;
 
-            // remove the previous polling job, if any
-            stopPollingForParticipant(participant);
-
             currentStates.put(participant, true);
 
-            Runnable pollingRunnable = new UPNPPollingRunnable(participant, serviceID, actionID);
-            pollingJobs.put(participant,
-                    scheduler.scheduleWithFixedDelay(pollingRunnable, 0, pollingInterval, TimeUnit.SECONDS));
+            // replaces the previous polling job, if any
+            pollingJobs.schedule(participant, pollingInterval,
+                    new UPNPPollingRunnable(participant, serviceID, actionID, pollingInterval));
         }
     }
 
     private void stopPollingForParticipant(UpnpIOParticipant participant) {
-        if (pollingJobs.containsKey(participant)) {
-            ScheduledFuture<?> pollingJob = pollingJobs.get(participant);
-            if (pollingJob != null) {
-                pollingJob.cancel(true);
-            }
-        }
+        pollingJobs.cancel(participant);
     }
 
     @Override
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.upnp.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link UpnpPollScheduler} runs the polls of all participants from a single periodic task instead of one
+ * scheduled job per participant.
+ * <p>
+ * The first poll of each job runs on the next tick. The following polls are shifted by an offset within the interval,
+ * taken from a low-discrepancy sequence, so that polls are spread evenly across the interval instead of all firing at
+ * the same moment. A poll reports its
+ * completion through a callback, so it can run asynchronously; a job is not polled again while its previous poll is
+ * still in flight.
+ *
+ * @param <K> the type of the key identifying a job
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+final class UpnpPollScheduler<K> {
+
+    static final long TICK_MILLIS = 1000;
+
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887498949;
+
+    /**
+     * A poll of a single job.
+     */
+    @FunctionalInterface
+    interface PollTask {
+
+        /**
+         * Starts a poll.
+         *
+         * @param onComplete to be called exactly once when the poll has completed, possibly from another thread
+         */
+        void poll(Runnable onComplete);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(UpnpPollScheduler.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier clock;
+    private final Map<K, Job> jobs = new ConcurrentHashMap<>();
+
+    private long scheduledCount;
+    private @Nullable ScheduledFuture<?> ticker;
+
+    /**
+     * Creates a poll scheduler.
+     *
+     * @param scheduler the scheduler running the periodic task
+     * @param clock the clock in milliseconds
+     */
+    UpnpPollScheduler(ScheduledExecutorService scheduler, LongSupplier clock) {
+        this.scheduler = scheduler;
+        this.clock = clock;
+    }
+
+    /**
+     * Schedules a job, replacing the job with the same key, if any.
+     *
+     * @param key the key of the job
+     * @param intervalSeconds the interval between polls in seconds
+     * @param task the poll
+     */
+    synchronized void schedule(K key, int intervalSeconds, PollTask task) {
+        long intervalMillis = TimeUnit.SECONDS.toMillis(intervalSeconds);
+        double fraction = (scheduledCount++ * GOLDEN_RATIO_FRACTION) % 1;
+        long offsetMillis = (long) (fraction * intervalMillis);
+        jobs.put(key, new Job(intervalMillis, offsetMillis, clock.getAsLong(), task));
+
+        if (ticker == null) {
+            ticker = scheduler.scheduleWithFixedDelay(this::tick, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Cancels a job. A poll that is in flight is not interrupted, but the job is not polled anymore.
+     *
+     * @param key the key of the job
+     * @return {@code true} if a job was cancelled
+     */
+    synchronized boolean cancel(K key) {
+        boolean cancelled = jobs.remove(key) != null;
+        ScheduledFuture<?> ticker = this.ticker;
+        if (jobs.isEmpty() && ticker != null) {
+            ticker.cancel(false);
+            this.ticker = null;
+        }
+        return cancelled;
+    }
+
+    /**
+     * Cancels all jobs.
+     */
+    synchronized void cancelAll() {
+        jobs.clear();
+        ScheduledFuture<?> ticker = this.ticker;
+        if (ticker != null) {
+            ticker.cancel(false);
+            this.ticker = null;
+        }
+    }
+
+    boolean isScheduled(K key) {
+        return jobs.containsKey(key);
+    }
+
+    boolean isEmpty() {
+        return jobs.isEmpty();
+    }
+
+    int size() {
+        return jobs.size();
+    }
+
+    /**
+     * Starts the polls of all jobs that are due.
+     */
+    void tick() {
+        long now = clock.getAsLong();
+        jobs.forEach((key, job) -> {
+            if (now - job.nextPoll < 0) {
+                return;
+            }
+            job.nextPoll = now + job.intervalMillis + job.offsetMillis;
+            job.offsetMillis = 0;
+            if (!job.polling.compareAndSet(false, true)) {
+                logger.trace("Skipping poll of '{}', the previous poll is still in flight", key);
+                return;
+            }
+            try {
+                job.task.poll(() -> job.polling.set(false));
+            } catch (RuntimeException e) {
+                job.polling.set(false);
+                logger.error("An exception occurred while polling '{}': '{}'", key, e.getMessage(), e);
+            }
+        });
+    }
+
+    private static class Job {
+        private final long intervalMillis;
+        private final PollTask task;
+        private final AtomicBoolean polling = new AtomicBoolean();
+        // the offset added once after the first poll, to spread the following polls
+        private volatile long offsetMillis;
+        private volatile long nextPoll;
+
+        private Job(long intervalMillis, long offsetMillis, long nextPoll, PollTask task) {
+            this.intervalMillis = intervalMillis;
+            this.offsetMillis = offsetMillis;
+            this.nextPoll = nextPoll;
+            this.task = task;
+        }
+    }
+}
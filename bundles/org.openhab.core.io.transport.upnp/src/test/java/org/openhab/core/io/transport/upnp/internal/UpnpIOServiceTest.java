@@ -17,6 +17,8 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.openhab.core.io.transport.upnp.UpnpActionStatistics;
 import org.openhab.core.io.transport.upnp.UpnpIOParticipant;
 
 /**
@@ -109,7 +112,7 @@ public class UpnpIOServiceTest {
         upnpIoService.registerParticipant(upnpIoParticipantMock);
         assertEquals(1, upnpIoService.participants.size());
         assertTrue(upnpIoService.participants.contains(upnpIoParticipantMock));
-        assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
+        assertTrue(upnpIoService.pollingJobs.isEmpty());
         assertTrue(upnpIoService.currentStates.keySet().isEmpty());
         assertTrue(upnpIoService.subscriptionCallbacks.keySet().isEmpty());
     }
@@ -119,8 +122,8 @@ public class UpnpIOServiceTest {
         upnpIoService.addStatusListener(upnpIoParticipantMock, SERVICE_ID, ACTION_ID, 60);
         assertEquals(1, upnpIoService.participants.size());
         assertTrue(upnpIoService.participants.contains(upnpIoParticipantMock));
-        assertEquals(1, upnpIoService.pollingJobs.keySet().size());
-        assertTrue(upnpIoService.pollingJobs.containsKey(upnpIoParticipantMock));
+        assertEquals(1, upnpIoService.pollingJobs.size());
+        assertTrue(upnpIoService.pollingJobs.isScheduled(upnpIoParticipantMock));
         assertEquals(1, upnpIoService.currentStates.keySet().size());
         assertTrue(upnpIoService.currentStates.containsKey(upnpIoParticipantMock));
         assertTrue(upnpIoService.subscriptionCallbacks.keySet().isEmpty());
@@ -134,14 +137,14 @@ public class UpnpIOServiceTest {
         upnpIoService.addSubscription(upnpIoParticipantMock, SERVICE_ID, 60);
         assertEquals(1, upnpIoService.participants.size());
         assertTrue(upnpIoService.participants.contains(upnpIoParticipantMock));
-        assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
+        assertTrue(upnpIoService.pollingJobs.isEmpty());
         assertTrue(upnpIoService.currentStates.keySet().isEmpty());
         assertEquals(1, upnpIoService.subscriptionCallbacks.size());
 
         upnpIoService.addSubscription(upnpIoParticipant2Mock, SERVICE_ID_2, 60);
         assertEquals(2, upnpIoService.participants.size());
         assertTrue(upnpIoService.participants.contains(upnpIoParticipantMock));
-        assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
+        assertTrue(upnpIoService.pollingJobs.isEmpty());
         assertTrue(upnpIoService.currentStates.keySet().isEmpty());
         assertEquals(2, upnpIoService.subscriptionCallbacks.size());
 
@@ -149,7 +152,7 @@ public class UpnpIOServiceTest {
         upnpIoService.unregisterParticipant(upnpIoParticipantMock);
         assertEquals(1, upnpIoService.participants.size());
         assertTrue(upnpIoService.participants.contains(upnpIoParticipant2Mock));
-        assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
+        assertTrue(upnpIoService.pollingJobs.isEmpty());
         assertTrue(upnpIoService.currentStates.keySet().isEmpty());
         assertEquals(1, upnpIoService.subscriptionCallbacks.size());
 
@@ -158,9 +161,24 @@ public class UpnpIOServiceTest {
         assertThatEverythingIsEmpty();
     }
 
+    @Test
+    public void testGetActionStatistics() {
+        assertNull(upnpIoService.getActionStatistics(upnpIoParticipantMock));
+
+        ActionLatency latency = new ActionLatency();
+        latency.record(TimeUnit.MILLISECONDS.toNanos(10), false);
+        latency.record(TimeUnit.MILLISECONDS.toNanos(30), true);
+        upnpIoService.actionLatencies.put(UDN_1_STRING, latency);
+        assertEquals(new UpnpActionStatistics(2, 1, 30, 20, 30),
+                upnpIoService.getActionStatistics(upnpIoParticipantMock));
+
+        upnpIoService.unregisterParticipant(upnpIoParticipantMock);
+        assertNull(upnpIoService.getActionStatistics(upnpIoParticipantMock));
+    }
+
     private void assertThatEverythingIsEmpty() {
         assertTrue(upnpIoService.participants.isEmpty());
-        assertTrue(upnpIoService.pollingJobs.keySet().isEmpty());
+        assertTrue(upnpIoService.pollingJobs.isEmpty());
         assertTrue(upnpIoService.currentStates.keySet().isEmpty());
         assertTrue(upnpIoService.subscriptionCallbacks.keySet().isEmpty());
     }
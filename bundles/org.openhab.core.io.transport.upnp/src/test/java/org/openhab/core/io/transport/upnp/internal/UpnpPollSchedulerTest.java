@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.io.transport.upnp.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link UpnpPollScheduler}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class UpnpPollSchedulerTest {
+
+    private final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    private final ScheduledFuture<?> ticker = mock(ScheduledFuture.class);
+    private long now;
+    private final UpnpPollScheduler<String> scheduler = new UpnpPollScheduler<>(executor, () -> now);
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(ticker).when(executor).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void testSingleTickerIsSharedByAllJobs() {
+        scheduler.schedule("a", 60, onComplete -> onComplete.run());
+        scheduler.schedule("b", 60, onComplete -> onComplete.run());
+
+        verify(executor, times(1)).scheduleWithFixedDelay(any(), eq(0L), eq(UpnpPollScheduler.TICK_MILLIS),
+                eq(TimeUnit.MILLISECONDS));
+
+        scheduler.cancel("a");
+        verify(ticker, never()).cancel(anyBoolean());
+        scheduler.cancel("b");
+        verify(ticker).cancel(false);
+        assertThat(scheduler.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testFirstPollsAreImmediate() {
+        List<String> polls = new ArrayList<>();
+        scheduler.schedule("a", 60, onComplete -> {
+            polls.add("a");
+            onComplete.run();
+        });
+        scheduler.schedule("b", 60, onComplete -> {
+            polls.add("b");
+            onComplete.run();
+        });
+
+        scheduler.tick();
+
+        assertThat(polls, containsInAnyOrder("a", "b"));
+    }
+
+    @Test
+    public void testPollsAreSpreadAcrossTheInterval() {
+        int jobs = 60;
+        Map<String, List<Long>> polls = new HashMap<>();
+        for (int i = 0; i < jobs; i++) {
+            String key = "job" + i;
+            scheduler.schedule(key, 60, onComplete -> {
+                polls.computeIfAbsent(key, k -> new ArrayList<>()).add(now);
+                onComplete.run();
+            });
+        }
+
+        // offsets are not aligned with the ticks, so the last poll can be up to a tick late
+        for (now = 0; now <= 120_000; now += UpnpPollScheduler.TICK_MILLIS) {
+            scheduler.tick();
+        }
+
+        assertThat(polls.size(), is(jobs));
+        int[] pollsPerTenSeconds = new int[6];
+        polls.values().forEach(times -> {
+            // the first polls are all immediate, the following ones are spread
+            assertThat(times.getFirst(), is(0L));
+            pollsPerTenSeconds[(int) Math.min((times.get(1) - 60_000) / 10_000, 5)]++;
+        });
+        for (int count : pollsPerTenSeconds) {
+            assertThat(count, is(both(greaterThanOrEqualTo(8)).and(lessThanOrEqualTo(12))));
+        }
+    }
+
+    @Test
+    public void testJobIsPolledEveryInterval() {
+        List<Long> polls = new ArrayList<>();
+        scheduler.schedule("a", 10, onComplete -> {
+            polls.add(now);
+            onComplete.run();
+        });
+
+        for (now = 0; now < 35_000; now += UpnpPollScheduler.TICK_MILLIS) {
+            scheduler.tick();
+        }
+
+        assertThat(polls, is(List.of(0L, 10_000L, 20_000L, 30_000L)));
+    }
+
+    @Test
+    public void testJobIsNotPolledWhilePollIsInFlight() {
+        List<Runnable> pending = new ArrayList<>();
+        scheduler.schedule("a", 1, pending::add);
+
+        scheduler.tick();
+        now += 1000;
+        scheduler.tick();
+        assertThat(pending.size(), is(1));
+
+        pending.getFirst().run();
+        now += 1000;
+        scheduler.tick();
+        assertThat(pending.size(), is(2));
+    }
+
+    @Test
+    public void testFailingPollDoesNotStopJob() {
+        List<Long> polls = new ArrayList<>();
+        scheduler.schedule("a", 1, onComplete -> {
+            polls.add(now);
+            throw new IllegalStateException("test");
+        });
+
+        scheduler.tick();
+        now += 1000;
+        scheduler.tick();
+
+        assertThat(polls.size(), is(2));
+    }
+
+    @Test
+    public void testCancelledJobIsNotPolled() {
+        List<Long> polls = new ArrayList<>();
+        scheduler.schedule("a", 1, onComplete -> polls.add(now));
+        scheduler.cancel("a");
+
+        scheduler.tick();
+
+        assertThat(polls, is(empty()));
+        assertThat(scheduler.isScheduled("a"), is(false));
+    }
+}
@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.emf.common.util.URI;
@@ -56,6 +57,7 @@ import org.slf4j.LoggerFactory;
  * @author Simon Kaufmann - added validation of models before loading them
  * @author Laurent Garnier - Added methods generateFileFormat and createIsolatedModel
  *         + return errors and warnings when loading a model
+ * @author Mark Herwege - Parse and validate new models only once
  */
 @Component(immediate = true)
 @NonNullByDefault
@@ -67,6 +69,8 @@ public class ModelRepositoryImpl implements ModelRepository {
             StandardCharsets.UTF_8.name());
 
     private final List<ModelRepositoryChangeListener> listeners = new CopyOnWriteArrayList<>();
+    // names of new models that are loaded and validated, but not yet added, guarded by the resource set lock
+    private final Set<String> loadingModels = ConcurrentHashMap.newKeySet();
 
     private final SafeEMF safeEmf;
 
@@ -118,75 +122,110 @@ public class ModelRepositoryImpl implements ModelRepository {
         } else {
             logger.info("Loading DSL model '{}'", name);
         }
-        Resource resource = null;
         byte[] bytes;
         try (InputStream inputStream = originalInputStream) {
             bytes = inputStream.readAllBytes();
-            List<String> newErrors = new ArrayList<>();
-            List<String> newWarnings = new ArrayList<>();
-            boolean valid = validateModel(name, new ByteArrayInputStream(bytes), newErrors, newWarnings);
-            if (errors != null) {
-                errors.addAll(newErrors);
-            }
-            if (warnings != null) {
-                warnings.addAll(newWarnings);
-            }
-            if (!valid) {
-                logger.warn("DSL model '{}' has errors, therefore ignoring it: {}", name, String.join("\n", newErrors));
-                removeResource(name);
+        } catch (IOException e) {
+            handleParseError(name, e, errors);
+            return false;
+        }
+        Resource resource = getResource(name);
+        if (resource != null) {
+            return refreshModel(name, resource, bytes, errors, warnings);
+        }
+        boolean newModel = false;
+        synchronized (resourceSet) {
+            // apply this content after a concurrent load of the same new model, so the last content wins
+            if (!awaitLoaded(name)) {
                 return false;
             }
-            if (!newWarnings.isEmpty()) {
-                logger.info("Validation issues found in DSL model '{}', using it anyway:\n{}", name,
-                        String.join("\n", newWarnings));
+            // try again to retrieve the resource as it might have been created by now
+            resource = resourceSet.getResource(URI.createURI(name), false);
+            if (resource == null) {
+                // seems to be a new file
+                // don't use XMI as a default
+                Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().remove("*");
+                resource = resourceSet.createResource(URI.createURI(name));
+                if (resource == null) {
+                    logger.warn("Ignoring file '{}' as we do not have a parser for it.", name);
+                    return false;
+                }
+                loadingModels.add(name);
+                newModel = true;
             }
+        }
+        return newModel ? addModel(name, resource, bytes, errors, warnings)
+                : refreshModel(name, resource, bytes, errors, warnings);
+    }
+
+    /**
+     * Loads a new model. As there is no previous content to keep, the model is parsed only once and validated in
+     * place. It is hidden from the repository until it turned out to be valid.
+     */
+    private boolean addModel(String name, Resource resource, byte[] bytes, @Nullable List<String> errors,
+            @Nullable List<String> warnings) {
+        boolean valid = false;
+        try (InputStream inputStream = new ByteArrayInputStream(bytes)) {
+            resource.load(inputStream, resourceOptions);
+            valid = validateModel(name, resource, errors, warnings);
         } catch (IOException e) {
-            if (errors != null) {
-                errors.add("Model cannot be parsed correctly: %s".formatted(e.getMessage()));
+            handleParseError(name, e, errors);
+        } finally {
+            synchronized (resourceSet) {
+                loadingModels.remove(name);
+                if (valid) {
+                    notifyListeners(name, EventType.ADDED);
+                } else {
+                    resourceSet.getResources().remove(resource);
+                }
+                resourceSet.notifyAll();
             }
-            logger.warn("DSL model '{}' cannot be parsed correctly!", name, e);
+        }
+        return valid;
+    }
+
+    /**
+     * Reloads an existing model. The new content is validated on a separate resource first, in order to keep the
+     * original one for emergency-removal in case of errors.
+     */
+    private boolean refreshModel(String name, Resource resource, byte[] bytes, @Nullable List<String> errors,
+            @Nullable List<String> warnings) {
+        Resource validationResource = resourceSet.createResource(URI.createURI(PREFIX_TMP_MODEL + name));
+        boolean valid;
+        try (InputStream inputStream = new ByteArrayInputStream(bytes)) {
+            validationResource.load(inputStream, resourceOptions);
+            valid = validateModel(name, validationResource, errors, warnings);
+        } catch (IOException e) {
+            handleParseError(name, e, errors);
+            return false;
+        } finally {
+            resourceSet.getResources().remove(validationResource);
+        }
+        if (!valid) {
+            removeResource(name);
             return false;
         }
         try (InputStream inputStream = new ByteArrayInputStream(bytes)) {
-            resource = getResource(name);
-            if (resource == null) {
-                synchronized (resourceSet) {
-                    // try again to retrieve the resource as it might have been created by now
-                    resource = getResource(name);
-                    if (resource == null) {
-                        // seems to be a new file
-                        // don't use XMI as a default
-                        Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().remove("*");
-                        resource = resourceSet.createResource(URI.createURI(name));
-                        if (resource != null) {
-                            resource.load(inputStream, resourceOptions);
-                            notifyListeners(name, EventType.ADDED);
-                            return true;
-                        } else {
-                            logger.warn("Ignoring file '{}' as we do not have a parser for it.", name);
-                        }
-                    }
-                }
-            } else {
-                synchronized (resourceSet) {
-                    resource.unload();
-                    resource.load(inputStream, resourceOptions);
-                    notifyListeners(name, EventType.MODIFIED);
-                    return true;
-                }
+            synchronized (resourceSet) {
+                resource.unload();
+                resource.load(inputStream, resourceOptions);
+                notifyListeners(name, EventType.MODIFIED);
+                return true;
             }
         } catch (IOException e) {
-            if (errors != null) {
-                errors.add("Model cannot be parsed correctly: %s".formatted(e.getMessage()));
-            }
-            logger.warn("DSL model '{}' cannot be parsed correctly!", name, e);
-            if (resource != null) {
-                resourceSet.getResources().remove(resource);
-            }
+            handleParseError(name, e, errors);
+            resourceSet.getResources().remove(resource);
         }
         return false;
     }
 
+    private void handleParseError(String name, IOException e, @Nullable List<String> errors) {
+        if (errors != null) {
+            errors.add("Model cannot be parsed correctly: %s".formatted(e.getMessage()));
+        }
+        logger.warn("DSL model '{}' cannot be parsed correctly!", name, e);
+    }
+
     @Override
     public boolean removeModel(String name) {
         if (isIsolatedModel(name)) {
@@ -198,17 +237,39 @@ public class ModelRepositoryImpl implements ModelRepository {
     }
 
     private boolean removeResource(String name) {
-        Resource resource = getResource(name);
-        if (resource != null) {
-            synchronized (resourceSet) {
+        synchronized (resourceSet) {
+            if (!awaitLoaded(name)) {
+                return false;
+            }
+            Resource resource = getResource(name);
+            if (resource != null) {
                 // do not physically delete it, but remove it from the resource set
                 notifyListeners(name, EventType.REMOVED);
                 resourceSet.getResources().remove(resource);
                 return true;
+            } else {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Waits until a new model with the given name is no longer being loaded by another thread. Must be called while
+     * holding the resource set lock.
+     *
+     * @return false if the thread was interrupted while waiting
+     */
+    private boolean awaitLoaded(String name) {
+        while (loadingModels.contains(name)) {
+            try {
+                resourceSet.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while waiting for DSL model '{}' to be loaded", name);
+                return false;
             }
-        } else {
-            return false;
         }
+        return true;
     }
 
     @Override
@@ -217,10 +278,7 @@ public class ModelRepositoryImpl implements ModelRepository {
             // Make a copy to avoid ConcurrentModificationException
             List<Resource> resourceListCopy = new ArrayList<>(resourceSet.getResources());
 
-            return resourceListCopy.stream()
-                    .filter(input -> input.getURI().lastSegment().contains(".") && input.isLoaded()
-                            && modelType.equalsIgnoreCase(input.getURI().fileExtension())
-                            && !isIsolatedModel(input.getURI().lastSegment()))
+            return resourceListCopy.stream().filter(input -> isModelOfType(input, modelType))
                     .map(from -> from.getURI().path()).toList();
         }
     }
@@ -231,9 +289,7 @@ public class ModelRepositoryImpl implements ModelRepository {
             // Make a copy to avoid ConcurrentModificationException
             List<Resource> resourceListCopy = new ArrayList<>(resourceSet.getResources());
             for (Resource resource : resourceListCopy) {
-                if (resource.getURI().lastSegment().contains(".") && resource.isLoaded()
-                        && modelType.equalsIgnoreCase(resource.getURI().fileExtension())
-                        && !isIsolatedModel(resource.getURI().lastSegment())) {
+                if (isModelOfType(resource, modelType)) {
                     XtextResource xtextResource = (XtextResource) resource;
                     // It's not sufficient to discard the derived state.
                     // The quick & dirts solution is to reparse the whole resource.
@@ -253,9 +309,7 @@ public class ModelRepositoryImpl implements ModelRepository {
             // Make a copy to avoid ConcurrentModificationException
             List<Resource> resourceListCopy = new ArrayList<>(resourceSet.getResources());
             for (Resource resource : resourceListCopy) {
-                if (resource.getURI().lastSegment().contains(".") && resource.isLoaded()
-                        && modelType.equalsIgnoreCase(resource.getURI().fileExtension())
-                        && !isIsolatedModel(resource.getURI().lastSegment())) {
+                if (isModelOfType(resource, modelType)) {
                     logger.debug("Removing resource '{}'", resource.getURI().lastSegment());
                     ret.add(resource.getURI().lastSegment());
                     resourceSet.getResources().remove(resource);
@@ -300,7 +354,14 @@ public class ModelRepositoryImpl implements ModelRepository {
     }
 
     private @Nullable Resource getResource(String name) {
-        return resourceSet.getResource(URI.createURI(name), false);
+        return loadingModels.contains(name) ? null : resourceSet.getResource(URI.createURI(name), false);
+    }
+
+    private boolean isModelOfType(Resource resource, String modelType) {
+        String name = resource.getURI().lastSegment();
+        return name.contains(".") && resource.isLoaded()
+                && modelType.equalsIgnoreCase(resource.getURI().fileExtension()) && !isIsolatedModel(name)
+                && !loadingModels.contains(name);
     }
 
     /**
@@ -315,72 +376,81 @@ public class ModelRepositoryImpl implements ModelRepository {
      * all kinds of other errors (i.e. violations of validation checks) will only be logged, but not included in the
      * return value.
      * </ol>
-     * <p>
-     * Validation will be done on a separate resource, in order to keep the original one intact in case its content
-     * needs to be removed because of syntactical errors.
      *
      * @param name the model name
-     * @param inputStream an input stream with the model's content
+     * @param resource the loaded resource with the model's content
      * @param errors the list to be used to fill the errors
      * @param warnings the list to be used to fill the warnings
-     * @return false if any syntactical error were found, false otherwise
-     * @throws IOException if there was an error with the given {@link InputStream}, loading the resource from there
+     * @return false if any syntactical error were found, true otherwise
      */
-    private boolean validateModel(String name, InputStream inputStream, List<String> errors, List<String> warnings)
-            throws IOException {
-        // use another resource for validation in order to keep the original one for emergency-removal in case of errors
-        Resource resource = resourceSet.createResource(URI.createURI(PREFIX_TMP_MODEL + name));
-        try {
-            resource.load(inputStream, resourceOptions);
+    private boolean validateModel(String name, Resource resource, @Nullable List<String> errors,
+            @Nullable List<String> warnings) {
+        List<String> newErrors = new ArrayList<>();
+        List<String> newWarnings = new ArrayList<>();
+        boolean valid = validateResource(name, resource, newErrors, newWarnings);
+        if (errors != null) {
+            errors.addAll(newErrors);
+        }
+        if (warnings != null) {
+            warnings.addAll(newWarnings);
+        }
+        if (!valid) {
+            logger.warn("DSL model '{}' has errors, therefore ignoring it: {}", name, String.join("\n", newErrors));
+            return false;
+        }
+        if (!newWarnings.isEmpty()) {
+            logger.info("Validation issues found in DSL model '{}', using it anyway:\n{}", name,
+                    String.join("\n", newWarnings));
+        }
+        return true;
+    }
 
-            if (!resource.getContents().isEmpty()) {
-                // Check for syntactical errors
-                for (Diagnostic diagnostic : resource.getErrors()) {
-                    errors.add(MessageFormat.format("[{0},{1}]: {2}", Integer.toString(diagnostic.getLine()),
-                            Integer.toString(diagnostic.getColumn()), diagnostic.getMessage()));
-                }
-                if (!resource.getErrors().isEmpty()) {
-                    return false;
-                }
+    private boolean validateResource(String name, Resource resource, List<String> errors, List<String> warnings) {
+        if (!resource.getContents().isEmpty()) {
+            // Check for syntactical errors
+            for (Diagnostic diagnostic : resource.getErrors()) {
+                errors.add(MessageFormat.format("[{0},{1}]: {2}", Integer.toString(diagnostic.getLine()),
+                        Integer.toString(diagnostic.getColumn()), diagnostic.getMessage()));
+            }
+            if (!resource.getErrors().isEmpty()) {
+                return false;
+            }
 
-                // Check for validation errors, but log them only
-                try {
-                    String modelType = resource.getURI().fileExtension().toLowerCase(Locale.ROOT);
-                    final org.eclipse.emf.common.util.Diagnostic diagnostic = safeEmf
-                            .call(() -> Diagnostician.INSTANCE.validate(resource.getContents().getFirst()));
-                    for (org.eclipse.emf.common.util.Diagnostic d : diagnostic.getChildren()) {
-                        switch (modelType) {
-                            case "rules":
-                                if (d instanceof AbstractValidationDiagnostic vd
-                                        && d.getSeverity() == org.eclipse.emf.common.util.Diagnostic.ERROR
-                                        && "uid".equals(vd.getIssueCode())) {
-                                    errors.add(d.getMessage());
-                                } else {
-                                    warnings.add(d.getMessage());
-                                }
-                                break;
-                            case "script":
+            // Check for validation errors, but log them only
+            try {
+                String modelType = resource.getURI().fileExtension().toLowerCase(Locale.ROOT);
+                final org.eclipse.emf.common.util.Diagnostic diagnostic = safeEmf
+                        .call(() -> Diagnostician.INSTANCE.validate(resource.getContents().getFirst()));
+                for (org.eclipse.emf.common.util.Diagnostic d : diagnostic.getChildren()) {
+                    switch (modelType) {
+                        case "rules":
+                            if (d instanceof AbstractValidationDiagnostic vd
+                                    && d.getSeverity() == org.eclipse.emf.common.util.Diagnostic.ERROR
+                                    && "uid".equals(vd.getIssueCode())) {
+                                errors.add(d.getMessage());
+                            } else {
                                 warnings.add(d.getMessage());
-                                break;
-                            default:
-                                if (d.getSeverity() == org.eclipse.emf.common.util.Diagnostic.ERROR) {
-                                    errors.add(d.getMessage());
-                                } else {
-                                    warnings.add(d.getMessage());
-                                }
-                                break;
-                        }
-                    }
-                    if (!errors.isEmpty()) {
-                        return false;
+                            }
+                            break;
+                        case "script":
+                            warnings.add(d.getMessage());
+                            break;
+                        default:
+                            if (d.getSeverity() == org.eclipse.emf.common.util.Diagnostic.ERROR) {
+                                errors.add(d.getMessage());
+                            } else {
+                                warnings.add(d.getMessage());
+                            }
+                            break;
                     }
-                } catch (NullPointerException e) {
-                    // see https://github.com/eclipse/smarthome/issues/3335
-                    logger.debug("Validation of '{}' skipped due to internal errors.", name);
                 }
+                if (!errors.isEmpty()) {
+                    return false;
+                }
+            } catch (NullPointerException e) {
+                // see https://github.com/eclipse/smarthome/issues/3335
+                logger.debug("Validation of '{}' skipped due to internal errors.", name);
             }
-        } finally {
-            resourceSet.getResources().remove(resource);
         }
         return true;
     }
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.model.core.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * Tests for {@link ModelRepositoryImpl}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class ModelRepositoryImplTest extends JavaTest {
+
+    private static final String MODEL_TYPE = "testmodel";
+    private static final String MODEL_NAME = "test." + MODEL_TYPE;
+    private static final String BLOCKING_CONTENT = "blocking";
+    private static final String INVALID_CONTENT = "invalid";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch blockingLoadStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseBlockingLoad = new CountDownLatch(1);
+    private final List<String> events = new CopyOnWriteArrayList<>();
+
+    private @NonNullByDefault({}) ModelRepositoryImpl modelRepository;
+
+    @BeforeEach
+    public void setUp() {
+        modelRepository = new ModelRepositoryImpl(new SafeEMFImpl());
+        Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put(MODEL_TYPE,
+                (Resource.Factory) TestResource::new);
+        modelRepository.addModelRepositoryChangeListener((name, type) -> events.add(type + " " + name));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        releaseBlockingLoad.countDown();
+        Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().remove(MODEL_TYPE);
+    }
+
+    @Test
+    public void newModelIsParsedOnce() {
+        assertThat(modelRepository.addOrRefreshModel(MODEL_NAME, stream("first")), is(true));
+
+        assertThat(loads.get(), is(1));
+        assertThat(getContent(), is("first"));
+        assertThat(modelRepository.getAllModelNamesOfType(MODEL_TYPE), contains(MODEL_NAME));
+        assertThat(events, contains("ADDED " + MODEL_NAME));
+    }
+
+    @Test
+    public void invalidNewModelIsDropped() {
+        List<String> errors = new ArrayList<>();
+
+        assertThat(modelRepository.addOrRefreshModel(MODEL_NAME, stream(INVALID_CONTENT), errors, null), is(false));
+
+        assertThat(loads.get(), is(1));
+        assertThat(errors, contains("[1,1]: invalid content"));
+        assertThat(modelRepository.getModel(MODEL_NAME), is(nullValue()));
+        assertThat(events, is(empty()));
+    }
+
+    @Test
+    public void refreshedModelIsValidatedBeforeReplacingTheContent() {
+        modelRepository.addOrRefreshModel(MODEL_NAME, stream("first"));
+
+        assertThat(modelRepository.addOrRefreshModel(MODEL_NAME, stream("second")), is(true));
+
+        assertThat(loads.get(), is(3));
+        assertThat(getContent(), is("second"));
+        assertThat(events, contains("ADDED " + MODEL_NAME, "MODIFIED " + MODEL_NAME));
+    }
+
+    @Test
+    public void newModelIsHiddenWhileLoading() throws Exception {
+        CompletableFuture<Boolean> first = CompletableFuture
+                .supplyAsync(() -> modelRepository.addOrRefreshModel(MODEL_NAME, stream(BLOCKING_CONTENT)));
+        assertThat(blockingLoadStarted.await(5, TimeUnit.SECONDS), is(true));
+
+        assertThat(modelRepository.getModel(MODEL_NAME), is(nullValue()));
+        assertThat(modelRepository.getAllModelNamesOfType(MODEL_TYPE), is(emptyIterable()));
+
+        releaseBlockingLoad.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS), is(true));
+        assertThat(getContent(), is(BLOCKING_CONTENT));
+    }
+
+    @Test
+    public void contentReceivedWhileLoadingANewModelIsAppliedAfterwards() throws Exception {
+        CompletableFuture<Boolean> first = CompletableFuture
+                .supplyAsync(() -> modelRepository.addOrRefreshModel(MODEL_NAME, stream(BLOCKING_CONTENT)));
+        assertThat(blockingLoadStarted.await(5, TimeUnit.SECONDS), is(true));
+        Thread secondThread = new Thread(() -> modelRepository.addOrRefreshModel(MODEL_NAME, stream("second")));
+        secondThread.start();
+        waitForAssert(() -> assertThat(secondThread.getState(), is(Thread.State.WAITING)));
+
+        releaseBlockingLoad.countDown();
+        secondThread.join(5000);
+
+        assertThat(first.get(5, TimeUnit.SECONDS), is(true));
+        assertThat(secondThread.isAlive(), is(false));
+        assertThat(getContent(), is("second"));
+        assertThat(events, contains("ADDED " + MODEL_NAME, "MODIFIED " + MODEL_NAME));
+    }
+
+    @Test
+    public void removalWhileLoadingANewModelIsAppliedAfterwards() throws Exception {
+        CompletableFuture<Boolean> first = CompletableFuture
+                .supplyAsync(() -> modelRepository.addOrRefreshModel(MODEL_NAME, stream(BLOCKING_CONTENT)));
+        assertThat(blockingLoadStarted.await(5, TimeUnit.SECONDS), is(true));
+        AtomicBoolean removed = new AtomicBoolean();
+        Thread removalThread = new Thread(() -> removed.set(modelRepository.removeModel(MODEL_NAME)));
+        removalThread.start();
+        waitForAssert(() -> assertThat(removalThread.getState(), is(Thread.State.WAITING)));
+
+        releaseBlockingLoad.countDown();
+        removalThread.join(5000);
+
+        assertThat(first.get(5, TimeUnit.SECONDS), is(true));
+        assertThat(removed.get(), is(true));
+        assertThat(modelRepository.getModel(MODEL_NAME), is(nullValue()));
+        assertThat(events, contains("ADDED " + MODEL_NAME, "REMOVED " + MODEL_NAME));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private @Nullable String getContent() {
+        EObject model = modelRepository.getModel(MODEL_NAME);
+        return model instanceof EAnnotation annotation ? annotation.getSource() : null;
+    }
+
+    /**
+     * A resource whose model is an annotation holding the loaded content.
+     */
+    private class TestResource extends ResourceImpl {
+
+        TestResource(URI uri) {
+            super(uri);
+        }
+
+        @Override
+        protected void doLoad(@Nullable InputStream inputStream, @Nullable Map<?, ?> options) throws IOException {
+            loads.incrementAndGet();
+            String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+            if (BLOCKING_CONTENT.equals(content)) {
+                blockingLoadStarted.countDown();
+                try {
+                    releaseBlockingLoad.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (INVALID_CONTENT.equals(content)) {
+                getErrors().add(new TestDiagnostic());
+            }
+            EAnnotation annotation = EcoreFactory.eINSTANCE.createEAnnotation();
+            annotation.setSource(content);
+            getContents().add(annotation);
+        }
+    }
+
+    private static class TestDiagnostic implements Resource.Diagnostic {
+
+        @Override
+        public String getMessage() {
+            return "invalid content";
+        }
+
+        @Override
+        public @Nullable String getLocation() {
+            return null;
+        }
+
+        @Override
+        public int getLine() {
+            return 1;
+        }
+
+        @Override
+        public int getColumn() {
+            return 1;
+        }
+    }
+}
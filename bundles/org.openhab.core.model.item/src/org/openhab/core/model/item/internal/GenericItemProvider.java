@@ -48,6 +48,7 @@ import org.openhab.core.model.item.BindingConfigReader;
 import org.openhab.core.model.items.ItemModel;
 import org.openhab.core.model.items.ModelBinding;
 import org.openhab.core.model.items.ModelItem;
+import org.openhab.core.service.StateDescriptionService;
 import org.openhab.core.types.StateDescriptionFragment;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
 import org.openhab.core.types.StateDescriptionFragmentProvider;
@@ -67,6 +68,7 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Initial contribution
  * @author Thomas Eichstaedt-Engelen - Initial contribution
  * @author Laurent Garnier - Add method getAllFromModel + do not notify the item registry for isolated models
+ * @author Mark Herwege - Allow caching of state description fragments
  */
 @NonNullByDefault
 @Component(service = { ItemProvider.class, GenericItemProvider.class,
@@ -92,6 +94,8 @@ public class GenericItemProvider extends AbstractProvider<Item>
 
     private Integer rank;
 
+    private volatile @Nullable StateDescriptionService stateDescriptionService;
+
     @Activate
     public GenericItemProvider(final @Reference ModelRepository modelRepository,
             final @Reference GenericMetadataProvider genericMetadataProvider, Map<String, Object> properties) {
@@ -124,6 +128,21 @@ public class GenericItemProvider extends AbstractProvider<Item>
         return rank;
     }
 
+    @Override
+    public boolean isCacheable(String itemName) {
+        // state formatters that change without an item change are invalidated in modelChanged
+        return true;
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setStateDescriptionService(StateDescriptionService stateDescriptionService) {
+        this.stateDescriptionService = stateDescriptionService;
+    }
+
+    public void unsetStateDescriptionService(StateDescriptionService stateDescriptionService) {
+        this.stateDescriptionService = null;
+    }
+
     /**
      * Add another instance of an {@link ItemFactory}. Used by Declarative Services.
      *
@@ -418,14 +437,24 @@ public class GenericItemProvider extends AbstractProvider<Item>
                 case ADDED:
                 case MODIFIED:
                     Map<String, Item> oldItems = toItemMap(itemsMap.get(modelName));
+                    Map<String, String> oldFormatters = Map
+                            .copyOf(stateFormattersMap.getOrDefault(modelName, Map.of()));
                     Map<String, Item> newItems = toItemMap(getItemsFromModel(modelName));
                     itemsMap.put(modelName, newItems.values());
                     if (!isIsolatedModel(modelName)) {
+                        Map<String, String> newFormatters = stateFormattersMap.getOrDefault(modelName, Map.of());
                         for (Item newItem : newItems.values()) {
                             Item oldItem = oldItems.get(newItem.getName());
                             if (oldItem != null) {
                                 if (hasItemChanged(oldItem, newItem)) {
                                     notifyListenersAboutUpdatedElement(oldItem, newItem);
+                                } else if (!Objects.equals(oldFormatters.get(newItem.getName()),
+                                        newFormatters.get(newItem.getName()))) {
+                                    // only the state formatter changed, no item event will invalidate the cache
+                                    StateDescriptionService stateDescriptionService = this.stateDescriptionService;
+                                    if (stateDescriptionService != null) {
+                                        stateDescriptionService.invalidateStateDescription(newItem.getName());
+                                    }
                                 }
                             } else {
                                 notifyListenersAboutAddedElement(newItem);
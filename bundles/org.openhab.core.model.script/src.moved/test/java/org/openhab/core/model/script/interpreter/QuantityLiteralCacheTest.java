@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.model.script.interpreter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.lang.ref.WeakReference;
+
+import javax.measure.Unit;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.dimension.Currency;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.CurrencyUnits;
+import org.openhab.core.library.unit.SIUnits;
+
+/**
+ * Tests for {@link QuantityLiteralCache}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+public class QuantityLiteralCacheTest {
+
+    @Test
+    public void quantityIsReusedForTheSameLiteral() {
+        Object literal = new Object();
+
+        QuantityType<?> quantity = QuantityLiteralCache.get(literal, "20", "°C");
+
+        assertThat(quantity, is(new QuantityType<>(20, SIUnits.CELSIUS)));
+        assertThat(QuantityLiteralCache.get(literal, "20", "°C"), is(sameInstance(quantity)));
+    }
+
+    @Test
+    public void literalsAreComparedByIdentity() {
+        Object literal = new Object();
+        Object otherLiteral = new Object();
+
+        assertThat(QuantityLiteralCache.get(literal, "20", "°C"), is(new QuantityType<>(20, SIUnits.CELSIUS)));
+        assertThat(QuantityLiteralCache.get(otherLiteral, "5", "m"), is(new QuantityType<>(5, SIUnits.METRE)));
+    }
+
+    @Test
+    public void currencyQuantityIsNotCached() {
+        Unit<Currency> currency = CurrencyUnits.createCurrency("XTS", "XTS");
+        CurrencyUnits.addUnit(currency);
+        try {
+            Object literal = new Object();
+
+            QuantityType<?> quantity = QuantityLiteralCache.get(literal, "10", "XTS");
+
+            assertThat(quantity.getUnit(), is(currency));
+            assertThat(QuantityLiteralCache.get(literal, "10", "XTS"), is(not(sameInstance(quantity))));
+        } finally {
+            CurrencyUnits.removeUnit(currency);
+        }
+    }
+
+    @Test
+    public void entryIsDroppedWhenTheLiteralIsCollected() throws InterruptedException {
+        Object literal = new Object();
+        WeakReference<Object> reference = new WeakReference<>(literal);
+        QuantityLiteralCache.get(literal, "20", "°C");
+        int size = QuantityLiteralCache.size();
+
+        literal = null;
+        for (int i = 0; i < 50 && (reference.get() != null || QuantityLiteralCache.size() >= size); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertThat(reference.get(), is(nullValue()));
+        assertThat(QuantityLiteralCache.size(), is(lessThan(size)));
+
+        // a new literal, e.g. at the same place in a reloaded script, is parsed again
+        Object newLiteral = new Object();
+        assertThat(QuantityLiteralCache.get(newLiteral, "21", "°C"), is(new QuantityType<>(21, SIUnits.CELSIUS)));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.model.script.scoping;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.StopMoveType;
+import org.openhab.core.types.RefreshType;
+import org.openhab.core.types.Type;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Tests for {@link StateAndCommandProvider}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+public class StateAndCommandProviderTest {
+
+    @Test
+    public void typeIsFoundByName() {
+        assertThat(StateAndCommandProvider.getType("ON"), is(OnOffType.ON));
+        assertThat(StateAndCommandProvider.getType("NULL"), is(UnDefType.NULL));
+        assertThat(StateAndCommandProvider.getType("STOP"), is(StopMoveType.STOP));
+        assertThat(StateAndCommandProvider.getType("REFRESH"), is(RefreshType.REFRESH));
+    }
+
+    @Test
+    public void everyTypeIsFoundByItsName() {
+        for (Type type : StateAndCommandProvider.getAllTypes()) {
+            assertThat(StateAndCommandProvider.getType(type.toString()), is(sameInstance(type)));
+        }
+    }
+
+    @Test
+    public void unknownNameIsNotFound() {
+        assertThat(StateAndCommandProvider.getType("on"), is(nullValue()));
+        assertThat(StateAndCommandProvider.getType("MyItem"), is(nullValue()));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.model.script.interpreter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.measure.Dimension;
+
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.CurrencyUnits;
+
+/**
+ * Keeps the quantities of the quantity literals in DSL scripts, so a literal like <code>20 °C</code> is only parsed
+ * once and not every time it is evaluated.
+ * <p>
+ * The cache is static, because a new interpreter instance is used for each script execution. The parsed literals are
+ * weakly referenced keys, so the cached quantities go away together with the script model they belong to. Currency
+ * quantities are not cached, as the meaning of a currency symbol changes with the configured base currency.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+final class QuantityLiteralCache {
+
+    private static final Map<Object, QuantityType<?>> QUANTITIES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private QuantityLiteralCache() {
+        // prevent instantiation
+    }
+
+    /**
+     * Gets the quantity of a quantity literal.
+     *
+     * @param literal the parsed literal, which is compared by identity
+     * @param value the value of the literal
+     * @param unit the unit symbol of the literal
+     * @return the quantity
+     * @throws IllegalArgumentException if the literal is not a valid quantity
+     */
+    static QuantityType<?> get(Object literal, String value, String unit) {
+        QuantityType<?> quantity = QUANTITIES.get(literal);
+        if (quantity == null) {
+            quantity = QuantityType.valueOf(value + " " + unit);
+            if (!isCurrency(quantity)) {
+                QUANTITIES.put(literal, quantity);
+            }
+        }
+        return quantity;
+    }
+
+    static int size() {
+        return QUANTITIES.size();
+    }
+
+    private static boolean isCurrency(QuantityType<?> quantity) {
+        Dimension currency = CurrencyUnits.BASE_CURRENCY.getDimension();
+        Dimension dimension = quantity.getUnit().getDimension();
+        Map<? extends Dimension, Integer> baseDimensions = dimension.getBaseDimensions();
+        return baseDimensions == null ? currency.equals(dimension) : baseDimensions.containsKey(currency);
+    }
+}
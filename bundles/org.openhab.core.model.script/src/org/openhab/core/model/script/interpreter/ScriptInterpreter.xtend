@@ -16,7 +16,6 @@ import com.google.inject.Inject
 import org.openhab.core.items.Item
 import org.openhab.core.items.ItemNotFoundException
 import org.openhab.core.items.ItemRegistry
-import org.openhab.core.library.types.QuantityType
 import org.openhab.core.types.Type
 import org.openhab.core.model.script.engine.ScriptError
 import org.openhab.core.model.script.engine.ScriptExecutionException
@@ -43,6 +42,7 @@ import org.eclipse.xtext.xbase.typesystem.IBatchTypeResolver
  * 
  * @author Kai Kreuzer - Initial contribution and API
  * @author Oliver Libutzki - Xtext 2.5.0 migration
+ * @author Mark Herwege - Look up states and commands by name and reuse evaluated quantity literals
  * 
  */
 @SuppressWarnings("restriction")
@@ -97,11 +97,7 @@ class ScriptInterpreter extends XbaseInterpreter {
     }
 
     def protected Type getStateOrCommand(String name) {
-        for (Type type : StateAndCommandProvider::allTypes) {
-            if (type.toString == name) {
-                return type
-            }
-        }
+        return StateAndCommandProvider::getType(name)
     }
 
     def protected Item getItem(String name) {
@@ -146,7 +142,7 @@ class ScriptInterpreter extends XbaseInterpreter {
     }
 
     def  protected  Object doEvaluate(QuantityLiteral literal, IEvaluationContext context, CancelIndicator indicator) {
-        return QuantityType.valueOf(literal.value + " " + literal.unit.value);
+        return QuantityLiteralCache.get(literal, literal.value, literal.unit.value);
     }
 
     override Object _doEvaluate(XCastedExpression castedExpression, IEvaluationContext context,
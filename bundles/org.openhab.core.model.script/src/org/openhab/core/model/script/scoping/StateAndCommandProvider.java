@@ -13,7 +13,9 @@
 package org.openhab.core.model.script.scoping;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.openhab.core.library.types.IncreaseDecreaseType;
@@ -36,6 +38,7 @@ import org.openhab.core.types.UnDefType;
  * A future version might gather the sets through an extension mechanism, for the moment it is simply statically coded.
  *
  * @author Kai Kreuzer - Initial contribution
+ * @author Mark Herwege - Added lookup by name
  */
 public class StateAndCommandProvider {
 
@@ -69,18 +72,32 @@ public class StateAndCommandProvider {
             UpDownType.DOWN, //
             UpDownType.UP);
     protected static final Set<Type> TYPES;
+    protected static final Map<String, Type> TYPES_BY_NAME;
 
     static {
         Set<Type> types = new HashSet<>();
         types.addAll(COMMANDS);
         types.addAll(STATES);
         TYPES = Collections.unmodifiableSet(types);
+        Map<String, Type> typesByName = new HashMap<>();
+        types.forEach(type -> typesByName.put(type.toString(), type));
+        TYPES_BY_NAME = Collections.unmodifiableMap(typesByName);
     }
 
     public static Iterable<Type> getAllTypes() {
         return TYPES;
     }
 
+    /**
+     * Returns the state or command with the given name.
+     *
+     * @param name the name of the state or command, e.g. ON
+     * @return the state or command, or null if there is no state or command with this name
+     */
+    public static Type getType(String name) {
+        return TYPES_BY_NAME.get(name);
+    }
+
     public static Iterable<Command> getAllCommands() {
         return COMMANDS;
     }
@@ -26,6 +26,7 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -90,6 +91,7 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLParser;
  *         removeIsolatedModel
  * @author Jimmy Tanagra - Add YamlPageDTO and YamlWidgetDTO
  * @author Laurent Garnier - Add YamlSitemapDTO
+ * @author Mark Herwege - Only convert and compare changed elements when a model is updated
  */
 @NonNullByDefault
 @Component(immediate = true)
@@ -293,6 +295,11 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
 
             JsonNode oldNodeElements = model.getNodes().get(elementName);
 
+            // only elements with a changed node need to be converted and compared, the others are unchanged
+            Set<String> changedIds = getChangedElementIds(oldNodeElements, newNodeElements);
+            JsonNode oldChangedElements = filterJsonMapNode(oldNodeElements, changedIds);
+            JsonNode newChangedElements = filterJsonMapNode(newNodeElements, changedIds);
+
             for (YamlModelListener<?> elementListener : getElementListeners(elementName, modelVersion)) {
                 Class<? extends YamlElement> elementClass = elementListener.getElementClass();
 
@@ -300,9 +307,9 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
                 List<String> warnings2 = new ArrayList<>();
 
                 Map<String, ? extends YamlElement> oldElements = listToMap(
-                        parseJsonMapNode(oldNodeElements, elementClass, null, null));
+                        parseJsonMapNode(oldChangedElements, elementClass, null, null));
                 Map<String, ? extends YamlElement> newElements = listToMap(
-                        parseJsonMapNode(newNodeElements, elementClass, errors2, warnings2));
+                        parseJsonMapNode(newChangedElements, elementClass, errors2, warnings2));
                 valid &= errors2.isEmpty();
                 errors.addAll(errors2);
                 warnings.addAll(warnings2);
@@ -692,6 +699,36 @@ public class YamlModelRepositoryImpl implements WatchService.WatchEventListener,
         return result;
     }
 
+    private Set<String> getChangedElementIds(@Nullable JsonNode oldMapNode, JsonNode newMapNode) {
+        Set<String> changedIds = new HashSet<>();
+        newMapNode.fieldNames().forEachRemaining(id -> {
+            if (oldMapNode == null || !newMapNode.get(id).equals(oldMapNode.get(id))) {
+                changedIds.add(id);
+            }
+        });
+        if (oldMapNode != null) {
+            oldMapNode.fieldNames().forEachRemaining(id -> {
+                if (!newMapNode.has(id)) {
+                    changedIds.add(id);
+                }
+            });
+        }
+        return changedIds;
+    }
+
+    private @Nullable JsonNode filterJsonMapNode(@Nullable JsonNode mapNode, Set<String> ids) {
+        if (mapNode == null) {
+            return null;
+        }
+        ObjectNode filteredNode = objectMapper.getNodeFactory().objectNode();
+        for (Map.Entry<String, JsonNode> entry : mapNode.properties()) {
+            if (ids.contains(entry.getKey())) {
+                filteredNode.set(entry.getKey(), entry.getValue());
+            }
+        }
+        return filteredNode;
+    }
+
     private <T extends YamlElement> List<T> parseJsonMapNode(@Nullable JsonNode mapNode, Class<T> elementClass,
             @Nullable List<String> errors, @Nullable List<String> warnings) {
         List<T> elements = new ArrayList<>();
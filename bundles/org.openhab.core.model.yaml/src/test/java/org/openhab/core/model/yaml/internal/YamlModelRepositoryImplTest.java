@@ -59,6 +59,7 @@ import org.yaml.snakeyaml.Yaml;
  * @author Jan N. Klug - Initial contribution
  * @author Laurent Garnier - Extended tests to cover version 2
  * @author Laurent Garnier - Added one test for version management
+ * @author Mark Herwege - Added test for updating large models
  */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -213,6 +214,39 @@ public class YamlModelRepositoryImplTest {
         assertThat(firstTypeCaptorValues.get(3), contains(new FirstTypeDTO("Third", "Third original")));
     }
 
+    @Test
+    public void testLargeFileUpdatedOnlyNotifiesChangedElements() throws IOException {
+        YamlModelRepositoryImpl modelRepository = new YamlModelRepositoryImpl(watchServiceMock);
+        modelRepository.addYamlModelListener(firstTypeListener);
+
+        Files.writeString(fullModelPath, createLargeModel(10000, 42, "Modified"));
+        modelRepository.processWatchEvent(WatchService.Kind.CREATE, fullModelPath);
+        verify(firstTypeListener).addedModel(eq(MODEL_NAME), firstTypeCaptor.capture());
+        assertThat(firstTypeCaptor.getValue(), hasSize(10000));
+
+        Files.writeString(fullModelPath, createLargeModel(9999, 43, "Modified"));
+        modelRepository.processWatchEvent(WatchService.Kind.MODIFY, fullModelPath);
+        verify(firstTypeListener).updatedModel(eq(MODEL_NAME), firstTypeCaptor.capture());
+        verify(firstTypeListener).removedModel(eq(MODEL_NAME), firstTypeCaptor.capture());
+        verify(firstTypeListener).addedModel(eq(MODEL_NAME), any());
+
+        List<Collection<FirstTypeDTO>> firstTypeCaptorValues = firstTypeCaptor.getAllValues();
+        // updated by update
+        assertThat(firstTypeCaptorValues.get(1), containsInAnyOrder(new FirstTypeDTO("Element42", "Description42"),
+                new FirstTypeDTO("Element43", "Modified43")));
+        // removed by update
+        assertThat(firstTypeCaptorValues.get(2), contains(new FirstTypeDTO("Element9999", "Description9999")));
+    }
+
+    private String createLargeModel(int size, int modifiedElement, String modifiedDescription) {
+        StringBuilder model = new StringBuilder("version: 1\n\nfirstType:\n");
+        for (int i = 0; i < size; i++) {
+            model.append("  Element").append(i).append(":\n    description: ")
+                    .append(i == modifiedElement ? modifiedDescription : "Description").append(i).append("\n");
+        }
+        return model.toString();
+    }
+
     @ParameterizedTest
     @CsvSource({ //
             "modelFileUpdateRemovedElements.yaml", "modelFileUpdateRenamedElements.yaml",
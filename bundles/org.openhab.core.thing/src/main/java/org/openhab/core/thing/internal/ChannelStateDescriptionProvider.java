@@ -46,6 +46,7 @@ import org.slf4j.LoggerFactory;
  * {@link Channel} bounded to an {@link Item}.
  *
  * @author Dennis Nobel - Initial contribution
+ * @author Mark Herwege - Allow caching of fragments
  */
 @Component(immediate = true, property = { "service.ranking:Integer=-1" })
 @NonNullByDefault
@@ -80,6 +81,14 @@ public class ChannelStateDescriptionProvider implements StateDescriptionFragment
         return rank;
     }
 
+    @Override
+    public boolean isCacheable(String itemName) {
+        // dynamic state description providers may change the state description of a channel at any time, link, thing
+        // and channel type changes invalidate the cached state descriptions
+        return dynamicStateDescriptionProviders.isEmpty()
+                || itemChannelLinkRegistry.getBoundChannels(itemName).isEmpty();
+    }
+
     @Override
     public @Nullable StateDescriptionFragment getStateDescriptionFragment(String itemName, @Nullable Locale locale) {
         StateDescription stateDescription = getStateDescription(itemName, locale);
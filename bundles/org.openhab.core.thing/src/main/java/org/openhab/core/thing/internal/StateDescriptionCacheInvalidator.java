@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.thing.internal;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.service.StateDescriptionService;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.binding.ThingTypeProvider;
+import org.openhab.core.thing.dto.ChannelDTO;
+import org.openhab.core.thing.dto.ThingDTO;
+import org.openhab.core.thing.events.AbstractThingRegistryEvent;
+import org.openhab.core.thing.events.ChannelDescriptionChangedEvent;
+import org.openhab.core.thing.events.ThingAddedEvent;
+import org.openhab.core.thing.events.ThingRemovedEvent;
+import org.openhab.core.thing.events.ThingUpdatedEvent;
+import org.openhab.core.thing.link.ItemChannelLinkRegistry;
+import org.openhab.core.thing.link.events.AbstractItemChannelLinkRegistryEvent;
+import org.openhab.core.thing.link.events.ItemChannelLinkAddedEvent;
+import org.openhab.core.thing.link.events.ItemChannelLinkRemovedEvent;
+import org.openhab.core.thing.type.ChannelTypeProvider;
+import org.openhab.core.thing.type.DynamicStateDescriptionProvider;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+
+/**
+ * The {@link StateDescriptionCacheInvalidator} invalidates the cached state descriptions of the
+ * {@link StateDescriptionService} when the state description provided by the {@link ChannelStateDescriptionProvider}
+ * for an item may have changed: when links or things change, when a channel description changes and when thing type,
+ * channel type or dynamic state description providers come and go.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = EventSubscriber.class, immediate = true)
+public class StateDescriptionCacheInvalidator implements EventSubscriber {
+
+    private static final Set<String> SUBSCRIBED_EVENT_TYPES = Set.of(ItemChannelLinkAddedEvent.TYPE,
+            ItemChannelLinkRemovedEvent.TYPE, ThingAddedEvent.TYPE, ThingRemovedEvent.TYPE, ThingUpdatedEvent.TYPE,
+            ChannelDescriptionChangedEvent.TYPE);
+
+    private final StateDescriptionService stateDescriptionService;
+    private final ItemChannelLinkRegistry itemChannelLinkRegistry;
+
+    @Activate
+    public StateDescriptionCacheInvalidator(final @Reference StateDescriptionService stateDescriptionService,
+            final @Reference ItemChannelLinkRegistry itemChannelLinkRegistry) {
+        this.stateDescriptionService = stateDescriptionService;
+        this.itemChannelLinkRegistry = itemChannelLinkRegistry;
+    }
+
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addThingTypeProvider(ThingTypeProvider thingTypeProvider) {
+        stateDescriptionService.invalidateStateDescriptions();
+    }
+
+    protected void removeThingTypeProvider(ThingTypeProvider thingTypeProvider) {
+        stateDescriptionService.invalidateStateDescriptions();
+    }
+
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addChannelTypeProvider(ChannelTypeProvider channelTypeProvider) {
+        stateDescriptionService.invalidateStateDescriptions();
+    }
+
+    protected void removeChannelTypeProvider(ChannelTypeProvider channelTypeProvider) {
+        stateDescriptionService.invalidateStateDescriptions();
+    }
+
+    @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
+    protected void addDynamicStateDescriptionProvider(DynamicStateDescriptionProvider dynamicStateDescriptionProvider) {
+        stateDescriptionService.invalidateStateDescriptions();
+    }
+
+    protected void removeDynamicStateDescriptionProvider(
+            DynamicStateDescriptionProvider dynamicStateDescriptionProvider) {
+        stateDescriptionService.invalidateStateDescriptions();
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return SUBSCRIBED_EVENT_TYPES;
+    }
+
+    @Override
+    public void receive(Event event) {
+        if (event instanceof AbstractItemChannelLinkRegistryEvent linkEvent) {
+            stateDescriptionService.invalidateStateDescription(linkEvent.getLink().itemName);
+        } else if (event instanceof ChannelDescriptionChangedEvent channelDescriptionChangedEvent) {
+            channelDescriptionChangedEvent.getLinkedItemNames()
+                    .forEach(stateDescriptionService::invalidateStateDescription);
+        } else if (event instanceof ThingUpdatedEvent thingUpdatedEvent) {
+            invalidateLinkedItems(thingUpdatedEvent.getOldThing());
+            invalidateLinkedItems(thingUpdatedEvent.getThing());
+        } else if (event instanceof AbstractThingRegistryEvent thingEvent) {
+            invalidateLinkedItems(thingEvent.getThing());
+        }
+    }
+
+    private void invalidateLinkedItems(ThingDTO thing) {
+        if (thing.channels == null) {
+            return;
+        }
+        for (ChannelDTO channel : thing.channels) {
+            if (channel.uid != null) {
+                itemChannelLinkRegistry.getLinkedItemNames(new ChannelUID(channel.uid))
+                        .forEach(stateDescriptionService::invalidateStateDescription);
+            }
+        }
+    }
+}
@@ -20,6 +20,10 @@ import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.i18n.LocaleProvider;
+import org.openhab.core.transform.internal.MemoizingTransformationService;
+import org.openhab.core.transform.internal.TransformationResultCache;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Activate;
@@ -35,6 +39,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Jan N. Klug - Refactored to OSGi service
+ * @author Mark Herwege - Memoization of pure transformations
  */
 @Component(immediate = true)
 @NonNullByDefault
@@ -50,6 +55,22 @@ public class TransformationHelper {
             .compile("(.*?)\\((.*)\\)" + FUNCTION_VALUE_DELIMITER + "(.*)");
 
     private final BundleContext bundleContext;
+    private final RegistryChangeListener<Transformation> transformationChangeListener = new RegistryChangeListener<>() {
+        @Override
+        public void added(Transformation element) {
+            TransformationResultCache.clear();
+        }
+
+        @Override
+        public void removed(Transformation element) {
+            TransformationResultCache.clear();
+        }
+
+        @Override
+        public void updated(Transformation oldElement, Transformation element) {
+            TransformationResultCache.clear();
+        }
+    };
 
     @Activate
     public TransformationHelper(BundleContext bundleContext) {
@@ -59,6 +80,7 @@ public class TransformationHelper {
     @Deactivate
     public void deactivate() {
         SERVICES.clear();
+        TransformationResultCache.clear();
     }
 
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
@@ -66,6 +88,9 @@ public class TransformationHelper {
         String key = (String) ref.getProperty(TransformationService.SERVICE_PROPERTY_NAME);
         TransformationService service = bundleContext.getService(ref);
         if (service != null) {
+            if (service.isPure()) {
+                service = new MemoizingTransformationService(service);
+            }
             SERVICES.put(key, service);
             LOGGER.debug("Added transformation service {}", key);
         }
@@ -73,11 +98,40 @@ public class TransformationHelper {
 
     public void unsetTransformationService(ServiceReference<TransformationService> ref) {
         String key = (String) ref.getProperty(TransformationService.SERVICE_PROPERTY_NAME);
-        if (SERVICES.remove(key) != null) {
+        TransformationService service = SERVICES.remove(key);
+        if (service != null) {
+            if (service instanceof MemoizingTransformationService memoizingService) {
+                TransformationResultCache.remove(memoizingService.getService());
+            }
             LOGGER.debug("Removed transformation service {}", key);
         }
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setTransformationRegistry(TransformationRegistry transformationRegistry) {
+        transformationRegistry.addRegistryChangeListener(transformationChangeListener);
+        TransformationResultCache.clear();
+    }
+
+    public void unsetTransformationRegistry(TransformationRegistry transformationRegistry) {
+        transformationRegistry.removeRegistryChangeListener(transformationChangeListener);
+        TransformationResultCache.clear();
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC, updated = "updatedLocaleProvider")
+    public void setLocaleProvider(LocaleProvider localeProvider) {
+        TransformationResultCache.clear();
+    }
+
+    public void updatedLocaleProvider(LocaleProvider localeProvider) {
+        // results of localized transformations depend on the locale
+        TransformationResultCache.clear();
+    }
+
+    public void unsetLocaleProvider(LocaleProvider localeProvider) {
+        TransformationResultCache.clear();
+    }
+
     /**
      * determines whether a pattern refers to a transformation service
      *
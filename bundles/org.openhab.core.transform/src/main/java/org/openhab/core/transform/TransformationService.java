@@ -28,6 +28,7 @@ import org.eclipse.jdt.annotation.Nullable;
  *
  * @author Thomas Eichstaedt-Engelen - Initial contribution
  * @author Kai Kreuzer - Initial contribution
+ * @author Mark Herwege - Memoization of pure transformations
  */
 @NonNullByDefault
 public interface TransformationService {
@@ -50,4 +51,19 @@ public interface TransformationService {
      */
     @Nullable
     String transform(String function, String source) throws TransformationException;
+
+    /**
+     * Whether the transformation is pure, i.e. its result only depends on the function, the input and the
+     * transformation configurations, and it has no side effects. The results of
+     * pure transformations are memoized, so the transformation is not applied again for an input it has seen before.
+     * <p>
+     * Transformations that depend on anything else, like the time, the state of items, external resources or files
+     * that may change without a transformation configuration change, must not be declared pure. File based
+     * transformation services are therefore never pure.
+     *
+     * @return <code>true</code> if the transformation is pure, <code>false</code> otherwise (default)
+     */
+    default boolean isPure() {
+        return false;
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.transform.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationService;
+
+/**
+ * The {@link MemoizingTransformationService} wraps a pure {@link TransformationService} and memoizes its results in the
+ * {@link TransformationResultCache}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class MemoizingTransformationService implements TransformationService {
+
+    private final TransformationService service;
+
+    public MemoizingTransformationService(TransformationService service) {
+        this.service = service;
+    }
+
+    @Override
+    public @Nullable String transform(String function, String source) throws TransformationException {
+        long generation = TransformationResultCache.getGeneration(service);
+        TransformationResultCache.Result cached = TransformationResultCache.get(service, function, source);
+        if (cached != null) {
+            return cached.value();
+        }
+        String result = service.transform(function, source);
+        TransformationResultCache.put(service, function, source, result, generation);
+        return result;
+    }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
+    /**
+     * @return the wrapped transformation service
+     */
+    public TransformationService getService() {
+        return service;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.transform.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.TransformationService;
+
+/**
+ * The {@link TransformationResultCache} memoizes the results of pure transformations (see
+ * {@link TransformationService#isPure()}), keyed by the transformation service (or another owner), the function and
+ * the input.
+ * <p>
+ * The cache is bounded by the estimated memory used by its entries, at most {@link #MAX_SIZE} bytes. Results of inputs
+ * larger than {@link #MAX_ENTRY_SIZE} bytes are not cached, so a single large payload cannot evict all other entries.
+ * <code>null</code> results are cached, failed transformations are not.
+ * <p>
+ * Lookups don't lock. When the cache grows beyond its bound, the thread that notices it evicts the least recently used
+ * entries down to {@link #EVICTION_TARGET} bytes, while other threads continue without waiting for the eviction.
+ * <p>
+ * A result is computed outside the cache, so the owner could be invalidated in between. Callers therefore get the
+ * {@link #getGeneration(Object) generation} of the owner before they transform and pass it to
+ * {@link #put(Object, String, String, String, long)}, which drops the result if the owner was invalidated since.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public final class TransformationResultCache {
+
+    static final long MAX_SIZE = 4 * 1024 * 1024;
+    static final long MAX_ENTRY_SIZE = 64 * 1024;
+    static final long EVICTION_TARGET = MAX_SIZE * 3 / 4;
+
+    // estimated size of the key, the entry and the references in the map
+    private static final long ENTRY_OVERHEAD = 128;
+
+    private static final Map<Key, Entry> CACHE = new ConcurrentHashMap<>();
+    private static final AtomicLong SIZE = new AtomicLong();
+    private static final ReentrantLock EVICTION_LOCK = new ReentrantLock();
+
+    // generations are unique stamps, the generation of an owner is the stamp of its last invalidation or of the last
+    // invalidation of all owners, whichever is later
+    private static final AtomicLong STAMP = new AtomicLong();
+    private static final Map<Object, Long> GENERATIONS = new ConcurrentHashMap<>();
+    private static volatile long clearGeneration = 0;
+
+    private TransformationResultCache() {
+        // prevent instantiation
+    }
+
+    /**
+     * Gets a cached result.
+     *
+     * @param owner the transformation service (or another owner) that transformed the input
+     * @param function the transformation function
+     * @param input the input
+     * @return the cached result, or <code>null</code> if there is no cached result
+     */
+    public static @Nullable Result get(Object owner, String function, String input) {
+        Entry entry = CACHE.get(new Key(owner, function, input));
+        if (entry == null) {
+            return null;
+        }
+        entry.lastAccess = System.nanoTime();
+        return entry.result;
+    }
+
+    /**
+     * Gets the generation of an owner, which changes whenever cached results of the owner are invalidated.
+     *
+     * @param owner the transformation service (or another owner)
+     * @return the generation, to be passed to {@link #put(Object, String, String, String, long)}
+     */
+    public static long getGeneration(Object owner) {
+        return Math.max(clearGeneration, GENERATIONS.getOrDefault(owner, 0L));
+    }
+
+    /**
+     * Caches a result, unless the owner was invalidated after the generation was obtained.
+     *
+     * @param owner the transformation service (or another owner) that transformed the input
+     * @param function the transformation function
+     * @param input the input
+     * @param result the result of the transformation, may be <code>null</code>
+     * @param generation the generation of the owner obtained before the transformation started
+     */
+    public static void put(Object owner, String function, String input, @Nullable String result, long generation) {
+        Key key = new Key(owner, function, input);
+        long entrySize = sizeOf(key, result);
+        if (entrySize > MAX_ENTRY_SIZE || getGeneration(owner) != generation) {
+            // too large, or the result may be based on an outdated configuration
+            return;
+        }
+        Entry entry = new Entry(new Result(result), entrySize);
+        Entry previous = CACHE.put(key, entry);
+        SIZE.addAndGet(previous == null ? entrySize : entrySize - previous.size);
+        if (getGeneration(owner) != generation) {
+            // invalidated while the result was added, the invalidation may have missed it
+            removeEntry(key, entry);
+            return;
+        }
+        if (SIZE.get() > MAX_SIZE) {
+            evict();
+        }
+    }
+
+    /**
+     * Removes all cached results of an owner.
+     *
+     * @param owner the transformation service (or another owner)
+     */
+    public static void invalidate(Object owner) {
+        GENERATIONS.put(owner, STAMP.incrementAndGet());
+        removeIf(key -> key.owner() == owner);
+    }
+
+    /**
+     * Removes all cached results of an owner for a function.
+     *
+     * @param owner the transformation service (or another owner)
+     * @param function the transformation function
+     */
+    public static void invalidate(Object owner, String function) {
+        GENERATIONS.put(owner, STAMP.incrementAndGet());
+        removeIf(key -> key.owner() == owner && key.function().equals(function));
+    }
+
+    /**
+     * Removes all cached results of an owner that is gone, and forgets about the owner.
+     *
+     * @param owner the transformation service (or another owner)
+     */
+    public static void remove(Object owner) {
+        GENERATIONS.remove(owner);
+        // results of the owner still being transformed must not be cached once the generation of the owner is gone
+        clearGeneration = STAMP.incrementAndGet();
+        removeIf(key -> key.owner() == owner);
+    }
+
+    /**
+     * Removes all cached results, e.g. because transformation configurations or the locale changed.
+     */
+    public static void clear() {
+        clearGeneration = STAMP.incrementAndGet();
+        removeIf(key -> true);
+    }
+
+    static int count() {
+        return CACHE.size();
+    }
+
+    static long size() {
+        return SIZE.get();
+    }
+
+    private static void evict() {
+        if (!EVICTION_LOCK.tryLock()) {
+            // another thread is evicting already
+            return;
+        }
+        try {
+            if (SIZE.get() <= MAX_SIZE) {
+                return;
+            }
+            List<Map.Entry<Key, Entry>> entries = new ArrayList<>(CACHE.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+            for (Map.Entry<Key, Entry> entry : entries) {
+                if (SIZE.get() <= EVICTION_TARGET) {
+                    break;
+                }
+                removeEntry(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            EVICTION_LOCK.unlock();
+        }
+    }
+
+    private static void removeIf(Predicate<Key> predicate) {
+        CACHE.forEach((key, entry) -> {
+            if (predicate.test(key)) {
+                removeEntry(key, entry);
+            }
+        });
+    }
+
+    private static void removeEntry(Key key, Entry entry) {
+        if (CACHE.remove(key, entry)) {
+            SIZE.addAndGet(-entry.size);
+        }
+    }
+
+    private static long sizeOf(Key key, @Nullable String result) {
+        // strings take up to two bytes per character
+        return ENTRY_OVERHEAD
+                + 2L * (key.function().length() + key.input().length() + (result == null ? 0 : result.length()));
+    }
+
+    /**
+     * A cached result.
+     *
+     * @param value the result of the transformation, may be <code>null</code>
+     */
+    public record Result(@Nullable String value) {
+    }
+
+    private record Key(Object owner, String function, String input) {
+    }
+
+    private static class Entry {
+        private final Result result;
+        private final long size;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(Result result, long size) {
+            this.result = result;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.transform.util;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.util.UnitUtils;
+
+/**
+ * The {@link DisplayStateFormatter} is the compiled form of a state description pattern, as used by
+ * {@link ItemDisplayStateUtil#formatState}. Everything that only depends on the pattern is resolved once: the
+ * transformation service name, function and format of a transformation pattern, and the printf segments of a pattern
+ * that only formats its argument as a string, like <code>%s</code> or <code>Mode: %s</code>. Such patterns are applied
+ * to option labels and string like states by concatenating the segments, without parsing the pattern again.
+ * Numeric, date and time patterns are still applied by the state, which handles units and durations.
+ * <p>
+ * Formatters are immutable, apart from their last access time, and cached by pattern in a bounded cache that does not
+ * lock on lookups. When the cache grows beyond {@link #CACHE_SIZE} patterns, the least recently used formatters are
+ * evicted. The unit of a format
+ * pattern is not part of the formatter, it is resolved through {@link UnitUtils#parseUnit}, which memoizes
+ * successfully parsed units and is invalidated when currencies change.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+final class DisplayStateFormatter {
+
+    static final int CACHE_SIZE = 1000;
+
+    // the format specifier syntax of java.util.Formatter
+    private static final Pattern FORMAT_SPECIFIER_PATTERN = Pattern
+            .compile("%(\\d+\\$)?([-#+ 0,(<]*)?(\\d+)?(\\.\\d+)?([tT])?([a-zA-Z%])");
+
+    private static final Map<String, DisplayStateFormatter> CACHE = new ConcurrentHashMap<>();
+    private static final ReentrantLock EVICTION_LOCK = new ReentrantLock();
+
+    private final String pattern;
+    private final @Nullable Transformation transformation;
+    // the literal text around the string arguments, null if the pattern has other conversions
+    private final String @Nullable [] stringSegments;
+    private volatile long lastAccess = System.nanoTime();
+
+    private DisplayStateFormatter(String pattern) {
+        this.pattern = pattern;
+        Matcher matcher = ItemDisplayStateUtil.EXTRACT_TRANSFORM_FUNCTION_PATTERN.matcher(pattern);
+        if (matcher.find()) {
+            this.transformation = new Transformation(matcher.group(1), matcher.group(2), matcher.group(3));
+            this.stringSegments = null;
+        } else {
+            this.transformation = null;
+            this.stringSegments = parseStringSegments(pattern);
+        }
+    }
+
+    /**
+     * Gets the compiled formatter for a pattern.
+     *
+     * @param pattern the state description pattern
+     * @return the formatter, compiled on first use of the pattern
+     */
+    static DisplayStateFormatter of(String pattern) {
+        DisplayStateFormatter formatter = CACHE.get(pattern);
+        if (formatter == null) {
+            // compiled outside the map, a concurrently compiled formatter of the same pattern is discarded
+            DisplayStateFormatter newFormatter = new DisplayStateFormatter(pattern);
+            formatter = CACHE.putIfAbsent(pattern, newFormatter);
+            if (formatter == null) {
+                formatter = newFormatter;
+                if (CACHE.size() > CACHE_SIZE) {
+                    evict();
+                }
+            }
+        }
+        formatter.lastAccess = System.nanoTime();
+        return formatter;
+    }
+
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    static int getCacheSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * @return the transformation, or {@code null} if the pattern is not a transformation pattern
+     */
+    @Nullable
+    Transformation getTransformation() {
+        return transformation;
+    }
+
+    /**
+     * @return the unit of a format pattern, or {@code null} if the pattern has no (known) unit
+     */
+    @Nullable
+    Unit<?> getUnit() {
+        return transformation == null ? UnitUtils.parseUnit(pattern) : null;
+    }
+
+    /**
+     * Formats the label of a state option with the pattern.
+     *
+     * @param label the label
+     * @return the formatted label
+     * @throws java.util.IllegalFormatException if the label cannot be formatted with the pattern
+     */
+    String formatLabel(String label) {
+        String[] segments = stringSegments;
+        return segments != null ? join(segments, label) : String.format(pattern, label);
+    }
+
+    /**
+     * Formats a state with the pattern.
+     *
+     * @param state the state
+     * @param zoneId the time zone to format date and time states in
+     * @return the formatted state
+     * @throws IllegalArgumentException if the state cannot be formatted with the pattern
+     */
+    String formatState(State state, ZoneId zoneId) {
+        String[] segments = stringSegments;
+        if (segments != null
+                && (state instanceof StringType || state instanceof OnOffType || state instanceof OpenClosedType)) {
+            // these states format their string value
+            return join(segments, state.toString());
+        } else if (state instanceof DateTimeType dateTimeState) {
+            return dateTimeState.format(pattern, zoneId);
+        }
+        return state.format(pattern);
+    }
+
+    private static String join(String[] segments, String argument) {
+        if (segments.length == 2 && segments[0].isEmpty() && segments[1].isEmpty()) {
+            return argument;
+        }
+        StringBuilder builder = new StringBuilder(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            builder.append(argument).append(segments[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Splits a pattern into the literal text around its string arguments, if the pattern has no other conversions
+     * than <code>%s</code> (or <code>%1$s</code>) of a single argument, <code>%%</code> and <code>%n</code>, all of
+     * them without flags, width or precision.
+     *
+     * @param pattern the format pattern
+     * @return the literal segments, or {@code null} if the pattern has to be applied by {@link String#format}
+     */
+    private static String @Nullable [] parseStringSegments(String pattern) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder segment = new StringBuilder();
+        int ordinaryArguments = 0;
+        int end = 0;
+        Matcher matcher = FORMAT_SPECIFIER_PATTERN.matcher(pattern);
+        while (matcher.find()) {
+            String text = pattern.substring(end, matcher.start());
+            if (text.indexOf('%') >= 0) {
+                // not a valid format specifier
+                return null;
+            }
+            segment.append(text);
+            end = matcher.end();
+
+            String index = matcher.group(1);
+            String flags = matcher.group(2);
+            if ((flags != null && !flags.isEmpty()) || matcher.group(3) != null || matcher.group(4) != null
+                    || matcher.group(5) != null) {
+                return null;
+            }
+            switch (matcher.group(6)) {
+                case "%" -> {
+                    if (index != null) {
+                        return null;
+                    }
+                    segment.append('%');
+                }
+                case "n" -> {
+                    if (index != null) {
+                        return null;
+                    }
+                    segment.append(System.lineSeparator());
+                }
+                case "s" -> {
+                    if (index == null) {
+                        ordinaryArguments++;
+                    } else if (!"1$".equals(index)) {
+                        return null;
+                    }
+                    if (ordinaryArguments > 1) {
+                        // there is only one argument
+                        return null;
+                    }
+                    segments.add(segment.toString());
+                    segment.setLength(0);
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+        String text = pattern.substring(end);
+        if (text.indexOf('%') >= 0) {
+            return null;
+        }
+        segments.add(segment.append(text).toString());
+        return segments.toArray(String[]::new);
+    }
+
+    private static void evict() {
+        if (!EVICTION_LOCK.tryLock()) {
+            // another thread is evicting already
+            return;
+        }
+        try {
+            if (CACHE.size() <= CACHE_SIZE) {
+                return;
+            }
+            // evict a quarter of the cache at once, so the entries are not sorted again on each new pattern
+            List<Map.Entry<String, DisplayStateFormatter>> entries = new ArrayList<>(CACHE.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+            int evictions = entries.size() - CACHE_SIZE * 3 / 4;
+            for (int i = 0; i < evictions; i++) {
+                CACHE.remove(entries.get(i).getKey(), entries.get(i).getValue());
+            }
+        } finally {
+            EVICTION_LOCK.unlock();
+        }
+    }
+
+    /**
+     * A transformation pattern split into its parts, e.g. <code>MAP(en.map):%s</code>.
+     *
+     * @param serviceName the name of the transformation service
+     * @param function the transformation function
+     * @param format the format to apply to the state before applying the transformation function
+     */
+    record Transformation(String serviceName, String function, String format) {
+    }
+}
@@ -16,7 +16,6 @@ import java.time.ZoneId;
 import java.util.IllegalFormatException;
 import java.util.List;
 import java.util.Locale;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.measure.Unit;
@@ -29,11 +28,11 @@ import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationHelper;
 import org.openhab.core.transform.TransformationService;
+import org.openhab.core.transform.util.DisplayStateFormatter.Transformation;
 import org.openhab.core.types.State;
 import org.openhab.core.types.StateDescription;
 import org.openhab.core.types.StateOption;
 import org.openhab.core.types.UnDefType;
-import org.openhab.core.types.util.UnitUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +40,7 @@ import org.slf4j.LoggerFactory;
  * Utility class for getting the display state of an Item from its {@link StateDescription}.
  *
  * @author Florian Hotze - Initial contribution (extracted from SseItemStatesEventBuilder)
+ * @author Mark Herwege - Cache compiled patterns
  */
 @NonNullByDefault
 public class ItemDisplayStateUtil {
@@ -144,16 +144,13 @@ public class ItemDisplayStateUtil {
     public static @Nullable String formatState(String itemName, @Nullable String pattern, List<StateOption> options,
             State state, ZoneId zoneId) {
         String displayState = state.toString();
+        DisplayStateFormatter formatter = pattern == null ? null : DisplayStateFormatter.of(pattern);
 
         // First check if the pattern is a transformation
-        Matcher matcher;
-        if (pattern != null && (matcher = EXTRACT_TRANSFORM_FUNCTION_PATTERN.matcher(pattern)).find()) {
+        if (formatter != null && formatter.getTransformation() instanceof Transformation transformation) {
             try {
-                String type = matcher.group(1);
-                String function = matcher.group(2);
-                String format = matcher.group(3);
-
-                displayState = transform(type, function, format, state, zoneId);
+                displayState = transform(transformation.serviceName(), transformation.function(),
+                        transformation.format(), state, zoneId);
                 if (displayState == null) {
                     displayState = state.toString();
                 }
@@ -167,12 +164,13 @@ public class ItemDisplayStateUtil {
             boolean optionMatched = false;
             if (!options.isEmpty()) {
                 // Look for a state option with a value corresponding to the state
+                String stateString = state.toString();
                 for (StateOption option : options) {
                     String label = option.getLabel();
-                    if (option.getValue().equals(state.toString()) && label != null) {
+                    if (option.getValue().equals(stateString) && label != null) {
                         optionMatched = true;
                         try {
-                            displayState = pattern == null ? label : String.format(pattern, label);
+                            displayState = formatter == null ? label : formatter.formatLabel(label);
                         } catch (IllegalFormatException e) {
                             LOGGER.debug(
                                     "Unable to format option label '{}' of item {} using format pattern '{}': {}, displaying option label",
@@ -183,14 +181,14 @@ public class ItemDisplayStateUtil {
                     }
                 }
             }
-            if (pattern != null && !optionMatched) {
+            if (formatter != null && !optionMatched) {
                 // if it's not a transformation pattern and there is no matching state option,
                 // then it must be a format string
                 if (state instanceof QuantityType quantityState) {
                     // sanity convert current state to the item state description unit in case it was
                     // updated in the meantime. The item state is still in the "original" unit while the
                     // state description will display the new unit:
-                    Unit<?> patternUnit = UnitUtils.parseUnit(pattern);
+                    Unit<?> patternUnit = formatter.getUnit();
                     if (patternUnit != null && !quantityState.getUnit().equals(patternUnit)) {
                         quantityState = quantityState.toInvertibleUnit(patternUnit);
                     }
@@ -205,11 +203,7 @@ public class ItemDisplayStateUtil {
                 // This also handles IllegalFormatConversionException, which is a subclass of
                 // IllegalArgument.
                 try {
-                    if (state instanceof DateTimeType dateTimeState) {
-                        displayState = dateTimeState.format(pattern, zoneId);
-                    } else {
-                        displayState = state.format(pattern);
-                    }
+                    displayState = formatter.formatState(state, zoneId);
                 } catch (IllegalArgumentException e) {
                     LOGGER.debug(
                             "Unable to format value '{}' of item {} using format pattern '{}': {}, displaying raw state",
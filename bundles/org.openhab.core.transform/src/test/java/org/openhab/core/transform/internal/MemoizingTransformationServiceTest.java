@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.transform.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationService;
+
+/**
+ * The {@link MemoizingTransformationServiceTest} contains tests for the {@link MemoizingTransformationService} and the
+ * {@link TransformationResultCache}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class MemoizingTransformationServiceTest {
+
+    private final TransformationService service = mock(TransformationService.class);
+    private final MemoizingTransformationService memoizingService = new MemoizingTransformationService(service);
+
+    @BeforeEach
+    public void setUp() {
+        TransformationResultCache.clear();
+    }
+
+    @Test
+    public void testResultIsMemoized() throws TransformationException {
+        when(service.transform("f", "1")).thenReturn("one");
+        when(service.transform("f", "2")).thenReturn(null);
+
+        assertThat(memoizingService.transform("f", "1"), is("one"));
+        assertThat(memoizingService.transform("f", "1"), is("one"));
+        assertThat(memoizingService.transform("f", "2"), is(nullValue()));
+        assertThat(memoizingService.transform("f", "2"), is(nullValue()));
+
+        verify(service, times(1)).transform("f", "1");
+        verify(service, times(1)).transform("f", "2");
+        assertThat(TransformationResultCache.count(), is(2));
+    }
+
+    @Test
+    public void testFailedTransformationIsNotMemoized() throws TransformationException {
+        when(service.transform("f", "1")).thenThrow(new TransformationException("failed")).thenReturn("one");
+
+        assertThrows(TransformationException.class, () -> memoizingService.transform("f", "1"));
+        assertThat(memoizingService.transform("f", "1"), is("one"));
+        verify(service, times(2)).transform("f", "1");
+    }
+
+    @Test
+    public void testInvalidate() throws TransformationException {
+        when(service.transform(anyString(), anyString())).thenReturn("result");
+        memoizingService.transform("f", "1");
+        memoizingService.transform("g", "1");
+
+        TransformationResultCache.invalidate(service, "f");
+        assertThat(TransformationResultCache.count(), is(1));
+        TransformationResultCache.invalidate(new Object());
+        assertThat(TransformationResultCache.count(), is(1));
+        TransformationResultCache.invalidate(service);
+        assertThat(TransformationResultCache.count(), is(0));
+        assertThat(TransformationResultCache.size(), is(0L));
+    }
+
+    @Test
+    public void testResultIsNotCachedWhenInvalidatedDuringTransformation() throws Exception {
+        CountDownLatch transforming = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        when(service.transform("f", "1")).thenAnswer(invocation -> {
+            transforming.countDown();
+            invalidated.await(5, TimeUnit.SECONDS);
+            return "old";
+        }).thenReturn("new");
+
+        CompletableFuture<@Nullable String> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return memoizingService.transform("f", "1");
+            } catch (TransformationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(transforming.await(5, TimeUnit.SECONDS), is(true));
+        // e.g. the transformation configuration is changed while the transformation runs
+        TransformationResultCache.invalidate(service);
+        invalidated.countDown();
+
+        assertThat(result.get(5, TimeUnit.SECONDS), is("old"));
+        assertThat(TransformationResultCache.count(), is(0));
+        assertThat(memoizingService.transform("f", "1"), is("new"));
+        assertThat(memoizingService.transform("f", "1"), is("new"));
+        verify(service, times(2)).transform("f", "1");
+    }
+
+    @Test
+    public void testResultIsNotCachedWhenClearedDuringTransformation() throws TransformationException {
+        when(service.transform("f", "1")).thenAnswer(invocation -> {
+            TransformationResultCache.clear();
+            return "old";
+        }).thenReturn("new");
+
+        assertThat(memoizingService.transform("f", "1"), is("old"));
+        assertThat(TransformationResultCache.count(), is(0));
+        assertThat(memoizingService.transform("f", "1"), is("new"));
+    }
+
+    @Test
+    public void testInvalidationOfOtherOwnerKeepsResult() throws TransformationException {
+        when(service.transform("f", "1")).thenAnswer(invocation -> {
+            TransformationResultCache.invalidate(new Object());
+            return "one";
+        });
+
+        memoizingService.transform("f", "1");
+
+        assertThat(TransformationResultCache.count(), is(1));
+    }
+
+    @Test
+    public void testResultIsNotCachedWhenRemovedDuringTransformation() throws TransformationException {
+        when(service.transform(anyString(), anyString())).thenReturn("result");
+        memoizingService.transform("f", "1");
+        when(service.transform("f", "2")).thenAnswer(invocation -> {
+            // e.g. the transformation service is unregistered while the transformation runs
+            TransformationResultCache.remove(service);
+            return "two";
+        });
+
+        assertThat(memoizingService.transform("f", "2"), is("two"));
+
+        assertThat(TransformationResultCache.count(), is(0));
+        assertThat(TransformationResultCache.size(), is(0L));
+    }
+
+    @Test
+    public void testCacheIsBoundedInBytes() throws TransformationException {
+        String input = "x".repeat(1000);
+        when(service.transform(anyString(), anyString())).thenReturn("result");
+
+        for (int i = 0; i < 5000; i++) {
+            memoizingService.transform("f", i + input);
+        }
+
+        assertThat(TransformationResultCache.size(), is(lessThanOrEqualTo(TransformationResultCache.MAX_SIZE)));
+        assertThat(TransformationResultCache.count(), is(lessThan(5000)));
+        // the least recently used entries are evicted first
+        memoizingService.transform("f", 4999 + input);
+        memoizingService.transform("f", 0 + input);
+        verify(service, times(1)).transform("f", 4999 + input);
+        verify(service, times(2)).transform("f", 0 + input);
+    }
+
+    @Test
+    public void testLargeInputIsNotCached() throws TransformationException {
+        when(service.transform(anyString(), anyString())).thenReturn("result");
+
+        memoizingService.transform("f", "x".repeat((int) TransformationResultCache.MAX_ENTRY_SIZE));
+
+        assertThat(TransformationResultCache.count(), is(0));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.transform.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.ZoneId;
+import java.util.IllegalFormatException;
+import java.util.function.Supplier;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openhab.core.library.dimension.Currency;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.CurrencyUnits;
+import org.openhab.core.library.unit.ImperialUnits;
+import org.openhab.core.transform.util.DisplayStateFormatter.Transformation;
+
+/**
+ * Unit tests for {@link DisplayStateFormatter}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class DisplayStateFormatterTest {
+
+    @AfterEach
+    public void tearDown() {
+        DisplayStateFormatter.clearCache();
+    }
+
+    @Test
+    public void transformationPatternIsSplit() {
+        DisplayStateFormatter formatter = DisplayStateFormatter.of("MAP(en.map):%s");
+
+        assertThat(formatter.getTransformation(), is(new Transformation("MAP", "en.map", "%s")));
+        assertThat(formatter.getUnit(), is(nullValue()));
+    }
+
+    @Test
+    public void formatPatternUnitIsResolved() {
+        DisplayStateFormatter formatter = DisplayStateFormatter.of("%.1f °F");
+
+        assertThat(formatter.getTransformation(), is(nullValue()));
+        assertThat(formatter.getUnit(), is(ImperialUnits.FAHRENHEIT));
+    }
+
+    @Test
+    public void formatPatternUnitFollowsCurrencyChanges() {
+        DisplayStateFormatter formatter = DisplayStateFormatter.of("%.2f XTS");
+        assertThat(formatter.getUnit(), is(nullValue()));
+
+        Unit<Currency> currency = CurrencyUnits.createCurrency("XTS", "XTS");
+        CurrencyUnits.addUnit(currency);
+        try {
+            assertThat(DisplayStateFormatter.of("%.2f XTS"), is(sameInstance(formatter)));
+            assertThat(formatter.getUnit(), is(currency));
+        } finally {
+            CurrencyUnits.removeUnit(currency);
+        }
+        assertThat(formatter.getUnit(), is(nullValue()));
+    }
+
+    @Test
+    public void formatterIsCachedByPattern() {
+        DisplayStateFormatter formatter = DisplayStateFormatter.of("%d %%");
+
+        assertThat(DisplayStateFormatter.of("%d %%"), is(sameInstance(formatter)));
+        assertThat(DisplayStateFormatter.of("%d W"), is(not(sameInstance(formatter))));
+    }
+
+    @Test
+    public void cacheIsBounded() {
+        DisplayStateFormatter first = DisplayStateFormatter.of("first %s");
+        for (int i = 0; i < DisplayStateFormatter.CACHE_SIZE; i++) {
+            DisplayStateFormatter.of("%d " + i);
+        }
+
+        assertThat(DisplayStateFormatter.getCacheSize(), is(lessThanOrEqualTo(DisplayStateFormatter.CACHE_SIZE)));
+        assertThat(DisplayStateFormatter.of("first %s"), is(not(sameInstance(first))));
+    }
+
+    @Test
+    public void recentlyUsedFormatterIsNotEvicted() {
+        DisplayStateFormatter first = DisplayStateFormatter.of("first %s");
+        for (int i = 0; i < DisplayStateFormatter.CACHE_SIZE; i++) {
+            DisplayStateFormatter.of("%d " + i);
+            DisplayStateFormatter.of("first %s");
+        }
+
+        assertThat(DisplayStateFormatter.of("first %s"), is(sameInstance(first)));
+    }
+
+    @Test
+    public void labelIsFormatted() {
+        assertThat(DisplayStateFormatter.of("%s").formatLabel("label"), is("label"));
+        assertThat(DisplayStateFormatter.of("Prefix: %s").formatLabel("label"), is("Prefix: label"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "%s", "Mode: %s", "%s %%", "%1$s (%s)", "%1$s%n%1$s", "no argument", "%-10s|", "%.2s",
+            "%S", "%5%", "%s and %s", "%2$s", "%d", "%b", "broken %", "%q" })
+    public void stringSegmentsFormatLikeStringFormat(String pattern) {
+        DisplayStateFormatter formatter = DisplayStateFormatter.of(pattern);
+
+        assertFormatsLikeStringFormat(() -> formatter.formatLabel("label"), () -> String.format(pattern, "label"));
+        assertFormatsLikeStringFormat(() -> formatter.formatState(new StringType("value"), ZoneId.of("UTC")),
+                () -> String.format(pattern, "value"));
+        assertFormatsLikeStringFormat(() -> formatter.formatState(OnOffType.ON, ZoneId.of("UTC")),
+                () -> String.format(pattern, "ON"));
+    }
+
+    @Test
+    public void numericStateIsFormattedByState() {
+        assertThat(DisplayStateFormatter.of("%.1f").formatState(new DecimalType(1.25), ZoneId.of("UTC")),
+                is(new DecimalType(1.25).format("%.1f")));
+        assertThat(DisplayStateFormatter.of("%s").formatState(new DecimalType(3), ZoneId.of("UTC")), is("3"));
+    }
+
+    private void assertFormatsLikeStringFormat(Supplier<String> actual, Supplier<String> expected) {
+        String expectedResult;
+        try {
+            expectedResult = expected.get();
+        } catch (IllegalFormatException e) {
+            assertThrows(e.getClass(), actual::get);
+            return;
+        }
+        assertThat(actual.get(), is(expectedResult));
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.core.voice.text;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,6 +25,8 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -57,6 +60,7 @@ import org.slf4j.LoggerFactory;
  * @author Kai Kreuzer - Improved error handling
  * @author Miguel Álvarez - Reduce collisions on exact match and use item synonyms
  * @author Miguel Álvarez - Reduce collisions using dialog location
+ * @author Mark Herwege - Update item tokens incrementally on registry changes
  */
 @NonNullByDefault
 public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInterpreter {
@@ -116,8 +120,7 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     private final Logger logger = LoggerFactory.getLogger(AbstractRuleBasedInterpreter.class);
 
     private final Map<Locale, List<Rule>> languageRules = new HashMap<>();
-    private final Map<Locale, Set<String>> allItemTokens = new HashMap<>();
-    private final Map<Locale, Map<Item, ItemInterpretationMetadata>> itemTokens = new HashMap<>();
+    private final Map<Locale, ItemTokenIndex> itemTokenIndexes = new ConcurrentHashMap<>();
 
     private final ItemRegistry itemRegistry;
     private final EventPublisher eventPublisher;
@@ -125,17 +128,20 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
     private final RegistryChangeListener<Item> registryChangeListener = new RegistryChangeListener<>() {
         @Override
         public void added(Item element) {
-            invalidate();
+            invalidateRules();
+            itemTokenIndexes.values().forEach(index -> index.update(null, element));
         }
 
         @Override
         public void removed(Item element) {
-            invalidate();
+            invalidateRules();
+            itemTokenIndexes.values().forEach(index -> index.update(element, null));
         }
 
         @Override
         public void updated(Item oldElement, Item element) {
-            invalidate();
+            invalidateRules();
+            itemTokenIndexes.values().forEach(index -> index.update(oldElement, element));
         }
     };
     private final RegistryChangeListener<Metadata> synonymsChangeListener = new RegistryChangeListener<>() {
@@ -156,7 +162,11 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
 
         private void invalidateIfSynonymsMetadata(Metadata metadata) {
             if (metadata.getUID().getNamespace().equals(SYNONYMS_NAMESPACE)) {
-                invalidate();
+                invalidateRules();
+                Item item = itemRegistry.get(metadata.getUID().getItemName());
+                if (item != null) {
+                    itemTokenIndexes.values().forEach(index -> index.update(item, item));
+                }
             }
         }
     };
@@ -216,9 +226,7 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         throw new InterpretationException(language.getString(SORRY));
     }
 
-    private void invalidate() {
-        allItemTokens.clear();
-        itemTokens.clear();
+    private void invalidateRules() {
         languageRules.clear();
     }
 
@@ -229,17 +237,7 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
      * @return the identifier tokens
      */
     Set<String> getAllItemTokens(Locale locale) {
-        Set<String> localeTokens = allItemTokens.get(locale);
-        if (localeTokens == null) {
-            allItemTokens.put(locale, localeTokens = new HashSet<>());
-            for (Item item : itemRegistry.getAll()) {
-                localeTokens.addAll(tokenize(locale, item.getLabel()));
-                for (String synonym : getItemSynonyms(item)) {
-                    localeTokens.addAll(tokenize(locale, synonym));
-                }
-            }
-        }
-        return localeTokens;
+        return getItemTokenIndex(locale).getAllTokens();
     }
 
     /**
@@ -253,16 +251,11 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
      * @return the list of identifier token sets per item
      */
     Map<Item, ItemInterpretationMetadata> getItemTokens(Locale locale) {
-        Map<Item, ItemInterpretationMetadata> localeTokens = itemTokens.get(locale);
-        if (localeTokens == null) {
-            itemTokens.put(locale, localeTokens = new HashMap<>());
-            for (Item item : itemRegistry.getItems()) {
-                if (item.getGroupNames().isEmpty()) {
-                    addItem(locale, localeTokens, new ArrayList<>(), item, new ArrayList<>());
-                }
-            }
-        }
-        return localeTokens;
+        return getItemTokenIndex(locale).getItemTokens();
+    }
+
+    private ItemTokenIndex getItemTokenIndex(Locale locale) {
+        return itemTokenIndexes.computeIfAbsent(locale, ItemTokenIndex::new);
     }
 
     private String[] getItemSynonyms(Item item) {
@@ -897,7 +890,11 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         Map<Item, ItemInterpretationMetadata> itemsData = new HashMap<>();
         Map<Item, ItemInterpretationMetadata> exactMatchItemsData = new HashMap<>();
         Map<Item, ItemInterpretationMetadata> exactMatchOnTargetItemsData = new HashMap<>();
-        Map<Item, ItemInterpretationMetadata> map = getItemTokens(language.getLocale());
+        List<String> lowercaseLabelFragments = Arrays.stream(labelFragments)
+                .map(lf -> lf.toLowerCase(language.getLocale())).toList();
+        // only the items having all the fragments among their tokens can match
+        Map<Item, ItemInterpretationMetadata> map = getItemTokenIndex(language.getLocale())
+                .getItemsWithTokens(lowercaseLabelFragments);
         for (Entry<Item, ItemInterpretationMetadata> entry : map.entrySet()) {
             Item item = entry.getKey();
             ItemInterpretationMetadata interpretationMetadata = entry.getValue();
@@ -909,8 +906,6 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
                 boolean exactMatch = false;
                 boolean exactMatchOnTarget = false;
                 logger.trace("Checking tokens {} against the item tokens {}", labelFragments, itemLabelFragmentsPath);
-                List<String> lowercaseLabelFragments = Arrays.stream(labelFragments)
-                        .map(lf -> lf.toLowerCase(language.getLocale())).toList();
                 List<String> unmatchedFragments = new ArrayList<>(lowercaseLabelFragments);
                 if (itemLabelFragmentsPath.getLast().equals(lowercaseLabelFragments)) {
                     exactMatch = true;
@@ -1487,6 +1482,259 @@ public abstract class AbstractRuleBasedInterpreter implements HumanLanguageInter
         return generator.getGrammar();
     }
 
+    /**
+     * The {@link ItemTokenIndex} holds the item tokens of one locale. It is built from the {@link ItemRegistry} on
+     * first use and then kept up to date with the registry changes: a change only marks the root items (items without
+     * groups) that reach the changed item as dirty. The dirty roots are retokenized once on the next lookup, so a bulk
+     * change of many items below the same root does not traverse the root again for each item.
+     */
+    private class ItemTokenIndex {
+        private final Locale locale;
+
+        // the tokens of the labels and synonyms of all items, with the number of items using them
+        private @Nullable Map<String, Integer> tokenCounts;
+        private final Map<String, List<String>> tokensByItemName = new HashMap<>();
+
+        // the items reachable from the root items, with their paths and the index of the tokens on their paths
+        private @Nullable Map<Item, ItemInterpretationMetadata> itemTokens;
+        private final Map<String, Map<String, Entry<Item, ItemInterpretationMetadata>>> itemsByRoot = new HashMap<>();
+        private final Map<String, Set<String>> rootsByItemName = new HashMap<>();
+        private final Map<String, Item> indexedItems = new HashMap<>();
+        private final Map<String, Set<String>> itemNamesByToken = new HashMap<>();
+
+        // the roots reaching changed items before their change, and the changed items, since the last lookup
+        private final Set<String> dirtyRoots = new HashSet<>();
+        private final Set<String> pendingItemNames = new HashSet<>();
+
+        ItemTokenIndex(Locale locale) {
+            this.locale = locale;
+        }
+
+        synchronized Set<String> getAllTokens() {
+            Map<String, Integer> counts = tokenCounts;
+            if (counts == null) {
+                tokenCounts = counts = new ConcurrentHashMap<>();
+                for (Item item : itemRegistry.getAll()) {
+                    addTokens(counts, item);
+                }
+            }
+            return Collections.unmodifiableSet(counts.keySet());
+        }
+
+        synchronized Map<Item, ItemInterpretationMetadata> getItemTokens() {
+            Map<Item, ItemInterpretationMetadata> tokens = itemTokens;
+            if (tokens == null) {
+                itemTokens = tokens = new ConcurrentHashMap<>();
+                Set<String> reindexedItemNames = new HashSet<>();
+                for (Item item : itemRegistry.getItems()) {
+                    if (item.getGroupNames().isEmpty()) {
+                        addRoot(item, reindexedItemNames);
+                    }
+                }
+                reindex(tokens, reindexedItemNames);
+                dirtyRoots.clear();
+                pendingItemNames.clear();
+            } else if (!pendingItemNames.isEmpty()) {
+                rebuildDirtyRoots(tokens);
+            }
+            return tokens;
+        }
+
+        /**
+         * Gets the items having all given tokens on their paths.
+         *
+         * @param tokens the lower case tokens
+         * @return the items with their interpretation metadata, all items if no tokens are given
+         */
+        synchronized Map<Item, ItemInterpretationMetadata> getItemsWithTokens(List<String> tokens) {
+            Map<Item, ItemInterpretationMetadata> allItems = getItemTokens();
+            if (tokens.isEmpty()) {
+                return allItems;
+            }
+            List<Set<String>> itemNamesPerToken = new ArrayList<>();
+            for (String token : tokens) {
+                Set<String> itemNames = itemNamesByToken.get(token);
+                if (itemNames == null) {
+                    return Map.of();
+                }
+                itemNamesPerToken.add(itemNames);
+            }
+            itemNamesPerToken.sort((a, b) -> Integer.compare(a.size(), b.size()));
+            Map<Item, ItemInterpretationMetadata> items = new HashMap<>();
+            for (String itemName : itemNamesPerToken.getFirst()) {
+                if (itemNamesPerToken.stream().allMatch(itemNames -> itemNames.contains(itemName))) {
+                    Item item = indexedItems.get(itemName);
+                    ItemInterpretationMetadata metadata = item != null ? allItems.get(item) : null;
+                    if (item != null && metadata != null) {
+                        items.put(item, metadata);
+                    }
+                }
+            }
+            return items;
+        }
+
+        /**
+         * Updates the index after an item has been added, updated or removed, or its synonyms changed.
+         *
+         * @param oldItem the item before the change, {@code null} if it has been added
+         * @param item the item after the change, {@code null} if it has been removed
+         */
+        synchronized void update(@Nullable Item oldItem, @Nullable Item item) {
+            String name = item != null ? item.getName() : Objects.requireNonNull(oldItem).getName();
+            Map<String, Integer> counts = tokenCounts;
+            if (counts != null) {
+                removeTokens(counts, name);
+                if (item != null) {
+                    addTokens(counts, item);
+                }
+            }
+            if (itemTokens == null) {
+                return;
+            }
+            // the index is not changed until the next lookup, so it still tells the roots reaching the item before
+            // the first change since then, the roots reaching the item after the change are found on the next lookup
+            dirtyRoots.add(name);
+            dirtyRoots.addAll(rootsByItemName.getOrDefault(name, Set.of()));
+            if (oldItem != null) {
+                for (String groupName : oldItem.getGroupNames()) {
+                    dirtyRoots.addAll(rootsByItemName.getOrDefault(groupName, Set.of()));
+                }
+            }
+            pendingItemNames.add(name);
+        }
+
+        /**
+         * Retokenizes the roots reaching the items changed since the last lookup, before or after their change.
+         */
+        private void rebuildDirtyRoots(Map<Item, ItemInterpretationMetadata> tokens) {
+            for (String itemName : pendingItemNames) {
+                addRootsOf(itemName, new HashSet<>());
+            }
+            Set<String> reindexedItemNames = new HashSet<>();
+            for (String root : dirtyRoots) {
+                removeRoot(root, reindexedItemNames);
+                Item rootItem = itemRegistry.get(root);
+                if (rootItem != null && rootItem.getGroupNames().isEmpty()) {
+                    addRoot(rootItem, reindexedItemNames);
+                }
+            }
+            reindex(tokens, reindexedItemNames);
+            dirtyRoots.clear();
+            pendingItemNames.clear();
+        }
+
+        /**
+         * Marks the roots reaching an item in the registry as dirty.
+         */
+        private void addRootsOf(String itemName, Set<String> visitedItemNames) {
+            Item item = visitedItemNames.add(itemName) ? itemRegistry.get(itemName) : null;
+            if (item == null) {
+                return;
+            }
+            if (item.getGroupNames().isEmpty()) {
+                dirtyRoots.add(itemName);
+            }
+            for (String groupName : item.getGroupNames()) {
+                addRootsOf(groupName, visitedItemNames);
+            }
+        }
+
+        private void addTokens(Map<String, Integer> counts, Item item) {
+            List<String> tokens = new ArrayList<>(tokenize(locale, item.getLabel()));
+            for (String synonym : getItemSynonyms(item)) {
+                tokens.addAll(tokenize(locale, synonym));
+            }
+            tokensByItemName.put(item.getName(), tokens);
+            tokens.forEach(token -> counts.merge(token, 1, Integer::sum));
+        }
+
+        private void removeTokens(Map<String, Integer> counts, String itemName) {
+            List<String> tokens = tokensByItemName.remove(itemName);
+            if (tokens != null) {
+                tokens.forEach(token -> counts.computeIfPresent(token, (t, count) -> count > 1 ? count - 1 : null));
+            }
+        }
+
+        private void addRoot(Item root, Set<String> changedItemNames) {
+            Map<Item, ItemInterpretationMetadata> target = new HashMap<>();
+            addItem(locale, target, new ArrayList<>(), root, new ArrayList<>());
+            Map<String, Entry<Item, ItemInterpretationMetadata>> items = new HashMap<>();
+            target.forEach((item, metadata) -> {
+                items.put(item.getName(), Map.entry(item, metadata));
+                rootsByItemName.computeIfAbsent(item.getName(), k -> new HashSet<>()).add(root.getName());
+                changedItemNames.add(item.getName());
+            });
+            itemsByRoot.put(root.getName(), items);
+        }
+
+        private void removeRoot(String root, Set<String> changedItemNames) {
+            Map<String, Entry<Item, ItemInterpretationMetadata>> items = itemsByRoot.remove(root);
+            if (items == null) {
+                return;
+            }
+            for (String itemName : items.keySet()) {
+                Set<String> itemRoots = rootsByItemName.get(itemName);
+                if (itemRoots != null) {
+                    itemRoots.remove(root);
+                    if (itemRoots.isEmpty()) {
+                        rootsByItemName.remove(itemName);
+                    }
+                }
+                changedItemNames.add(itemName);
+            }
+        }
+
+        /**
+         * Merges the paths of the changed items from all roots reaching them and updates the token index.
+         */
+        private void reindex(Map<Item, ItemInterpretationMetadata> tokens, Set<String> changedItemNames) {
+            for (String itemName : changedItemNames) {
+                Item indexedItem = indexedItems.remove(itemName);
+                if (indexedItem != null) {
+                    ItemInterpretationMetadata metadata = tokens.remove(indexedItem);
+                    if (metadata != null) {
+                        forEachToken(metadata, token -> {
+                            Set<String> itemNames = itemNamesByToken.get(token);
+                            if (itemNames != null && itemNames.remove(itemName) && itemNames.isEmpty()) {
+                                itemNamesByToken.remove(token);
+                            }
+                        });
+                    }
+                }
+                Set<String> itemRoots = rootsByItemName.get(itemName);
+                if (itemRoots == null) {
+                    continue;
+                }
+                Item item = null;
+                ItemInterpretationMetadata metadata = null;
+                for (String root : itemRoots) {
+                    Entry<Item, ItemInterpretationMetadata> entry = itemsByRoot.get(root).get(itemName);
+                    item = entry.getKey();
+                    if (metadata == null) {
+                        metadata = entry.getValue();
+                    } else {
+                        ItemInterpretationMetadata merged = new ItemInterpretationMetadata();
+                        merged.pathToItem.addAll(metadata.pathToItem);
+                        merged.pathToItem.addAll(entry.getValue().pathToItem);
+                        merged.locationParentNames.addAll(metadata.locationParentNames);
+                        merged.locationParentNames.addAll(entry.getValue().locationParentNames);
+                        metadata = merged;
+                    }
+                }
+                if (item != null && metadata != null) {
+                    indexedItems.put(itemName, item);
+                    tokens.put(item, metadata);
+                    forEachToken(metadata,
+                            token -> itemNamesByToken.computeIfAbsent(token, k -> new HashSet<>()).add(itemName));
+                }
+            }
+        }
+
+        private void forEachToken(ItemInterpretationMetadata metadata, Consumer<String> action) {
+            metadata.pathToItem.forEach(path -> path.forEach(labelTokens -> labelTokens.forEach(action)));
+        }
+    }
+
     private static class ItemInterpretationMetadata {
         final List<List<List<String>>> pathToItem = new ArrayList<>();
         final List<String> locationParentNames = new ArrayList<>();
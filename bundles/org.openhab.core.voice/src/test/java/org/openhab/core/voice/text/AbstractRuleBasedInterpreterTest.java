@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.voice.text;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.events.EventPublisher;
+import org.openhab.core.items.GroupItem;
+import org.openhab.core.items.Item;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.items.Metadata;
+import org.openhab.core.items.MetadataKey;
+import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.library.items.SwitchItem;
+
+/**
+ * Tests the incremental item token index of the {@link AbstractRuleBasedInterpreter}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class AbstractRuleBasedInterpreterTest {
+
+    private @Mock @NonNullByDefault({}) EventPublisher eventPublisherMock;
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
+    private @Mock @NonNullByDefault({}) MetadataRegistry metadataRegistryMock;
+
+    private static final ResourceBundle LANGUAGE = ResourceBundle.getBundle("LanguageSupport", Locale.ENGLISH);
+    private static final Locale LOCALE = LANGUAGE.getLocale();
+
+    private final List<Item> items = new ArrayList<>();
+    private @NonNullByDefault({}) TestInterpreter interpreter;
+    private @NonNullByDefault({}) RegistryChangeListener<Item> itemListener;
+    private @NonNullByDefault({}) RegistryChangeListener<Metadata> metadataListener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        when(itemRegistryMock.getItems()).thenReturn(items);
+        when(itemRegistryMock.getAll()).thenReturn(items);
+        when(itemRegistryMock.get(anyString())).thenAnswer(invocation -> items.stream()
+                .filter(item -> item.getName().equals(invocation.getArgument(0))).findFirst().orElse(null));
+        interpreter = new TestInterpreter(eventPublisherMock, itemRegistryMock, metadataRegistryMock);
+
+        ArgumentCaptor<RegistryChangeListener<Item>> itemCaptor = ArgumentCaptor.forClass(RegistryChangeListener.class);
+        verify(itemRegistryMock).addRegistryChangeListener(itemCaptor.capture());
+        itemListener = itemCaptor.getValue();
+        ArgumentCaptor<RegistryChangeListener<Metadata>> metadataCaptor = ArgumentCaptor
+                .forClass(RegistryChangeListener.class);
+        verify(metadataRegistryMock).addRegistryChangeListener(metadataCaptor.capture());
+        metadataListener = metadataCaptor.getValue();
+    }
+
+    @Test
+    public void addedItemIsIndexedWithoutRebuild() {
+        items.add(switchItem("lamp", "Lamp"));
+        assertThat(itemNames(), is(Set.of("lamp")));
+        assertThat(interpreter.getAllItemTokens(LOCALE), is(Set.of("lamp")));
+
+        SwitchItem fan = switchItem("fan", "Ceiling Fan");
+        items.add(fan);
+        itemListener.added(fan);
+
+        assertThat(itemNames(), is(Set.of("lamp", "fan")));
+        assertThat(interpreter.getAllItemTokens(LOCALE), is(Set.of("lamp", "ceiling", "fan")));
+        verify(itemRegistryMock, times(1)).getItems();
+        verify(itemRegistryMock, times(1)).getAll();
+    }
+
+    @Test
+    public void updatedItemReplacesItsTokens() {
+        SwitchItem lamp = switchItem("lamp", "Lamp");
+        SwitchItem otherLamp = switchItem("otherLamp", "Lamp");
+        items.addAll(List.of(lamp, otherLamp));
+        interpreter.getItemTokens(LOCALE);
+        interpreter.getAllItemTokens(LOCALE);
+
+        SwitchItem light = switchItem("lamp", "Light");
+        items.set(0, light);
+        itemListener.updated(lamp, light);
+
+        assertThat(interpreter.getAllItemTokens(LOCALE), is(Set.of("lamp", "light")));
+        assertThat(matchingItemNames("lamp"), is(Set.of("otherLamp")));
+        assertThat(matchingItemNames("light"), is(Set.of("lamp")));
+
+        itemListener.removed(otherLamp);
+        items.remove(otherLamp);
+
+        assertThat(interpreter.getAllItemTokens(LOCALE), is(Set.of("light")));
+        assertThat(matchingItemNames("lamp"), is(empty()));
+    }
+
+    @Test
+    public void groupChangesUpdateTheMemberPaths() {
+        GroupItem kitchen = new GroupItem("kitchen");
+        kitchen.setLabel("Kitchen");
+        SwitchItem lamp = switchItem("lamp", "Lamp");
+        lamp.addGroupName("kitchen");
+        kitchen.addMember(lamp);
+        items.addAll(List.of(kitchen, lamp));
+
+        assertThat(matchingItemNames("kitchen", "lamp"), is(Set.of("lamp")));
+
+        GroupItem cuisine = new GroupItem("kitchen");
+        cuisine.setLabel("Cuisine");
+        cuisine.addMember(lamp);
+        items.set(0, cuisine);
+        itemListener.updated(kitchen, cuisine);
+
+        assertThat(matchingItemNames("kitchen", "lamp"), is(empty()));
+        assertThat(matchingItemNames("cuisine", "lamp"), is(Set.of("lamp")));
+
+        items.remove(cuisine);
+        itemListener.removed(cuisine);
+
+        assertThat(itemNames(), is(empty()));
+        verify(itemRegistryMock, times(1)).getItems();
+    }
+
+    @Test
+    public void memberAddedToExistingGroupIsIndexed() {
+        GroupItem kitchen = new GroupItem("kitchen");
+        kitchen.setLabel("Kitchen");
+        items.add(kitchen);
+        assertThat(itemNames(), is(Set.of("kitchen")));
+
+        SwitchItem lamp = switchItem("lamp", "Lamp");
+        lamp.addGroupName("kitchen");
+        kitchen.addMember(lamp);
+        items.add(lamp);
+        itemListener.added(lamp);
+
+        assertThat(itemNames(), is(Set.of("kitchen", "lamp")));
+        assertThat(matchingItemNames("kitchen", "lamp"), is(Set.of("lamp")));
+    }
+
+    @Test
+    public void synonymsChangeUpdatesTheItemTokens() {
+        SwitchItem lamp = switchItem("lamp", "Lamp");
+        items.add(lamp);
+        when(itemRegistryMock.get("lamp")).thenReturn(lamp);
+        interpreter.getItemTokens(LOCALE);
+        interpreter.getAllItemTokens(LOCALE);
+
+        Metadata synonyms = new Metadata(new MetadataKey("synonyms", "lamp"), "Light", null);
+        when(metadataRegistryMock.get(any())).thenReturn(synonyms);
+        metadataListener.added(synonyms);
+
+        assertThat(interpreter.getAllItemTokens(LOCALE), is(Set.of("lamp", "light")));
+        assertThat(matchingItemNames("lamp"), is(Set.of("lamp")));
+        assertThat(matchingItemNames("light"), is(Set.of("lamp")));
+    }
+
+    @Test
+    public void bulkChangesBelowOneRootTraverseTheRootOnce() {
+        CountingGroupItem home = new CountingGroupItem("home");
+        home.setLabel("Home");
+        items.add(home);
+        for (int i = 0; i < 1000; i++) {
+            addMember(home, switchItem("lamp" + i, "Lamp " + i));
+        }
+        assertThat(itemNames().size(), is(1001));
+        assertThat(home.traversals, is(1));
+
+        // e.g. an .items file with all items below one location is reloaded
+        List<SwitchItem> added = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            SwitchItem fan = switchItem("fan" + i, "Fan " + i);
+            addMember(home, fan);
+            itemListener.added(fan);
+            added.add(fan);
+        }
+        for (int i = 0; i < 1000; i++) {
+            SwitchItem lamp = (SwitchItem) items.get(i + 1);
+            SwitchItem light = switchItem(lamp.getName(), "Light " + i);
+            light.addGroupName("home");
+            home.replaceMember(lamp, light);
+            items.set(i + 1, light);
+            itemListener.updated(lamp, light);
+        }
+        assertThat(home.traversals, is(1));
+
+        assertThat(itemNames().size(), is(2001));
+        assertThat(home.traversals, is(2));
+        assertThat(matchingItemNames("light", "7"), is(Set.of("lamp7")));
+        assertThat(matchingItemNames("lamp", "7"), is(empty()));
+        assertThat(matchingItemNames("fan", "999"), is(Set.of("fan999")));
+
+        for (SwitchItem fan : added) {
+            home.removeMember(fan);
+            items.remove(fan);
+            itemListener.removed(fan);
+        }
+
+        assertThat(itemNames().size(), is(1001));
+        assertThat(home.traversals, is(3));
+        verify(itemRegistryMock, times(1)).getItems();
+    }
+
+    private void addMember(GroupItem group, Item member) {
+        if (member instanceof SwitchItem switchItem) {
+            switchItem.addGroupName(group.getName());
+        }
+        group.addMember(member);
+        items.add(member);
+    }
+
+    private Set<String> itemNames() {
+        return interpreter.getItemTokens(LOCALE).keySet().stream().map(Item::getName).collect(Collectors.toSet());
+    }
+
+    private Set<String> matchingItemNames(String... fragments) {
+        return interpreter.getMatchingItems(fragments).stream().map(Item::getName).collect(Collectors.toSet());
+    }
+
+    private static SwitchItem switchItem(String name, String label) {
+        SwitchItem item = new SwitchItem(name);
+        item.setLabel(label);
+        return item;
+    }
+
+    private static class CountingGroupItem extends GroupItem {
+        private int traversals;
+
+        CountingGroupItem(String name) {
+            super(name);
+        }
+
+        @Override
+        public Set<Item> getMembers() {
+            traversals++;
+            return super.getMembers();
+        }
+    }
+
+    private static class TestInterpreter extends AbstractRuleBasedInterpreter {
+
+        TestInterpreter(EventPublisher eventPublisher, ItemRegistry itemRegistry, MetadataRegistry metadataRegistry) {
+            super(eventPublisher, itemRegistry, metadataRegistry);
+        }
+
+        List<Item> getMatchingItems(String... fragments) {
+            return getMatchingItems(LANGUAGE, fragments, null,
+                    new Rule.InterpretationContext(ItemFilter.all(), false, false, null));
+        }
+
+        @Override
+        protected void createRules(@Nullable Locale locale) {
+        }
+
+        @Override
+        public String getId() {
+            return "test";
+        }
+
+        @Override
+        public String getLabel(@Nullable Locale locale) {
+            return "Test";
+        }
+
+        @Override
+        public Set<Locale> getSupportedLocales() {
+            return Set.of(Locale.ENGLISH);
+        }
+    }
+}
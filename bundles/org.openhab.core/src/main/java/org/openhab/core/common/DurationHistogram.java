@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.common;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * A histogram of durations with fixed bucket boundaries.
+ * <p>
+ * The buckets are {@link LongAdder}s, so recording a duration does not allocate and does not contend between threads.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public final class DurationHistogram {
+
+    /**
+     * The upper bounds in milliseconds of the histogram buckets, an additional last bucket holds all larger values.
+     */
+    public static final List<Long> BUCKET_BOUNDARIES_MS = List.of(1L, 10L, 100L, 1000L, 10000L);
+
+    private static final long[] BUCKET_BOUNDARIES_NANOS = BUCKET_BOUNDARIES_MS.stream()
+            .mapToLong(TimeUnit.MILLISECONDS::toNanos).toArray();
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDARIES_NANOS.length + 1];
+    private final LongAdder totalNanos = new LongAdder();
+
+    public DurationHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDARIES_NANOS.length && nanos > BUCKET_BOUNDARIES_NANOS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        totalNanos.add(nanos);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public double getTotalTime(TimeUnit unit) {
+        return (double) totalNanos.sum() / unit.toNanos(1);
+    }
+
+    /**
+     * Gets the mean of the recorded durations.
+     *
+     * @param unit the unit of the result
+     * @return the mean duration, 0 if nothing has been recorded
+     */
+    public double getMean(TimeUnit unit) {
+        long count = getCount();
+        return count == 0 ? 0 : getTotalTime(unit) / count;
+    }
+
+    /**
+     * Gets the number of recorded durations less than or equal to the boundary with the given index.
+     *
+     * @param index index in {@link #BUCKET_BOUNDARIES_MS}
+     * @return the cumulative count
+     */
+    public long getCumulativeCount(int index) {
+        long count = 0;
+        for (int i = 0; i <= index; i++) {
+            count += buckets[i].sum();
+        }
+        return count;
+    }
+}
@@ -51,6 +51,7 @@ import org.slf4j.LoggerFactory;
  * Each instance has a reference to the last CompletableFuture and will call handleAsync to add a new task.
  *
  * @author Jörg Sautter - Initial contribution
+ * @author Mark Herwege - task statistics
  */
 @NonNullByDefault
 final class PoolBasedSequentialScheduledExecutorService implements ScheduledExecutorService {
@@ -117,12 +118,24 @@ final class PoolBasedSequentialScheduledExecutorService implements ScheduledExec
 
     private final WorkQueueEntry empty;
     private final BasePoolExecutor pool;
+    private final @Nullable String owner;
     private final List<RunnableFuture<?>> scheduled;
     private final ScheduledFuture<?> cleaner;
     private @Nullable WorkQueueEntry tail;
 
     public PoolBasedSequentialScheduledExecutorService(BasePoolExecutor pool) {
+        this(pool, null);
+    }
+
+    /**
+     * Creates a sequential executor using the given pool.
+     *
+     * @param pool the pool executing the tasks
+     * @param owner the name used for the {@link ThreadPoolStatistics} of the tasks of this executor, can be null
+     */
+    public PoolBasedSequentialScheduledExecutorService(BasePoolExecutor pool, @Nullable String owner) {
         this.pool = pool;
+        this.owner = owner;
 
         // prepare the WorkQueueEntry we are using when no tasks are pending
         RunnableCompletableFuture<?> future = new RunnableCompletableFuture<>();
@@ -333,8 +346,11 @@ final class PoolBasedSequentialScheduledExecutorService implements ScheduledExec
         return submitToWorkQueue(origin, callable, inPool);
     }
 
-    private <T> CompletableFuture<T> submitToWorkQueue(@Nullable RunnableFuture<?> origin, @Nullable Callable<T> task,
-            boolean inPool) {
+    private <T> CompletableFuture<T> submitToWorkQueue(@Nullable RunnableFuture<?> origin,
+            @Nullable Callable<T> callable, boolean inPool) {
+        String owner = this.owner;
+        Callable<T> task = owner == null || callable == null ? callable
+                : ThreadPoolStatistics.wrap(pool.threadPoolName, owner, callable);
         BiFunction<? super Object, Throwable, T> action = (result, error) -> {
             // ignore result & error, they are from the previous task
             try {
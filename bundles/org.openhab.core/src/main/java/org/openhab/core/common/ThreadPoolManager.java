@@ -29,9 +29,13 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.openhab.core.common.PoolBasedSequentialScheduledExecutorService.BasePoolExecutor;
 import org.openhab.core.internal.common.WrappedScheduledExecutorService;
@@ -56,7 +60,17 @@ import org.slf4j.LoggerFactory;
  * <br/>
  * All threads will time out after {@link #THREAD_TIMEOUT}.
  *
+ * <p>
+ * Pools can be backed by virtual threads instead of platform threads, by listing them as
+ * <br/>
+ * {@code org.openhab.threadpool:virtualThreads=<poolName>,<poolName>,...}
+ * <br/>
+ * Tasks in such pools that block (e.g. on {@code Thread.sleep}, network I/O or locks) do not occupy a platform
+ * thread. Pools without a size limit run each task on its own virtual thread, scheduled and sequential pools keep
+ * their sizing, as the threads are cheap to create. The setting only applies to pools created after it is changed.
+ *
  * @author Kai Kreuzer - Initial contribution
+ * @author Mark Herwege - virtual thread pools, task statistics
  */
 @Component(configurationPid = ThreadPoolManager.CONFIGURATION_PID)
 public class ThreadPoolManager {
@@ -70,6 +84,13 @@ public class ThreadPoolManager {
      */
     public static final String THREAD_POOL_NAME_COMMON = "common";
 
+    /**
+     * Configuration property with a comma separated list of pool names that are backed by virtual threads.
+     */
+    public static final String CONFIG_VIRTUAL_THREADS = "virtualThreads";
+
+    private static final String PROPERTY_TRACE_PINNED_THREADS = "jdk.tracePinnedThreads";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ThreadPoolManager.class);
 
     protected static final int DEFAULT_THREAD_POOL_SIZE = 5;
@@ -81,6 +102,8 @@ public class ThreadPoolManager {
 
     private static Map<String, Integer> configs = new ConcurrentHashMap<>();
 
+    private static volatile Set<String> virtualThreadPools = Set.of();
+
     private static final Set<String> OSGI_PROPERTY_NAMES = Set.of(Constants.SERVICE_PID,
             ComponentConstants.COMPONENT_ID, ComponentConstants.COMPONENT_NAME, "osgi.ds.satisfying.condition.target");
 
@@ -89,8 +112,9 @@ public class ThreadPoolManager {
     }
 
     protected void modified(Map<String, Object> properties) {
+        setVirtualThreadPools(properties.get(CONFIG_VIRTUAL_THREADS));
         for (Entry<String, Object> entry : properties.entrySet()) {
-            if (OSGI_PROPERTY_NAMES.contains(entry.getKey())) {
+            if (OSGI_PROPERTY_NAMES.contains(entry.getKey()) || CONFIG_VIRTUAL_THREADS.equals(entry.getKey())) {
                 continue;
             }
             String poolName = entry.getKey();
@@ -122,6 +146,46 @@ public class ThreadPoolManager {
         }
     }
 
+    private static void setVirtualThreadPools(Object config) {
+        Set<String> poolNames = config == null ? Set.of()
+                : Stream.of(config.toString().split(",")).map(String::trim).filter(name -> !name.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet());
+        if (poolNames.equals(virtualThreadPools)) {
+            return;
+        }
+        virtualThreadPools = poolNames;
+        if (poolNames.isEmpty()) {
+            return;
+        }
+        LOGGER.debug("Using virtual threads for thread pools {}", poolNames);
+        poolNames.stream().filter(pools::containsKey)
+                .forEach(poolName -> LOGGER.info(
+                        "Thread pool '{}' has already been created, it will use virtual threads after a restart",
+                        poolName));
+        if (System.getProperty(PROPERTY_TRACE_PINNED_THREADS) == null) {
+            // virtual threads blocking inside synchronized blocks pin their carrier thread, which limits throughput
+            LOGGER.info("Set -D{}=short to log code that pins virtual threads of pools {} to their carrier thread",
+                    PROPERTY_TRACE_PINNED_THREADS, poolNames);
+        }
+    }
+
+    /**
+     * Returns whether the given pool is configured to use virtual threads.
+     *
+     * @param poolName the name of the pool
+     * @return true if the pool is backed by virtual threads
+     */
+    public static boolean isVirtualThreadPool(String poolName) {
+        return virtualThreadPools.contains(poolName);
+    }
+
+    private static ThreadFactory createThreadFactory(String poolName, String threadName) {
+        if (isVirtualThreadPool(poolName)) {
+            return Thread.ofVirtual().name("OH-" + threadName + "-", 1).factory();
+        }
+        return new NamedThreadFactory(threadName, true, Thread.NORM_PRIORITY);
+    }
+
     /**
      * Returns an instance of a scheduled service, which will sequentially execute submitted tasks. If a task is
      * currently running the task is queued until the previous one is completed, this also applies for scheduled tasks.
@@ -137,8 +201,7 @@ public class ThreadPoolManager {
         if (configs.getOrDefault(poolName, 0) > 0) {
             ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
                 int cfg = getConfig(name);
-                ScheduledThreadPoolExecutor executor = new BasePoolExecutor(name, cfg,
-                        new NamedThreadFactory(name, true, Thread.NORM_PRIORITY));
+                ScheduledThreadPoolExecutor executor = new BasePoolExecutor(name, cfg, createThreadFactory(name, name));
                 executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
                 executor.allowCoreThreadTimeOut(true);
                 executor.setRemoveOnCancelPolicy(true);
@@ -147,10 +210,13 @@ public class ThreadPoolManager {
             });
 
             if (pool instanceof BasePoolExecutor service) {
-                return new PoolBasedSequentialScheduledExecutorService(service);
+                return new PoolBasedSequentialScheduledExecutorService(service, threadName);
             } else {
                 throw new IllegalArgumentException("Pool " + poolName + " is not a base pool!");
             }
+        } else if (isVirtualThreadPool(poolName)) {
+            // a dedicated virtual thread per service acts as a lightweight mailbox for its tasks
+            return Executors.newSingleThreadScheduledExecutor(createThreadFactory(poolName, threadName));
         } else {
             return Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory(threadName));
         }
@@ -167,7 +233,7 @@ public class ThreadPoolManager {
         ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
             int cfg = getConfig(name);
             ScheduledThreadPoolExecutor executor = new WrappedScheduledExecutorService(cfg,
-                    new NamedThreadFactory(name, true, Thread.NORM_PRIORITY));
+                    createThreadFactory(name, name));
             executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
             executor.allowCoreThreadTimeOut(true);
             executor.setRemoveOnCancelPolicy(true);
@@ -191,6 +257,13 @@ public class ThreadPoolManager {
      */
     public static ExecutorService getPool(String poolName) {
         ExecutorService pool = pools.computeIfAbsent(poolName, name -> {
+            if (isVirtualThreadPool(name)) {
+                // no queueing needed, every task gets its own virtual thread
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, THREAD_TIMEOUT,
+                        TimeUnit.SECONDS, new SynchronousQueue<>(), createThreadFactory(name, name));
+                LOGGER.debug("Created virtual thread pool '{}'", name);
+                return executor;
+            }
             int cfg = getConfig(name);
             ThreadPoolExecutor executor = QueueingThreadPoolExecutor.createInstance(name, cfg);
             executor.setKeepAliveTime(THREAD_TIMEOUT, TimeUnit.SECONDS);
@@ -267,17 +340,17 @@ public class ThreadPoolManager {
 
         @Override
         public <T> Future<T> submit(Callable<T> task) {
-            return delegate.submit(task);
+            return delegate.submit(ThreadPoolStatistics.wrap(threadPoolName, task));
         }
 
         @Override
         public <T> Future<T> submit(Runnable task, T result) {
-            return delegate.submit(task, result);
+            return delegate.submit(ThreadPoolStatistics.wrap(threadPoolName, task), result);
         }
 
         @Override
         public Future<?> submit(Runnable task) {
-            return delegate.submit(task);
+            return delegate.submit(ThreadPoolStatistics.wrap(threadPoolName, task));
         }
 
         @Override
@@ -305,7 +378,7 @@ public class ThreadPoolManager {
 
         @Override
         public void execute(Runnable command) {
-            delegate.execute(command);
+            delegate.execute(ThreadPoolStatistics.wrap(threadPoolName, command));
         }
 
         T getDelegate() {
@@ -377,23 +450,27 @@ public class ThreadPoolManager {
 
         @Override
         public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
-            return delegate.schedule(command, delay, unit);
+            return delegate.schedule(ThreadPoolStatistics.wrap(threadPoolName, command, delay, unit), delay, unit);
         }
 
         @Override
         public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-            return delegate.schedule(callable, delay, unit);
+            return delegate.schedule(ThreadPoolStatistics.wrap(threadPoolName, callable, delay, unit), delay, unit);
         }
 
         @Override
         public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
-            return delegate.scheduleAtFixedRate(command, initialDelay, period, unit);
+            return delegate.scheduleAtFixedRate(
+                    ThreadPoolStatistics.wrapPeriodic(threadPoolName, command, initialDelay, period, unit, true),
+                    initialDelay, period, unit);
         }
 
         @Override
         public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
                 TimeUnit unit) {
-            return delegate.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+            return delegate.scheduleWithFixedDelay(
+                    ThreadPoolStatistics.wrapPeriodic(threadPoolName, command, initialDelay, delay, unit, false),
+                    initialDelay, delay, unit);
         }
     }
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.common;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link ThreadPoolStatistics} collect the time tasks of the {@link ThreadPoolManager} pools wait before they are
+ * started and the time they run, per pool and per owner of the task.
+ * <p>
+ * The owner of a task is the name of the sequential executor for tasks submitted to a pool based sequential executor
+ * (e.g. {@code rule-<ruleUID>}), and the class that created the task for all other pools. The statistics are only
+ * collected while they are enabled, e.g. by the metrics service. Otherwise tasks are not wrapped at all.
+ * <p>
+ * Times are recorded in {@link DurationHistogram}s, so recording does not allocate and does not contend between
+ * threads.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public final class ThreadPoolStatistics {
+
+    private static final Map<String, Map<String, TaskStatistics>> STATISTICS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+    private static volatile @Nullable Consumer<TaskStatistics> listener;
+
+    private ThreadPoolStatistics() {
+        // prevent instantiation
+    }
+
+    /**
+     * Starts collecting statistics for tasks submitted from now on.
+     *
+     * @param listener called when statistics for a new combination of pool and owner are created
+     */
+    public static void enable(Consumer<TaskStatistics> listener) {
+        ThreadPoolStatistics.listener = listener;
+        enabled = true;
+    }
+
+    /**
+     * Stops collecting statistics and discards the collected statistics.
+     */
+    public static void disable() {
+        enabled = false;
+        listener = null;
+        STATISTICS.clear();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the statistics collected so far.
+     *
+     * @return the statistics for all combinations of pool and owner
+     */
+    public static Collection<TaskStatistics> getStatistics() {
+        return STATISTICS.values().stream().flatMap(owners -> owners.values().stream()).toList();
+    }
+
+    static TaskStatistics getStatistics(String poolName, String owner) {
+        Map<String, TaskStatistics> owners = STATISTICS.computeIfAbsent(poolName, name -> new ConcurrentHashMap<>());
+        TaskStatistics statistics = owners.get(owner);
+        if (statistics == null) {
+            TaskStatistics newStatistics = new TaskStatistics(poolName, owner);
+            statistics = owners.putIfAbsent(owner, newStatistics);
+            if (statistics == null) {
+                statistics = newStatistics;
+                Consumer<TaskStatistics> listener = ThreadPoolStatistics.listener;
+                if (listener != null) {
+                    listener.accept(newStatistics);
+                }
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Gets the owner of a task, i.e. the class that created it.
+     */
+    static String getOwner(Object task) {
+        String name = task.getClass().getName();
+        int lambdaIndex = name.indexOf("$$");
+        return lambdaIndex > 0 ? name.substring(0, lambdaIndex) : name;
+    }
+
+    static Runnable wrap(String poolName, Runnable task) {
+        return wrap(poolName, task, 0, TimeUnit.NANOSECONDS);
+    }
+
+    static Runnable wrap(String poolName, Runnable task, long delay, TimeUnit unit) {
+        return enabled ? new TimedRunnable(getStatistics(poolName, getOwner(task)), task, unit.toNanos(delay), 0, false)
+                : task;
+    }
+
+    static Runnable wrapPeriodic(String poolName, Runnable task, long initialDelay, long period, TimeUnit unit,
+            boolean fixedRate) {
+        return enabled
+                ? new TimedRunnable(getStatistics(poolName, getOwner(task)), task, unit.toNanos(initialDelay),
+                        unit.toNanos(period), fixedRate)
+                : task;
+    }
+
+    static <V> Callable<V> wrap(String poolName, Callable<V> task) {
+        return wrap(poolName, task, 0, TimeUnit.NANOSECONDS);
+    }
+
+    static <V> Callable<V> wrap(String poolName, Callable<V> task, long delay, TimeUnit unit) {
+        return enabled ? new TimedCallable<>(getStatistics(poolName, getOwner(task)), task, unit.toNanos(delay)) : task;
+    }
+
+    static <V> Callable<V> wrap(String poolName, String owner, Callable<V> task) {
+        return enabled ? new TimedCallable<>(getStatistics(poolName, owner), task, 0) : task;
+    }
+
+    /**
+     * The statistics of the tasks of one owner in one pool.
+     */
+    public static final class TaskStatistics {
+        private final String poolName;
+        private final String owner;
+        private final DurationHistogram queueWait = new DurationHistogram();
+        private final DurationHistogram runTime = new DurationHistogram();
+
+        TaskStatistics(String poolName, String owner) {
+            this.poolName = poolName;
+            this.owner = owner;
+        }
+
+        public String getPoolName() {
+            return poolName;
+        }
+
+        public String getOwner() {
+            return owner;
+        }
+
+        /**
+         * Gets the histogram of the time between the moment a task was due and the moment it was started.
+         */
+        public DurationHistogram getQueueWait() {
+            return queueWait;
+        }
+
+        /**
+         * Gets the histogram of the time between the start and the end of a task.
+         */
+        public DurationHistogram getRunTime() {
+            return runTime;
+        }
+
+        void record(long dueNanos, long startNanos, long endNanos) {
+            queueWait.record(Math.max(0, startNanos - dueNanos));
+            runTime.record(endNanos - startNanos);
+        }
+    }
+
+    private static class TimedRunnable implements Runnable {
+        private final TaskStatistics statistics;
+        private final Runnable task;
+        private final long period;
+        private final boolean fixedRate;
+        private long due;
+
+        TimedRunnable(TaskStatistics statistics, Runnable task, long delay, long period, boolean fixedRate) {
+            this.statistics = statistics;
+            this.task = task;
+            this.period = period;
+            this.fixedRate = fixedRate;
+            this.due = System.nanoTime() + delay;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                long end = System.nanoTime();
+                statistics.record(due, start, end);
+                due = fixedRate ? due + period : end + period;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    private static class TimedCallable<V> implements Callable<V> {
+        private final TaskStatistics statistics;
+        private final Callable<V> task;
+        private final long due;
+
+        TimedCallable(TaskStatistics statistics, Callable<V> task, long delay) {
+            this.statistics = statistics;
+            this.task = task;
+            this.due = System.nanoTime() + delay;
+        }
+
+        @Override
+        public V call() throws Exception {
+            long start = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                statistics.record(due, start, System.nanoTime());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.events;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.DurationHistogram;
+
+/**
+ * The {@link EventStatistics} provide insight into the throughput and latency of the event bus.
+ * <p>
+ * While enabled, the event bus records the time spent in {@link EventFactory#createEvent} and, per
+ * {@link EventSubscriber} class, the latency between publishing an event and the start of
+ * {@link EventSubscriber#receive} and the time spent in it. The queue size per subscriber class is always available.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public interface EventStatistics {
+
+    /**
+     * Enables or disables recording. Recorded statistics are kept when recording is disabled.
+     *
+     * @param enabled true to record statistics
+     */
+    void setEnabled(boolean enabled);
+
+    boolean isEnabled();
+
+    /**
+     * Adds a listener that is called when a subscriber class receives its first event.
+     *
+     * @param listener the listener
+     */
+    void addListener(Consumer<SubscriberStatistics> listener);
+
+    void removeListener(Consumer<SubscriberStatistics> listener);
+
+    /**
+     * Gets the time spent creating events from their serialized form.
+     *
+     * @return the histogram of event creation times
+     */
+    DurationHistogram getEventCreationTime();
+
+    /**
+     * Gets the statistics of all subscriber classes that received an event.
+     *
+     * @return the statistics per subscriber class
+     */
+    Collection<SubscriberStatistics> getSubscriberStatistics();
+
+    /**
+     * The statistics of one {@link EventSubscriber} class. All subscribers of a class share one queue.
+     */
+    interface SubscriberStatistics {
+
+        /**
+         * @return the name of the subscriber class
+         */
+        String getSubscriber();
+
+        /**
+         * @return the histogram of the time between publishing an event and the start of its processing
+         */
+        DurationHistogram getDispatchLatency();
+
+        /**
+         * @return the histogram of the time spent in {@link EventSubscriber#receive}
+         */
+        DurationHistogram getProcessingTime();
+
+        /**
+         * @return the number of events waiting for or being processed by subscribers of this class
+         */
+        int getQueueSize();
+    }
+}
@@ -34,6 +34,7 @@ import org.openhab.core.events.Event;
 import org.openhab.core.events.EventFactory;
 import org.openhab.core.events.EventFilter;
 import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.internal.events.EventStatisticsImpl.SubscriberStatisticsImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +42,7 @@ import org.slf4j.LoggerFactory;
  * Handle openHAB events encapsulated by OSGi events.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author Mark Herwege - Event statistics
  */
 @NonNullByDefault
 public class EventHandler implements AutoCloseable {
@@ -52,6 +54,7 @@ public class EventHandler implements AutoCloseable {
 
     private final Map<String, Set<EventSubscriber>> typedEventSubscribers;
     private final Map<String, EventFactory> typedEventFactories;
+    private final EventStatisticsImpl statistics;
 
     private final Map<Class<? extends EventSubscriber>, ExecutorRecord> executors = new HashMap<>();
     private final ScheduledExecutorService watcher;
@@ -61,17 +64,22 @@ public class EventHandler implements AutoCloseable {
      *
      * @param typedEventSubscribers the event subscribers indexed by the event type
      * @param typedEventFactories the event factories indexed by the event type
+     * @param statistics the statistics recorded while handling events
      */
     public EventHandler(final Map<String, Set<EventSubscriber>> typedEventSubscribers,
-            final Map<String, EventFactory> typedEventFactories) {
+            final Map<String, EventFactory> typedEventFactories, final EventStatisticsImpl statistics) {
         this.typedEventSubscribers = typedEventSubscribers;
         this.typedEventFactories = typedEventFactories;
+        this.statistics = statistics;
         watcher = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("eventwatcher"));
     }
 
     private synchronized ExecutorRecord createExecutorRecord(Class<? extends EventSubscriber> subscriber) {
-        return new ExecutorRecord(ThreadPoolManager.getPoolBasedSequentialScheduledExecutorService("events",
-                "eventexecutor-" + executors.size()), new AtomicInteger());
+        AtomicInteger count = new AtomicInteger();
+        return new ExecutorRecord(
+                ThreadPoolManager.getPoolBasedSequentialScheduledExecutorService("events",
+                        "eventexecutor-" + executors.size()),
+                count, statistics.getSubscriberStatistics(subscriber, count));
     }
 
     @Override
@@ -87,12 +95,13 @@ public class EventHandler implements AutoCloseable {
         Object payloadObj = osgiEvent.getProperty(OSGiEventPublisher.PAYLOAD);
         Object topicObj = osgiEvent.getProperty(OSGiEventPublisher.TOPIC);
         Object sourceObj = osgiEvent.getProperty(OSGiEventPublisher.SOURCE);
+        long publishTime = osgiEvent.getProperty(OSGiEventPublisher.PUBLISH_TIME) instanceof Long time ? time : 0;
 
         if (typeObj instanceof String typeStr && payloadObj instanceof String payloadStr
                 && topicObj instanceof String topicStr) {
             String sourceStr = (sourceObj instanceof String s) ? s : null;
             if (!typeStr.isEmpty() && !payloadStr.isEmpty() && !topicStr.isEmpty()) {
-                handleEvent(typeStr, payloadStr, topicStr, sourceStr);
+                handleEvent(typeStr, payloadStr, topicStr, sourceStr, publishTime);
             }
         } else {
             logger.error(
@@ -101,8 +110,8 @@ public class EventHandler implements AutoCloseable {
         }
     }
 
-    private void handleEvent(final String type, final String payload, final String topic,
-            final @Nullable String source) {
+    private void handleEvent(final String type, final String payload, final String topic, final @Nullable String source,
+            final long publishTime) {
         final EventFactory eventFactory = typedEventFactories.get(type);
         if (eventFactory == null) {
             logger.debug("Could not find an Event Factory for the event type '{}'.", type);
@@ -114,12 +123,19 @@ public class EventHandler implements AutoCloseable {
             return;
         }
 
-        final Event event = createEvent(eventFactory, type, payload, topic, source);
+        final Event event;
+        if (statistics.isEnabled()) {
+            long start = System.nanoTime();
+            event = createEvent(eventFactory, type, payload, topic, source);
+            statistics.getEventCreationTime().record(System.nanoTime() - start);
+        } else {
+            event = createEvent(eventFactory, type, payload, topic, source);
+        }
         if (event == null) {
             return;
         }
 
-        dispatchEvent(eventSubscribers, event);
+        dispatchEvent(eventSubscribers, event, publishTime);
     }
 
     private Set<EventSubscriber> getEventSubscribers(String eventType) {
@@ -148,7 +164,8 @@ public class EventHandler implements AutoCloseable {
         }
     }
 
-    private synchronized void dispatchEvent(final Set<EventSubscriber> eventSubscribers, final Event event) {
+    private synchronized void dispatchEvent(final Set<EventSubscriber> eventSubscribers, final Event event,
+            final long publishTime) {
         for (final EventSubscriber eventSubscriber : eventSubscribers) {
             EventFilter filter = eventSubscriber.getEventFilter();
             if (filter == null || filter.apply(event)) {
@@ -165,6 +182,8 @@ public class EventHandler implements AutoCloseable {
                             () -> logger.warn("Dispatching event to subscriber '{}' takes more than {}ms.",
                                     eventSubscriber, EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS),
                             EVENTSUBSCRIBER_EVENTHANDLING_MAX_MS, TimeUnit.MILLISECONDS);
+                    boolean recordStatistics = statistics.isEnabled();
+                    long start = recordStatistics ? System.nanoTime() : 0;
                     try {
                         eventSubscriber.receive(event);
                     } catch (final Exception ex) {
@@ -172,6 +191,13 @@ public class EventHandler implements AutoCloseable {
                                 EventSubscriber.class.getName(), ex.getMessage(), ex);
                     }
                     logTimeout.cancel(false);
+                    if (recordStatistics) {
+                        SubscriberStatisticsImpl subscriberStatistics = executorRecord.statistics;
+                        if (publishTime != 0) {
+                            subscriberStatistics.getDispatchLatency().record(start - publishTime);
+                        }
+                        subscriberStatistics.getProcessingTime().record(System.nanoTime() - start);
+                    }
                 }, executorRecord.executor).thenRun(executorRecord.count::decrementAndGet);
             } else {
                 logger.trace("Skip event subscriber ({}) because of its filter.", eventSubscriber.getClass());
@@ -179,6 +205,6 @@ public class EventHandler implements AutoCloseable {
         }
     }
 
-    private record ExecutorRecord(ExecutorService executor, AtomicInteger count) {
+    private record ExecutorRecord(ExecutorService executor, AtomicInteger count, SubscriberStatisticsImpl statistics) {
     }
 }
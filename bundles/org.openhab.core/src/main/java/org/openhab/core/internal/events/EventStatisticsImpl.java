@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.DurationHistogram;
+import org.openhab.core.events.EventStatistics;
+import org.osgi.service.component.annotations.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link EventStatisticsImpl} holds the {@link EventStatistics} recorded by the {@link EventHandler}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@Component(service = { EventStatistics.class, EventStatisticsImpl.class })
+@NonNullByDefault
+public class EventStatisticsImpl implements EventStatistics {
+
+    private final Logger logger = LoggerFactory.getLogger(EventStatisticsImpl.class);
+
+    private final Map<String, SubscriberStatisticsImpl> subscribers = new ConcurrentHashMap<>();
+    private final List<Consumer<SubscriberStatistics>> listeners = new CopyOnWriteArrayList<>();
+    private final DurationHistogram eventCreationTime = new DurationHistogram();
+
+    private volatile boolean enabled;
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void addListener(Consumer<SubscriberStatistics> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(Consumer<SubscriberStatistics> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public DurationHistogram getEventCreationTime() {
+        return eventCreationTime;
+    }
+
+    @Override
+    public Collection<SubscriberStatistics> getSubscriberStatistics() {
+        return List.copyOf(subscribers.values());
+    }
+
+    /**
+     * Gets the statistics of a subscriber class, creating them on first use.
+     *
+     * @param subscriber the subscriber class
+     * @param queueSize the queue size counter of the subscriber class
+     * @return the statistics of the subscriber class
+     */
+    SubscriberStatisticsImpl getSubscriberStatistics(Class<?> subscriber, AtomicInteger queueSize) {
+        SubscriberStatisticsImpl statistics = new SubscriberStatisticsImpl(subscriber.getName(), queueSize);
+        SubscriberStatisticsImpl existing = subscribers.putIfAbsent(statistics.getSubscriber(), statistics);
+        if (existing != null) {
+            // a new executor record for a class that was seen before, e.g. after a restart of the event handler
+            existing.queueSize = queueSize;
+            return existing;
+        }
+        for (Consumer<SubscriberStatistics> listener : listeners) {
+            try {
+                listener.accept(statistics);
+            } catch (RuntimeException e) {
+                logger.warn("Event statistics listener failed: {}", e.getMessage(), e);
+            }
+        }
+        return statistics;
+    }
+
+    static class SubscriberStatisticsImpl implements SubscriberStatistics {
+        private final String subscriber;
+        private volatile AtomicInteger queueSize;
+        private final DurationHistogram dispatchLatency = new DurationHistogram();
+        private final DurationHistogram processingTime = new DurationHistogram();
+
+        SubscriberStatisticsImpl(String subscriber, AtomicInteger queueSize) {
+            this.subscriber = subscriber;
+            this.queueSize = queueSize;
+        }
+
+        @Override
+        public String getSubscriber() {
+            return subscriber;
+        }
+
+        @Override
+        public DurationHistogram getDispatchLatency() {
+            return dispatchLatency;
+        }
+
+        @Override
+        public DurationHistogram getProcessingTime() {
+            return processingTime;
+        }
+
+        @Override
+        public int getQueueSize() {
+            return queueSize.get();
+        }
+    }
+}
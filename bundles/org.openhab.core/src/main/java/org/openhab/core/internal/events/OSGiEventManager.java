@@ -40,6 +40,7 @@ import org.osgi.service.event.EventHandler;
  *
  * @author Stefan Bußweiler - Initial contribution
  * @author Markus Rathgeb - Return on received events as fast as possible (handle event in another thread)
+ * @author Mark Herwege - Event statistics
  */
 @Component(immediate = true, property = { "event.topics:String=openhab" })
 @NonNullByDefault
@@ -53,8 +54,8 @@ public class OSGiEventManager implements EventHandler {
     private final ThreadedEventHandler eventHandler;
 
     @Activate
-    public OSGiEventManager(ComponentContext componentContext) {
-        eventHandler = new ThreadedEventHandler(typedEventSubscribers, typedEventFactories);
+    public OSGiEventManager(ComponentContext componentContext, final @Reference EventStatisticsImpl eventStatistics) {
+        eventHandler = new ThreadedEventHandler(typedEventSubscribers, typedEventFactories, eventStatistics);
         eventHandler.open();
     }
 
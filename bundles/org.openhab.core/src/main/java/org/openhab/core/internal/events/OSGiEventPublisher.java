@@ -32,6 +32,7 @@ import org.osgi.service.event.EventAdmin;
  *
  * @author Stefan Bußweiler - Initial contribution
  * @author Simon Kaufmann - separated from OSGiEventManager
+ * @author Mark Herwege - publish time for event statistics
  */
 @Component
 @NonNullByDefault
@@ -40,12 +41,16 @@ public class OSGiEventPublisher implements EventPublisher {
     protected static final String TOPIC = "topic";
     protected static final String PAYLOAD = "payload";
     protected static final String TYPE = "type";
+    protected static final String PUBLISH_TIME = "publishTime";
 
     private final @Nullable EventAdmin osgiEventAdmin;
+    private final EventStatisticsImpl eventStatistics;
 
     @Activate
-    public OSGiEventPublisher(final @Reference @Nullable EventAdmin eventAdmin) {
+    public OSGiEventPublisher(final @Reference @Nullable EventAdmin eventAdmin,
+            final @Reference EventStatisticsImpl eventStatistics) {
         this.osgiEventAdmin = eventAdmin;
+        this.eventStatistics = eventStatistics;
     }
 
     @Override
@@ -59,7 +64,10 @@ public class OSGiEventPublisher implements EventPublisher {
     private void postAsOSGiEvent(final @Nullable EventAdmin eventAdmin, final Event event)
             throws IllegalStateException {
         try {
-            Dictionary<String, Object> properties = new Hashtable<>(3);
+            Dictionary<String, Object> properties = new Hashtable<>(5);
+            if (eventStatistics.isEnabled()) {
+                properties.put(PUBLISH_TIME, System.nanoTime());
+            }
             properties.put(TYPE, event.getType());
             properties.put(PAYLOAD, event.getPayload());
             properties.put(TOPIC, event.getTopic());
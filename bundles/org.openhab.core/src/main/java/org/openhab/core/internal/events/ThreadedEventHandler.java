@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
  * Handle openHAB events encapsulated by OSGi events in a separate thread.
  *
  * @author Markus Rathgeb - Initial contribution
+ * @author Mark Herwege - Event statistics
  */
 @NonNullByDefault
 public class ThreadedEventHandler implements Closeable {
@@ -48,11 +49,12 @@ public class ThreadedEventHandler implements Closeable {
      *
      * @param typedEventSubscribers the event subscribers
      * @param typedEventFactories the event factories indexed by the event type
+     * @param statistics the statistics recorded while handling events
      */
     ThreadedEventHandler(Map<String, Set<EventSubscriber>> typedEventSubscribers,
-            final Map<String, EventFactory> typedEventFactories) {
+            final Map<String, EventFactory> typedEventFactories, final EventStatisticsImpl statistics) {
         thread = new Thread(() -> {
-            try (EventHandler worker = new EventHandler(typedEventSubscribers, typedEventFactories)) {
+            try (EventHandler worker = new EventHandler(typedEventSubscribers, typedEventFactories, statistics)) {
                 while (running.get()) {
                     try {
                         logger.trace("wait for event");
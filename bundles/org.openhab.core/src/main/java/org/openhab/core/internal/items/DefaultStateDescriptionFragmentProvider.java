@@ -36,6 +36,7 @@ import org.slf4j.LoggerFactory;
  * DateTime and Number (with or without dimension).
  *
  * @author Laurent Garnier - initial contribution
+ * @author Mark Herwege - Allow caching of fragments
  *
  */
 @NonNullByDefault
@@ -111,4 +112,10 @@ public class DefaultStateDescriptionFragmentProvider implements StateDescription
     public Integer getRank() {
         return rank;
     }
+
+    @Override
+    public boolean isCacheable(String itemName) {
+        // fragments only change when items are added or updated, which invalidates the cached state descriptions
+        return true;
+    }
 }
@@ -41,6 +41,7 @@ import org.slf4j.LoggerFactory;
  * A {@link StateDescriptionFragment} provider from items' metadata
  *
  * @author Yannick Schaus - initial contribution
+ * @author Mark Herwege - Allow caching of fragments
  *
  */
 @NonNullByDefault
@@ -156,4 +157,10 @@ public class MetadataStateDescriptionFragmentProvider implements StateDescriptio
     public Integer getRank() {
         return rank;
     }
+
+    @Override
+    public boolean isCacheable(String itemName) {
+        // metadata changes invalidate the cached state descriptions
+        return true;
+    }
 }
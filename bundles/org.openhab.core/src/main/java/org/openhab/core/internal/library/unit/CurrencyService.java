@@ -47,6 +47,7 @@ import tech.units.indriya.format.SimpleUnitFormat;
  * for currencies
  *
  * @author Jan N. Klug - Initial contribution
+ * @author Mark Herwege - Clear unit cache when the base currency changes
  */
 @Component(service = CurrencyService.class, immediate = true, configurationPid = CurrencyService.CONFIGURATION_PID, property = {
         Constants.SERVICE_PID + "=org.openhab.units", //
@@ -114,6 +115,7 @@ public class CurrencyService {
         }
 
         currencyProvider.getAdditionalCurrencies().forEach(CurrencyUnits::addUnit);
+        UnitCache.clear();
 
         this.enabledCurrencyProvider = currencyProvider;
     }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.library.unit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.measure.Dimension;
+import javax.measure.IncommensurableException;
+import javax.measure.UnconvertibleException;
+import javax.measure.Unit;
+import javax.measure.UnitConverter;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.library.unit.CurrencyUnits;
+
+import tech.units.indriya.AbstractUnit;
+import tech.units.indriya.quantity.Quantities;
+
+/**
+ * The {@link UnitCache} caches parsed unit symbols and the converters between units, as parsing a unit symbol and
+ * creating a converter are expensive compared to the conversion itself.
+ * <p>
+ * Only successfully parsed symbols are cached, as units can be added at runtime. Converters between currency units
+ * are not cached, as they depend on the exchange rates at the moment they are created. The caches are cleared when
+ * currencies are added or removed, and when they grow beyond {@link #MAX_SIZE} entries.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public final class UnitCache {
+
+    static final int MAX_SIZE = 1000;
+
+    private static final Map<String, Unit<?>> UNITS = new ConcurrentHashMap<>();
+    private static final Map<String, Unit<?>> QUANTITY_UNITS = new ConcurrentHashMap<>();
+    private static final Map<ConverterKey, UnitConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+    private UnitCache() {
+        // prevent instantiation
+    }
+
+    /**
+     * Parses a unit symbol like {@link AbstractUnit#parse(CharSequence)}.
+     *
+     * @param symbol the unit symbol
+     * @return the unit
+     * @throws javax.measure.format.MeasurementParseException if the symbol cannot be parsed
+     */
+    public static Unit<?> parse(String symbol) {
+        Unit<?> unit = UNITS.get(symbol);
+        if (unit == null) {
+            unit = AbstractUnit.parse(symbol);
+            put(UNITS, symbol, unit);
+        }
+        return unit;
+    }
+
+    /**
+     * Parses a unit symbol as the unit of a quantity, like {@link Quantities#getQuantity(CharSequence)} for
+     * {@code "1 " + symbol}.
+     *
+     * @param symbol the unit symbol
+     * @return the unit
+     * @throws IllegalArgumentException if the symbol cannot be parsed
+     * @throws javax.measure.format.MeasurementParseException if the symbol cannot be parsed
+     */
+    public static Unit<?> parseQuantityUnit(String symbol) {
+        Unit<?> unit = QUANTITY_UNITS.get(symbol);
+        if (unit == null) {
+            unit = Quantities.getQuantity("1 " + symbol).getUnit();
+            put(QUANTITY_UNITS, symbol, unit);
+        }
+        return unit;
+    }
+
+    /**
+     * Gets the converter between two units like {@link Unit#getConverterToAny(Unit)}.
+     *
+     * @param from the unit to convert from
+     * @param to the unit to convert to
+     * @return the converter
+     * @throws IncommensurableException if the units are not compatible
+     * @throws UnconvertibleException if the converter cannot be created
+     */
+    public static UnitConverter getConverter(Unit<?> from, Unit<?> to)
+            throws UnconvertibleException, IncommensurableException {
+        if (isCurrency(from) || isCurrency(to)) {
+            return from.getConverterToAny(to);
+        }
+        ConverterKey key = new ConverterKey(from, to);
+        UnitConverter converter = CONVERTERS.get(key);
+        if (converter == null) {
+            converter = from.getConverterToAny(to);
+            put(CONVERTERS, key, converter);
+        }
+        return converter;
+    }
+
+    /**
+     * Clears all caches, e.g. because the known units changed.
+     */
+    public static void clear() {
+        UNITS.clear();
+        QUANTITY_UNITS.clear();
+        CONVERTERS.clear();
+    }
+
+    static int size() {
+        return UNITS.size() + QUANTITY_UNITS.size() + CONVERTERS.size();
+    }
+
+    private static <K, V> void put(Map<K, V> cache, K key, V value) {
+        if (cache.size() >= MAX_SIZE) {
+            cache.clear();
+        }
+        cache.put(key, value);
+    }
+
+    private static boolean isCurrency(Unit<?> unit) {
+        Dimension currency = CurrencyUnits.BASE_CURRENCY.getDimension();
+        Dimension dimension = unit.getDimension();
+        Map<? extends Dimension, Integer> baseDimensions = dimension.getBaseDimensions();
+        return baseDimensions == null ? currency.equals(dimension) : baseDimensions.containsKey(currency);
+    }
+
+    private record ConverterKey(Unit<?> from, Unit<?> to) {
+    }
+}
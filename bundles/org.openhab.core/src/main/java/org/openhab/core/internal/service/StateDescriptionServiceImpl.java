@@ -15,12 +15,26 @@ package org.openhab.core.internal.service;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.registry.RegistryChangeListener;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.internal.types.StateDescriptionFragmentImpl;
+import org.openhab.core.items.Metadata;
+import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.items.events.AbstractItemRegistryEvent;
+import org.openhab.core.items.events.ItemAddedEvent;
+import org.openhab.core.items.events.ItemRemovedEvent;
+import org.openhab.core.items.events.ItemUpdatedEvent;
 import org.openhab.core.service.StateDescriptionService;
 import org.openhab.core.types.StateDescription;
 import org.openhab.core.types.StateDescriptionFragment;
@@ -33,12 +47,28 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 /**
  * This service contains different {@link StateDescriptionFragmentProvider}s and provides a getStateDescription method
  * that returns a single {@link StateDescription} using all of the providers.
+ * <p>
+ * The merged state descriptions are cached per item and locale, but only if all providers declare the fragment of the
+ * item cacheable through {@link StateDescriptionFragmentProvider#isCacheable(String)}. State descriptions of items
+ * with fragments of dynamic providers are merged again on every request. The cache of an item is invalidated when the
+ * item or its metadata changes, all caches are invalidated when a provider is added or removed. Other components
+ * invalidate the cache through {@link #invalidateStateDescription(String)} when the state description of an item
+ * changes, e.g. when a linked channel changes. Cached state descriptions expire after {@link #CACHE_MAX_AGE_SECONDS}
+ * as a safety net.
  *
  * @author Lyubomir Papazov - Initial contribution
+ * @author Mark Herwege - Cache merged state descriptions
  */
 @NonNullByDefault
-@Component
-public class StateDescriptionServiceImpl implements StateDescriptionService {
+@Component(service = { StateDescriptionService.class, EventSubscriber.class })
+public class StateDescriptionServiceImpl implements StateDescriptionService, EventSubscriber {
+
+    static final long CACHE_MAX_AGE_SECONDS = 10;
+
+    private static final long CACHE_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(CACHE_MAX_AGE_SECONDS);
+    private static final String NO_LOCALE = "";
+    private static final Set<String> SUBSCRIBED_EVENT_TYPES = Set.of(ItemAddedEvent.TYPE, ItemRemovedEvent.TYPE,
+            ItemUpdatedEvent.TYPE);
 
     private final Set<StateDescriptionFragmentProvider> stateDescriptionFragmentProviders = Collections
             .synchronizedSet(new TreeSet<>(new Comparator<>() {
@@ -49,19 +79,103 @@ public class StateDescriptionServiceImpl implements StateDescriptionService {
                 }
             }));
 
+    private final Map<String, Map<String, CacheEntry>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final MetadataChangeListener metadataChangeListener = new MetadataChangeListener();
+
     @Reference(cardinality = ReferenceCardinality.MULTIPLE, policy = ReferencePolicy.DYNAMIC)
     public void addStateDescriptionFragmentProvider(StateDescriptionFragmentProvider provider) {
         stateDescriptionFragmentProviders.add(provider);
+        invalidateStateDescriptions();
     }
 
     public void removeStateDescriptionFragmentProvider(StateDescriptionFragmentProvider provider) {
         stateDescriptionFragmentProviders.remove(provider);
+        invalidateStateDescriptions();
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setMetadataRegistry(MetadataRegistry metadataRegistry) {
+        metadataRegistry.addRegistryChangeListener(metadataChangeListener);
+        invalidateStateDescriptions();
+    }
+
+    public void unsetMetadataRegistry(MetadataRegistry metadataRegistry) {
+        metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
+        invalidateStateDescriptions();
     }
 
     @Override
     public @Nullable StateDescription getStateDescription(String itemName, @Nullable Locale locale) {
+        String localeKey = locale == null ? NO_LOCALE : locale.toLanguageTag();
+        Map<String, CacheEntry> itemCache = cache.get(itemName);
+        CacheEntry entry = itemCache == null ? null : itemCache.get(localeKey);
+        long now = System.nanoTime();
+        if (entry != null && now - entry.created() < CACHE_MAX_AGE_NANOS) {
+            hits.increment();
+            return entry.stateDescription();
+        }
+        misses.increment();
+
+        long currentGeneration = generation.get();
         StateDescriptionFragment stateDescriptionFragment = getMergedStateDescriptionFragments(itemName, locale);
-        return stateDescriptionFragment != null ? stateDescriptionFragment.toStateDescription() : null;
+        StateDescription stateDescription = stateDescriptionFragment != null
+                ? stateDescriptionFragment.toStateDescription()
+                : null;
+        if (!isCacheable(itemName)) {
+            return stateDescription;
+        }
+
+        CacheEntry newEntry = new CacheEntry(stateDescription, now);
+        Map<String, CacheEntry> newItemCache = cache.computeIfAbsent(itemName, name -> new ConcurrentHashMap<>());
+        newItemCache.put(localeKey, newEntry);
+        if (generation.get() != currentGeneration) {
+            // invalidated while merging, the merged state description might be outdated already
+            newItemCache.remove(localeKey, newEntry);
+        }
+        return stateDescription;
+    }
+
+    @Override
+    public void invalidateStateDescription(String itemName) {
+        generation.incrementAndGet();
+        cache.remove(itemName);
+    }
+
+    @Override
+    public void invalidateStateDescriptions() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), cache.values().stream().mapToInt(Map::size).sum());
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return SUBSCRIBED_EVENT_TYPES;
+    }
+
+    @Override
+    public void receive(Event event) {
+        if (event instanceof AbstractItemRegistryEvent itemRegistryEvent) {
+            invalidateStateDescription(itemRegistryEvent.getItem().name);
+        }
+    }
+
+    private boolean isCacheable(String itemName) {
+        synchronized (stateDescriptionFragmentProviders) {
+            for (StateDescriptionFragmentProvider provider : stateDescriptionFragmentProviders) {
+                if (!provider.isCacheable(itemName)) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     private @Nullable StateDescriptionFragment getMergedStateDescriptionFragments(String itemName,
@@ -83,4 +197,25 @@ public class StateDescriptionServiceImpl implements StateDescriptionService {
         }
         return result;
     }
+
+    private record CacheEntry(@Nullable StateDescription stateDescription, long created) {
+    }
+
+    private class MetadataChangeListener implements RegistryChangeListener<Metadata> {
+
+        @Override
+        public void added(Metadata element) {
+            invalidateStateDescription(element.getUID().getItemName());
+        }
+
+        @Override
+        public void removed(Metadata element) {
+            invalidateStateDescription(element.getUID().getItemName());
+        }
+
+        @Override
+        public void updated(Metadata oldElement, Metadata element) {
+            invalidateStateDescription(element.getUID().getItemName());
+        }
+    }
 }
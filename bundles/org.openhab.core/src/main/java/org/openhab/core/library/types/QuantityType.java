@@ -45,6 +45,7 @@ import javax.measure.quantity.Dimensionless;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.internal.library.unit.UnitCache;
 import org.openhab.core.internal.library.unit.UnitInitializer;
 import org.openhab.core.items.events.ItemStateEvent;
 import org.openhab.core.library.unit.CurrencyUnits;
@@ -100,6 +101,7 @@ import tech.uom.lib.common.function.QuantityFunctions;
  * @param <T> the unit associated with the quantity
  *
  * @author Gaël L'hopital - Initial contribution
+ * @author Mark Herwege - Cache parsed units and unit converters
  */
 @NonNullByDefault({ PARAMETER, RETURN_TYPE, FIELD, TYPE_ARGUMENT }) // TYPE_BOUNDS can not be used here since
                                                                     // javax.measure.quantity.* interfaces are not
@@ -327,7 +329,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
     public @Nullable QuantityType<T> toUnit(Unit<?> targetUnit) {
         if (!targetUnit.equals(getUnit())) {
             try {
-                UnitConverter uc = getUnit().getConverterToAny(targetUnit);
+                UnitConverter uc = UnitCache.getConverter(getUnit(), targetUnit);
                 Quantity<?> result = Quantities.getQuantity(uc.convert(quantity.getValue()), targetUnit);
 
                 return new QuantityType<>(result.getValue(), (Unit<T>) targetUnit);
@@ -341,7 +343,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
 
     @SuppressWarnings("unchecked")
     public @Nullable QuantityType<T> toUnit(String targetUnit) {
-        Unit<T> unit = (Unit<T>) AbstractUnit.parse(targetUnit);
+        Unit<T> unit = (Unit<T>) UnitCache.parse(targetUnit);
         if (unit != null) {
             return toUnit(unit);
         }
@@ -381,7 +383,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
     }
 
     public @Nullable QuantityType<?> toInvertibleUnit(String targetUnit) {
-        Unit<?> unit = AbstractUnit.parse(targetUnit);
+        Unit<?> unit = UnitCache.parse(targetUnit);
         if (unit != null) {
             return toInvertibleUnit(unit);
         }
@@ -413,7 +415,7 @@ public class QuantityType<T extends Quantity<T>> extends Number
     }
 
     public @Nullable QuantityType<T> toUnitRelative(String targetUnit) {
-        Unit<T> unit = (Unit<T>) AbstractUnit.parse(targetUnit);
+        Unit<T> unit = (Unit<T>) UnitCache.parse(targetUnit);
         if (unit != null) {
             return toUnitRelative(unit);
         }
@@ -21,6 +21,7 @@ import javax.measure.spi.SystemOfUnits;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.internal.library.unit.CurrencyService;
+import org.openhab.core.internal.library.unit.UnitCache;
 import org.openhab.core.library.dimension.Currency;
 import org.openhab.core.library.dimension.EnergyPrice;
 import org.openhab.core.library.dimension.VolumePrice;
@@ -34,6 +35,7 @@ import tech.units.indriya.unit.ProductUnit;
  *
  * @author Jan N. Klug - Initial contribution
  * @author Christoph Weitkamp - Added price per volume
+ * @author Mark Herwege - Clear unit cache when currencies change
  */
 @NonNullByDefault
 public final class CurrencyUnits extends AbstractSystemOfUnits {
@@ -72,12 +74,14 @@ public final class CurrencyUnits extends AbstractSystemOfUnits {
         if (symbol != null && !symbol.isBlank()) {
             SimpleUnitFormat.getInstance().alias(unit, symbol);
         }
+        UnitCache.clear();
     }
 
     public static void removeUnit(Unit<Currency> unit) {
         SimpleUnitFormat.getInstance().removeLabel(unit);
         SimpleUnitFormat.getInstance().removeAliases(unit);
         INSTANCE.units.remove(unit);
+        UnitCache.clear();
     }
 
     public static SystemOfUnits getInstance() {
@@ -23,6 +23,7 @@ import org.openhab.core.types.StateDescription;
  * different StateDescriptionProviders into one StateDescription.
  * 
  * @author Lyubomir Papazov - Initial contribution
+ * @author Mark Herwege - Cache invalidation and statistics
  */
 @NonNullByDefault
 public interface StateDescriptionService {
@@ -37,4 +38,39 @@ public interface StateDescriptionService {
      */
     @Nullable
     StateDescription getStateDescription(String itemName, @Nullable Locale locale);
+
+    /**
+     * Discards the cached state descriptions of an item for all locales, so that they are merged again from the
+     * providers on the next request. Must be called when the state description of an item changes without an event
+     * the service is aware of.
+     *
+     * @param itemName the item for which to discard the cached state descriptions
+     */
+    default void invalidateStateDescription(String itemName) {
+    }
+
+    /**
+     * Discards all cached state descriptions.
+     */
+    default void invalidateStateDescriptions() {
+    }
+
+    /**
+     * Gets the statistics of the state description cache.
+     *
+     * @return the number of cache hits and misses so far and the number of cached state descriptions
+     */
+    default CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(0, 0, 0);
+    }
+
+    /**
+     * The statistics of the state description cache.
+     *
+     * @param hits the number of requests served from the cache
+     * @param misses the number of requests that merged the state description from the providers
+     * @param size the number of cached state descriptions
+     */
+    record CacheStatistics(long hits, long misses, int size) {
+    }
 }
@@ -22,6 +22,7 @@ import org.eclipse.jdt.annotation.Nullable;
  * {@link StateDescriptionFragmentBuilder} to create a {@link StateDescriptionFragment} with only the parts known.
  *
  * @author Henning Treu - Initial contribution
+ * @author Mark Herwege - Allow caching of fragments
  */
 @NonNullByDefault
 public interface StateDescriptionFragmentProvider {
@@ -47,4 +48,20 @@ public interface StateDescriptionFragmentProvider {
      * @return an integer value
      */
     Integer getRank();
+
+    /**
+     * Returns whether the {@link StateDescriptionFragment} of an item may be cached by the
+     * {@link org.openhab.core.service.StateDescriptionService}.
+     *
+     * A provider may only return <code>true</code> if a change of the fragment is always accompanied by an item or
+     * metadata registry event, or by a call to
+     * {@link org.openhab.core.service.StateDescriptionService#invalidateStateDescription(String)}. The default is
+     * <code>false</code>, so fragments of providers that change them at any time are always requested again.
+     *
+     * @param itemName item name (must not be null)
+     * @return true if the fragment for the item may be cached
+     */
+    default boolean isCacheable(String itemName) {
+        return false;
+    }
 }
@@ -31,6 +31,7 @@ import javax.measure.spi.SystemOfUnits;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.internal.library.unit.UnitCache;
 import org.openhab.core.internal.library.unit.UnitInitializer;
 import org.openhab.core.library.unit.CurrencyUnits;
 import org.openhab.core.library.unit.ImperialUnits;
@@ -40,13 +41,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import tech.units.indriya.function.MultiplyConverter;
-import tech.units.indriya.quantity.Quantities;
 import tech.units.indriya.unit.TransformedUnit;
 
 /**
  * A utility for parsing dimensions to interface classes of {@link Quantity} and parsing units from format strings.
  *
  * @author Henning Treu - Initial contribution
+ * @author Mark Herwege - Cache parsed units
  */
 @NonNullByDefault
 public class UnitUtils {
@@ -170,8 +171,7 @@ public class UnitUtils {
                 return Units.PERCENT;
             }
             try {
-                Quantity<?> quantity = Quantities.getQuantity("1 " + unitSymbol);
-                return quantity.getUnit();
+                return UnitCache.parseQuantityUnit(unitSymbol);
             } catch (IllegalArgumentException | MeasurementParseException e) {
                 // we expect this exception in case the extracted string does not match any known unit
                 LOGGER.debug("Unknown unit from pattern: {}", unitSymbol);
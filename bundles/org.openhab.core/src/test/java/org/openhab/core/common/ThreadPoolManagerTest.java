@@ -38,6 +38,7 @@ import org.junit.jupiter.api.Test;
  *
  * @author Kai Kreuzer - Initial contribution
  * @author Simon Kaufmann - migrated from Groovy to Java
+ * @author Mark Herwege - virtual thread pools
  */
 @NonNullByDefault
 public class ThreadPoolManagerTest {
@@ -273,6 +274,36 @@ public class ThreadPoolManagerTest {
         assertEquals(3, result.getMaximumPoolSize());
     }
 
+    @Test
+    public void testVirtualThreadPools() throws Exception {
+        ThreadPoolManager tpm = new ThreadPoolManager();
+        tpm.modified(Map.of(ThreadPoolManager.CONFIG_VIRTUAL_THREADS, "virtual1, virtual2,virtual3"));
+        try {
+            assertTrue(ThreadPoolManager.isVirtualThreadPool("virtual1"));
+            assertFalse(ThreadPoolManager.isVirtualThreadPool("test7"));
+
+            assertTrue(ThreadPoolManager.getPool("virtual1").submit(() -> Thread.currentThread().isVirtual()).get(5,
+                    TimeUnit.SECONDS));
+            assertTrue(ThreadPoolManager.getScheduledPool("virtual2")
+                    .schedule(() -> Thread.currentThread().isVirtual(), 10, TimeUnit.MILLISECONDS)
+                    .get(5, TimeUnit.SECONDS));
+
+            ScheduledExecutorService service = ThreadPoolManager
+                    .getPoolBasedSequentialScheduledExecutorService("virtual3", "virtual-thread");
+            try {
+                assertTrue(service.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS));
+            } finally {
+                service.shutdown();
+            }
+
+            assertFalse(ThreadPoolManager.getPool("test7").submit(() -> Thread.currentThread().isVirtual()).get(5,
+                    TimeUnit.SECONDS));
+        } finally {
+            tpm.modified(Map.of());
+        }
+        assertFalse(ThreadPoolManager.isVirtualThreadPool("virtual1"));
+    }
+
     @Test
     public void testGetPoolShutdown() throws InterruptedException {
         checkThreadPoolWorks("Test");
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.common.ThreadPoolStatistics.TaskStatistics;
+
+/**
+ * The {@link ThreadPoolStatisticsTest} tests the task statistics of the {@link ThreadPoolManager} pools.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class ThreadPoolStatisticsTest {
+
+    private final List<TaskStatistics> created = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        ThreadPoolStatistics.enable(created::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadPoolStatistics.disable();
+    }
+
+    @Test
+    public void testTasksAreNotWrappedWhenDisabled() {
+        ThreadPoolStatistics.disable();
+        Runnable task = () -> {
+        };
+
+        assertSame(task, ThreadPoolStatistics.wrap("stats-test", task));
+    }
+
+    @Test
+    public void testPoolTaskIsRecordedForCreatingClass() throws Exception {
+        ThreadPoolManager.getPool("stats-test1").submit(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, created.size());
+        TaskStatistics statistics = created.getFirst();
+        assertEquals("stats-test1", statistics.getPoolName());
+        assertEquals(ThreadPoolStatisticsTest.class.getName(), statistics.getOwner());
+
+        DurationHistogram runTime = statistics.getRunTime();
+        assertEquals(1, runTime.getCount());
+        assertTrue(runTime.getTotalTime(TimeUnit.MILLISECONDS) >= 20);
+        // the 10ms bucket does not contain the task, the 100ms bucket does
+        assertEquals(0, runTime.getCumulativeCount(1));
+        assertEquals(1, runTime.getCumulativeCount(4));
+        assertEquals(1, statistics.getQueueWait().getCount());
+    }
+
+    @Test
+    public void testScheduledTaskQueueWaitExcludesDelay() throws Exception {
+        ThreadPoolManager.getScheduledPool("stats-test2").schedule(() -> true, 50, TimeUnit.MILLISECONDS).get(5,
+                TimeUnit.SECONDS);
+
+        TaskStatistics statistics = created.getFirst();
+        assertEquals(1, statistics.getQueueWait().getCount());
+        assertTrue(statistics.getQueueWait().getTotalTime(TimeUnit.MILLISECONDS) < 50);
+    }
+
+    @Test
+    public void testSequentialExecutorTaskIsRecordedForExecutor() throws Exception {
+        ThreadPoolManager manager = new ThreadPoolManager();
+        manager.modified(Map.of("stats-test3", "2"));
+        ScheduledExecutorService service = ThreadPoolManager
+                .getPoolBasedSequentialScheduledExecutorService("stats-test3", "rule-test");
+        try {
+            service.submit(() -> true).get(5, TimeUnit.SECONDS);
+        } finally {
+            service.shutdown();
+            manager.modified(Map.of("stats-test3", "0"));
+        }
+
+        assertEquals(1, created.size());
+        assertEquals("stats-test3", created.getFirst().getPoolName());
+        assertEquals("rule-test", created.getFirst().getOwner());
+        assertTrue(created.getFirst().getRunTime().getCount() >= 1);
+    }
+}
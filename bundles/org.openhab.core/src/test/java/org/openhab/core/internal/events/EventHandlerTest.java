@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.events.AbstractEvent;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFactory;
+import org.openhab.core.events.EventStatistics.SubscriberStatistics;
+import org.openhab.core.events.EventSubscriber;
+
+/**
+ * The {@link EventHandlerTest} tests the statistics recorded by the {@link EventHandler}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class EventHandlerTest {
+
+    private static final String TYPE = "TestEvent";
+
+    private final EventStatisticsImpl statistics = new EventStatisticsImpl();
+
+    @Test
+    public void testStatisticsAreRecordedWhenEnabled() throws InterruptedException {
+        List<SubscriberStatistics> created = new CopyOnWriteArrayList<>();
+        statistics.addListener(created::add);
+        statistics.setEnabled(true);
+        TestSubscriber subscriber = new TestSubscriber(2);
+
+        try (EventHandler handler = new EventHandler(Map.of(TYPE, Set.of(subscriber)), Map.of(TYPE, new TestFactory()),
+                statistics)) {
+            handler.handleEvent(createOsgiEvent());
+            handler.handleEvent(createOsgiEvent());
+            assertTrue(subscriber.received.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(2, statistics.getEventCreationTime().getCount());
+        assertEquals(1, created.size());
+        SubscriberStatistics subscriberStatistics = created.getFirst();
+        assertEquals(TestSubscriber.class.getName(), subscriberStatistics.getSubscriber());
+        waitForCount(subscriberStatistics, 2);
+        assertEquals(2, subscriberStatistics.getDispatchLatency().getCount());
+        assertTrue(subscriberStatistics.getProcessingTime().getTotalTime(TimeUnit.MILLISECONDS) >= 20);
+    }
+
+    @Test
+    public void testStatisticsAreNotRecordedWhenDisabled() throws InterruptedException {
+        TestSubscriber subscriber = new TestSubscriber(1);
+
+        try (EventHandler handler = new EventHandler(Map.of(TYPE, Set.of(subscriber)), Map.of(TYPE, new TestFactory()),
+                statistics)) {
+            handler.handleEvent(createOsgiEvent());
+            assertTrue(subscriber.received.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(0, statistics.getEventCreationTime().getCount());
+        SubscriberStatistics subscriberStatistics = statistics.getSubscriberStatistics().iterator().next();
+        assertEquals(0, subscriberStatistics.getProcessingTime().getCount());
+    }
+
+    private void waitForCount(SubscriberStatistics subscriberStatistics, long count) throws InterruptedException {
+        // the processing time is recorded just after the subscriber returns
+        for (int i = 0; i < 100 && subscriberStatistics.getProcessingTime().getCount() < count; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, subscriberStatistics.getProcessingTime().getCount());
+    }
+
+    private org.osgi.service.event.Event createOsgiEvent() {
+        Map<String, Object> properties = Map.of(OSGiEventPublisher.PUBLISH_TIME, System.nanoTime(),
+                OSGiEventPublisher.TYPE, TYPE, OSGiEventPublisher.PAYLOAD, "payload", OSGiEventPublisher.TOPIC,
+                "openhab/test");
+        return new org.osgi.service.event.Event("openhab", properties);
+    }
+
+    private static class TestEvent extends AbstractEvent {
+        TestEvent(String topic, String payload, @Nullable String source) {
+            super(topic, payload, source);
+        }
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+    }
+
+    private static class TestFactory implements EventFactory {
+        @Override
+        public Event createEvent(String eventType, String topic, String payload, @Nullable String source) {
+            return new TestEvent(topic, payload, source);
+        }
+
+        @Override
+        public Set<String> getSupportedEventTypes() {
+            return Set.of(TYPE);
+        }
+    }
+
+    private static class TestSubscriber implements EventSubscriber {
+        private final CountDownLatch received;
+
+        TestSubscriber(int count) {
+            received = new CountDownLatch(count);
+        }
+
+        @Override
+        public Set<String> getSubscribedEventTypes() {
+            return Set.of(TYPE);
+        }
+
+        @Override
+        public void receive(Event event) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.countDown();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.core.internal.library.unit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+
+import javax.measure.UnitConverter;
+import javax.measure.format.MeasurementParseException;
+import javax.measure.quantity.Temperature;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.unit.CurrencyUnits;
+import org.openhab.core.library.unit.ImperialUnits;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.util.UnitUtils;
+
+/**
+ * The {@link UnitCacheTest} contains tests for the {@link UnitCache}.
+ *
+ * @author Mark Herwege - Initial contribution
+ */
+@NonNullByDefault
+public class UnitCacheTest {
+
+    @BeforeEach
+    public void setUp() {
+        UnitInitializer.init();
+        UnitCache.clear();
+    }
+
+    @Test
+    public void testParsedUnitIsCached() {
+        assertThat(UnitCache.parse("kWh"), is(Units.KILOWATT_HOUR));
+        assertThat(UnitCache.size(), is(1));
+        assertThat(UnitCache.parse("kWh"), is(sameInstance(UnitCache.parse("kWh"))));
+        assertThat(UnitCache.size(), is(1));
+    }
+
+    @Test
+    public void testUnknownUnitIsNotCached() {
+        assertThrows(MeasurementParseException.class, () -> UnitCache.parse("foo"));
+        assertThat(UnitCache.size(), is(0));
+    }
+
+    @Test
+    public void testParseUnitFromPatternIsCached() {
+        assertThat(UnitUtils.parseUnit("%.1f °C"), is(SIUnits.CELSIUS));
+        assertThat(UnitUtils.parseUnit("%.2f °C"), is(SIUnits.CELSIUS));
+        assertThat(UnitCache.size(), is(1));
+        assertThat(UnitUtils.parseUnit("%.1f foo"), is(nullValue()));
+        assertThat(UnitCache.size(), is(1));
+    }
+
+    @Test
+    public void testConverterIsCached() throws Exception {
+        UnitConverter converter = UnitCache.getConverter(SIUnits.CELSIUS, ImperialUnits.FAHRENHEIT);
+
+        assertThat(UnitCache.getConverter(SIUnits.CELSIUS, ImperialUnits.FAHRENHEIT), is(sameInstance(converter)));
+        assertThat(UnitCache.getConverter(ImperialUnits.FAHRENHEIT, SIUnits.CELSIUS), is(not(sameInstance(converter))));
+        assertThat(UnitCache.size(), is(2));
+    }
+
+    @Test
+    public void testCurrencyConverterIsNotCached() throws Exception {
+        UnitCache.getConverter(CurrencyUnits.BASE_CURRENCY, CurrencyUnits.BASE_CURRENCY);
+        UnitCache.getConverter(CurrencyUnits.BASE_ENERGY_PRICE, CurrencyUnits.BASE_ENERGY_PRICE);
+
+        assertThat(UnitCache.size(), is(0));
+    }
+
+    @Test
+    public void testCachedConversionsAreExact() {
+        QuantityType<Temperature> celsius = new QuantityType<>("20 °C");
+
+        for (int i = 0; i < 2; i++) {
+            QuantityType<Temperature> fahrenheit = celsius.toUnit("°F");
+            assertThat(fahrenheit, is(notNullValue()));
+            assertThat(fahrenheit.toBigDecimal().compareTo(new BigDecimal("68")), is(0));
+        }
+        assertThat(new QuantityType<>("1.1 kWh").toUnit("Wh"), is(new QuantityType<>("1100 Wh")));
+        assertThat(new QuantityType<>("50 %").toUnit(Units.ONE), is(new QuantityType<>("0.5")));
+    }
+
+    @Test
+    public void testClear() {
+        UnitCache.parse("W");
+        UnitCache.clear();
+
+        assertThat(UnitCache.size(), is(0));
+    }
+}
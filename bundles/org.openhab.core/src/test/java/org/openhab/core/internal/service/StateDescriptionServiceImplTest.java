@@ -14,17 +14,19 @@ package org.openhab.core.internal.service;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openhab.core.items.events.ItemEventFactory;
 import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.service.StateDescriptionService.CacheStatistics;
 import org.openhab.core.types.StateDescription;
 import org.openhab.core.types.StateDescriptionFragment;
 import org.openhab.core.types.StateDescriptionFragmentBuilder;
@@ -35,6 +37,7 @@ import org.openhab.core.types.StateOption;
  * Tests for the {@link StateDescriptionServiceImpl}.
  *
  * @author Lyubomir Papazov - Initial contribution
+ * @author Mark Herwege - Cache tests
  */
 @NonNullByDefault
 public class StateDescriptionServiceImplTest {
@@ -226,12 +229,96 @@ public class StateDescriptionServiceImplTest {
         assertThat(fragment1Options.size(), is(0));
     }
 
-    private void registerStateDescriptionFragmentProvider(StateDescriptionFragment stateDescriptionFragment,
-            int serviceRanking) {
+    @Test
+    public void testStateDescriptionIsCachedPerLocale() {
+        StateDescriptionFragmentProvider provider = registerStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withPattern("pattern").build(), 0);
+
+        StateDescription stateDescription = item.getStateDescription();
+        assertThat(item.getStateDescription(), is(stateDescription));
+        item.getStateDescription(Locale.GERMAN);
+        item.getStateDescription(Locale.GERMAN);
+
+        verify(provider, times(1)).getStateDescriptionFragment(ITEM_NAME, null);
+        verify(provider, times(1)).getStateDescriptionFragment(ITEM_NAME, Locale.GERMAN);
+        CacheStatistics statistics = stateDescriptionService.getCacheStatistics();
+        assertThat(statistics.hits(), is(2L));
+        assertThat(statistics.misses(), is(2L));
+        assertThat(statistics.size(), is(2));
+    }
+
+    @Test
+    public void testCacheIsInvalidatedByItemEvent() {
+        StateDescriptionFragmentProvider provider = registerStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withPattern("pattern1").build(), 0);
+        item.getStateDescription();
+        when(provider.getStateDescriptionFragment(ITEM_NAME, null))
+                .thenReturn(StateDescriptionFragmentBuilder.create().withPattern("pattern2").build());
+
+        stateDescriptionService.receive(ItemEventFactory.createUpdateEvent(item, new NumberItem(ITEM_NAME)));
+
+        StateDescription stateDescription = Objects.requireNonNull(item.getStateDescription());
+        assertThat(stateDescription.getPattern(), is("pattern2"));
+    }
+
+    @Test
+    public void testCacheIsInvalidatedByProviderChange() {
+        registerStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withPattern("pattern1").build(), -1);
+        item.getStateDescription();
+
+        registerStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withPattern("pattern2").build(), 0);
+
+        StateDescription stateDescription = Objects.requireNonNull(item.getStateDescription());
+        assertThat(stateDescription.getPattern(), is("pattern2"));
+        assertThat(stateDescriptionService.getCacheStatistics().hits(), is(0L));
+    }
+
+    @Test
+    public void testCacheIsInvalidatedForItemOnly() {
+        NumberItem otherItem = new NumberItem("Item2");
+        otherItem.setStateDescriptionService(stateDescriptionService);
+        item.getStateDescription();
+        otherItem.getStateDescription();
+
+        stateDescriptionService.invalidateStateDescription(ITEM_NAME);
+
+        item.getStateDescription();
+        otherItem.getStateDescription();
+        CacheStatistics statistics = stateDescriptionService.getCacheStatistics();
+        assertThat(statistics.hits(), is(1L));
+        assertThat(statistics.misses(), is(3L));
+    }
+
+    @Test
+    public void testStateDescriptionIsNotCachedWithDynamicProvider() {
+        registerStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withPattern("pattern").build(), 0);
+        StateDescriptionFragmentProvider dynamicProvider = registerStateDescriptionFragmentProvider(
+                StateDescriptionFragmentBuilder.create().withMinimum(BigDecimal.ZERO).build(), 1);
+        when(dynamicProvider.isCacheable(ITEM_NAME)).thenReturn(false);
+        item.getStateDescription();
+
+        when(dynamicProvider.getStateDescriptionFragment(ITEM_NAME, null))
+                .thenReturn(StateDescriptionFragmentBuilder.create().withMinimum(BigDecimal.ONE).build());
+
+        StateDescription stateDescription = Objects.requireNonNull(item.getStateDescription());
+        assertThat(stateDescription.getMinimum(), is(BigDecimal.ONE));
+        assertThat(stateDescription.getPattern(), is("pattern"));
+        CacheStatistics statistics = stateDescriptionService.getCacheStatistics();
+        assertThat(statistics.hits(), is(0L));
+        assertThat(statistics.size(), is(0));
+    }
+
+    private StateDescriptionFragmentProvider registerStateDescriptionFragmentProvider(
+            StateDescriptionFragment stateDescriptionFragment, int serviceRanking) {
         StateDescriptionFragmentProvider stateDescriptionProvider = mock(StateDescriptionFragmentProvider.class);
         when(stateDescriptionProvider.getRank()).thenReturn(serviceRanking);
+        when(stateDescriptionProvider.isCacheable(anyString())).thenReturn(true);
         when(stateDescriptionProvider.getStateDescriptionFragment(ITEM_NAME, null))
                 .thenReturn(stateDescriptionFragment);
         stateDescriptionService.addStateDescriptionFragmentProvider(stateDescriptionProvider);
+        return stateDescriptionProvider;
     }
 }
@@ -38,6 +38,7 @@ import org.openhab.core.automation.RuleStatusInfo;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.events.RuleStatusInfoEvent;
 import org.openhab.core.automation.internal.RuleEngineImpl;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.automation.internal.module.factory.CoreModuleHandlerFactory;
 import org.openhab.core.automation.type.ActionType;
 import org.openhab.core.automation.type.Input;
@@ -84,6 +85,7 @@ public class AutomationIntegrationJsonTest extends JavaOSGiTest {
     private @NonNullByDefault({}) ThingRegistry thingRegistry;
     private @NonNullByDefault({}) ItemRegistry itemRegistry;
     private @NonNullByDefault({}) StartLevelService startLevelService;
+    private @NonNullByDefault({}) TriggerEventDispatcher triggerEventDispatcher;
     private @NonNullByDefault({}) RuleRegistry ruleRegistry;
     private @NonNullByDefault({}) RuleManager ruleManager;
     private @NonNullByDefault({}) ManagedRuleProvider managedRuleProvider;
@@ -105,8 +107,10 @@ public class AutomationIntegrationJsonTest extends JavaOSGiTest {
         when(startLevelService.getStartLevel()).thenReturn(100);
         registerService(startLevelService, StartLevelService.class.getName());
 
+        triggerEventDispatcher = new TriggerEventDispatcher(getBundleContext(), itemRegistry);
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
-                eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class), startLevelService);
+                eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class), startLevelService,
+                triggerEventDispatcher);
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
 
@@ -180,6 +184,7 @@ public class AutomationIntegrationJsonTest extends JavaOSGiTest {
     @AfterEach
     public void after() {
         logger.info("@After");
+        triggerEventDispatcher.deactivate();
     }
 
     @Override
@@ -50,6 +50,7 @@ import org.openhab.core.automation.events.RuleRemovedEvent;
 import org.openhab.core.automation.events.RuleStatusInfoEvent;
 import org.openhab.core.automation.events.RuleUpdatedEvent;
 import org.openhab.core.automation.internal.RuleEngineImpl;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.automation.internal.module.factory.CoreModuleHandlerFactory;
 import org.openhab.core.automation.template.RuleTemplate;
 import org.openhab.core.automation.template.RuleTemplateProvider;
@@ -100,6 +101,7 @@ public class AutomationIntegrationTest extends JavaOSGiTest {
     private @Nullable ThingRegistry thingRegistry;
     private @Nullable ItemRegistry itemRegistry;
     private @NonNullByDefault({}) StartLevelService startLevelService;
+    private @NonNullByDefault({}) TriggerEventDispatcher triggerEventDispatcher;
     private @Nullable RuleRegistry ruleRegistry;
     private @Nullable RuleManager ruleEngine;
     private @Nullable ManagedRuleProvider managedRuleProvider;
@@ -120,9 +122,11 @@ public class AutomationIntegrationTest extends JavaOSGiTest {
         when(startLevelService.getStartLevel()).thenReturn(100);
         registerService(startLevelService, StartLevelService.class.getName());
 
+        triggerEventDispatcher = new TriggerEventDispatcher(getBundleContext(), Objects.requireNonNull(itemRegistry));
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
                 Objects.requireNonNull(eventPublisher), Objects.requireNonNull(thingRegistry),
-                Objects.requireNonNull(itemRegistry), mock(TimeZoneProvider.class), startLevelService);
+                Objects.requireNonNull(itemRegistry), mock(TimeZoneProvider.class), startLevelService,
+                triggerEventDispatcher);
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
 
@@ -195,6 +199,7 @@ public class AutomationIntegrationTest extends JavaOSGiTest {
     @AfterEach
     public void after() {
         logger.info("@After");
+        triggerEventDispatcher.deactivate();
     }
 
     @Override
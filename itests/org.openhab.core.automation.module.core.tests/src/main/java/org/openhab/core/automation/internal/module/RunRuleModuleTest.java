@@ -26,6 +26,7 @@ import java.util.Queue;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.automation.Rule;
@@ -71,6 +72,7 @@ public class RunRuleModuleTest extends JavaOSGiTest {
     private final Logger logger = LoggerFactory.getLogger(RunRuleModuleTest.class);
     private final VolatileStorageService volatileStorageService = new VolatileStorageService();
     private @NonNullByDefault({}) StartLevelService startLevelService;
+    private @NonNullByDefault({}) TriggerEventDispatcher triggerEventDispatcher;
 
     @BeforeEach
     public void before() {
@@ -80,9 +82,10 @@ public class RunRuleModuleTest extends JavaOSGiTest {
         EventPublisher eventPublisher = Objects.requireNonNull(getService(EventPublisher.class));
         ThingRegistry thingRegistry = Objects.requireNonNull(getService(ThingRegistry.class));
         ItemRegistry itemRegistry = Objects.requireNonNull(getService(ItemRegistry.class));
+        triggerEventDispatcher = new TriggerEventDispatcher(getBundleContext(), itemRegistry);
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
                 eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class),
-                mock(StartLevelService.class));
+                mock(StartLevelService.class), triggerEventDispatcher);
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
 
@@ -143,6 +146,11 @@ public class RunRuleModuleTest extends JavaOSGiTest {
                 .withName("scene activator").build();
     }
 
+    @AfterEach
+    public void after() {
+        triggerEventDispatcher.deactivate();
+    }
+
     @Test
     public void sceneActivatedByRule() throws ItemNotFoundException, InterruptedException {
         final RuleRegistry ruleRegistry = getService(RuleRegistry.class);
@@ -29,6 +29,7 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -82,6 +83,7 @@ public class RuntimeRuleTest extends JavaOSGiTest {
     private final Logger logger = LoggerFactory.getLogger(RuntimeRuleTest.class);
     private final VolatileStorageService volatileStorageService = new VolatileStorageService();
     private @NonNullByDefault({}) StartLevelService startLevelService;
+    private @NonNullByDefault({}) TriggerEventDispatcher triggerEventDispatcher;
 
     @BeforeEach
     public void before() {
@@ -91,9 +93,10 @@ public class RuntimeRuleTest extends JavaOSGiTest {
         EventPublisher eventPublisher = Objects.requireNonNull(getService(EventPublisher.class));
         ThingRegistry thingRegistry = Objects.requireNonNull(getService(ThingRegistry.class));
         ItemRegistry itemRegistry = Objects.requireNonNull(getService(ItemRegistry.class));
+        triggerEventDispatcher = new TriggerEventDispatcher(getBundleContext(), itemRegistry);
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
                 eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class),
-                mock(StartLevelService.class));
+                mock(StartLevelService.class), triggerEventDispatcher);
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
 
@@ -142,6 +145,11 @@ public class RuntimeRuleTest extends JavaOSGiTest {
         assertNotNull(getServices(EventSubscriber.class, reference -> reference.equals(subscriberReference)));
     }
 
+    @AfterEach
+    public void after() {
+        triggerEventDispatcher.deactivate();
+    }
+
     @Test
     @Disabled
     public void testPredefinedRule() throws ItemNotFoundException, InterruptedException {
@@ -28,6 +28,7 @@ import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.automation.Action;
@@ -39,6 +40,7 @@ import org.openhab.core.automation.RuleStatus;
 import org.openhab.core.automation.RuleStatusInfo;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.internal.RuleEngineImpl;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.automation.internal.module.factory.CoreModuleHandlerFactory;
 import org.openhab.core.automation.internal.module.handler.ItemCommandActionHandler;
 import org.openhab.core.automation.internal.module.handler.ItemStateTriggerHandler;
@@ -80,6 +82,7 @@ public abstract class BasicConditionHandlerTest extends JavaOSGiTest {
     protected @NonNullByDefault({}) RuleManager ruleEngine;
     protected @Nullable Event itemEvent;
     private @NonNullByDefault({}) StartLevelService startLevelService;
+    private @NonNullByDefault({}) TriggerEventDispatcher triggerEventDispatcher;
 
     /**
      * This executes before every test and before the
@@ -94,9 +97,10 @@ public abstract class BasicConditionHandlerTest extends JavaOSGiTest {
         EventPublisher eventPublisher = Objects.requireNonNull(getService(EventPublisher.class));
         ThingRegistry thingRegistry = Objects.requireNonNull(getService(ThingRegistry.class));
         ItemRegistry itemRegistry = Objects.requireNonNull(getService(ItemRegistry.class));
+        triggerEventDispatcher = new TriggerEventDispatcher(getBundleContext(), itemRegistry);
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
                 eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class),
-                mock(StartLevelService.class));
+                mock(StartLevelService.class), triggerEventDispatcher);
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
 
@@ -131,6 +135,11 @@ public abstract class BasicConditionHandlerTest extends JavaOSGiTest {
         waitForAssert(() -> assertTrue(ruleEngine.isStarted()));
     }
 
+    @AfterEach
+    public void afterBase() {
+        triggerEventDispatcher.deactivate();
+    }
+
     @Test
     public void assertThatConditionWorksInRule() throws ItemNotFoundException, InterruptedException {
         String testItemName1 = "TriggeredItem";
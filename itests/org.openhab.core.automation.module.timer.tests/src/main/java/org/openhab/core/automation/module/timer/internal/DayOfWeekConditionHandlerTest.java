@@ -24,9 +24,11 @@ import java.util.Map;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.automation.Condition;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.automation.internal.module.factory.CoreModuleHandlerFactory;
 import org.openhab.core.automation.internal.module.handler.DayOfWeekConditionHandler;
 import org.openhab.core.automation.type.ModuleTypeRegistry;
@@ -52,6 +54,7 @@ public class DayOfWeekConditionHandlerTest extends BasicConditionHandlerTest {
     private static final DateTimeFormatter DOW_FORMATTER = DateTimeFormatter.ofPattern("EEE", Locale.ENGLISH);
 
     private final Logger logger = LoggerFactory.getLogger(DayOfWeekConditionHandlerTest.class);
+    private @NonNullByDefault({}) TriggerEventDispatcher triggerEventDispatcher;
     private String dayOfWeek = ZonedDateTime.now().format(DOW_FORMATTER).toUpperCase(Locale.ENGLISH);
 
     public DayOfWeekConditionHandlerTest() {
@@ -63,13 +66,19 @@ public class DayOfWeekConditionHandlerTest extends BasicConditionHandlerTest {
         EventPublisher eventPublisher = Objects.requireNonNull(getService(EventPublisher.class));
         ThingRegistry thingRegistry = Objects.requireNonNull(getService(ThingRegistry.class));
         ItemRegistry itemRegistry = Objects.requireNonNull(getService(ItemRegistry.class));
+        triggerEventDispatcher = new TriggerEventDispatcher(getBundleContext(), itemRegistry);
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
                 eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class),
-                mock(StartLevelService.class));
+                mock(StartLevelService.class), triggerEventDispatcher);
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
     }
 
+    @AfterEach
+    public void after() {
+        triggerEventDispatcher.deactivate();
+    }
+
     @Test
     public void assertThatConditionWorks() {
         Configuration conditionConfiguration = new Configuration(
@@ -28,6 +28,7 @@ import java.util.Random;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.automation.Action;
@@ -39,6 +40,7 @@ import org.openhab.core.automation.RuleStatusDetail;
 import org.openhab.core.automation.RuleStatusInfo;
 import org.openhab.core.automation.Trigger;
 import org.openhab.core.automation.internal.RuleEngineImpl;
+import org.openhab.core.automation.internal.module.TriggerEventDispatcher;
 import org.openhab.core.automation.internal.module.factory.CoreModuleHandlerFactory;
 import org.openhab.core.automation.internal.module.handler.GenericCronTriggerHandler;
 import org.openhab.core.automation.type.ModuleTypeRegistry;
@@ -78,6 +80,7 @@ public class RuntimeRuleTest extends JavaOSGiTest {
     private @NonNullByDefault({}) RuleRegistry ruleRegistry;
     private @NonNullByDefault({}) RuleManager ruleEngine;
     private @NonNullByDefault({}) StartLevelService startLevelService;
+    private @NonNullByDefault({}) TriggerEventDispatcher triggerEventDispatcher;
 
     @BeforeEach
     public void before() {
@@ -87,9 +90,10 @@ public class RuntimeRuleTest extends JavaOSGiTest {
         EventPublisher eventPublisher = Objects.requireNonNull(getService(EventPublisher.class));
         ThingRegistry thingRegistry = Objects.requireNonNull(getService(ThingRegistry.class));
         ItemRegistry itemRegistry = Objects.requireNonNull(getService(ItemRegistry.class));
+        triggerEventDispatcher = new TriggerEventDispatcher(getBundleContext(), itemRegistry);
         CoreModuleHandlerFactory coreModuleHandlerFactory = new CoreModuleHandlerFactory(getBundleContext(),
                 eventPublisher, thingRegistry, itemRegistry, mock(TimeZoneProvider.class),
-                mock(StartLevelService.class));
+                mock(StartLevelService.class), triggerEventDispatcher);
         mock(CoreModuleHandlerFactory.class);
         registerService(coreModuleHandlerFactory);
 
@@ -111,6 +115,11 @@ public class RuntimeRuleTest extends JavaOSGiTest {
         waitForAssert(() -> assertTrue(ruleEngine.isStarted()));
     }
 
+    @AfterEach
+    public void after() {
+        triggerEventDispatcher.deactivate();
+    }
+
     @Test
     public void checkIfTimerTriggerModuleTypeIsRegistered() {
         ModuleTypeRegistry mtr = getService(ModuleTypeRegistry.class);